@@ -0,0 +1,118 @@
+package com.playdata.approvalservice.approval.repository;
+
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.approval.entity.RequestType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부재 결재 요청 목록 한 페이지(20건)를 읽는 지연 시간을 비교합니다. 조회 위치는 전체 목록의 90% 지점입니다.
+ * - loadAllThenSubList: 기존 방식. 유형의 모든 요청을 읽은 뒤 subList로 자름
+ * - offset: 변경 후 page/size API. DB에서 LIMIT/OFFSET으로 자름 (앞 행을 건너뛰며 읽으므로 깊이에 비례)
+ * - keyset: 변경 후 cursor API. ApprovalSpecification.requestedBefore()로 커서 다음 행만 인덱스 범위 조회
+ * H2(MySQL 모드) 메모리 DB에 rows건(그중 2/3이 부재, 두 건씩 같은 요청 일시)을 넣고 측정합니다.
+ * rows가 늘어도 keyset만 지연 시간이 일정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ApprovalPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+    private int offset;
+    private ApprovalCursor cursor;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(ApprovalRequest.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:approval-bench;MODE=MYSQL;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(
+                "INSERT INTO approval_requests (request_type, applicant_id, approver_id, status, requested_at, title) " +
+                "SELECT CASE WHEN MOD(X, 3) = 0 THEN 'VACATION' ELSE 'ABSENCE' END, MOD(X, 500) + 1, 1, " +
+                "'APPROVED', DATEADD('SECOND', X / 2, TIMESTAMP '2020-01-01 00:00:00'), 'benchmark' " +
+                "FROM SYSTEM_RANGE(1, :rows)")
+                .setParameter("rows", rows)
+                .executeUpdate());
+
+        long absenceRows = sessionFactory.fromSession(session -> session
+                .createSelectionQuery("select count(a) from ApprovalRequest a where a.requestType = :type", Long.class)
+                .setParameter("type", RequestType.ABSENCE)
+                .getSingleResult());
+        offset = (int) (absenceRows * 9 / 10);
+
+        // offset 바로 앞 행을 커서로 잡아 keyset과 offset이 같은 페이지를 읽게 합니다.
+        ApprovalRequest last = sessionFactory.fromSession(session -> session
+                .createSelectionQuery("from ApprovalRequest a where a.requestType = :type " +
+                        "order by a.requestedAt desc, a.id desc", ApprovalRequest.class)
+                .setParameter("type", RequestType.ABSENCE)
+                .setFirstResult(offset - 1)
+                .setMaxResults(1)
+                .getSingleResult());
+        cursor = ApprovalCursor.after(last);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<ApprovalRequest> loadAllThenSubList() {
+        return sessionFactory.fromSession(session -> {
+            List<ApprovalRequest> all = session
+                    .createSelectionQuery("from ApprovalRequest a where a.requestType = :type " +
+                            "order by a.requestedAt desc", ApprovalRequest.class)
+                    .setParameter("type", RequestType.ABSENCE)
+                    .getResultList();
+            return List.copyOf(all.subList(offset, Math.min(offset + PAGE_SIZE, all.size())));
+        });
+    }
+
+    @Benchmark
+    public List<ApprovalRequest> offset() {
+        return sessionFactory.fromSession(session -> session
+                .createSelectionQuery("from ApprovalRequest a where a.requestType = :type " +
+                        "order by a.requestedAt desc, a.id desc", ApprovalRequest.class)
+                .setParameter("type", RequestType.ABSENCE)
+                .setFirstResult(offset)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<ApprovalRequest> keyset() {
+        Specification<ApprovalRequest> spec = ApprovalSpecification.requestType(RequestType.ABSENCE)
+                .and(ApprovalSpecification.requestedBefore(cursor));
+        return sessionFactory.fromSession(session -> {
+            CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+            CriteriaQuery<ApprovalRequest> query = criteriaBuilder.createQuery(ApprovalRequest.class);
+            Root<ApprovalRequest> root = query.from(ApprovalRequest.class);
+            query.where(spec.toPredicate(root, query, criteriaBuilder))
+                    .orderBy(criteriaBuilder.desc(root.get("requestedAt")), criteriaBuilder.desc(root.get("id")));
+            // 서비스와 같이 다음 페이지 여부 확인용으로 한 건 더 읽습니다.
+            return session.createSelectionQuery(query)
+                    .setMaxResults(PAGE_SIZE + 1)
+                    .getResultList();
+        });
+    }
+}
@@ -11,11 +11,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 결재 요청 관련 API를 처리하는 컨트롤러입니다.
@@ -42,6 +44,36 @@ public class ApprovalController {
         return ResponseEntity.ok(leaveType);
     }
 
+    /**
+     * 특정 날짜에 승인된 휴가의 종류를 사용자별로 한 번에 조회합니다.
+     * 근태 서비스가 자정에 당일 휴가 스냅샷을 만들 때 사용합니다.
+     * userIds를 넘기면 해당 사용자들만 조회합니다.
+     * 전 직원의 휴가 정보를 돌려주므로 HR과 서비스 식별 헤더로 호출한 서비스만 허용합니다.
+     */
+    @GetMapping("/feign/leaves/approved-types")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')")
+    public ResponseEntity<Map<Long, String>> getApprovedLeaveTypes(
+            @RequestParam("date") String date,
+            @RequestParam(value = "userIds", required = false) List<Long> userIds) {
+        LocalDate leaveDate = LocalDate.parse(date);
+        if (userIds != null) {
+            return ResponseEntity.ok(approvalService.getApprovedLeaveTypes(userIds, leaveDate));
+        }
+        return ResponseEntity.ok(approvalService.getApprovedLeaveTypes(leaveDate));
+    }
+
+    /**
+     * 승인 휴가 날짜 투영을 전체 승인 휴가로 다시 만듭니다. (HR/운영용, 배포 후 투영이 어긋났을 때)
+     *
+     * @return 기록된 날짜 행 수
+     */
+    @PostMapping("/leaves/approved-days/rebuild")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')") // HR 또는 서비스 간 호출만 허용
+    public ResponseEntity<CommonResDto<Long>> rebuildApprovedLeaveDays() {
+        long rows = approvalService.rebuildApprovedLeaveDays();
+        return ResponseEntity.ok(new CommonResDto<>(HttpStatus.OK, "승인 휴가 날짜 재구성 완료", rows));
+    }
+
     /**
      * 특정 사용자가 특정 날짜에 승인된 휴가(연차, 반차, 조퇴 등)가 있는지 확인합니다.
      */
@@ -173,6 +205,18 @@ public class ApprovalController {
         return ResponseEntity.ok(requests);
     }
 
+    /**
+     * 부재 결재 요청 목록을 커서 기반으로 조회합니다. (요청 일시 최신순)
+     * 첫 페이지는 cursor 없이 호출하고, 다음 페이지는 응답의 nextCursor를 그대로 넘깁니다.
+     */
+    @GetMapping("/absence/cursor")
+    public ResponseEntity<CursorPageResDto<ApprovalRequestResponseDto>> getAbsenceApprovalRequestsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching absence approval requests - cursor: {}, size: {}", cursor, size);
+        return ResponseEntity.ok(approvalService.getAbsenceApprovalRequests(cursor, size));
+    }
+
     /**
      * 대기 중인 부재 결재 요청 목록을 조회합니다. (HR용)
      */
@@ -212,6 +256,19 @@ public class ApprovalController {
         return ResponseEntity.ok(requests);
     }
 
+    /**
+     * 특정 사용자의 부재 결재 요청 목록을 커서 기반으로 조회합니다. (요청 일시 최신순)
+     */
+    @GetMapping("/absence/my/cursor")
+    public ResponseEntity<CursorPageResDto<ApprovalRequestResponseDto>> getMyAbsenceApprovalRequestsByCursor(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching my absence approval requests for user: {} - cursor: {}, size: {}",
+                userInfo.getEmployeeNo(), cursor, size);
+        return ResponseEntity.ok(approvalService.getMyAbsenceApprovalRequests(userInfo, cursor, size));
+    }
+
     /**
      * 특정 결재자가 처리한 부재 결재 요청 목록을 조회합니다.
      */
@@ -225,6 +282,18 @@ public class ApprovalController {
         return ResponseEntity.ok(requests);
     }
 
+    /**
+     * 특정 결재자가 처리한 부재 결재 요청 목록을 커서 기반으로 조회합니다. (처리 일시 최신순)
+     */
+    @GetMapping("/absence/processed-by-me/cursor")
+    public ResponseEntity<CursorPageResDto<ApprovalRequestResponseDto>> getAbsenceApprovalRequestsProcessedByMeByCursor(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching absence approval requests processed by me - cursor: {}, size: {}", cursor, size);
+        return ResponseEntity.ok(approvalService.getAbsenceApprovalRequestsProcessedByMe(userInfo, cursor, size));
+    }
+
     /**
      * 부재 결재 통계를 조회합니다.
      */
@@ -243,8 +312,8 @@ public class ApprovalController {
     @PutMapping("/{id}/approve")
     public ResponseEntity<ApprovalRequestResponseDto> approveApprovalRequest(
             @PathVariable Long id,
-            @RequestHeader("X-User-Employee-No") Long employeeNo) {
-        ApprovalRequestResponseDto responseDto = approvalService.approveApprovalRequest(id, employeeNo);
+            @AuthenticationPrincipal TokenUserInfo userInfo) {
+        ApprovalRequestResponseDto responseDto = approvalService.approveApprovalRequest(id, userInfo.getEmployeeNo());
         return ResponseEntity.ok(responseDto);
     }
 
@@ -0,0 +1,24 @@
+package com.playdata.approvalservice.approval.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 목록 응답.
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회하며, hasNext가 false면 nextCursor는 null입니다.
+ * 전체 건수는 세지 않습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,110 @@
+package com.playdata.approvalservice.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 후처리 아웃박스 (approval_outbox 테이블)
+ * 결재 상태 변경과 같은 트랜잭션에서 기록되고, ApprovalOutboxRelay가 커밋 후 다른 서비스에 전달합니다.
+ * idempotency_key는 이벤트마다 고유하며 재전송할 때도 같은 값을 Idempotency-Key 헤더로 보냅니다.
+ * 릴레이는 (status, next_attempt_at) 인덱스로 전송할 차례가 된 행만 읽고, 보존 기간이 지난 SENT 행은 (status, sent_at) 인덱스로 지웁니다.
+ */
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "approval_outbox",
+       uniqueConstraints = @UniqueConstraint(name = "UK_approval_outbox_key", columnNames = "idempotency_key"),
+       indexes = {
+               @Index(name = "IDX_approval_outbox_status_next", columnList = "status, next_attempt_at"),
+               @Index(name = "IDX_approval_outbox_status_sent", columnList = "status, sent_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApprovalOutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(name = "approval_request_id", nullable = false)
+    private Long approvalRequestId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // 결재를 처리한 사용자. 릴레이가 다른 서비스를 호출할 때 이 사용자로 X-User-* 헤더를 보냅니다.
+    @Column(name = "actor_employee_no")
+    private Long actorEmployeeNo;
+
+    @Column(name = "actor_email")
+    private String actorEmail;
+
+    @Column(name = "actor_role")
+    private String actorRole;
+
+    /**
+     * 결재 요청과 이벤트 종류로 고유한 멱등성 키를 만듭니다.
+     */
+    public static String idempotencyKey(Long approvalRequestId, String eventName) {
+        return "approval-" + approvalRequestId + "-" + eventName;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = OutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 전송 실패를 기록하고 nextAttemptAt에 다시 시도하도록 합니다.
+     */
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 더 이상 재시도하지 않도록 실패로 표시합니다.
+     */
+    public void markFailed(String error) {
+        this.status = OutboxStatus.FAILED;
+        this.attempts++;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -5,10 +5,20 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * 결재 요청 (approval_requests 테이블)
+ * 목록은 요청 유형(+ 신청자/결재자)으로 거른 뒤 (requested_at, id) 역순으로 키셋 페이지네이션하므로,
+ * 같은 순서의 복합 인덱스를 둡니다. (InnoDB 보조 인덱스는 끝에 기본 키 id를 포함합니다.)
+ */
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "approval_requests")
+@Table(name = "approval_requests",
+       indexes = {
+           @Index(name = "IDX_approval_type_requested", columnList = "request_type, requested_at"),
+           @Index(name = "IDX_approval_type_applicant_requested", columnList = "request_type, applicant_id, requested_at"),
+           @Index(name = "IDX_approval_type_approver_processed", columnList = "request_type, approver_id, processed_at")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ApprovalRequest {
@@ -0,0 +1,52 @@
+package com.playdata.approvalservice.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 승인된 휴가의 날짜별 투영 (approved_leave_day 테이블)
+ * 승인된 휴가 결재 요청의 시작일~종료일을 하루 한 행으로 펼쳐 두어,
+ * 출퇴근 시 "이 사용자가 이 날짜에 휴가인가"를 기본 키 조회 한 번으로 답합니다.
+ * 결재 승인 시 추가하고 결재 요청 취소 시 삭제하며, 같은 트랜잭션에서 반영됩니다.
+ */
+@Entity
+@Table(name = "approved_leave_day",
+       indexes = {
+           @Index(name = "IDX_approved_leave_day_date", columnList = "leave_date"),
+           @Index(name = "IDX_approved_leave_day_request", columnList = "approval_request_id")
+       })
+@IdClass(ApprovedLeaveDay.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApprovedLeaveDay {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Column(name = "leave_date", nullable = false)
+    private LocalDate leaveDate;
+
+    @Column(name = "approval_request_id", nullable = false)
+    private Long approvalRequestId;
+
+    @Column(name = "vacation_type")
+    private String vacationType;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate leaveDate;
+    }
+}
@@ -0,0 +1,12 @@
+package com.playdata.approvalservice.approval.entity;
+
+/**
+ * 결재 승인 후 다른 서비스에 전달할 후처리 이벤트 종류
+ */
+public enum OutboxEventType {
+    VACATION_APPROVED,          // vacation-service 연차 차감 및 휴가 상태 변경
+    LEAVE_SNAPSHOT_INVALIDATED, // attendance-service 당일 휴가 스냅샷 갱신
+    CERTIFICATE_APPROVED,       // certificate-service 증명서 승인
+    ABSENCE_APPROVED,           // attendance-service 부재 승인
+    VACATION_REVOKED            // vacation-service 휴가 승인 취소 (반려 상태로 변경)
+}
@@ -0,0 +1,7 @@
+package com.playdata.approvalservice.approval.entity;
+
+public enum OutboxStatus {
+    PENDING, // 전송 대기 (재시도 포함)
+    SENT,    // 전송 완료
+    FAILED   // 재시도 한도 초과 또는 재시도해도 성공할 수 없는 오류
+}
@@ -0,0 +1,68 @@
+package com.playdata.approvalservice.approval.repository;
+
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.common.exception.ApprovalBadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션의 위치. 이전 페이지 마지막 행의 (정렬 기준 일시, id)입니다.
+ * 정렬 기준 일시는 목록 정렬에 따라 요청 일시(requestedAt) 또는 처리 일시(processedAt)입니다.
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달하며, 클라이언트는 값을 해석하지 않고 그대로 다시 보냅니다.
+ */
+@Getter
+public final class ApprovalCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime sortedAt;
+    private final Long id;
+
+    private ApprovalCursor(LocalDateTime sortedAt, Long id) {
+        this.sortedAt = sortedAt;
+        this.id = id;
+    }
+
+    /**
+     * 요청 일시 최신순 목록에서 주어진 행 바로 다음(더 오래된 요청)부터 읽는 위치를 만듭니다.
+     */
+    public static ApprovalCursor afterRequested(ApprovalRequest last) {
+        return new ApprovalCursor(last.getRequestedAt(), last.getId());
+    }
+
+    /**
+     * 처리 일시 최신순 목록에서 주어진 행 바로 다음(더 먼저 처리된 요청)부터 읽는 위치를 만듭니다.
+     */
+    public static ApprovalCursor afterProcessed(ApprovalRequest last) {
+        return new ApprovalCursor(last.getProcessedAt(), last.getId());
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     * @return 커서 위치, 첫 페이지면 null
+     * @throws ApprovalBadRequestException 형식이 올바르지 않은 경우
+     */
+    public static ApprovalCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ApprovalCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ApprovalBadRequestException("유효하지 않은 페이지 커서입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = sortedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package com.playdata.approvalservice.approval.repository;
+
+import com.playdata.approvalservice.approval.entity.ApprovalOutboxEvent;
+import com.playdata.approvalservice.approval.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ApprovalOutboxEvent(결재 후처리 아웃박스) 접근용 리포지토리입니다.
+ */
+public interface ApprovalOutboxRepository extends JpaRepository<ApprovalOutboxEvent, Long> {
+
+    /**
+     * 전송할 차례가 된 이벤트를 기록 순으로 조회합니다. (status, next_attempt_at 인덱스)
+     */
+    List<ApprovalOutboxEvent> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            OutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이벤트를 선점합니다. 전송하는 동안 nextAttemptAt을 leaseUntil로 미뤄 다른 인스턴스가 같은 이벤트를 읽지 않게 합니다.
+     *
+     * @return 선점했으면 1, 다른 인스턴스가 먼저 선점했으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ApprovalOutboxEvent e SET e.nextAttemptAt = :leaseUntil " +
+           "WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("status") OutboxStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 전송을 마친 지 보존 기간이 지난 이벤트를 지웁니다. (status, sent_at 인덱스)
+     *
+     * @return 지운 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ApprovalOutboxEvent e WHERE e.status = :status AND e.sentAt < :cutoff")
+    int deleteSentBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * 특정 상태에서 가장 오래된 이벤트를 조회합니다. (아웃박스 지연 지표용)
+     */
+    Optional<ApprovalOutboxEvent> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+}
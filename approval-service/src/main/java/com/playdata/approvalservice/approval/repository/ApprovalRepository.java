@@ -6,6 +6,8 @@ import com.playdata.approvalservice.approval.entity.RequestType;
 import com.playdata.approvalservice.approval.entity.Type;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,12 +27,6 @@ public interface ApprovalRepository extends JpaRepository<ApprovalRequest, Long>
 
     
 
-    /**
-     * 특정 사용자의 특정 날짜에 승인된 모든 요청을 조회
-     */
-    List<ApprovalRequest> findAllByApplicantIdAndRequestedAtBetweenAndStatus(
-            Long applicantId, LocalDateTime startOfDay, LocalDateTime endOfDay, ApprovalStatus status);
-
     /**
      * 특정 상태의 모든 결재 요청을 조회 (최신순)
      */
@@ -107,9 +103,9 @@ public interface ApprovalRepository extends JpaRepository<ApprovalRequest, Long>
     
 
     /**
-     * 특정 요청 유형의 모든 결재 요청을 조회 (최신순)
+     * 특정 요청 유형의 결재 요청을 조회 (최신순, 페이징)
      */
-    List<ApprovalRequest> findByRequestTypeOrderByRequestedAtDesc(RequestType requestType);
+    Page<ApprovalRequest> findByRequestTypeOrderByRequestedAtDescIdDesc(RequestType requestType, Pageable pageable);
 
     /**
      * 특정 요청 유형과 상태의 결재 요청을 조회 (페이징)
@@ -127,16 +123,24 @@ public interface ApprovalRepository extends JpaRepository<ApprovalRequest, Long>
     Page<ApprovalRequest> findProcessedRequestsByType(@Param("requestType") RequestType requestType, Pageable pageable);
 
     /**
-     * 특정 사용자의 특정 타입 결재 요청 목록 조회
+     * 특정 사용자의 특정 타입 결재 요청 목록 조회 (페이징)
+     */
+    Page<ApprovalRequest> findByRequestTypeAndApplicantIdOrderByRequestedAtDescIdDesc(
+            RequestType requestType, Long applicantId, Pageable pageable);
+
+    /**
+     * 특정 결재자가 처리한 특정 타입 결재 요청 목록 조회 (페이징)
      */
-    List<ApprovalRequest> findByRequestTypeAndApplicantIdOrderByRequestedAtDesc(
-            RequestType requestType, Long applicantId);
+    Page<ApprovalRequest> findByRequestTypeAndApproverIdOrderByProcessedAtDescIdDesc(
+            RequestType requestType, Long approverId, Pageable pageable);
 
     /**
-     * 특정 결재자가 처리한 특정 타입 결재 요청 목록 조회
+     * 조건에 맞는 결재 요청을 정렬 순서대로 최대 limit건 조회합니다. (건수 쿼리 없음)
+     * 키셋 페이지네이션에서 ApprovalSpecification.requestedBefore() 또는 processedBefore()와 함께 사용합니다.
      */
-    List<ApprovalRequest> findByRequestTypeAndApproverIdOrderByProcessedAtDesc(
-            RequestType requestType, Long approverId);
+    default List<ApprovalRequest> findTop(Specification<ApprovalRequest> spec, Sort sort, int limit) {
+        return findBy(spec, query -> query.sortBy(sort).limit(limit).all());
+    }
 
 
     /**
@@ -147,6 +151,33 @@ public interface ApprovalRepository extends JpaRepository<ApprovalRequest, Long>
      */
     List<ApprovalRequest> findByRequestType(RequestType requestType);
 
+    /**
+     * 특정 요청 유형과 상태의 결재 요청을 ID 순으로 afterId 다음부터 조회합니다. (승인 휴가 날짜 투영 재구성용 페이지 조회)
+     */
+    @Query("SELECT ar FROM ApprovalRequest ar WHERE ar.requestType = :requestType AND ar.status = :status " +
+           "AND ar.id > :afterId ORDER BY ar.id")
+    List<ApprovalRequest> findByRequestTypeAndStatusAfterId(@Param("requestType") RequestType requestType,
+                                                            @Param("status") ApprovalStatus status,
+                                                            @Param("afterId") Long afterId,
+                                                            Pageable pageable);
+
+    /**
+     * since 이후에 처리된 승인 휴가를 처리 순으로 조회합니다. (승인 휴가 날짜 투영 보정용)
+     */
+    @Query("SELECT ar FROM ApprovalRequest ar WHERE ar.requestType = 'VACATION' AND ar.status = 'APPROVED' " +
+           "AND ar.processedAt >= :since ORDER BY ar.processedAt, ar.id")
+    List<ApprovalRequest> findApprovedVacationsProcessedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자의 승인된 휴가 중 기간이 겹치는 결재 요청을 승인 순으로 조회합니다. (승인 취소 후 겹친 날짜 재기록용)
+     */
+    @Query("SELECT ar FROM ApprovalRequest ar WHERE ar.requestType = 'VACATION' AND ar.status = 'APPROVED' " +
+           "AND ar.applicantId = :applicantId AND ar.startDate <= :endDate AND ar.endDate >= :startDate " +
+           "ORDER BY ar.processedAt, ar.id")
+    List<ApprovalRequest> findApprovedVacationsOverlapping(@Param("applicantId") Long applicantId,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+
     /**
      * 특정 상태의 모든 결재 요청을 조회합니다.
      *
@@ -4,6 +4,7 @@ import com.playdata.approvalservice.approval.entity.ApprovalRequest;
 import com.playdata.approvalservice.approval.entity.ApprovalStatus;
 import com.playdata.approvalservice.approval.entity.RequestType;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
@@ -11,6 +12,16 @@ import java.util.List;
 
 public class ApprovalSpecification {
 
+    /**
+     * 키셋 페이지네이션 정렬. 요청 일시가 같은 행은 ID로 순서를 고정해 페이지 경계에서 누락/중복이 없게 합니다.
+     */
+    public static final Sort LATEST_REQUESTED_FIRST = Sort.by(Sort.Direction.DESC, "requestedAt", "id");
+
+    /**
+     * 처리 일시 기준 키셋 페이지네이션 정렬. 오프셋 조회(처리 일시 최신순)와 같은 순서입니다.
+     */
+    public static final Sort LATEST_PROCESSED_FIRST = Sort.by(Sort.Direction.DESC, "processedAt", "id");
+
     public static Specification<ApprovalRequest> withFilter(Long applicantId, String status, String requestType) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -41,4 +52,58 @@ public class ApprovalSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    public static Specification<ApprovalRequest> requestType(RequestType requestType) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("requestType"), requestType);
+    }
+
+    public static Specification<ApprovalRequest> applicant(Long applicantId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("applicantId"), applicantId);
+    }
+
+    public static Specification<ApprovalRequest> approver(Long approverId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("approverId"), approverId);
+    }
+
+    /**
+     * LATEST_REQUESTED_FIRST 순서에서 커서 다음 행들만 남깁니다.
+     * requested_at < :t OR (requested_at = :t AND id < :id) 형태라 (…, requested_at) 인덱스의 범위 조회로 풀리며,
+     * 앞 페이지 행을 건너뛰며 읽지 않으므로 몇 번째 페이지든 조회 비용이 같습니다.
+     *
+     * @param cursor 이전 페이지의 마지막 위치, 첫 페이지면 null (조건 없음)
+     */
+    public static Specification<ApprovalRequest> requestedBefore(ApprovalCursor cursor) {
+        return before("requestedAt", cursor);
+    }
+
+    /**
+     * LATEST_PROCESSED_FIRST 순서에서 커서 다음 행들만 남깁니다. 처리 일시가 없는(아직 처리되지 않은) 행은 제외합니다.
+     * (request_type, approver_id, processed_at) 인덱스의 범위 조회로 풀립니다.
+     *
+     * @param cursor 이전 페이지의 마지막 위치, 첫 페이지면 null (처리된 행 전체)
+     */
+    public static Specification<ApprovalRequest> processedBefore(ApprovalCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.isNotNull(root.get("processedAt"));
+            }
+            return before("processedAt", cursor).toPredicate(root, query, criteriaBuilder);
+        };
+    }
+
+    /**
+     * attribute < :t OR (attribute = :t AND id < :id)
+     */
+    private static Specification<ApprovalRequest> before(String attribute, ApprovalCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return null;
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(root.get(attribute), cursor.getSortedAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get(attribute), cursor.getSortedAt()),
+                            criteriaBuilder.lessThan(root.get("id"), cursor.getId())));
+        };
+    }
 }
@@ -0,0 +1,48 @@
+package com.playdata.approvalservice.approval.repository;
+
+import com.playdata.approvalservice.approval.entity.ApprovedLeaveDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ApprovedLeaveDay(승인된 휴가 날짜) 접근용 리포지토리입니다.
+ * 단건 조회는 기본 키(user_id, leave_date)로 findById/existsById를 사용합니다.
+ */
+public interface ApprovedLeaveDayRepository extends JpaRepository<ApprovedLeaveDay, ApprovedLeaveDay.Key> {
+
+    /**
+     * 여러 사용자의 특정 날짜 휴가를 조회합니다. (기본 키 다중 조회)
+     */
+    List<ApprovedLeaveDay> findByUserIdInAndLeaveDate(Collection<Long> userIds, LocalDate leaveDate);
+
+    /**
+     * 특정 날짜의 모든 휴가를 조회합니다. (leave_date 인덱스)
+     */
+    List<ApprovedLeaveDay> findByLeaveDate(LocalDate leaveDate);
+
+    /**
+     * 휴가 하루를 기록합니다. 같은 날 먼저 승인된 휴가가 있으면 그 행을 유지합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO approved_leave_day (user_id, leave_date, approval_request_id, vacation_type) " +
+                   "VALUES (:userId, :leaveDate, :approvalRequestId, :vacationType) " +
+                   "ON DUPLICATE KEY UPDATE approval_request_id = approval_request_id",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("leaveDate") LocalDate leaveDate,
+                       @Param("approvalRequestId") Long approvalRequestId,
+                       @Param("vacationType") String vacationType);
+
+    /**
+     * 결재 요청 하나로 기록된 휴가 날짜를 모두 지웁니다.
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovedLeaveDay d WHERE d.approvalRequestId = :approvalRequestId")
+    int deleteByApprovalRequestId(@Param("approvalRequestId") Long approvalRequestId);
+}
@@ -0,0 +1,116 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.entity.ApprovalOutboxEvent;
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.approval.entity.OutboxEventType;
+import com.playdata.approvalservice.approval.entity.OutboxStatus;
+import com.playdata.approvalservice.approval.repository.ApprovalOutboxRepository;
+import com.playdata.approvalservice.common.auth.TokenUserInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결재 승인 후처리를 아웃박스(approval_outbox)에 기록합니다.
+ * 결재 상태 변경과 같은 트랜잭션에서 기록하므로, 승인이 롤백되면 이벤트도 남지 않고
+ * 승인이 커밋되면 이벤트도 반드시 남습니다. 실제 전송은 ApprovalOutboxRelay가 커밋 후에 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalOutbox {
+
+    private final ApprovalOutboxRepository approvalOutboxRepository;
+
+    /**
+     * 승인된 결재 요청의 서비스별 후처리 이벤트를 기록합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueApprovalAftermath(ApprovalRequest request) {
+        List<OutboxEventType> eventTypes = new ArrayList<>();
+        switch (request.getRequestType()) {
+            case VACATION -> {
+                if (request.getVacationsId() != null) {
+                    eventTypes.add(OutboxEventType.VACATION_APPROVED);
+                }
+                eventTypes.add(OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED);
+            }
+            case CERTIFICATE -> {
+                if (request.getCertificateId() != null) {
+                    eventTypes.add(OutboxEventType.CERTIFICATE_APPROVED);
+                }
+            }
+            case ABSENCE -> {
+                if (request.getAbsencesId() != null) {
+                    eventTypes.add(OutboxEventType.ABSENCE_APPROVED);
+                } else {
+                    log.warn("Absence ID is null. Skipping absence approval event. ApprovalRequest ID: {}", request.getId());
+                }
+            }
+        }
+        Map<OutboxEventType, String> events = new LinkedHashMap<>();
+        for (OutboxEventType type : eventTypes) {
+            events.put(type, type.name());
+        }
+        save(request, events);
+    }
+
+    /**
+     * 승인이 취소된 휴가 결재 요청의 후처리 이벤트를 기록합니다.
+     * 승인 때 보낸 이벤트와 멱등성 키가 겹치지 않도록 취소용 이벤트 이름을 씁니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueRevocationAftermath(ApprovalRequest request) {
+        Map<OutboxEventType, String> events = new LinkedHashMap<>();
+        if (request.getVacationsId() != null) {
+            events.put(OutboxEventType.VACATION_REVOKED, OutboxEventType.VACATION_REVOKED.name());
+        }
+        events.put(OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED, "LEAVE_SNAPSHOT_REVOKED");
+        save(request, events);
+    }
+
+    /**
+     * 이벤트 종류별로 이벤트 이름(멱등성 키에 사용)을 받아 아웃박스에 기록합니다.
+     */
+    private void save(ApprovalRequest request, Map<OutboxEventType, String> eventNames) {
+        if (eventNames.isEmpty()) {
+            return;
+        }
+
+        TokenUserInfo actor = currentUser();
+        LocalDateTime now = LocalDateTime.now();
+        List<ApprovalOutboxEvent> events = eventNames.entrySet().stream()
+                .map(entry -> ApprovalOutboxEvent.builder()
+                        .eventType(entry.getKey())
+                        .approvalRequestId(request.getId())
+                        .idempotencyKey(ApprovalOutboxEvent.idempotencyKey(request.getId(), entry.getValue()))
+                        .status(OutboxStatus.PENDING)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .actorEmployeeNo(actor != null ? actor.getEmployeeNo() : null)
+                        .actorEmail(actor != null ? actor.getEmail() : null)
+                        .actorRole(actor != null ? actor.getHrRole() : null)
+                        .build())
+                .toList();
+        approvalOutboxRepository.saveAll(events);
+        log.info("결재 후처리 이벤트 기록. 요청 ID: {}, 이벤트: {}", request.getId(), eventNames.values());
+    }
+
+    private static TokenUserInfo currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof TokenUserInfo userInfo) {
+            return userInfo;
+        }
+        return null;
+    }
+}
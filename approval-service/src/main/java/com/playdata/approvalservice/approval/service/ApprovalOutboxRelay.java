@@ -0,0 +1,321 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.entity.ApprovalOutboxEvent;
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.approval.entity.ApprovalStatus;
+import com.playdata.approvalservice.approval.entity.OutboxEventType;
+import com.playdata.approvalservice.approval.entity.OutboxStatus;
+import com.playdata.approvalservice.approval.repository.ApprovalOutboxRepository;
+import com.playdata.approvalservice.approval.repository.ApprovalRepository;
+import com.playdata.approvalservice.client.AbsenceServiceClient;
+import com.playdata.approvalservice.client.CertificateServiceClient;
+import com.playdata.approvalservice.client.VacationServiceClient;
+import com.playdata.approvalservice.client.dto.UserResDto;
+import com.playdata.approvalservice.common.auth.OutboundIdentity;
+import com.playdata.approvalservice.common.exception.ApprovalNotFoundException;
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결재 후처리 아웃박스(approval_outbox)의 이벤트를 다른 서비스에 전달합니다.
+ * - 주기적으로 전송할 차례가 된 이벤트를 batch-size개씩 읽어 전달하고, 밀린 이벤트가 있으면 이어서 처리합니다.
+ * - 실패하면 1회차 initial-backoff부터 두 배씩(최대 max-backoff) 늦춰 다시 시도하고,
+ *   max-attempts를 넘기거나 재시도해도 성공할 수 없는 오류(4xx, 결재 요청 없음)면 FAILED로 남깁니다.
+ *   401/403은 요청 내용이 아니라 서비스 간 인증 설정(서명 키 교체 등) 문제이므로 재시도하되, 오류 로그와 지표로 알립니다.
+ * - 결재는 후처리 전달과 별도로 먼저 커밋됩니다. 휴가 승인(VACATION_APPROVED)을 vacation-service가 4xx로 거절하면
+ *   (잔여 연차 부족 등) 승인을 취소(반려)해 결재와 연차 차감이 어긋나지 않게 합니다.
+ *   재시도 한도를 넘겨 FAILED로 남은 이벤트는 자동으로 되돌리지 않으므로, approval.outbox.failed 지표를 보고 원인을 해결한 뒤 다시 전송해야 합니다.
+ * - 다른 서비스는 결재를 처리한 사용자로 서명한 식별 헤더(X-User-Identity)로 호출하고, 처리자가 없으면 서비스 식별 헤더로 호출합니다.
+ * - 전송을 마친(SENT) 이벤트는 retention이 지나면 매일 지웁니다. FAILED 이벤트는 확인을 위해 남겨 둡니다.
+ * - 같은 이벤트는 재전송해도 같은 Idempotency-Key를 보내며, 받는 쪽은 이미 반영된 상태면 그대로 둡니다.
+ * - 여러 인스턴스가 떠 있어도 이벤트를 선점(claim)한 인스턴스만 전달합니다.
+ * 대기 중인 이벤트 수와 가장 오래된 대기 이벤트의 지연은 actuator metrics(approval.outbox.depth, approval.outbox.lag)로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class ApprovalOutboxRelay {
+
+    private static final String METRIC_NAME = "approval.outbox";
+
+    private final ApprovalOutboxRepository approvalOutboxRepository;
+    private final ApprovalRepository approvalRepository;
+    private final VacationServiceClient vacationServiceClient;
+    private final CertificateServiceClient certificateServiceClient;
+    private final AbsenceServiceClient absenceServiceClient;
+    private final UserInfoResolver userInfoResolver;
+    private final ApprovalService approvalService;
+    private final IdentityHeaderEncoder identityHeaderEncoder;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+    private final Clock clock;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ApprovalOutboxRelay(ApprovalOutboxRepository approvalOutboxRepository,
+                               ApprovalRepository approvalRepository,
+                               VacationServiceClient vacationServiceClient,
+                               CertificateServiceClient certificateServiceClient,
+                               AbsenceServiceClient absenceServiceClient,
+                               UserInfoResolver userInfoResolver,
+                               ApprovalService approvalService,
+                               IdentityHeaderEncoder identityHeaderEncoder,
+                               MeterRegistry meterRegistry,
+                               @Value("${approval.outbox.batch-size:50}") int batchSize,
+                               @Value("${approval.outbox.retry.max-attempts:10}") int maxAttempts,
+                               @Value("${approval.outbox.retry.initial-backoff:1s}") Duration initialBackoff,
+                               @Value("${approval.outbox.retry.max-backoff:5m}") Duration maxBackoff,
+                               @Value("${approval.outbox.lease:30s}") Duration lease,
+                               @Value("${approval.outbox.retention:30d}") Duration retention) {
+        this(approvalOutboxRepository, approvalRepository, vacationServiceClient, certificateServiceClient,
+                absenceServiceClient, userInfoResolver, approvalService, identityHeaderEncoder, meterRegistry,
+                batchSize, maxAttempts, initialBackoff, maxBackoff, lease, retention, Clock.systemDefaultZone());
+    }
+
+    ApprovalOutboxRelay(ApprovalOutboxRepository approvalOutboxRepository,
+                        ApprovalRepository approvalRepository,
+                        VacationServiceClient vacationServiceClient,
+                        CertificateServiceClient certificateServiceClient,
+                        AbsenceServiceClient absenceServiceClient,
+                        UserInfoResolver userInfoResolver,
+                        ApprovalService approvalService,
+                        IdentityHeaderEncoder identityHeaderEncoder,
+                        MeterRegistry meterRegistry,
+                        int batchSize, int maxAttempts,
+                        Duration initialBackoff, Duration maxBackoff, Duration lease, Duration retention,
+                        Clock clock) {
+        this.approvalOutboxRepository = approvalOutboxRepository;
+        this.approvalRepository = approvalRepository;
+        this.vacationServiceClient = vacationServiceClient;
+        this.certificateServiceClient = certificateServiceClient;
+        this.absenceServiceClient = absenceServiceClient;
+        this.userInfoResolver = userInfoResolver;
+        this.approvalService = approvalService;
+        this.identityHeaderEncoder = identityHeaderEncoder;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+        this.clock = clock;
+        Gauge.builder(METRIC_NAME + ".depth", depth, AtomicLong::get)
+                .description("전송 대기 중인 결재 후처리 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .description("가장 오래된 전송 대기 이벤트가 기록된 뒤 지난 시간")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".failed", failed, AtomicLong::get)
+                .description("재시도를 멈춘(FAILED) 결재 후처리 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송할 차례가 된 이벤트를 모두 전달하고 아웃박스 지표를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${approval.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        try {
+            int fetched;
+            do {
+                fetched = relayBatch();
+            } while (fetched == batchSize);
+        } catch (Exception e) {
+            log.error("결재 후처리 아웃박스 전송 중 오류: {}", e.getMessage(), e);
+        } finally {
+            refreshMetrics();
+        }
+    }
+
+    /**
+     * 전송할 차례가 된 이벤트를 최대 batch-size개 읽어 전달합니다.
+     *
+     * @return 읽은 이벤트 수
+     */
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ApprovalOutboxEvent> events = approvalOutboxRepository
+                .findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        for (ApprovalOutboxEvent event : events) {
+            if (approvalOutboxRepository.claim(event.getId(), OutboxStatus.PENDING, now, now.plus(lease)) == 1) {
+                deliver(event);
+            }
+        }
+        return events.size();
+    }
+
+    /**
+     * 전송을 마친 지 retention이 지난 이벤트를 지웁니다.
+     */
+    @Scheduled(cron = "${approval.outbox.retention-cron:0 30 4 * * ?}") // 매일 새벽 4시 30분
+    public void purgeSent() {
+        try {
+            int deleted = approvalOutboxRepository.deleteSentBefore(OutboxStatus.SENT, LocalDateTime.now(clock).minus(retention));
+            log.info("보존 기간이 지난 결재 후처리 이벤트 {}건을 지웠습니다.", deleted);
+        } catch (Exception e) {
+            log.error("결재 후처리 아웃박스 정리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    void refreshMetrics() {
+        depth.set(approvalOutboxRepository.countByStatus(OutboxStatus.PENDING));
+        failed.set(approvalOutboxRepository.countByStatus(OutboxStatus.FAILED));
+        lagSeconds.set(approvalOutboxRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+                .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now(clock)).toSeconds()))
+                .orElse(0L));
+    }
+
+    private void deliver(ApprovalOutboxEvent event) {
+        try {
+            runAsActor(event, () -> dispatch(event));
+            event.markSent(LocalDateTime.now(clock));
+            count(event, "sent");
+            log.info("결재 후처리 이벤트 전송 완료. key: {}", event.getIdempotencyKey());
+        } catch (Exception e) {
+            boolean retryable = isRetryable(e);
+            if (!retryable || event.getAttempts() + 1 >= maxAttempts) {
+                event.markFailed(e.getMessage());
+                count(event, "failed");
+                log.error("결재 후처리 이벤트 전송 실패. 재시도하지 않습니다. key: {}, 시도: {}, 오류: {}",
+                        event.getIdempotencyKey(), event.getAttempts(), e.getMessage());
+                if (!retryable) {
+                    compensate(event, e);
+                }
+            } else {
+                if (isAuthenticationError(e)) {
+                    count(event, "unauthorized");
+                    log.error("결재 후처리 이벤트 전송이 인증 오류로 거절되었습니다. 서비스 간 서명 키 설정을 확인하세요. key: {}, 오류: {}",
+                            event.getIdempotencyKey(), e.getMessage());
+                }
+                LocalDateTime nextAttemptAt = LocalDateTime.now(clock).plus(backoff(event.getAttempts() + 1));
+                event.markRetry(e.getMessage(), nextAttemptAt);
+                count(event, "retry");
+                log.warn("결재 후처리 이벤트 전송 실패. {}에 다시 시도합니다. key: {}, 시도: {}, 오류: {}",
+                        nextAttemptAt, event.getIdempotencyKey(), event.getAttempts(), e.getMessage());
+            }
+        }
+        approvalOutboxRepository.save(event);
+    }
+
+    private void dispatch(ApprovalOutboxEvent event) {
+        ApprovalRequest request = approvalRepository.findById(event.getApprovalRequestId())
+                .orElseThrow(() -> new ApprovalNotFoundException("결재 요청을 찾을 수 없습니다: " + event.getApprovalRequestId()));
+        switch (event.getEventType()) {
+            case VACATION_APPROVED -> vacationServiceClient.updateVacationBalanceOnApproval(
+                    event.getIdempotencyKey(),
+                    request.getVacationsId(),
+                    ApprovalStatus.APPROVED.name(),
+                    request.getApplicantId(),
+                    request.getVacationType(),
+                    request.getStartDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    request.getEndDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    null);
+            case LEAVE_SNAPSHOT_INVALIDATED -> absenceServiceClient.invalidateLeaveSnapshot(request.getApplicantId());
+            case CERTIFICATE_APPROVED -> {
+                String approverName = Optional.ofNullable(request.getApproverId())
+                        .map(approverId -> userInfoResolver.resolve(List.of(approverId)).get(approverId))
+                        .map(UserResDto::getUserName).orElse("알 수 없음");
+                certificateServiceClient.approveCertificate(request.getCertificateId(), request.getApproverId(), approverName);
+            }
+            case ABSENCE_APPROVED -> absenceServiceClient.approveAbsence(request.getAbsencesId(), request.getApproverId());
+            case VACATION_REVOKED -> vacationServiceClient.updateVacationBalanceOnApproval(
+                    event.getIdempotencyKey(),
+                    request.getVacationsId(),
+                    ApprovalStatus.REJECTED.name(),
+                    request.getApplicantId(),
+                    request.getVacationType(),
+                    request.getStartDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    request.getEndDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    request.getRejectComment());
+        }
+    }
+
+    /**
+     * 다른 서비스가 4xx로 거절해 후처리가 반영될 수 없는 휴가 승인을 취소합니다.
+     * 결재 요청이 없거나 취소에 실패하면 FAILED 이벤트로만 남깁니다.
+     */
+    private void compensate(ApprovalOutboxEvent event, Exception cause) {
+        if (event.getEventType() != OutboxEventType.VACATION_APPROVED || cause instanceof ApprovalNotFoundException) {
+            return;
+        }
+        try {
+            approvalService.revokeVacationApproval(event.getApprovalRequestId(), "연차 반영 실패로 승인이 취소되었습니다.");
+            count(event, "revoked");
+            log.warn("휴가 승인을 vacation-service에 반영할 수 없어 승인을 취소했습니다. approvalRequestId: {}", event.getApprovalRequestId());
+        } catch (Exception e) {
+            log.error("휴가 승인 취소에 실패했습니다. 직접 확인이 필요합니다. approvalRequestId: {}, 오류: {}",
+                    event.getApprovalRequestId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 결재를 처리한 사용자로 서명한 식별 헤더를 설정한 채 실행합니다. 처리자가 없으면 서비스 식별 헤더로 호출됩니다.
+     * 헤더는 선점 시간(lease)만큼만 유효합니다.
+     */
+    private void runAsActor(ApprovalOutboxEvent event, Runnable action) {
+        if (event.getActorEmployeeNo() == null) {
+            action.run();
+            return;
+        }
+        long expiresAt = clock.millis() / 1000 + lease.toSeconds();
+        String identity = identityHeaderEncoder.encode(event.getActorEmail(), event.getActorRole(),
+                event.getActorEmployeeNo(), expiresAt);
+        OutboundIdentity.runWith(identity, action);
+    }
+
+    /**
+     * 요청 자체가 잘못되어 다시 보내도 성공할 수 없는 오류가 아닌지 판단합니다. (401, 403, 408, 429는 재시도)
+     */
+    private static boolean isRetryable(Exception e) {
+        if (e instanceof ApprovalNotFoundException) {
+            return false;
+        }
+        if (e instanceof FeignException feignException) {
+            int status = feignException.status();
+            return status < 400 || status >= 500 || status == 408 || status == 429 || isAuthenticationError(e);
+        }
+        return true;
+    }
+
+    private static boolean isAuthenticationError(Exception e) {
+        return e instanceof FeignException feignException
+                && (feignException.status() == 401 || feignException.status() == 403);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void count(ApprovalOutboxEvent event, String result) {
+        Counter.builder(METRIC_NAME + ".delivery")
+                .tag("type", event.getEventType().name())
+                .tag("result", result)
+                .description("결재 후처리 이벤트 전송 결과")
+                .register(meterRegistry)
+                .increment();
+    }
+}
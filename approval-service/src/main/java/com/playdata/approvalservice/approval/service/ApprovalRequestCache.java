@@ -0,0 +1,101 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.dto.ApprovalRequestResponseDto;
+import com.playdata.approvalservice.approval.entity.RequestType;
+import com.playdata.approvalservice.common.configs.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 요청 유형별 전체 결재 요청 목록 캐시(approvalRequests)입니다.
+ * - 결재 요청이 바뀌면 그 요청의 유형 항목만 지우므로, 휴가 승인 한 건이 증명서/부재 목록 캐시를 비우지 않습니다.
+ * - 삭제는 트랜잭션 커밋 후에 하므로, 커밋 전에 다른 요청이 이전 값을 다시 채워 넣을 수 없습니다.
+ * - 캐시가 비어 있을 때 같은 유형을 동시에 조회하면 한 요청만 DB를 읽고 나머지는 그 결과를 기다립니다.
+ * 유형별 조회/적중 횟수와 적중률은 actuator metrics(approval.requests.cache)로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class ApprovalRequestCache {
+
+    private static final String METRIC_NAME = "approval.requests.cache";
+
+    private final Cache cache;
+    private final Map<RequestType, Counter> hitCounters = new EnumMap<>(RequestType.class);
+    private final Map<RequestType, Counter> missCounters = new EnumMap<>(RequestType.class);
+
+    public ApprovalRequestCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.APPROVAL_REQUESTS));
+        for (RequestType type : RequestType.values()) {
+            Counter hit = Counter.builder(METRIC_NAME)
+                    .tag("type", type.name())
+                    .tag("result", "hit")
+                    .description("유형별 결재 요청 목록 캐시 적중 횟수")
+                    .register(meterRegistry);
+            Counter miss = Counter.builder(METRIC_NAME)
+                    .tag("type", type.name())
+                    .tag("result", "miss")
+                    .description("유형별 결재 요청 목록 캐시 미스 횟수")
+                    .register(meterRegistry);
+            hitCounters.put(type, hit);
+            missCounters.put(type, miss);
+            Gauge.builder(METRIC_NAME + ".hit.ratio", () -> hitRatio(hit.count(), miss.count()))
+                    .tag("type", type.name())
+                    .description("유형별 결재 요청 목록 캐시 적중률")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 유형의 전체 결재 요청 목록을 캐시에서 찾고, 없으면 loader로 읽어 캐시합니다.
+     * 같은 유형의 동시 미스는 loader를 한 번만 실행합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<ApprovalRequestResponseDto> getByType(RequestType type, Supplier<List<ApprovalRequestResponseDto>> loader) {
+        Cache.ValueWrapper cached = cache.get(type);
+        if (cached != null) {
+            hitCounters.get(type).increment();
+            return (List<ApprovalRequestResponseDto>) cached.get();
+        }
+        missCounters.get(type).increment();
+        return cache.get(type, loader::get);
+    }
+
+    /**
+     * 유형의 목록 캐시를 지웁니다. 트랜잭션 안이면 커밋된 뒤에 지우고, 롤백되면 지우지 않습니다.
+     */
+    public void evict(RequestType type) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(type);
+                }
+            });
+        } else {
+            evictNow(type);
+        }
+    }
+
+    private void evictNow(RequestType type) {
+        cache.evict(type);
+        log.debug("approvalRequests cache evicted. type={}", type);
+    }
+
+    private static double hitRatio(double hits, double misses) {
+        double total = hits + misses;
+        return total == 0 ? 0 : hits / total;
+    }
+}
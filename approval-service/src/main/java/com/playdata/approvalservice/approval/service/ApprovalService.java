@@ -5,6 +5,7 @@ import com.playdata.approvalservice.approval.dto.AbsenceApprovalStatisticsDto;
 import com.playdata.approvalservice.approval.dto.ApprovalRejectRequestDto;
 import com.playdata.approvalservice.approval.dto.ApprovalRequestCreateDto;
 import com.playdata.approvalservice.approval.dto.ApprovalRequestResponseDto;
+import com.playdata.approvalservice.approval.dto.CursorPageResDto;
 import com.playdata.approvalservice.approval.dto.VacationApprovalRequestCreateDto;
 import com.playdata.approvalservice.approval.entity.RequestType;
 import com.playdata.approvalservice.common.auth.TokenUserInfo;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface ApprovalService {
 
@@ -57,6 +59,9 @@ public interface ApprovalService {
     @Transactional(readOnly = true)
     Page<ApprovalRequestResponseDto> getAbsenceApprovalRequests(int page, int size);
 
+    @Transactional(readOnly = true)
+    CursorPageResDto<ApprovalRequestResponseDto> getAbsenceApprovalRequests(String cursor, int size);
+
     @Transactional(readOnly = true)
     Page<ApprovalRequestResponseDto> getPendingAbsenceApprovalRequests(TokenUserInfo userInfo, int page, int size);
 
@@ -66,16 +71,31 @@ public interface ApprovalService {
     @Transactional(readOnly = true)
     Page<ApprovalRequestResponseDto> getMyAbsenceApprovalRequests(TokenUserInfo userInfo, int page, int size);
 
+    @Transactional(readOnly = true)
+    CursorPageResDto<ApprovalRequestResponseDto> getMyAbsenceApprovalRequests(TokenUserInfo userInfo, String cursor, int size);
+
     @Transactional(readOnly = true)
     Page<ApprovalRequestResponseDto> getAbsenceApprovalRequestsProcessedByMe(TokenUserInfo userInfo, int page, int size);
 
+    @Transactional(readOnly = true)
+    CursorPageResDto<ApprovalRequestResponseDto> getAbsenceApprovalRequestsProcessedByMe(TokenUserInfo userInfo, String cursor, int size);
+
     @Transactional
     ApprovalRequestResponseDto updateAbsenceApprovalRequest(Long id, com.playdata.approvalservice.client.dto.AbsenceApprovalRequestUpdateDto updateDto, TokenUserInfo userInfo);
 
     @Transactional
     void cancelApprovalRequest(Long id, TokenUserInfo userInfo);
 
+    @Transactional
+    void revokeVacationApproval(Long id, String reason);
+
     boolean hasApprovedLeave(Long userId, LocalDate date);
 
     String getApprovedLeaveType(Long userId, LocalDate date);
+
+    Map<Long, String> getApprovedLeaveTypes(LocalDate date);
+
+    Map<Long, String> getApprovedLeaveTypes(List<Long> userIds, LocalDate date);
+
+    long rebuildApprovedLeaveDays();
 }
\ No newline at end of file
@@ -15,17 +15,17 @@ import feign.FeignException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
+import com.playdata.approvalservice.approval.repository.ApprovalCursor;
 import com.playdata.approvalservice.approval.repository.ApprovalSpecification;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -46,33 +46,26 @@ public class ApprovalServiceImpl implements ApprovalService {
 
     private static final Logger log = LoggerFactory.getLogger(ApprovalServiceImpl.class);
 
+    // 커서 기반 목록 한 번에 조회할 수 있는 최대 건수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ApprovalRepository approvalRepository;
     private final HrServiceClient hrServiceClient;
     private final VacationServiceClient vacationServiceClient;
     private final CertificateServiceClient certificateServiceClient;
     private final AbsenceServiceClient absenceServiceClient;
+    private final UserInfoResolver userInfoResolver;
+    private final ApprovalRequestCache approvalRequestCache;
+    private final ApprovedLeaveDayProjector approvedLeaveDayProjector;
+    private final ApprovalOutbox approvalOutbox;
 
     // ===== 공통 유틸리티 메서드들 =====
 
     /**
-     * 사용자 정보를 일괄 조회하여 Map으로 반환
+     * 사용자 정보를 일괄 조회하여 Map으로 반환 (요청 간 공유하는 짧은 TTL 캐시를 거칩니다)
      */
     private Map<Long, UserResDto> getUserMap(List<Long> userIds) {
-        if (userIds == null || userIds.isEmpty()) {
-            return new HashMap<>();
-        }
-        try {
-            List<UserResDto> usersInfo = hrServiceClient.getUsersInfo(userIds);
-            if (usersInfo == null || usersInfo.isEmpty()) {
-                log.warn("HR 서비스로부터 사용자 정보를 가져오지 못했습니다. userIds: {}", userIds);
-                return new HashMap<>();
-            }
-            return usersInfo.stream()
-                    .collect(Collectors.toMap(UserResDto::getEmployeeNo, Function.identity()));
-        } catch (Exception e) {
-            log.error("HR 서비스 통신 오류 (getUserMap): {}", e.getMessage());
-            return new HashMap<>();
-        }
+        return userInfoResolver.resolve(userIds);
     }
 
     /**
@@ -232,7 +225,6 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "approvalRequests", allEntries = true)
     public ApprovalRequestResponseDto createApprovalRequest(TokenUserInfo userInfo, ApprovalRequestCreateDto createDto) {
         log.info("createApprovalRequest 메서드 진입. userInfo: {}, createDto: {}", userInfo, createDto);
 
@@ -299,6 +291,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         ApprovalRequest savedRequest = null;
         try {
             savedRequest = approvalRepository.save(approvalRequest);
+            approvalRequestCache.evict(savedRequest.getRequestType());
             log.info("--- 5. ApprovalRequest 엔티티 저장 성공. ID: {}", savedRequest.getId());
         } catch (Exception e) {
             log.error("ApprovalRequest 엔티티 저장 중 오류 발생: {}", e.getMessage(), e);
@@ -409,17 +402,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         Specification<ApprovalRequest> spec = ApprovalSpecification.withFilter(applicantId, status, requestType);
         Page<ApprovalRequest> requestsPage = approvalRepository.findAll(spec, pageable);
 
-        // 사용자 정보 조회 (신청자와 결재자 모두)
-        List<Long> allUserIds = new ArrayList<>();
-        requestsPage.forEach(request -> {
-            allUserIds.add(request.getApplicantId());
-            if (request.getApproverId() != null) {
-                allUserIds.add(request.getApproverId());
-            }
-        });
-        Map<Long, UserResDto> userMap = getUserMap(allUserIds.stream().distinct().collect(Collectors.toList()));
-
-        return requestsPage.map(request -> buildResponseDto(request, userMap));
+        return createPagedResponse(requestsPage);
     }
 
     /**
@@ -427,11 +410,12 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "approvalRequests", key = "#requestType")
     public List<ApprovalRequestResponseDto> getAllApprovalRequests(RequestType requestType) {
-        log.info("getAllApprovalRequests 메서드 진입 (requestType 필터링). 요청 유형: {}", requestType);
-        List<ApprovalRequest> filteredRequests = approvalRepository.findByRequestType(requestType);
-        return buildResponseDtoList(filteredRequests);
+        return approvalRequestCache.getByType(requestType, () -> {
+            log.info("getAllApprovalRequests 캐시 미스, DB 조회. 요청 유형: {}", requestType);
+            List<ApprovalRequest> filteredRequests = approvalRepository.findByRequestType(requestType);
+            return buildResponseDtoList(filteredRequests);
+        });
     }
 
     /**
@@ -446,17 +430,7 @@ public class ApprovalServiceImpl implements ApprovalService {
 
         Page<ApprovalRequest> pendingRequestsPage = approvalRepository.findByStatus(ApprovalStatus.PENDING, pageable);
 
-        // 사용자 정보 조회 (신청자와 결재자 모두)
-        List<Long> allUserIds = new ArrayList<>();
-        pendingRequestsPage.forEach(request -> {
-            allUserIds.add(request.getApplicantId());
-            if (request.getApproverId() != null) {
-                allUserIds.add(request.getApproverId());
-            }
-        });
-        Map<Long, UserResDto> userMap = getUserMap(allUserIds.stream().distinct().collect(Collectors.toList()));
-
-        return pendingRequestsPage.map(request -> buildResponseDto(request, userMap));
+        return createPagedResponse(pendingRequestsPage);
     }
 
     /**
@@ -484,7 +458,6 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "approvalRequests", allEntries = true)
     public ApprovalRequestResponseDto approveApprovalRequest(Long id, Long employeeNo) {
         log.info("approveApprovalRequest 메서드 시작. 요청 ID: {}, 승인자: {}", id, employeeNo);
 
@@ -493,10 +466,12 @@ public class ApprovalServiceImpl implements ApprovalService {
         approvalRequest.approve();
 
         ApprovalRequest updatedRequest = approvalRepository.save(approvalRequest);
+        approvalRequestCache.evict(updatedRequest.getRequestType());
+        approvedLeaveDayProjector.onApproved(updatedRequest);
         log.info("결재 요청 승인 처리 완료. 상태: {}", updatedRequest.getStatus());
 
-        // 서비스별 후처리
-        processApprovalAftermath(updatedRequest);
+        // 서비스별 후처리는 아웃박스에 기록하고, 커밋 후 ApprovalOutboxRelay가 전달합니다.
+        approvalOutbox.enqueueApprovalAftermath(updatedRequest);
 
         return buildResponseDto(updatedRequest, getUserMapForRequest(updatedRequest));
     }
@@ -506,7 +481,6 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "approvalRequests", allEntries = true)
     public ApprovalRequestResponseDto rejectApprovalRequest(Long id, TokenUserInfo userInfo,
                                                             ApprovalRejectRequestDto rejectRequestDto) {
         log.info("rejectApprovalRequest 메서드 시작. 요청 ID: {}, 반려자: {}", id, userInfo.getEmployeeNo());
@@ -516,6 +490,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         approvalRequest.reject(rejectRequestDto.getRejectComment());
 
         ApprovalRequest updatedRequest = approvalRepository.save(approvalRequest);
+        approvalRequestCache.evict(updatedRequest.getRequestType());
         log.info("결재 요청 반려 처리 완료. 상태: {}, 반려 사유: {}",
                 updatedRequest.getStatus(), updatedRequest.getRejectComment());
 
@@ -532,7 +507,6 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "approvalRequests", allEntries = true)
     public ApprovalRequestResponseDto approveAbsenceApprovalRequest(Long id, Long employeeNo) {
         log.info("부재 결재 요청 승인 처리 시작. 요청 ID: {}, 승인자: {}", id, employeeNo);
 
@@ -546,17 +520,10 @@ public class ApprovalServiceImpl implements ApprovalService {
         approvalRequest.approve();
 
         ApprovalRequest updatedRequest = approvalRepository.save(approvalRequest);
+        approvalRequestCache.evict(updatedRequest.getRequestType());
 
-        // absence-service에 승인 처리 요청
-        if (updatedRequest.getAbsencesId() != null) {
-            try {
-                absenceServiceClient.approveAbsence(updatedRequest.getAbsencesId(), employeeNo);
-                log.info("absence-service에 부재 승인 처리 완료. absenceId: {}", updatedRequest.getAbsencesId());
-            } catch (Exception e) {
-                log.error("absence-service 부재 승인 처리 실패: {}", e.getMessage(), e);
-                throw new ApprovalInternalServerErrorException("부재 승인 처리 중 오류 발생");
-            }
-        }
+        // absence-service 승인 처리는 아웃박스에 기록하고, 커밋 후 ApprovalOutboxRelay가 전달합니다.
+        approvalOutbox.enqueueApprovalAftermath(updatedRequest);
 
         return buildResponseDto(updatedRequest, getUserMapForRequest(updatedRequest));
     }
@@ -566,7 +533,6 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "approvalRequests", allEntries = true)
     public ApprovalRequestResponseDto rejectAbsenceApprovalRequest(Long id, TokenUserInfo userInfo,
                                                                    ApprovalRejectRequestDto rejectRequestDto) {
         log.info("부재 결재 요청 반려 처리 시작. 요청 ID: {}, 반려자: {}", id, userInfo.getEmployeeNo());
@@ -581,6 +547,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         approvalRequest.reject(rejectRequestDto.getRejectComment());
 
         ApprovalRequest updatedRequest = approvalRepository.save(approvalRequest);
+        approvalRequestCache.evict(updatedRequest.getRequestType());
 
         // absence-service에 반려 처리 요청
         if (updatedRequest.getAbsencesId() != null) {
@@ -625,10 +592,19 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Transactional(readOnly = true)
     public Page<ApprovalRequestResponseDto> getAbsenceApprovalRequests(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<ApprovalRequest> absenceRequests = approvalRepository
-                .findByRequestTypeOrderByRequestedAtDesc(RequestType.ABSENCE);
+        Page<ApprovalRequest> absenceRequests = approvalRepository
+                .findByRequestTypeOrderByRequestedAtDescIdDesc(RequestType.ABSENCE, pageable);
 
-        return createPagedResponse(absenceRequests, pageable);
+        return createPagedResponse(absenceRequests);
+    }
+
+    /**
+     * 부재 결재 요청 목록 조회 (커서 기반)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResDto<ApprovalRequestResponseDto> getAbsenceApprovalRequests(String cursor, int size) {
+        return createCursorResponse(ApprovalSpecification.requestType(RequestType.ABSENCE), cursor, size);
     }
 
     /**
@@ -645,7 +621,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         Page<ApprovalRequest> pendingAbsenceRequests = approvalRepository
                 .findByRequestTypeAndStatusOrderByRequestedAtDesc(RequestType.ABSENCE, ApprovalStatus.PENDING, pageable);
 
-        return pendingAbsenceRequests.map(request -> buildResponseDto(request, getUserMapForRequest(request)));
+        return createPagedResponse(pendingAbsenceRequests);
     }
 
     /**
@@ -658,7 +634,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         Page<ApprovalRequest> processedAbsenceRequests = approvalRepository
                 .findProcessedAbsenceApprovalRequests(pageable);
 
-        return processedAbsenceRequests.map(request -> buildResponseDto(request, getUserMapForRequest(request)));
+        return createPagedResponse(processedAbsenceRequests);
     }
 
     /**
@@ -668,10 +644,20 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Transactional(readOnly = true)
     public Page<ApprovalRequestResponseDto> getMyAbsenceApprovalRequests(TokenUserInfo userInfo, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<ApprovalRequest> myAbsenceRequests = approvalRepository
-                .findByRequestTypeAndApplicantIdOrderByRequestedAtDesc(RequestType.ABSENCE, userInfo.getEmployeeNo());
+        Page<ApprovalRequest> myAbsenceRequests = approvalRepository
+                .findByRequestTypeAndApplicantIdOrderByRequestedAtDescIdDesc(RequestType.ABSENCE, userInfo.getEmployeeNo(), pageable);
 
-        return createPagedResponse(myAbsenceRequests, pageable);
+        return createPagedResponse(myAbsenceRequests);
+    }
+
+    /**
+     * 특정 사용자의 부재 결재 요청 목록 조회 (커서 기반)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResDto<ApprovalRequestResponseDto> getMyAbsenceApprovalRequests(TokenUserInfo userInfo, String cursor, int size) {
+        return createCursorResponse(ApprovalSpecification.requestType(RequestType.ABSENCE)
+                .and(ApprovalSpecification.applicant(userInfo.getEmployeeNo())), cursor, size);
     }
 
     /**
@@ -681,10 +667,23 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Transactional(readOnly = true)
     public Page<ApprovalRequestResponseDto> getAbsenceApprovalRequestsProcessedByMe(TokenUserInfo userInfo, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        List<ApprovalRequest> processedByMeRequests = approvalRepository
-                .findByRequestTypeAndApproverIdOrderByProcessedAtDesc(RequestType.ABSENCE, userInfo.getEmployeeNo());
+        Page<ApprovalRequest> processedByMeRequests = approvalRepository
+                .findByRequestTypeAndApproverIdOrderByProcessedAtDescIdDesc(RequestType.ABSENCE, userInfo.getEmployeeNo(), pageable);
+
+        return createPagedResponse(processedByMeRequests);
+    }
 
-        return createPagedResponse(processedByMeRequests, pageable);
+    /**
+     * 특정 결재자가 처리한 부재 결재 요청 목록 조회 (커서 기반, 오프셋 조회와 같은 처리 일시 최신순)
+     * 커서는 (processedAt, id)이며, 아직 처리되지 않은 요청은 포함하지 않습니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResDto<ApprovalRequestResponseDto> getAbsenceApprovalRequestsProcessedByMe(TokenUserInfo userInfo, String cursor, int size) {
+        return createCursorResponse(ApprovalSpecification.requestType(RequestType.ABSENCE)
+                        .and(ApprovalSpecification.approver(userInfo.getEmployeeNo())), cursor, size,
+                ApprovalSpecification.LATEST_PROCESSED_FIRST, ApprovalSpecification::processedBefore,
+                ApprovalCursor::afterProcessed);
     }
 
     /**
@@ -692,7 +691,6 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "approvalRequests", allEntries = true)
     public ApprovalRequestResponseDto updateAbsenceApprovalRequest(Long id, com.playdata.approvalservice.client.dto.AbsenceApprovalRequestUpdateDto updateDto, TokenUserInfo userInfo) {
         log.info("부재 결재 요청 수정 시작. 요청 ID: {}, 사용자: {}", id, userInfo.getEmployeeNo());
 
@@ -716,6 +714,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         approvalRequest.updateAbsenceRequest(updateDto);
 
         ApprovalRequest updatedRequest = approvalRepository.save(approvalRequest);
+        approvalRequestCache.evict(updatedRequest.getRequestType());
         log.info("부재 결재 요청 수정 완료. 요청 ID: {}, 업데이트 후: reason={}, title={}", updatedRequest.getId(), updatedRequest.getReason(), updatedRequest.getTitle());
 
         return buildResponseDto(updatedRequest, getUserMapForRequest(updatedRequest));
@@ -726,7 +725,6 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "approvalRequests", allEntries = true)
     public void cancelApprovalRequest(Long id, TokenUserInfo userInfo) {
         log.info("결재 요청 취소 시작. 요청 ID: {}, 사용자: {}", id, userInfo.getEmployeeNo());
 
@@ -742,9 +740,37 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
 
         approvalRepository.delete(approvalRequest);
+        approvalRequestCache.evict(approvalRequest.getRequestType());
         log.info("결재 요청 취소(삭제) 완료. 요청 ID: {}", id);
     }
 
+    /**
+     * 승인된 휴가 결재를 취소해 반려 상태로 되돌립니다.
+     * 승인 휴가 날짜 투영에서 그 휴가의 날짜를 지우고, vacation-service와 attendance-service에 취소를 전달할 이벤트를 기록합니다.
+     * 승인된 휴가가 아니면 아무것도 하지 않습니다.
+     *
+     * @param id 결재 요청 ID
+     * @param reason 취소 사유 (반려 사유로 기록)
+     */
+    @Override
+    @Transactional
+    public void revokeVacationApproval(Long id, String reason) {
+        ApprovalRequest approvalRequest = approvalRepository.findById(id)
+                .orElseThrow(() -> new ApprovalNotFoundException("결재 요청을 찾을 수 없습니다: " + id));
+        if (approvalRequest.getRequestType() != RequestType.VACATION || approvalRequest.getStatus() != ApprovalStatus.APPROVED) {
+            log.warn("승인된 휴가 결재가 아니어서 승인 취소를 건너뜁니다. 요청 ID: {}, 유형: {}, 상태: {}",
+                    id, approvalRequest.getRequestType(), approvalRequest.getStatus());
+            return;
+        }
+
+        approvalRequest.reject(reason);
+        ApprovalRequest revokedRequest = approvalRepository.save(approvalRequest);
+        approvalRequestCache.evict(revokedRequest.getRequestType());
+        approvedLeaveDayProjector.onRevoked(revokedRequest);
+        approvalOutbox.enqueueRevocationAftermath(revokedRequest);
+        log.warn("휴가 결재 승인 취소 완료. 요청 ID: {}, 사유: {}", id, reason);
+    }
+
     // ===== 휴가 관련 메서드들 =====
 
     /**
@@ -752,13 +778,7 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     public boolean hasApprovedLeave(Long userId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(23, 59, 59, 999999999);
-
-        List<ApprovalRequest> approvedLeaves = approvalRepository
-                .findAllByApplicantIdAndRequestedAtBetweenAndStatus(userId, startOfDay, endOfDay, ApprovalStatus.APPROVED);
-
-        return !approvedLeaves.isEmpty();
+        return approvedLeaveDayProjector.hasApprovedLeave(userId, date);
     }
 
     /**
@@ -766,17 +786,31 @@ public class ApprovalServiceImpl implements ApprovalService {
      */
     @Override
     public String getApprovedLeaveType(Long userId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(23, 59, 59, 999999999);
+        return approvedLeaveDayProjector.getApprovedLeaveType(userId, date);
+    }
+
+    /**
+     * 특정 날짜에 승인된 휴가의 종류를 사용자별로 한 번에 조회
+     */
+    @Override
+    public Map<Long, String> getApprovedLeaveTypes(LocalDate date) {
+        return approvedLeaveDayProjector.getApprovedLeaveTypes(null, date);
+    }
 
-        List<ApprovalRequest> approvedLeaves = approvalRepository
-                .findAllByApplicantIdAndRequestedAtBetweenAndStatus(userId, startOfDay, endOfDay, ApprovalStatus.APPROVED);
+    /**
+     * 지정한 사용자들의 특정 날짜 승인 휴가 종류를 한 번에 조회
+     */
+    @Override
+    public Map<Long, String> getApprovedLeaveTypes(List<Long> userIds, LocalDate date) {
+        return approvedLeaveDayProjector.getApprovedLeaveTypes(userIds, date);
+    }
 
-        return approvedLeaves.stream()
-                .filter(request -> request.getRequestType() == RequestType.VACATION)
-                .map(ApprovalRequest::getVacationType)
-                .findFirst()
-                .orElse(null);
+    /**
+     * 승인 휴가 날짜 투영을 승인된 휴가 결재 요청 전체로 다시 만듭니다.
+     */
+    @Override
+    public long rebuildApprovedLeaveDays() {
+        return approvedLeaveDayProjector.rebuild();
     }
 
     // ===== 프라이빗 헬퍼 메서드들 =====
@@ -795,17 +829,6 @@ public class ApprovalServiceImpl implements ApprovalService {
         return approvalRequest;
     }
 
-    /**
-     * 승인 후 서비스별 후처리
-     */
-    private void processApprovalAftermath(ApprovalRequest updatedRequest) {
-        switch (updatedRequest.getRequestType()) {
-            case VACATION -> processVacationApproval(updatedRequest);
-            case CERTIFICATE -> processCertificateApproval(updatedRequest);
-            case ABSENCE -> processAbsenceApproval(updatedRequest);
-        }
-    }
-
     /**
      * 반려 후 서비스별 후처리
      */
@@ -817,29 +840,6 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
     }
 
-    /**
-     * 휴가 승인 후처리
-     */
-    private void processVacationApproval(ApprovalRequest request) {
-        if (request.getVacationsId() != null) {
-            try {
-                vacationServiceClient.updateVacationBalanceOnApproval(
-                        request.getVacationsId(),
-                        ApprovalStatus.APPROVED.name(),
-                        request.getApplicantId(),
-                        request.getVacationType(),
-                        request.getStartDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
-                        request.getEndDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
-                        null
-                );
-                log.info("VacationService 연차 차감 요청 성공.");
-            } catch (Exception e) {
-                log.error("VacationService 연차 차감 요청 실패: {}", e.getMessage(), e);
-                throw new ApprovalInternalServerErrorException("연차 차감 처리 중 오류 발생");
-            }
-        }
-    }
-
     /**
      * 휴가 반려 후처리
      */
@@ -847,6 +847,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         if (request.getVacationsId() != null) {
             try {
                 vacationServiceClient.updateVacationBalanceOnApproval(
+                        ApprovalOutboxEvent.idempotencyKey(request.getId(), "VACATION_REJECTED"),
                         request.getVacationsId(),
                         ApprovalStatus.REJECTED.name(),
                         request.getApplicantId(),
@@ -862,27 +863,6 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
     }
 
-    /**
-     * 증명서 승인 후처리
-     */
-    private void processCertificateApproval(ApprovalRequest request) {
-        if (request.getCertificateId() != null) {
-            try {
-                Map<Long, UserResDto> userMap = getUserMapForRequest(request);
-                String approverName = Optional.ofNullable(request.getApproverId())
-                        .map(userMap::get)
-                        .map(UserResDto::getUserName).orElse("알 수 없음");
-
-                certificateServiceClient.approveCertificate(request.getCertificateId(),
-                        request.getApproverId(), approverName);
-                log.info("CertificateService 증명서 승인 요청 성공. certificateId: {}", request.getCertificateId());
-            } catch (Exception e) {
-                log.error("CertificateService 증명서 승인 요청 실패: {}", e.getMessage(), e);
-                throw new ApprovalInternalServerErrorException("증명서 승인 처리 중 오류 발생");
-            }
-        }
-    }
-
     /**
      * 증명서 반려 후처리
      */
@@ -903,19 +883,6 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
     }
 
-    /**
-     * 부재 승인 후처리
-     */
-    private void processAbsenceApproval(ApprovalRequest request) {
-        if (request.getAbsencesId() != null) {
-            log.info("Attempting to call AbsenceService to approve absence. Absence ID: {}, Approver ID: {}", request.getAbsencesId(), request.getApproverId());
-            absenceServiceClient.approveAbsence(request.getAbsencesId(), request.getApproverId());
-            log.info("Successfully called AbsenceService to approve absence. absencesId: {}", request.getAbsencesId());
-        } else {
-            log.warn("Absence ID is null. Skipping call to AbsenceService. ApprovalRequest ID: {}", request.getId());
-        }
-    }
-
     /**
      * 부재 반려 후처리
      */
@@ -936,11 +903,7 @@ public class ApprovalServiceImpl implements ApprovalService {
      * 결재 요청에 필요한 사용자 정보 조회
      */
     private Map<Long, UserResDto> getUserMapForRequest(ApprovalRequest request) {
-        List<Long> userIds = new ArrayList<>(List.of(request.getApplicantId()));
-        if (request.getApproverId() != null) {
-            userIds.add(request.getApproverId());
-        }
-        return getUserMap(userIds);
+        return userInfoResolver.resolveForRequests(List.of(request));
     }
 
     /**
@@ -951,16 +914,7 @@ public class ApprovalServiceImpl implements ApprovalService {
             return List.of();
         }
 
-        List<Long> allUserIds = requests.stream()
-                .map(ApprovalRequest::getApplicantId)
-                .collect(Collectors.toList());
-        requests.stream()
-                .filter(req -> req.getApproverId() != null)
-                .map(ApprovalRequest::getApproverId)
-                .forEach(allUserIds::add);
-
-        allUserIds = allUserIds.stream().distinct().collect(Collectors.toList());
-        Map<Long, UserResDto> userMap = getUserMap(allUserIds);
+        Map<Long, UserResDto> userMap = userInfoResolver.resolveForRequests(requests);
 
         return requests.stream()
                 .map(req -> buildResponseDto(req, userMap))
@@ -968,25 +922,47 @@ public class ApprovalServiceImpl implements ApprovalService {
     }
 
     /**
-     * 페이징된 응답 생성
+     * 페이징된 응답 생성 (DB에서 잘라 온 한 페이지만 변환)
      */
-    private Page<ApprovalRequestResponseDto> createPagedResponse(List<ApprovalRequest> requests, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), requests.size());
-        List<ApprovalRequest> pagedRequests = requests.subList(start, end);
+    private Page<ApprovalRequestResponseDto> createPagedResponse(Page<ApprovalRequest> requestsPage) {
+        return new PageImpl<>(buildResponseDtoList(requestsPage.getContent()),
+                requestsPage.getPageable(), requestsPage.getTotalElements());
+    }
 
-        List<Long> allUserIds = pagedRequests.stream()
-                .map(ApprovalRequest::getApplicantId)
-                .collect(Collectors.toList());
-        pagedRequests.stream()
-                .filter(req -> req.getApproverId() != null)
-                .map(ApprovalRequest::getApproverId)
-                .forEach(allUserIds::add);
-        allUserIds = allUserIds.stream().distinct().collect(Collectors.toList());
-        Map<Long, UserResDto> userMap = getUserMap(allUserIds);
-
-        return new PageImpl<>(pagedRequests.stream()
-                .map(request -> buildResponseDto(request, userMap))
-                .collect(Collectors.toList()), pageable, requests.size());
+    /**
+     * 커서 기반 응답 생성 (요청 일시 최신순)
+     */
+    private CursorPageResDto<ApprovalRequestResponseDto> createCursorResponse(
+            Specification<ApprovalRequest> spec, String cursor, int size) {
+        return createCursorResponse(spec, cursor, size, ApprovalSpecification.LATEST_REQUESTED_FIRST,
+                ApprovalSpecification::requestedBefore, ApprovalCursor::afterRequested);
+    }
+
+    /**
+     * 커서 기반 응답 생성
+     * 주어진 정렬로 커서 다음 행을 size + 1건만 읽어, 한 건이 더 있으면 다음 페이지가 있는 것으로 봅니다.
+     *
+     * @param sort     키셋 정렬 (정렬 기준 일시, id 내림차순)
+     * @param seek     커서 다음 행만 남기는 조건
+     * @param cursorOf 페이지 마지막 행으로 다음 커서를 만드는 함수
+     */
+    private CursorPageResDto<ApprovalRequestResponseDto> createCursorResponse(
+            Specification<ApprovalRequest> spec, String cursor, int size, Sort sort,
+            Function<ApprovalCursor, Specification<ApprovalRequest>> seek,
+            Function<ApprovalRequest, ApprovalCursor> cursorOf) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ApprovalBadRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        List<ApprovalRequest> rows = approvalRepository.findTop(
+                spec.and(seek.apply(ApprovalCursor.decode(cursor))), sort, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<ApprovalRequest> pageRows = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResDto.<ApprovalRequestResponseDto>builder()
+                .content(buildResponseDtoList(pageRows))
+                .size(pageRows.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(size - 1)).encode() : null)
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.approval.entity.ApprovalStatus;
+import com.playdata.approvalservice.approval.entity.ApprovedLeaveDay;
+import com.playdata.approvalservice.approval.entity.RequestType;
+import com.playdata.approvalservice.approval.repository.ApprovalRepository;
+import com.playdata.approvalservice.approval.repository.ApprovedLeaveDayRepository;
+import com.playdata.common.domain.OneTimeTaskMarker;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 승인된 휴가 날짜 투영(approved_leave_day)을 유지하고 조회합니다.
+ * 휴가 결재가 승인되면 시작일~종료일을 하루씩 기록하고, 승인이 취소되면 그 요청의 날짜를 지웁니다.
+ * 같은 날 승인된 휴가가 겹치면 먼저 승인된 휴가가 그 날짜를 차지합니다.
+ * 호출한 트랜잭션 안에서 반영되므로 결재 처리가 롤백되면 투영도 함께 롤백됩니다.
+ *
+ * 투영을 쓰지 않는 이전 버전 인스턴스가 배포 도중 승인한 휴가는 기록되지 않으므로,
+ * reconcile-interval마다 reconcile-window 안에 처리된 승인 휴가를 다시 기록해 빠진 날짜를 채웁니다. (이미 있는 날짜는 그대로 둠)
+ * 그 밖에 투영이 어긋났다고 의심되면 HR이 재구성 API(POST /approvals/leaves/approved-days/rebuild)로 전체를 다시 만듭니다.
+ */
+@Component
+@Slf4j
+public class ApprovedLeaveDayProjector {
+
+    // 투영 초기 재구성 완료 표시
+    static final String INITIAL_BUILD_TASK = "approved-leave-day-build";
+
+    private final ApprovedLeaveDayRepository approvedLeaveDayRepository;
+    private final ApprovalRepository approvalRepository;
+    private final OneTimeTaskMarker oneTimeTaskMarker;
+    private final EntityManager entityManager;
+    private final TransactionTemplate requiresNew;
+    private final int rebuildPageSize;
+    private final Duration reconcileWindow;
+
+    public ApprovedLeaveDayProjector(ApprovedLeaveDayRepository approvedLeaveDayRepository,
+                                     ApprovalRepository approvalRepository,
+                                     OneTimeTaskMarker oneTimeTaskMarker,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${approval.leave-day.rebuild-page-size:500}") int rebuildPageSize,
+                                     @Value("${approval.leave-day.reconcile-window:2h}") Duration reconcileWindow) {
+        this.approvedLeaveDayRepository = approvedLeaveDayRepository;
+        this.approvalRepository = approvalRepository;
+        this.oneTimeTaskMarker = oneTimeTaskMarker;
+        this.entityManager = entityManager;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildPageSize = rebuildPageSize;
+        this.reconcileWindow = reconcileWindow;
+    }
+
+    /**
+     * 승인된 휴가 결재 요청의 날짜를 기록합니다. 휴가가 아니거나 기간이 없는 요청은 무시합니다.
+     */
+    @Transactional
+    public void onApproved(ApprovalRequest request) {
+        if (request.getRequestType() != RequestType.VACATION || request.getStatus() != ApprovalStatus.APPROVED) {
+            return;
+        }
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            log.warn("휴가 기간이 없어 승인 휴가 날짜를 기록하지 않습니다. approvalRequestId: {}", request.getId());
+            return;
+        }
+        for (LocalDate date = request.getStartDate(); !date.isAfter(request.getEndDate()); date = date.plusDays(1)) {
+            approvedLeaveDayRepository.insertIfAbsent(request.getApplicantId(), date, request.getId(), request.getVacationType());
+        }
+    }
+
+    /**
+     * 승인이 취소된 휴가 결재 요청으로 기록된 날짜를 지웁니다.
+     * 지운 날짜와 겹치는 같은 사용자의 다른 승인 휴가가 있으면 그 휴가로 다시 기록합니다.
+     * 요청의 상태를 승인이 아닌 상태로 바꾼 뒤 호출해야 합니다.
+     */
+    @Transactional
+    public void onRevoked(ApprovalRequest request) {
+        if (request.getRequestType() != RequestType.VACATION) {
+            return;
+        }
+        int removed = approvedLeaveDayRepository.deleteByApprovalRequestId(request.getId());
+        if (removed == 0 || request.getStartDate() == null || request.getEndDate() == null) {
+            return;
+        }
+        for (ApprovalRequest overlapping : approvalRepository.findApprovedVacationsOverlapping(
+                request.getApplicantId(), request.getStartDate(), request.getEndDate())) {
+            onApproved(overlapping);
+        }
+    }
+
+
+    /**
+     * 사용자가 날짜에 승인된 휴가가 있는지 확인합니다. (기본 키 조회)
+     */
+    @Transactional(readOnly = true)
+    public boolean hasApprovedLeave(Long userId, LocalDate date) {
+        return approvedLeaveDayRepository.existsById(new ApprovedLeaveDay.Key(userId, date));
+    }
+
+    /**
+     * 사용자가 날짜에 승인된 휴가의 종류를 조회합니다. (기본 키 조회)
+     *
+     * @return 휴가 종류, 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public String getApprovedLeaveType(Long userId, LocalDate date) {
+        return approvedLeaveDayRepository.findById(new ApprovedLeaveDay.Key(userId, date))
+                .map(ApprovedLeaveDay::getVacationType)
+                .orElse(null);
+    }
+
+    /**
+     * 여러 사용자의 날짜별 휴가 종류를 한 번에 조회합니다.
+     *
+     * @param userIds 조회할 사용자 ID, null이면 그 날짜에 휴가인 모든 사용자
+     * @return 사용자 ID별 휴가 종류 (휴가가 없거나 종류가 없는 사용자는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getApprovedLeaveTypes(Collection<Long> userIds, LocalDate date) {
+        List<ApprovedLeaveDay> days = userIds == null
+                ? approvedLeaveDayRepository.findByLeaveDate(date)
+                : userIds.isEmpty() ? List.of() : approvedLeaveDayRepository.findByUserIdInAndLeaveDate(userIds, date);
+        Map<Long, String> leaveTypes = new HashMap<>();
+        for (ApprovedLeaveDay day : days) {
+            if (day.getVacationType() != null) {
+                leaveTypes.put(day.getUserId(), day.getVacationType());
+            }
+        }
+        return leaveTypes;
+    }
+
+    /**
+     * 승인된 휴가 결재 요청 전체로 투영을 다시 만듭니다.
+     * 결재 요청을 ID 순으로 rebuild-page-size개씩 읽어 기록하고, 페이지마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지합니다.
+     *
+     * @return 기록된 날짜 행 수
+     */
+    @Transactional
+    public long rebuild() {
+        approvedLeaveDayRepository.deleteAllInBatch();
+        Long afterId = 0L;
+        List<ApprovalRequest> page;
+        do {
+            page = approvalRepository.findByRequestTypeAndStatusAfterId(RequestType.VACATION, ApprovalStatus.APPROVED,
+                    afterId, PageRequest.of(0, rebuildPageSize));
+            for (ApprovalRequest request : page) {
+                onApproved(request);
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+            entityManager.clear();
+        } while (page.size() == rebuildPageSize);
+        long rows = approvedLeaveDayRepository.count();
+        log.info("승인 휴가 날짜 투영 재구성 완료. 행 수={}", rows);
+        return rows;
+    }
+
+    /**
+     * 최근 reconcile-window 안에 처리된 승인 휴가 중 투영에 빠진 날짜를 채웁니다.
+     * 기록은 insertIfAbsent라 여러 인스턴스가 동시에 실행해도 결과가 같습니다.
+     *
+     * @return 다시 기록한 승인 휴가 수
+     */
+    @Scheduled(fixedDelayString = "${approval.leave-day.reconcile-interval-ms:600000}")
+    @Transactional
+    public int reconcile() {
+        List<ApprovalRequest> recent = approvalRepository.findApprovedVacationsProcessedSince(
+                LocalDateTime.now().minus(reconcileWindow));
+        for (ApprovalRequest request : recent) {
+            onApproved(request);
+        }
+        log.debug("승인 휴가 날짜 투영 보정 완료. 확인한 승인 휴가 수={}", recent.size());
+        return recent.size();
+    }
+
+    /**
+     * 투영을 아직 만든 적이 없으면(최초 배포 등) 기존 승인 휴가로 채웁니다.
+     * 여러 인스턴스가 동시에 기동해도 완료 표시를 먼저 남긴 한 곳만 재구성하고, 이후 재기동에서는 건너뜁니다.
+     * 재구성에 실패해도 서비스 기동은 막지 않으며, 완료 표시도 함께 롤백되어 다음 기동에서 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (oneTimeTaskMarker.claim(INITIAL_BUILD_TASK)) {
+                    rebuild();
+                } else {
+                    log.debug("승인 휴가 날짜 투영은 이미 만들어져 있습니다.");
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("승인 휴가 날짜 투영 초기 재구성에 실패했습니다. 다음 기동에서 다시 시도합니다.", e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.client.HrServiceClient;
+import com.playdata.approvalservice.client.dto.UserResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결재 응답에 넣을 신청자/결재자 정보를 HR 서비스에서 조회합니다.
+ * 한 번에 변환하는 요청들의 사용자 ID를 모아 캐시에 없는 ID만 getUsersInfo 한 번으로 조회하고,
+ * 결과는 짧은 TTL 동안 요청 간에 공유합니다. (이름/부서 변경은 최대 TTL만큼 늦게 반영됩니다.)
+ * 캐시에는 응답 생성에 쓰는 필드만 복사해 두며, 주민번호/계좌 등 민감 정보는 보관하지 않습니다.
+ * 조회/적중 횟수는 actuator metrics(approval.hr.user.cache)로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class UserInfoResolver {
+
+    private static final String METRIC_NAME = "approval.hr.user.cache";
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final HrServiceClient hrServiceClient;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserInfoResolver(HrServiceClient hrServiceClient,
+                            @Value("${hr.user-cache.ttl:30s}") Duration ttl,
+                            @Value("${hr.user-cache.max-size:10000}") int maxSize,
+                            MeterRegistry meterRegistry) {
+        this(hrServiceClient, ttl, maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    UserInfoResolver(HrServiceClient hrServiceClient, Duration ttl, int maxSize,
+                     MeterRegistry meterRegistry, Clock clock) {
+        this.hrServiceClient = hrServiceClient;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("HR 사용자 정보 캐시 적중 횟수 (사용자 ID 기준)")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("HR 사용자 정보 캐시 미스 횟수 (사용자 ID 기준)")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", entries, Map::size)
+                .description("현재 캐시에 보관 중인 사용자 정보 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결재 요청들의 신청자와 결재자 정보를 한 번에 조회합니다.
+     */
+    public Map<Long, UserResDto> resolveForRequests(Collection<ApprovalRequest> requests) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (ApprovalRequest request : requests) {
+            userIds.add(request.getApplicantId());
+            if (request.getApproverId() != null) {
+                userIds.add(request.getApproverId());
+            }
+        }
+        return resolve(userIds);
+    }
+
+    /**
+     * 사용자 정보를 조회합니다. 캐시에 없는 ID만 모아 HR 서비스를 한 번 호출합니다.
+     * HR 서비스 호출이 실패하면 캐시에 있던 사용자만 담아 반환합니다.
+     *
+     * @param userIds 조회할 사용자 ID (중복/null 허용)
+     * @return 사용자 ID별 정보, 찾지 못한 ID는 포함되지 않음
+     */
+    public Map<Long, UserResDto> resolve(Collection<Long> userIds) {
+        Map<Long, UserResDto> result = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return result;
+        }
+        long now = clock.millis();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            if (userId == null) {
+                continue;
+            }
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAtMillis > now) {
+                hitCounter.increment();
+                result.put(userId, entry.user);
+            } else {
+                missCounter.increment();
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            fetch(missing, now).forEach(result::put);
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private Map<Long, UserResDto> fetch(List<Long> userIds, long now) {
+        Map<Long, UserResDto> fetched = new HashMap<>();
+        try {
+            List<UserResDto> usersInfo = hrServiceClient.getUsersInfo(userIds);
+            if (usersInfo == null || usersInfo.isEmpty()) {
+                log.warn("HR 서비스로부터 사용자 정보를 가져오지 못했습니다. userIds: {}", userIds);
+                return fetched;
+            }
+            for (UserResDto user : usersInfo) {
+                if (user != null && user.getEmployeeNo() != null) {
+                    UserResDto cached = slim(user);
+                    fetched.put(cached.getEmployeeNo(), cached);
+                }
+            }
+        } catch (Exception e) {
+            log.error("HR 서비스 통신 오류 (getUsersInfo): {}", e.getMessage());
+            return fetched;
+        }
+        store(fetched, now);
+        return fetched;
+    }
+
+    private void store(Map<Long, UserResDto> users, long now) {
+        if (entries.size() + users.size() > maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+            if (entries.size() + users.size() > maxSize) {
+                log.debug("HR user cache is full ({}). Skipping cache for {} users.", maxSize, users.size());
+                return;
+            }
+        }
+        long expiresAtMillis = now + ttlMillis;
+        users.forEach((userId, user) -> entries.put(userId, new Entry(user, expiresAtMillis)));
+    }
+
+    /**
+     * 응답 생성과 후처리에 쓰는 필드만 복사합니다.
+     */
+    private static UserResDto slim(UserResDto user) {
+        UserResDto copy = new UserResDto();
+        copy.setEmployeeNo(user.getEmployeeNo());
+        copy.setUserName(user.getUserName());
+        copy.setEmail(user.getEmail());
+        copy.setDepartment(user.getDepartment());
+        copy.setPositionId(user.getPositionId());
+        copy.setPositionName(user.getPositionName());
+        copy.setHrRole(user.getHrRole());
+        return copy;
+    }
+
+    private static final class Entry {
+        private final UserResDto user;
+        private final long expiresAtMillis;
+
+        private Entry(UserResDto user, long expiresAtMillis) {
+            this.user = user;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
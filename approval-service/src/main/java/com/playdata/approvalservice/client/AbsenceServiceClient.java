@@ -55,4 +55,7 @@ public interface AbsenceServiceClient {
     @GetMapping("/attendance/absence/statistics")
     AbsenceApprovalStatisticsDto getAbsenceStatistics();
 
+    @PostMapping("/attendance/feign/leave-snapshot/invalidate")
+    void invalidateLeaveSnapshot(@RequestParam("userId") Long userId);
+
 }
\ No newline at end of file
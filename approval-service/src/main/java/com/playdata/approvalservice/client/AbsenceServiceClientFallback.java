@@ -57,4 +57,10 @@ public class AbsenceServiceClientFallback implements AbsenceServiceClient {
         log.error("AbsenceService getAbsenceStatistics 호출 실패");
         throw new RuntimeException("부재 통계 조회 중 서비스 연결 오류");
     }
+
+    @Override
+    public void invalidateLeaveSnapshot(Long userId) {
+        // 스냅샷 갱신 실패는 결재 처리를 막지 않습니다. (근태 서비스는 다음 자정 갱신 때 반영)
+        log.warn("AttendanceService invalidateLeaveSnapshot 호출 실패 - userId: {}", userId);
+    }
 }
\ No newline at end of file
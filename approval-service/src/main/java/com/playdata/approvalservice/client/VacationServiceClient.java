@@ -3,6 +3,7 @@ package com.playdata.approvalservice.client;
 import com.playdata.approvalservice.common.configs.FeignClientConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.LocalDate;
@@ -12,6 +13,7 @@ public interface VacationServiceClient {
 
     @PostMapping("/vacations/internal/update-balance-on-approval")
     void updateVacationBalanceOnApproval(
+            @RequestHeader("Idempotency-Key") String idempotencyKey,
             @RequestParam("vacationId") Long vacationId,
             @RequestParam("status") String status,
             @RequestParam("userId") Long userId,
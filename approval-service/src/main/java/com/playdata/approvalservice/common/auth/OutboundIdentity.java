@@ -0,0 +1,40 @@
+package com.playdata.approvalservice.common.auth;
+
+/**
+ * HTTP 요청 밖(아웃박스 릴레이 등)에서 특정 사용자를 대신해 다른 서비스를 호출할 때 보낼 서명된 식별 헤더(X-User-Identity)를 담습니다.
+ * 값은 IdentityHeaderEncoder로 서명한 헤더여야 하며, FeignClientConfig가 현재 스레드에 설정된 값을 그대로 전달합니다.
+ * 설정된 값이 없으면 서비스 식별 헤더(ServiceIdentity)로 호출합니다.
+ */
+public final class OutboundIdentity {
+
+    private static final ThreadLocal<String> HOLDER = new ThreadLocal<>();
+
+    private OutboundIdentity() {
+    }
+
+    /**
+     * 현재 스레드에 설정된 식별 헤더 값
+     *
+     * @return 서명된 식별 헤더, 없으면 null
+     */
+    public static String current() {
+        return HOLDER.get();
+    }
+
+    /**
+     * 식별 헤더를 설정한 채 작업을 실행하고, 끝나면 이전 값으로 돌려 놓습니다.
+     */
+    public static void runWith(String identityHeader, Runnable action) {
+        String previous = HOLDER.get();
+        HOLDER.set(identityHeader);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                HOLDER.set(previous);
+            } else {
+                HOLDER.remove();
+            }
+        }
+    }
+}
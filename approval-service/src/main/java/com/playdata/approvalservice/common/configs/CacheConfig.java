@@ -0,0 +1,40 @@
+package com.playdata.approvalservice.common.configs;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 로컬(Caffeine) 캐시 설정.
+ * CacheManager 빈을 직접 등록하므로 Redis 의존성이 있어도 스프링 캐시는 Caffeine을 사용합니다.
+ * 캐시를 시작 시점에 등록해 두면 actuator metrics(cache.gets, cache.evictions 등)에 바로 노출됩니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String APPROVAL_REQUESTS = "approvalRequests";
+
+    /**
+     * approvalRequests: 요청 유형별 전체 결재 요청 목록.
+     * 항목 수가 아니라 목록에 담긴 결재 요청 수(max-rows)로 크기를 제한합니다.
+     * 다른 인스턴스에서 일어난 변경은 evict되지 않으므로 TTL을 짧게 둡니다.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${approval.cache.max-rows:50000}") long maxRows,
+                                     @Value("${approval.cache.ttl:60s}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(APPROVAL_REQUESTS, Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((Object key, Object value) -> value instanceof Collection<?> rows ? Math.max(1, rows.size()) : 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -1,5 +1,8 @@
 package com.playdata.approvalservice.common.configs;
 
+import com.playdata.approvalservice.common.auth.OutboundIdentity;
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.ServiceIdentity;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,13 +17,20 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class FeignClientConfig {
 
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceIdentity serviceIdentity) {
         return requestTemplate -> {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
 
             if (attributes != null) {
                 HttpServletRequest httpRequest = attributes.getRequest();
 
+                // 게이트웨이가 서명한 식별 헤더가 있으면 그 헤더 하나만 전달합니다.
+                String identity = httpRequest.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+                if (identity != null) {
+                    requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, identity);
+                    return;
+                }
+
                 String userEmail = httpRequest.getHeader("X-User-Email");
                 String userRole = httpRequest.getHeader("X-User-Role");
                 String employeeNo = httpRequest.getHeader("X-User-Employee-No");
@@ -37,8 +47,14 @@ public class FeignClientConfig {
                     requestTemplate.header("X-User-Employee-No", employeeNo);
                     log.debug("Feign Interceptor: Added X-User-Employee-No header: {}", employeeNo);
                 }
+            } else if (OutboundIdentity.current() != null) {
+                // HTTP 요청 밖(아웃박스 릴레이 등)에서 사용자를 대신해 호출할 때는 그 사용자로 서명한 식별 헤더를 보냅니다.
+                requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, OutboundIdentity.current());
+                log.debug("Feign Interceptor: Using outbound user identity for {}", requestTemplate.url());
             } else {
-                log.warn("Feign Interceptor: RequestContextHolder is null. Cannot propagate X-User-* headers.");
+                // 요청 밖(비동기 스레드, 스케줄 작업)에서는 서명된 서비스 식별 헤더로 호출합니다.
+                requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, serviceIdentity.header());
+                log.debug("Feign Interceptor: No request context. Using service identity for {}", requestTemplate.url());
             }
         };
     }
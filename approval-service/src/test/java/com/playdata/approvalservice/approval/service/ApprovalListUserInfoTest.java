@@ -0,0 +1,130 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.dto.ApprovalRequestResponseDto;
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.approval.entity.ApprovalStatus;
+import com.playdata.approvalservice.approval.entity.RequestType;
+import com.playdata.approvalservice.approval.repository.ApprovalRepository;
+import com.playdata.approvalservice.client.AbsenceServiceClient;
+import com.playdata.approvalservice.client.CertificateServiceClient;
+import com.playdata.approvalservice.client.HrServiceClient;
+import com.playdata.approvalservice.client.VacationServiceClient;
+import com.playdata.approvalservice.client.dto.DepartmentResDto;
+import com.playdata.approvalservice.client.dto.UserResDto;
+import com.playdata.approvalservice.common.auth.TokenUserInfo;
+import com.playdata.approvalservice.common.configs.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 결재 목록 응답을 만들 때 한 페이지의 신청자/결재자 정보를 HR 서비스 한 번의 호출로 조회하는지 확인합니다.
+ */
+class ApprovalListUserInfoTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final Long APPROVER_ID = 1L;
+
+    private ApprovalRepository approvalRepository;
+    private HrServiceClient hrServiceClient;
+    private ApprovalServiceImpl approvalService;
+
+    @BeforeEach
+    void setUp() {
+        approvalRepository = mock(ApprovalRepository.class);
+        hrServiceClient = mock(HrServiceClient.class);
+        given(hrServiceClient.getUsersInfo(anyList())).willAnswer(invocation -> {
+            List<Long> userIds = invocation.getArgument(0);
+            return userIds.stream().map(ApprovalListUserInfoTest::user).toList();
+        });
+
+        Clock clock = Clock.fixed(Instant.parse("2025-07-15T00:00:00Z"), ZoneOffset.UTC);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserInfoResolver userInfoResolver = new UserInfoResolver(hrServiceClient, Duration.ofSeconds(30), 10_000,
+                meterRegistry, clock);
+        ApprovalRequestCache approvalRequestCache = new ApprovalRequestCache(
+                new CacheConfig().cacheManager(1000, Duration.ofSeconds(60)), meterRegistry);
+        approvalService = new ApprovalServiceImpl(approvalRepository, hrServiceClient,
+                mock(VacationServiceClient.class), mock(CertificateServiceClient.class),
+                mock(AbsenceServiceClient.class), userInfoResolver, approvalRequestCache,
+                mock(ApprovedLeaveDayProjector.class), mock(ApprovalOutbox.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 부재 50건 페이지는 HR 서비스를 한 번만 호출하고, 모든 행에 신청자 정보가 채워진다")
+    void pendingPageResolvesUsersInOneCall() {
+        given(approvalRepository.findByRequestTypeAndStatusOrderByRequestedAtDesc(
+                eq(RequestType.ABSENCE), eq(ApprovalStatus.PENDING), any()))
+                .willReturn(page(ApprovalStatus.PENDING, null));
+
+        Page<ApprovalRequestResponseDto> result = approvalService.getPendingAbsenceApprovalRequests(
+                TokenUserInfo.builder().hrRole("Y").employeeNo(APPROVER_ID).build(), 0, PAGE_SIZE);
+
+        assertThat(result.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(dto -> {
+                    assertThat(dto.getApplicantName()).isEqualTo("user-" + dto.getApplicantId());
+                    assertThat(dto.getApplicantDepartment()).isEqualTo("인사팀");
+                });
+        verify(hrServiceClient, times(1)).getUsersInfo(anyList());
+    }
+
+    @Test
+    @DisplayName("처리된 부재 페이지는 신청자와 결재자를 한 번에 조회하고, TTL 안의 다음 요청은 캐시를 사용한다")
+    void processedPageSharesCacheAcrossRequests() {
+        given(approvalRepository.findProcessedAbsenceApprovalRequests(any()))
+                .willReturn(page(ApprovalStatus.APPROVED, APPROVER_ID));
+
+        Page<ApprovalRequestResponseDto> first = approvalService.getProcessedAbsenceApprovalRequests(0, PAGE_SIZE);
+        Page<ApprovalRequestResponseDto> second = approvalService.getProcessedAbsenceApprovalRequests(0, PAGE_SIZE);
+
+        assertThat(first.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(dto -> assertThat(dto.getApproverName()).isEqualTo("user-" + APPROVER_ID));
+        assertThat(second.getContent()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(first.getContent());
+        verify(hrServiceClient, times(1)).getUsersInfo(anyList());
+    }
+
+    private static Page<ApprovalRequest> page(ApprovalStatus status, Long approverId) {
+        List<ApprovalRequest> rows = new ArrayList<>();
+        LongStream.rangeClosed(1, PAGE_SIZE).forEach(i -> rows.add(ApprovalRequest.builder()
+                .id(i)
+                .requestType(RequestType.ABSENCE)
+                .applicantId(100 + i)
+                .approverId(approverId)
+                .status(status)
+                .requestedAt(LocalDateTime.of(2025, 7, 1, 9, 0).plusMinutes(i))
+                .title("부재 신청 " + i)
+                .build()));
+        return new PageImpl<>(rows, PageRequest.of(0, PAGE_SIZE), 200);
+    }
+
+    private static UserResDto user(Long employeeNo) {
+        UserResDto user = new UserResDto();
+        user.setEmployeeNo(employeeNo);
+        user.setUserName("user-" + employeeNo);
+        user.setDepartment(new DepartmentResDto("인사팀"));
+        return user;
+    }
+}
@@ -0,0 +1,279 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.entity.ApprovalOutboxEvent;
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.approval.entity.ApprovalStatus;
+import com.playdata.approvalservice.approval.entity.OutboxEventType;
+import com.playdata.approvalservice.approval.entity.OutboxStatus;
+import com.playdata.approvalservice.approval.entity.RequestType;
+import com.playdata.approvalservice.approval.repository.ApprovalOutboxRepository;
+import com.playdata.approvalservice.approval.repository.ApprovalRepository;
+import com.playdata.approvalservice.client.AbsenceServiceClient;
+import com.playdata.approvalservice.client.CertificateServiceClient;
+import com.playdata.approvalservice.client.VacationServiceClient;
+import com.playdata.approvalservice.common.auth.OutboundIdentity;
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 결재 후처리 아웃박스 릴레이의 전송, 재시도, 실패 처리(승인 취소 보상 포함), 보존 기간 정리와 지연 지표를 확인합니다.
+ */
+class ApprovalOutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-07-15T00:00:00Z");
+    private static final LocalDateTime NOW_LOCAL = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    private ApprovalOutboxRepository approvalOutboxRepository;
+    private ApprovalRepository approvalRepository;
+    private VacationServiceClient vacationServiceClient;
+    private AbsenceServiceClient absenceServiceClient;
+    private ApprovalService approvalService;
+    private IdentityHeaderEncoder identityHeaderEncoder;
+    private SimpleMeterRegistry meterRegistry;
+    private ApprovalOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        approvalOutboxRepository = mock(ApprovalOutboxRepository.class);
+        approvalRepository = mock(ApprovalRepository.class);
+        vacationServiceClient = mock(VacationServiceClient.class);
+        absenceServiceClient = mock(AbsenceServiceClient.class);
+        approvalService = mock(ApprovalService.class);
+        identityHeaderEncoder = new IdentityHeaderEncoder("test-secret-key");
+        meterRegistry = new SimpleMeterRegistry();
+        given(approvalOutboxRepository.claim(anyLong(), eq(OutboxStatus.PENDING), any(), any())).willReturn(1);
+        given(approvalRepository.findById(1L)).willReturn(Optional.of(ApprovalRequest.builder()
+                .id(1L)
+                .requestType(RequestType.VACATION)
+                .applicantId(100L)
+                .approverId(1L)
+                .status(ApprovalStatus.APPROVED)
+                .vacationsId(10L)
+                .vacationType("ANNUAL_LEAVE")
+                .startDate(LocalDate.of(2025, 7, 21))
+                .endDate(LocalDate.of(2025, 7, 22))
+                .build()));
+
+        relay = new ApprovalOutboxRelay(approvalOutboxRepository, approvalRepository, vacationServiceClient,
+                mock(CertificateServiceClient.class), absenceServiceClient, mock(UserInfoResolver.class),
+                approvalService, identityHeaderEncoder, meterRegistry, 50, 3, Duration.ofSeconds(1),
+                Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("전송에 성공하면 이벤트의 멱등성 키를 함께 보내고 SENT로 바꾼다")
+    void deliversWithIdempotencyKey() {
+        ApprovalOutboxEvent event = event(1L, OutboxEventType.VACATION_APPROVED);
+        givenDue(event);
+
+        relay.relayBatch();
+
+        verify(vacationServiceClient).updateVacationBalanceOnApproval(
+                "approval-1-VACATION_APPROVED", 10L, "APPROVED", 100L, "ANNUAL_LEAVE", "2025-07-21", "2025-07-22", null);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        verify(approvalOutboxRepository).save(event);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 지수 백오프로 다시 시도하고, 재시도 한도를 넘기면 FAILED로 남긴다")
+    void retriesWithBackoffThenFails() {
+        ApprovalOutboxEvent event = event(1L, OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED);
+        givenDue(event);
+        willThrow(feignException(503)).given(absenceServiceClient).invalidateLeaveSnapshot(100L);
+
+        relay.relayBatch();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getNextAttemptAt()).isEqualTo(NOW_LOCAL.plusSeconds(1));
+
+        relay.relayBatch();
+        assertThat(event.getNextAttemptAt()).isEqualTo(NOW_LOCAL.plusSeconds(2));
+
+        relay.relayBatch();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("4xx 오류는 재시도하지 않고 바로 FAILED로 남긴다")
+    void clientErrorIsNotRetried() {
+        ApprovalOutboxEvent event = event(1L, OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED);
+        givenDue(event);
+        willThrow(feignException(400)).given(absenceServiceClient).invalidateLeaveSnapshot(100L);
+
+        relay.relayBatch();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("401/403은 재시도하고 인증 오류 지표를 남긴다")
+    void authenticationErrorIsRetriedAndReported() {
+        ApprovalOutboxEvent event = event(1L, OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED);
+        givenDue(event);
+        willThrow(feignException(401)).given(absenceServiceClient).invalidateLeaveSnapshot(100L);
+
+        relay.relayBatch();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(meterRegistry.get("approval.outbox.delivery").tag("result", "unauthorized").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("vacation-service가 휴가 승인 반영을 거절하면 결재 승인을 취소한다")
+    void rejectedVacationApprovalIsRevoked() {
+        ApprovalOutboxEvent event = event(1L, OutboxEventType.VACATION_APPROVED);
+        givenDue(event);
+        willThrow(feignException(409)).given(vacationServiceClient).updateVacationBalanceOnApproval(
+                any(), any(), any(), any(), any(), any(), any(), any());
+
+        relay.relayBatch();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(approvalService).revokeVacationApproval(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘긴 휴가 승인은 자동으로 취소하지 않는다")
+    void exhaustedVacationApprovalIsNotRevoked() {
+        ApprovalOutboxEvent event = event(1L, OutboxEventType.VACATION_APPROVED);
+        givenDue(event);
+        willThrow(feignException(503)).given(vacationServiceClient).updateVacationBalanceOnApproval(
+                any(), any(), any(), any(), any(), any(), any(), any());
+
+        relay.relayBatch();
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(approvalService, never()).revokeVacationApproval(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("결재 처리자가 있으면 그 사용자로 서명한 식별 헤더를 설정한 채 호출하고, 호출 후 지운다")
+    void dispatchesWithSignedActorIdentity() {
+        ApprovalOutboxEvent event = ApprovalOutboxEvent.builder()
+                .id(1L)
+                .eventType(OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED)
+                .approvalRequestId(1L)
+                .idempotencyKey(ApprovalOutboxEvent.idempotencyKey(1L, OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED.name()))
+                .status(OutboxStatus.PENDING)
+                .createdAt(NOW_LOCAL)
+                .nextAttemptAt(NOW_LOCAL)
+                .actorEmployeeNo(1L)
+                .actorEmail("hr@example.com")
+                .actorRole("Y")
+                .build();
+        givenDue(event);
+        AtomicReference<String> sentIdentity = new AtomicReference<>();
+        willAnswer(invocation -> {
+            sentIdentity.set(OutboundIdentity.current());
+            return null;
+        }).given(absenceServiceClient).invalidateLeaveSnapshot(100L);
+
+        relay.relayBatch();
+
+        assertThat(sentIdentity.get())
+                .isEqualTo(identityHeaderEncoder.encode("hr@example.com", "Y", 1L, NOW.getEpochSecond() + 30));
+        assertThat(OutboundIdentity.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("전송을 마친 지 보존 기간이 지난 이벤트를 지운다")
+    void purgesSentEventsPastRetention() {
+        relay.purgeSent();
+
+        verify(approvalOutboxRepository).deleteSentBefore(OutboxStatus.SENT, NOW_LOCAL.minusDays(30));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 선점한 이벤트는 전송하지 않는다")
+    void skipsEventClaimedElsewhere() {
+        ApprovalOutboxEvent event = event(1L, OutboxEventType.LEAVE_SNAPSHOT_INVALIDATED);
+        givenDue(event);
+        given(approvalOutboxRepository.claim(eq(event.getId()), eq(OutboxStatus.PENDING), any(), any())).willReturn(0);
+
+        relay.relayBatch();
+
+        verify(absenceServiceClient, never()).invalidateLeaveSnapshot(anyLong());
+        verify(approvalOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트 수와 가장 오래된 이벤트의 지연을 지표로 노출한다")
+    void exposesDepthAndLag() {
+        ApprovalOutboxEvent oldest = ApprovalOutboxEvent.builder()
+                .id(7L)
+                .eventType(OutboxEventType.VACATION_APPROVED)
+                .approvalRequestId(1L)
+                .status(OutboxStatus.PENDING)
+                .createdAt(NOW_LOCAL.minusSeconds(90))
+                .nextAttemptAt(NOW_LOCAL)
+                .build();
+        given(approvalOutboxRepository.countByStatus(OutboxStatus.PENDING)).willReturn(12L);
+        given(approvalOutboxRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)).willReturn(Optional.of(oldest));
+
+        relay.refreshMetrics();
+
+        assertThat(meterRegistry.get("approval.outbox.depth").gauge().value()).isEqualTo(12);
+        assertThat(meterRegistry.get("approval.outbox.lag").gauge().value()).isEqualTo(90);
+    }
+
+    private void givenDue(ApprovalOutboxEvent event) {
+        given(approvalOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(OutboxStatus.PENDING), any(), any())).willReturn(List.of(event));
+    }
+
+    private static ApprovalOutboxEvent event(Long approvalRequestId, OutboxEventType type) {
+        return ApprovalOutboxEvent.builder()
+                .id(1L)
+                .eventType(type)
+                .approvalRequestId(approvalRequestId)
+                .idempotencyKey(ApprovalOutboxEvent.idempotencyKey(approvalRequestId, type.name()))
+                .status(OutboxStatus.PENDING)
+                .createdAt(NOW_LOCAL)
+                .nextAttemptAt(NOW_LOCAL)
+                .build();
+    }
+
+    private static FeignException feignException(int status) {
+        Request request = Request.create(Request.HttpMethod.POST, "http://attendance-service", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("invalidateLeaveSnapshot", feign.Response.builder()
+                .status(status)
+                .reason("error")
+                .request(request)
+                .headers(Map.of())
+                .build());
+    }
+}
@@ -0,0 +1,128 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.dto.ApprovalRequestResponseDto;
+import com.playdata.approvalservice.approval.entity.RequestType;
+import com.playdata.approvalservice.common.configs.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApprovalRequestCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApprovalRequestCache approvalRequestCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        approvalRequestCache = new ApprovalRequestCache(
+                new CacheConfig().cacheManager(1000, Duration.ofSeconds(60)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 유형을 evict해도 다른 유형의 캐시는 유지되고, 유형별 적중률이 기록된다")
+    void evictsOnlyMutatedType() {
+        AtomicInteger vacationLoads = new AtomicInteger();
+        AtomicInteger certificateLoads = new AtomicInteger();
+        approvalRequestCache.getByType(RequestType.VACATION, counting(vacationLoads));
+        approvalRequestCache.getByType(RequestType.CERTIFICATE, counting(certificateLoads));
+
+        approvalRequestCache.evict(RequestType.VACATION);
+        approvalRequestCache.getByType(RequestType.VACATION, counting(vacationLoads));
+        approvalRequestCache.getByType(RequestType.CERTIFICATE, counting(certificateLoads));
+
+        assertThat(vacationLoads).hasValue(2);
+        assertThat(certificateLoads).hasValue(1);
+        assertThat(hitRatio(RequestType.CERTIFICATE)).isEqualTo(0.5);
+        assertThat(hitRatio(RequestType.VACATION)).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 evict는 커밋 후에 적용된다")
+    void evictsAfterCommit() {
+        AtomicInteger loads = new AtomicInteger();
+        approvalRequestCache.getByType(RequestType.ABSENCE, counting(loads));
+
+        TransactionSynchronizationManager.initSynchronization();
+        approvalRequestCache.evict(RequestType.ABSENCE);
+        approvalRequestCache.getByType(RequestType.ABSENCE, counting(loads));
+        assertThat(loads).hasValue(1);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        approvalRequestCache.getByType(RequestType.ABSENCE, counting(loads));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("캐시가 빈 상태에서 같은 유형을 동시에 조회하면 DB 조회는 한 번만 실행된다")
+    void concurrentMissesLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Supplier<List<ApprovalRequestResponseDto>> slowLoader = () -> {
+            loads.incrementAndGet();
+            sleep(200);
+            return List.of(ApprovalRequestResponseDto.builder().id(1L).build());
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<List<ApprovalRequestResponseDto>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return approvalRequestCache.getByType(RequestType.ABSENCE, slowLoader);
+                }));
+            }
+            start.countDown();
+            for (Future<List<ApprovalRequestResponseDto>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).hasSize(1);
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private double hitRatio(RequestType type) {
+        return meterRegistry.get("approval.requests.cache.hit.ratio").tag("type", type.name()).gauge().value();
+    }
+
+    private static Supplier<List<ApprovalRequestResponseDto>> counting(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.playdata.approvalservice.approval.service;
+
+import com.playdata.approvalservice.approval.entity.ApprovalRequest;
+import com.playdata.approvalservice.approval.entity.ApprovalStatus;
+import com.playdata.approvalservice.approval.entity.ApprovedLeaveDay;
+import com.playdata.approvalservice.approval.entity.RequestType;
+import com.playdata.approvalservice.approval.repository.ApprovalRepository;
+import com.playdata.approvalservice.approval.repository.ApprovedLeaveDayRepository;
+import com.playdata.common.domain.OneTimeTaskMarker;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 승인 휴가 날짜 투영의 승인 기록, 겹친 휴가 처리, 승인 취소, 재구성, 보정을 확인합니다.
+ * approved_leave_day 테이블은 (사용자, 날짜) 기본 키를 가진 맵으로 대신합니다.
+ */
+class ApprovedLeaveDayProjectorTest {
+
+    private static final Long USER_ID = 100L;
+    private static final int PAGE_SIZE = 2;
+
+    // (사용자, 날짜) -> 그 날짜를 차지한 결재 요청
+    private final Map<ApprovedLeaveDay.Key, Long> rows = new HashMap<>();
+
+    private ApprovedLeaveDayRepository approvedLeaveDayRepository;
+    private ApprovalRepository approvalRepository;
+    private OneTimeTaskMarker oneTimeTaskMarker;
+    private EntityManager entityManager;
+    private ApprovedLeaveDayProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        approvedLeaveDayRepository = mock(ApprovedLeaveDayRepository.class);
+        approvalRepository = mock(ApprovalRepository.class);
+        oneTimeTaskMarker = mock(OneTimeTaskMarker.class);
+        entityManager = mock(EntityManager.class);
+
+        given(approvedLeaveDayRepository.insertIfAbsent(anyLong(), any(LocalDate.class), anyLong(), any()))
+                .willAnswer(invocation -> rows.putIfAbsent(
+                        new ApprovedLeaveDay.Key(invocation.getArgument(0), invocation.getArgument(1)),
+                        invocation.getArgument(2)) == null ? 1 : 0);
+        given(approvedLeaveDayRepository.deleteByApprovalRequestId(anyLong())).willAnswer(invocation -> {
+            Long requestId = invocation.getArgument(0);
+            int before = rows.size();
+            rows.values().removeIf(requestId::equals);
+            return before - rows.size();
+        });
+        willAnswer(invocation -> {
+            rows.clear();
+            return null;
+        }).given(approvedLeaveDayRepository).deleteAllInBatch();
+        given(approvedLeaveDayRepository.count()).willAnswer(invocation -> (long) rows.size());
+
+        projector = new ApprovedLeaveDayProjector(approvedLeaveDayRepository, approvalRepository, oneTimeTaskMarker,
+                entityManager, mock(PlatformTransactionManager.class), PAGE_SIZE, Duration.ofHours(2));
+    }
+
+    @Test
+    @DisplayName("승인된 휴가는 시작일부터 종료일까지 하루씩 기록하고, 휴가가 아니거나 승인 전이면 기록하지 않는다")
+    void approvedVacationIsProjectedPerDay() {
+        projector.onApproved(vacation(1L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 21), LocalDate.of(2025, 7, 23)));
+        projector.onApproved(vacation(2L, ApprovalStatus.PENDING, LocalDate.of(2025, 7, 24), LocalDate.of(2025, 7, 24)));
+        projector.onApproved(ApprovalRequest.builder()
+                .id(3L)
+                .requestType(RequestType.ABSENCE)
+                .applicantId(USER_ID)
+                .status(ApprovalStatus.APPROVED)
+                .startDate(LocalDate.of(2025, 7, 25))
+                .endDate(LocalDate.of(2025, 7, 25))
+                .build());
+
+        assertThat(rows).containsOnly(
+                Map.entry(key(LocalDate.of(2025, 7, 21)), 1L),
+                Map.entry(key(LocalDate.of(2025, 7, 22)), 1L),
+                Map.entry(key(LocalDate.of(2025, 7, 23)), 1L));
+    }
+
+    @Test
+    @DisplayName("같은 날 겹친 휴가는 먼저 승인된 휴가가 차지하고, 그 승인이 취소되면 겹친 날짜를 남은 휴가로 다시 기록한다")
+    void overlappingLeaveKeepsFirstAndIsRestoredOnRevoke() {
+        ApprovalRequest first = vacation(1L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 21), LocalDate.of(2025, 7, 22));
+        ApprovalRequest second = vacation(2L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 22), LocalDate.of(2025, 7, 23));
+        projector.onApproved(first);
+        projector.onApproved(second);
+
+        assertThat(rows.get(key(LocalDate.of(2025, 7, 22)))).isEqualTo(1L);
+        assertThat(rows.get(key(LocalDate.of(2025, 7, 23)))).isEqualTo(2L);
+
+        given(approvalRepository.findApprovedVacationsOverlapping(USER_ID, first.getStartDate(), first.getEndDate()))
+                .willReturn(List.of(second));
+        projector.onRevoked(vacation(1L, ApprovalStatus.REJECTED, first.getStartDate(), first.getEndDate()));
+
+        assertThat(rows).containsOnly(
+                Map.entry(key(LocalDate.of(2025, 7, 22)), 2L),
+                Map.entry(key(LocalDate.of(2025, 7, 23)), 2L));
+    }
+
+    @Test
+    @DisplayName("기록된 날짜가 없는 요청의 승인 취소는 겹친 휴가를 다시 조회하지 않는다")
+    void revokeWithoutRowsSkipsOverlapLookup() {
+        projector.onRevoked(vacation(9L, ApprovalStatus.REJECTED, LocalDate.of(2025, 7, 21), LocalDate.of(2025, 7, 21)));
+
+        verify(approvalRepository, never()).findApprovedVacationsOverlapping(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("재구성은 승인 휴가를 ID 순으로 페이지 단위로 읽어 기존 투영을 교체한다")
+    void rebuildReadsApprovedVacationsInPages() {
+        rows.put(key(LocalDate.of(2025, 1, 1)), 99L); // 이미 사라진 요청으로 남은 행
+        List<ApprovalRequest> firstPage = List.of(
+                vacation(1L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 21), LocalDate.of(2025, 7, 21)),
+                vacation(2L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 22), LocalDate.of(2025, 7, 22)));
+        List<ApprovalRequest> lastPage = List.of(
+                vacation(3L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 23), LocalDate.of(2025, 7, 24)));
+        given(approvalRepository.findByRequestTypeAndStatusAfterId(RequestType.VACATION, ApprovalStatus.APPROVED,
+                0L, PageRequest.of(0, PAGE_SIZE))).willReturn(firstPage);
+        given(approvalRepository.findByRequestTypeAndStatusAfterId(RequestType.VACATION, ApprovalStatus.APPROVED,
+                2L, PageRequest.of(0, PAGE_SIZE))).willReturn(lastPage);
+
+        assertThat(projector.rebuild()).isEqualTo(4L);
+
+        assertThat(rows).doesNotContainKey(key(LocalDate.of(2025, 1, 1)));
+        assertThat(rows.get(key(LocalDate.of(2025, 7, 24)))).isEqualTo(3L);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("보정은 최근 처리된 승인 휴가 중 투영에 빠진 날짜만 채우고 이미 있는 날짜는 그대로 둔다")
+    void reconcileFillsDaysMissedByOldInstances() {
+        // 첫 번째 휴가는 투영을 기록했고, 두 번째 휴가는 투영을 모르는 이전 버전 인스턴스가 승인했습니다.
+        ApprovalRequest projected = vacation(1L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 21), LocalDate.of(2025, 7, 21));
+        ApprovalRequest missed = vacation(2L, ApprovalStatus.APPROVED, LocalDate.of(2025, 7, 21), LocalDate.of(2025, 7, 22));
+        projector.onApproved(projected);
+        given(approvalRepository.findApprovedVacationsProcessedSince(any())).willReturn(List.of(projected, missed));
+
+        assertThat(projector.reconcile()).isEqualTo(2);
+
+        assertThat(rows).containsOnly(
+                Map.entry(key(LocalDate.of(2025, 7, 21)), 1L),
+                Map.entry(key(LocalDate.of(2025, 7, 22)), 2L));
+        verify(approvedLeaveDayRepository, never()).deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("기동 시 재구성은 완료 표시를 남긴 인스턴스만 실행한다")
+    void rebuildIfEmptyRunsOnlyWhenClaimed() {
+        given(oneTimeTaskMarker.claim(anyString())).willReturn(false);
+
+        projector.rebuildIfEmpty();
+
+        verify(approvedLeaveDayRepository, never()).deleteAllInBatch();
+        verify(oneTimeTaskMarker).claim(eq(ApprovedLeaveDayProjector.INITIAL_BUILD_TASK));
+    }
+
+    private static ApprovalRequest vacation(Long id, ApprovalStatus status, LocalDate startDate, LocalDate endDate) {
+        return ApprovalRequest.builder()
+                .id(id)
+                .requestType(RequestType.VACATION)
+                .applicantId(USER_ID)
+                .status(status)
+                .vacationType("ANNUAL_LEAVE")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+
+    private static ApprovedLeaveDay.Key key(LocalDate date) {
+        return new ApprovedLeaveDay.Key(USER_ID, date);
+    }
+}
@@ -0,0 +1,102 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출근 시 원격 조회 두 건(HR 외부 일정, 결재 승인 휴가)의 지연 시간을 비교합니다.
+ * - sequential: 기존 방식. HR 조회 후 결재 조회를 순서대로 호출
+ * - parallel: InitialStatusLookup으로 두 조회를 동시에 호출
+ * 각 서비스는 로컬 HTTP 스텁(WireMock과 같은 방식)으로 대체하며, 응답마다 stubLatencyMillis 만큼 지연시킵니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CheckInLookupBenchmark {
+
+    @Param({"20", "50"})
+    public int stubLatencyMillis;
+
+    private HttpServer hrStub;
+    private HttpServer approvalStub;
+    private HrServiceClient hrServiceClient;
+    private ApprovalServiceClient approvalServiceClient;
+    private InitialStatusLookup initialStatusLookup;
+    private final LocalDate today = LocalDate.of(2025, 7, 15);
+
+    @Setup
+    public void setUp() throws IOException {
+        hrStub = startStub("/hr/schedules/approved-type");
+        approvalStub = startStub("/approvals/leaves/approved-type");
+
+        hrServiceClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .target(HrServiceClient.class, "http://localhost:" + hrStub.getAddress().getPort());
+        approvalServiceClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .target(ApprovalServiceClient.class, "http://localhost:" + approvalStub.getAddress().getPort());
+
+        // 스냅샷은 비워 두어 매번 원격 조회가 일어나도록 합니다.
+        initialStatusLookup = new InitialStatusLookup(hrServiceClient, approvalServiceClient,
+                // 스냅샷을 갱신하지 않으므로 무효화 기록 저장소는 쓰이지 않습니다.
+                new LeaveScheduleSnapshot(hrServiceClient, approvalServiceClient, null),
+                Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    @TearDown
+    public void tearDown() {
+        initialStatusLookup.shutdown();
+        hrStub.stop(0);
+        approvalStub.stop(0);
+    }
+
+    @Benchmark
+    public String sequential() {
+        String date = today.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        String externalScheduleType = hrServiceClient.getApprovedExternalScheduleType(1L, date);
+        String approvedLeaveType = approvalServiceClient.getApprovedLeaveType(1L, date);
+        return externalScheduleType + approvedLeaveType;
+    }
+
+    @Benchmark
+    public String parallel() {
+        InitialStatusLookup.Result result = initialStatusLookup.lookup(1L, today);
+        return result.getExternalScheduleType() + result.getApprovedLeaveType();
+    }
+
+    /**
+     * 지정한 경로에 지연 후 빈 본문(조회 결과 없음)으로 응답하는 스텁 서버를 띄웁니다.
+     */
+    private HttpServer startStub(String path) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(path, exchange -> {
+            try {
+                Thread.sleep(stubLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,135 @@
+package com.playdata.attendanceservice.common.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * ID 생성 방식에 따른 Hibernate INSERT 처리량(건/초)을 비교합니다.
+ * - identity: 기존 방식. GenerationType.IDENTITY라 Hibernate가 INSERT 배치를 끄고 행마다 한 번씩 실행
+ * - pooled: 변경 후 방식. id_generator 테이블에서 ALLOCATION_SIZE개씩 ID를 받아 jdbc.batch_size 단위로 배치 INSERT
+ * 두 엔티티는 work_statuses와 같은 컬럼 구성을 가지며, H2(MySQL 모드) 메모리 DB에 한 트랜잭션으로 ROWS건씩 저장합니다.
+ * 메모리 DB라 네트워크 왕복 비용이 없으므로, 실제 MySQL에서는 차이가 이보다 더 크게 납니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGenerationInsertBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 15);
+
+    private SessionFactory sessionFactory;
+    private long userSeq;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityWorkStatus.class)
+                .addAnnotatedClass(PooledWorkStatus.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:id-bench;MODE=MYSQL;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "100")
+                .setProperty("hibernate.order_inserts", "true")
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearRows() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from IdentityWorkStatus").executeUpdate();
+            session.createMutationQuery("delete from PooledWorkStatus").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identity() {
+        insert(IdentityWorkStatus::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pooled() {
+        insert(PooledWorkStatus::new);
+    }
+
+    private void insert(LongFunction<Object> factory) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(factory.apply(++userSeq));
+            }
+        });
+    }
+
+    @Entity(name = "IdentityWorkStatus")
+    @Table(name = "bench_identity_work_status",
+           uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "date"}))
+    public static class IdentityWorkStatus {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(name = "user_id", nullable = false)
+        private Long userId;
+        @Column(nullable = false)
+        private LocalDate date;
+        @Column(name = "status_type", nullable = false)
+        private String statusType;
+        private String reason;
+        @Column(name = "is_late", nullable = false)
+        private boolean isLate;
+
+        protected IdentityWorkStatus() {
+        }
+
+        IdentityWorkStatus(long userId) {
+            this.userId = userId;
+            this.date = DATE;
+            this.statusType = "REGULAR";
+            this.reason = "benchmark";
+        }
+    }
+
+    @Entity(name = "PooledWorkStatus")
+    @Table(name = "bench_pooled_work_status",
+           uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "date"}))
+    public static class PooledWorkStatus {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_id_generator")
+        @TableGenerator(name = "bench_id_generator", table = PooledIds.TABLE, pkColumnName = PooledIds.SEGMENT_COLUMN,
+                valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "bench_pooled_work_status",
+                allocationSize = PooledIds.ALLOCATION_SIZE)
+        private Long id;
+        @Column(name = "user_id", nullable = false)
+        private Long userId;
+        @Column(nullable = false)
+        private LocalDate date;
+        @Column(name = "status_type", nullable = false)
+        private String statusType;
+        private String reason;
+        @Column(name = "is_late", nullable = false)
+        private boolean isLate;
+
+        protected PooledWorkStatus() {
+        }
+
+        PooledWorkStatus(long userId) {
+            this.userId = userId;
+            this.date = DATE;
+            this.statusType = "REGULAR";
+            this.reason = "benchmark";
+        }
+    }
+}
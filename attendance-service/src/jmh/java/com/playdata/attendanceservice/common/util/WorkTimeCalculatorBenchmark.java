@@ -0,0 +1,82 @@
+package com.playdata.attendanceservice.common.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 달 x 1,000명 분량의 출퇴근 기록으로 근무 시간 계산 + "HH:mm" 포맷 비용을 비교합니다.
+ * - legacy: calculateWorkTimes() (Map, Duration, LocalDateTime 생성) + String.format
+ * - primitive: calculate() (epoch 기준 long 계산) + formatMinutes()
+ * 할당량 비교는 -prof gc 옵션으로 확인합니다. (./gradlew jmh -Pjmh.profilers=gc 또는 jmh { profilers = ['gc'] })
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkTimeCalculatorBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final YearMonth MONTH = YearMonth.of(2025, 7);
+    private static final int ROWS = USERS * 31;
+
+    private LocalDateTime[] checkIns;
+    private LocalDateTime[] checkOuts;
+    private LocalDate[] attendanceDates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7L);
+        checkIns = new LocalDateTime[ROWS];
+        checkOuts = new LocalDateTime[ROWS];
+        attendanceDates = new LocalDate[ROWS];
+
+        int row = 0;
+        for (int day = 1; day <= MONTH.lengthOfMonth(); day++) {
+            LocalDate date = MONTH.atDay(day);
+            for (int user = 0; user < USERS; user++) {
+                // 08:00 ~ 10:00 출근, 8 ~ 14시간 뒤 퇴근 (일부는 자정을 넘김)
+                LocalDateTime checkIn = date.atTime(8, 0).plusSeconds(random.nextInt(2 * 3600));
+                attendanceDates[row] = date;
+                checkIns[row] = checkIn;
+                checkOuts[row] = checkIn.plusSeconds(8 * 3600 + random.nextInt(6 * 3600));
+                row++;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void legacy(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            Map<String, Duration> workTimes = WorkTimeCalculator.calculateWorkTimes(checkIns[i], checkOuts[i], attendanceDates[i]);
+            blackhole.consume(legacyFormat(workTimes.get("totalWorkTime")));
+            blackhole.consume(legacyFormat(workTimes.get("normalWorkTime")));
+            blackhole.consume(legacyFormat(workTimes.get("overtimeWorkTime")));
+            blackhole.consume(legacyFormat(workTimes.get("nightWorkTime")));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void primitive(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            WorkTimes workTimes = WorkTimeCalculator.calculate(checkIns[i], checkOuts[i], attendanceDates[i]);
+            blackhole.consume(WorkTimeCalculator.formatMinutes(workTimes.getTotalWorkMinutes()));
+            blackhole.consume(WorkTimeCalculator.formatMinutes(workTimes.getNormalWorkMinutes()));
+            blackhole.consume(WorkTimeCalculator.formatMinutes(workTimes.getOvertimeWorkMinutes()));
+            blackhole.consume(WorkTimeCalculator.formatMinutes(workTimes.getNightWorkMinutes()));
+        }
+    }
+
+    // 변경 전 formatDuration() 구현
+    private static String legacyFormat(Duration duration) {
+        return String.format("%02d:%02d", duration.toHours(), duration.toMinutes() % 60);
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest; // PageRequest import 추가
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
@@ -170,4 +171,12 @@ public class AbsenceController {
         com.playdata.attendanceservice.absence.dto.response.AbsenceStatisticsDto statistics = absenceService.getAbsenceStatistics();
         return buildSuccessResponse(statistics, "부재 통계 조회 성공");
     }
+
+    // 부재 통계 재계산 (HR/운영용, 건수가 어긋났을 때)
+    @PostMapping("/statistics/rebuild")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')") // HR 또는 서비스 간 호출만 허용
+    public ResponseEntity<CommonResDto<Integer>> rebuildAbsenceStatistics() {
+        int rows = absenceService.rebuildAbsenceStatistics();
+        return buildSuccessResponse(rows, "부재 통계 재계산 성공");
+    }
 }
@@ -0,0 +1,16 @@
+package com.playdata.attendanceservice.absence.dto;
+
+import com.playdata.attendanceservice.absence.entity.ApprovalStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결재 상태별 전체 부재 건수 조회 결과입니다.
+ * absence_status_count의 사용자 행을 상태별로 합산한 값입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AbsenceStatusTotal {
+    private final ApprovalStatus approvalStatus;
+    private final Long absenceCount;
+}
@@ -13,8 +13,20 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+/**
+ * 부재 신청 (absence 테이블)
+ * 목록 조회는 사용자/결재 상태/결재자별로 정렬해 읽으므로, 조건 컬럼 뒤에 정렬 컬럼을 붙인 복합 인덱스를 둡니다.
+ * (user_id, start_date, end_date)는 기간/특정 날짜 조회를 인덱스 안에서 걸러냅니다.
+ */
 @Entity
-@Table(name = "absence")
+@Table(name = "absence",
+       indexes = {
+           @Index(name = "IDX_absence_user_status_created", columnList = "user_id, approval_status, created_at"),
+           @Index(name = "IDX_absence_status_created", columnList = "approval_status, created_at"),
+           @Index(name = "IDX_absence_status_updated", columnList = "approval_status, updated_at"),
+           @Index(name = "IDX_absence_user_dates", columnList = "user_id, start_date, end_date"),
+           @Index(name = "IDX_absence_approver_approved", columnList = "approver_id, approved_at")
+       })
 @Getter
 @Setter(AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -24,7 +36,7 @@ public class Absence {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "user_id", nullable = false)
     private Long userId;
 
     @Enumerated(EnumType.STRING)
@@ -34,10 +46,10 @@ public class Absence {
     @Enumerated(EnumType.STRING)
     private UrgencyType urgency;
 
-    @Column(nullable = false)
+    @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
-    @Column(nullable = false)
+    @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
     private LocalTime startTime;
@@ -50,24 +62,24 @@ public class Absence {
     private Long approvalRequestId;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "approval_status", nullable = false)
     private ApprovalStatus approvalStatus = ApprovalStatus.PENDING;
 
-    @Column
+    @Column(name = "approver_id")
     private Long approverId;
 
-    @Column
+    @Column(name = "approved_at")
     private LocalDateTime approvedAt;
 
     @Column
     private String rejectComment;
 
     @CreationTimestamp
-    @Column(updatable = false, nullable = false)
+    @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @Builder
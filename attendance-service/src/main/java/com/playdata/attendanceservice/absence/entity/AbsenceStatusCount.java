@@ -0,0 +1,45 @@
+package com.playdata.attendanceservice.absence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 사용자별 / 결재 상태별 부재 건수 (absence_status_count 테이블)
+ * 부재 등록/삭제/승인/반려 시 같은 트랜잭션 안에서 사용자 행만 증감합니다.
+ * 사용자 통계는 absence 테이블을 세지 않고 이 테이블의 기본 키로 최대 3행만 읽고, 전체 통계는 사용자 행을 상태별로 합산합니다.
+ */
+@Entity
+@Table(name = "absence_status_count")
+@IdClass(AbsenceStatusCount.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AbsenceStatusCount {
+
+    // 전체 통계를 조회할 때 넘기는 user_id (저장되는 행은 없음)
+    public static final long ALL_USERS = 0L;
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "approval_status", nullable = false, length = 20)
+    private ApprovalStatus approvalStatus;
+
+    @Column(name = "absence_count", nullable = false)
+    private long absenceCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private ApprovalStatus approvalStatus;
+    }
+}
@@ -0,0 +1,51 @@
+package com.playdata.attendanceservice.absence.repository;
+
+import com.playdata.attendanceservice.absence.dto.AbsenceStatusTotal;
+import com.playdata.attendanceservice.absence.entity.AbsenceStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * AbsenceStatusCount(부재 상태별 건수) 접근용 리포지토리입니다.
+ * 증감은 행을 읽지 않고 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 사용자 행에만 반영합니다.
+ * 전체 합계는 모든 쓰기가 한 행에 몰리지 않도록 따로 저장하지 않고 조회 시 사용자 행을 합산합니다.
+ */
+public interface AbsenceStatusCountRepository extends JpaRepository<AbsenceStatusCount, AbsenceStatusCount.Key> {
+
+    /**
+     * 사용자의 상태별 건수를 조회합니다. (기본 키 앞부분으로 최대 3행)
+     */
+    List<AbsenceStatusCount> findByUserId(Long userId);
+
+    /**
+     * 모든 사용자 행을 상태별로 합산합니다. (전체 통계용, 건수 테이블 전체를 읽음)
+     */
+    @Query("SELECT new com.playdata.attendanceservice.absence.dto.AbsenceStatusTotal(c.approvalStatus, SUM(c.absenceCount)) " +
+           "FROM AbsenceStatusCount c GROUP BY c.approvalStatus")
+    List<AbsenceStatusTotal> sumByApprovalStatus();
+
+    /**
+     * 사용자 행의 건수에 delta를 더합니다. 행이 없으면 delta로 만듭니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO absence_status_count (user_id, approval_status, absence_count) " +
+                   "VALUES (:userId, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE absence_count = absence_count + VALUES(absence_count)",
+           nativeQuery = true)
+    int add(@Param("userId") Long userId, @Param("status") String status, @Param("delta") long delta);
+
+    /**
+     * absence 테이블을 사용자/상태별로 한 번에 집계해 사용자 행을 채웁니다. (재계산용, 테이블을 비운 뒤 호출)
+     * 재계산 도중 다른 트랜잭션이 같은 행을 먼저 만들었으면 더하지 않고 집계 값으로 덮어씁니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO absence_status_count (user_id, approval_status, absence_count) " +
+                   "SELECT user_id, approval_status, COUNT(*) FROM absence GROUP BY user_id, approval_status " +
+                   "ON DUPLICATE KEY UPDATE absence_count = VALUES(absence_count)",
+           nativeQuery = true)
+    int insertUserCountsFromAbsences();
+}
@@ -47,4 +47,6 @@ public interface AbsenceService {
 
     @Transactional(readOnly = true)
     AbsenceStatisticsDto getAbsenceStatistics();
+
+    int rebuildAbsenceStatistics();
 }
@@ -5,6 +5,7 @@ import com.playdata.attendanceservice.absence.dto.request.AbsenceUpdateRequestDt
 import com.playdata.attendanceservice.absence.dto.response.AbsenceResponseDto;
 import com.playdata.attendanceservice.absence.dto.response.AbsenceStatisticsDto;
 import com.playdata.attendanceservice.absence.entity.Absence;
+import com.playdata.attendanceservice.absence.entity.AbsenceStatusCount;
 import com.playdata.attendanceservice.absence.entity.ApprovalStatus;
 import com.playdata.attendanceservice.absence.repository.AbsenceRepository;
 import com.playdata.attendanceservice.workstatus.service.WorkStatusService;
@@ -38,6 +39,7 @@ public class AbsenceServiceImpl implements AbsenceService {
     private final AbsenceRepository absenceRepository;
     private final ApprovalServiceClient approvalServiceClient;
     private final WorkStatusService workStatusService;
+    private final AbsenceStatusCounter absenceStatusCounter;
 
     /**
      * 새로운 부재 정보를 등록합니다.
@@ -52,6 +54,7 @@ public class AbsenceServiceImpl implements AbsenceService {
         // 1. Absence 엔티티 생성 및 DB에 저장
         Absence absence = requestDto.toEntity(userId);
         Absence savedAbsence = absenceRepository.save(absence);
+        absenceStatusCounter.onCreated(savedAbsence);
         log.info("Absence saved successfully for userId: {}, absenceId: {}", userId, savedAbsence.getId());
 
         // 2. 전자결재가 필요한 부재인 경우, 결재 요청 생성
@@ -191,6 +194,7 @@ public class AbsenceServiceImpl implements AbsenceService {
         }
 
         absenceRepository.delete(absence);
+        absenceStatusCounter.onDeleted(absence);
         log.info("Absence deleted: {}", absenceId);
 
         // 부재가 대기 상태이고 결재 요청 ID가 있다면, approval-service의 결재 요청도 취소
@@ -213,12 +217,19 @@ public class AbsenceServiceImpl implements AbsenceService {
         Absence absence = absenceRepository.findById(absenceId)
                 .orElseThrow(() -> new BusinessException("부재를 찾을 수 없습니다: " + absenceId));
 
+        // approval-service는 실패 시 같은 승인 이벤트를 재전송하므로, 이미 승인된 부재는 그대로 둡니다.
+        if (absence.isApproved()) {
+            log.info("Absence already approved. Skipping duplicate approval: absenceId={}", absenceId);
+            return;
+        }
         if (!absence.isPending()) {
             throw new BusinessException("대기 상태인 부재만 승인할 수 있습니다.");
         }
 
+        ApprovalStatus previousStatus = absence.getApprovalStatus();
         absence.approve(approverId); // Long 타입으로 직접 전달
         absenceRepository.save(absence);
+        absenceStatusCounter.onStatusChanged(absence, previousStatus);
 
         log.info("Absence approved successfully: absenceId={}", absenceId);
 
@@ -248,8 +259,10 @@ public class AbsenceServiceImpl implements AbsenceService {
             throw new BusinessException("대기 상태인 부재만 반려할 수 있습니다.");
         }
 
+        ApprovalStatus previousStatus = absence.getApprovalStatus();
         absence.reject(approverId, rejectComment); // Long 타입으로 직접 전달
         absenceRepository.save(absence);
+        absenceStatusCounter.onStatusChanged(absence, previousStatus);
 
         log.info("Absence rejected: absenceId={}, approverId={}", absenceId, approverId);
     }
@@ -341,21 +354,23 @@ public class AbsenceServiceImpl implements AbsenceService {
 
     /**
      * 부재 통계 조회
+     * absence 테이블을 세지 않고 상태별 건수 테이블의 사용자 행을 합산합니다.
+     * 읽는 행 수는 (사용자 수 x 상태 수)에 비례하므로 O(1)은 아니지만, 부재 건수가 아니라 사용자 수만큼만 읽습니다.
+     * 전체 합계 행을 따로 두면 조회는 3행으로 끝나지만 모든 부재 변경이 그 행에 몰려 쓰기 경합이 생기므로 합산을 택했습니다.
      * @return 부재 통계 정보
      */
     @Override
     @Transactional(readOnly = true)
     public AbsenceStatisticsDto getAbsenceStatistics() {
-        long totalAbsences = absenceRepository.count();
-        long pendingAbsences = absenceRepository.countByApprovalStatus(ApprovalStatus.PENDING);
-        long approvedAbsences = absenceRepository.countByApprovalStatus(ApprovalStatus.APPROVED);
-        long rejectedAbsences = absenceRepository.countByApprovalStatus(ApprovalStatus.REJECTED);
-
-        return AbsenceStatisticsDto.builder()
-                .totalAbsences(totalAbsences)
-                .pendingAbsences(pendingAbsences)
-                .approvedAbsences(approvedAbsences)
-                .rejectedAbsences(rejectedAbsences)
-                .build();
+        return absenceStatusCounter.getStatistics(AbsenceStatusCount.ALL_USERS);
+    }
+
+    /**
+     * 부재 상태별 건수 테이블을 absence 테이블로 다시 셉니다.
+     * @return 건수가 기록된 (사용자, 상태) 조합 수
+     */
+    @Override
+    public int rebuildAbsenceStatistics() {
+        return absenceStatusCounter.rebuild();
     }
 }
@@ -0,0 +1,160 @@
+package com.playdata.attendanceservice.absence.service;
+
+import com.playdata.attendanceservice.absence.dto.AbsenceStatusTotal;
+import com.playdata.attendanceservice.absence.dto.response.AbsenceStatisticsDto;
+import com.playdata.attendanceservice.absence.entity.Absence;
+import com.playdata.attendanceservice.absence.entity.AbsenceStatusCount;
+import com.playdata.attendanceservice.absence.entity.ApprovalStatus;
+import com.playdata.attendanceservice.absence.repository.AbsenceStatusCountRepository;
+import com.playdata.common.domain.OneTimeTaskMarker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부재 상태별 건수(absence_status_count)를 유지합니다.
+ * 등록/삭제/승인/반려는 호출한 트랜잭션 안에서 증감으로 반영하므로, 부재 변경이 롤백되면 건수도 함께 롤백됩니다.
+ * 부재 수정은 사용자와 결재 상태를 바꾸지 않으므로 건수에 영향이 없습니다.
+ *
+ * 건수를 모르는 이전 버전 인스턴스가 배포 도중 바꾼 부재는 증감에 반영되지 않으므로, 매일 한 인스턴스가 absence 테이블로 다시 셉니다.
+ * 그 사이에 건수가 어긋났다고 의심되면 HR이 재계산 API(POST /attendance/absence/statistics/rebuild)로 바로 다시 셀 수 있습니다.
+ */
+@Component
+@Slf4j
+public class AbsenceStatusCounter {
+
+    // 건수 테이블 초기 재계산 완료 표시
+    static final String INITIAL_BUILD_TASK = "absence-status-count-build";
+    // 일일 보정 완료 표시 (뒤에 날짜를 붙여 하루에 한 번만 실행)
+    static final String DAILY_RECONCILE_TASK = "absence-status-count-reconcile:";
+
+    private final AbsenceStatusCountRepository countRepository;
+    private final OneTimeTaskMarker oneTimeTaskMarker;
+    private final TransactionTemplate requiresNew;
+
+    public AbsenceStatusCounter(AbsenceStatusCountRepository countRepository, OneTimeTaskMarker oneTimeTaskMarker,
+                                PlatformTransactionManager transactionManager) {
+        this.countRepository = countRepository;
+        this.oneTimeTaskMarker = oneTimeTaskMarker;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 새로 등록된 부재를 현재 상태(대기)로 셉니다.
+     */
+    @Transactional
+    public void onCreated(Absence absence) {
+        countRepository.add(absence.getUserId(), absence.getApprovalStatus().name(), 1);
+    }
+
+    /**
+     * 삭제된 부재를 삭제 직전 상태에서 뺍니다.
+     */
+    @Transactional
+    public void onDeleted(Absence absence) {
+        countRepository.add(absence.getUserId(), absence.getApprovalStatus().name(), -1);
+    }
+
+    /**
+     * 결재 처리(승인/반려)로 바뀐 상태를 반영합니다.
+     *
+     * @param absence 상태가 바뀐 부재
+     * @param previousStatus 변경 전 상태
+     */
+    @Transactional
+    public void onStatusChanged(Absence absence, ApprovalStatus previousStatus) {
+        if (previousStatus == absence.getApprovalStatus()) {
+            return;
+        }
+        countRepository.add(absence.getUserId(), previousStatus.name(), -1);
+        countRepository.add(absence.getUserId(), absence.getApprovalStatus().name(), 1);
+    }
+
+    /**
+     * 사용자(ALL_USERS면 전체)의 상태별 건수를 조회합니다.
+     * 전체 건수는 저장하지 않고 사용자 행을 상태별로 합산합니다.
+     */
+    @Transactional(readOnly = true)
+    public AbsenceStatisticsDto getStatistics(Long userId) {
+        Map<ApprovalStatus, Long> counts = new EnumMap<>(ApprovalStatus.class);
+        if (userId == AbsenceStatusCount.ALL_USERS) {
+            for (AbsenceStatusTotal row : countRepository.sumByApprovalStatus()) {
+                counts.put(row.getApprovalStatus(), row.getAbsenceCount());
+            }
+        } else {
+            for (AbsenceStatusCount row : countRepository.findByUserId(userId)) {
+                counts.put(row.getApprovalStatus(), row.getAbsenceCount());
+            }
+        }
+        long pending = counts.getOrDefault(ApprovalStatus.PENDING, 0L);
+        long approved = counts.getOrDefault(ApprovalStatus.APPROVED, 0L);
+        long rejected = counts.getOrDefault(ApprovalStatus.REJECTED, 0L);
+        return AbsenceStatisticsDto.builder()
+                .totalAbsences(pending + approved + rejected)
+                .pendingAbsences(pending)
+                .approvedAbsences(approved)
+                .rejectedAbsences(rejected)
+                .build();
+    }
+
+    /**
+     * absence 테이블을 한 번의 그룹 집계로 다시 세어 건수 테이블을 교체합니다.
+     * 재계산 도중 들어온 부재 변경은 반영되지 않을 수 있으므로 사용량이 적은 시간에 호출합니다.
+     *
+     * @return 건수가 기록된 (사용자, 상태) 조합 수
+     */
+    @Transactional
+    public int rebuild() {
+        countRepository.deleteAllInBatch();
+        int userRows = countRepository.insertUserCountsFromAbsences();
+        log.info("부재 상태별 건수 재계산 완료. (사용자, 상태) 조합 수={}", userRows);
+        return userRows;
+    }
+
+    /**
+     * 건수 테이블을 아직 만든 적이 없으면(최초 배포 등) 기존 부재 기록으로 채웁니다.
+     * 여러 인스턴스가 동시에 기동해도 완료 표시를 먼저 남긴 한 곳만 재계산하고, 이후 재기동에서는 건너뜁니다.
+     * 재계산에 실패해도 서비스 기동은 막지 않으며, 완료 표시도 함께 롤백되어 다음 기동에서 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        rebuildOnce(INITIAL_BUILD_TASK);
+    }
+
+    /**
+     * 하루에 한 번 absence 테이블로 건수를 다시 세어, 증감으로 반영되지 않은 변경을 보정합니다.
+     * 여러 인스턴스에서 실행되어도 그날의 완료 표시를 먼저 남긴 한 곳만 재계산합니다.
+     */
+    @Scheduled(cron = "${attendance.absence-count.reconcile-cron:0 30 3 * * ?}") // 매일 새벽 3시 30분
+    public void reconcileDaily() {
+        rebuildOnce(DAILY_RECONCILE_TASK + LocalDate.now());
+    }
+
+    /**
+     * 완료 표시를 남긴 인스턴스만 재계산합니다. 실패하면 완료 표시도 함께 롤백되어 다음에 다시 시도합니다.
+     */
+    private void rebuildOnce(String taskName) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (oneTimeTaskMarker.claim(taskName)) {
+                    rebuild();
+                } else {
+                    log.debug("부재 상태별 건수 재계산을 이미 다른 인스턴스가 마쳤습니다. task={}", taskName);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("부재 상태별 건수 재계산에 실패했습니다. 다음에 다시 시도합니다. task={}", taskName, e);
+        }
+    }
+}
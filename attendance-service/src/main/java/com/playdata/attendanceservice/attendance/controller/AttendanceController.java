@@ -1,6 +1,8 @@
 package com.playdata.attendanceservice.attendance.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.playdata.attendanceservice.attendance.dto.AttendanceResDto;
+import com.playdata.attendanceservice.attendance.dto.MonthlySummaryResDto;
 import com.playdata.attendanceservice.attendance.dto.PersonalAttendanceStatsDto;
 import com.playdata.attendanceservice.attendance.dto.WorkTimeDto;
 import com.playdata.attendanceservice.attendance.entity.Attendance;
@@ -8,18 +10,25 @@ import com.playdata.attendanceservice.attendance.service.AttendanceService;
 import com.playdata.attendanceservice.client.VacationServiceClient;
 import com.playdata.attendanceservice.common.auth.TokenUserInfo;
 import com.playdata.attendanceservice.common.dto.CommonResDto;
+import com.playdata.common.auth.ServiceIdentity;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RestController
 @RequestMapping("/attendance")
@@ -28,8 +37,13 @@ import java.util.Optional;
 @RefreshScope
 public class AttendanceController {
 
+    // 월간 집계 NDJSON 스트림의 마지막 줄(트레일러) 필드. payroll-service가 응답이 끝까지 왔는지 확인하는 데 사용합니다.
+    static final String STREAM_COMPLETE_FIELD = "complete";
+    static final String STREAM_COUNT_FIELD = "count";
+
     private final AttendanceService attendanceService;
     private final VacationServiceClient vacationServiceClient;
+    private final ObjectMapper objectMapper;
 
     /**
      * 사용자의 출근을 기록하는 API 엔드포인트입니다.
@@ -187,16 +201,13 @@ public class AttendanceController {
             @RequestParam Long userId,
             @PathVariable int year,
             @PathVariable int month,
-            @RequestHeader("X-User-Email") String userEmail,
-            @RequestHeader("X-User-Role") String userRole,
-            @RequestHeader("X-User-Employee-No") Long employeeNo
+            @AuthenticationPrincipal TokenUserInfo userInfo
     ) {
-        log.info("🎯 권한 체크: userRole={}, employeeNo={}, userId={}", userRole, employeeNo, userId);
+        log.info("🎯 권한 체크: userRole={}, employeeNo={}, userId={}", userInfo.getHrRole(), userInfo.getEmployeeNo(), userId);
 
-        // ✅ HR이 아니고, 본인도 아니라면 차단
-        boolean isHR = "Y".equalsIgnoreCase(userRole);
-        if (!isHR && !userId.equals(employeeNo)) {
-            log.warn("⛔ 접근 차단 - 요청자={}, 대상={}, 권한={}", employeeNo, userId, userRole);
+        // ✅ HR/서비스 호출이 아니고, 본인도 아니라면 차단
+        if (!canReadAttendanceOf(userInfo, userId)) {
+            log.warn("⛔ 접근 차단 - 요청자={}, 대상={}, 권한={}", userInfo.getEmployeeNo(), userId, userInfo.getHrRole());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new CommonResDto<>(HttpStatus.FORBIDDEN, "권한이 없습니다.", null));
         }
@@ -205,7 +216,101 @@ public class AttendanceController {
         return buildSuccessResponse(result, "월별 근태 조회 성공");
     }
 
+    // payroll-service에서 호출. 월간 근태 집계 한 행을 돌려줍니다. (권한 기준은 /feign/monthly와 같음)
+    @GetMapping("/feign/monthly-summary/{year}/{month}")
+    public ResponseEntity<CommonResDto<MonthlySummaryResDto>> getMonthlySummary(
+            @RequestParam Long userId,
+            @PathVariable int year,
+            @PathVariable int month,
+            @AuthenticationPrincipal TokenUserInfo userInfo
+    ) {
+        if (!canReadAttendanceOf(userInfo, userId)) {
+            log.warn("⛔ 접근 차단 - 요청자={}, 대상={}, 권한={}", userInfo.getEmployeeNo(), userId, userInfo.getHrRole());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new CommonResDto<>(HttpStatus.FORBIDDEN, "권한이 없습니다.", null));
+        }
+
+        MonthlySummaryResDto summary = attendanceService.getMonthlySummary(userId, year, month);
+        return buildSuccessResponse(summary, "월간 근태 집계 조회 성공");
+    }
+
+    /**
+     * payroll-service의 급여 일괄 생성에서 호출. 여러 사용자의 월간 집계를 한 번에 돌려줍니다. (HR/서비스 호출 전용)
+     * 본문에 사용자 ID 목록을 주거나, 본문 없이 afterUserId/size로 커서 페이지를 조회합니다.
+     * 응답은 사용자당 한 줄의 NDJSON으로 스트리밍하므로 대상 인원이 많아도 메모리 사용량이 일정합니다.
+     * 커서 조회에서는 마지막 집계 줄의 userId를 다음 요청의 afterUserId로 사용합니다.
+     * 마지막 줄은 {"complete":true,"count":N} 트레일러이며, 트레일러가 없으면 호출 측은 응답이 중간에 끊긴 것으로 봅니다.
+     */
+    @PostMapping(value = "/feign/monthly-summaries/{year}/{month}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMonthlySummaries(
+            @PathVariable int year,
+            @PathVariable int month,
+            @RequestBody(required = false) List<Long> userIds,
+            @RequestParam(required = false) Long afterUserId,
+            @RequestParam(defaultValue = "500") int size,
+            @AuthenticationPrincipal TokenUserInfo userInfo
+    ) {
+        if (!"Y".equalsIgnoreCase(userInfo.getHrRole()) && !ServiceIdentity.ROLE.equals(userInfo.getHrRole())) {
+            log.warn("⛔ 월간 집계 일괄 조회 차단 - 요청자={}, 권한={}", userInfo.getEmployeeNo(), userInfo.getHrRole());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        StreamingResponseBody body = out -> {
+            AtomicInteger count = new AtomicInteger();
+            attendanceService.streamMonthlySummaries(
+                    year, month, userIds, afterUserId, size, summary -> {
+                        try {
+                            out.write(objectMapper.writeValueAsBytes(summary));
+                            out.write('\n');
+                            count.incrementAndGet();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            out.write(objectMapper.writeValueAsBytes(Map.of(STREAM_COMPLETE_FIELD, true, STREAM_COUNT_FIELD, count.get())));
+            out.write('\n');
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 
+    /**
+     * 해당 월의 월간 근태 집계를 근태 기록으로 다시 계산합니다. (HR 전용)
+     * 집계 테이블 도입 이전 데이터나 수동 보정 후 집계를 맞출 때 사용합니다.
+     *
+     * @return 재계산한 사용자 수
+     */
+    @PostMapping("/monthly-summary/rebuild/{year}/{month}")
+    public ResponseEntity<CommonResDto<Integer>> rebuildMonthlySummaries(
+            @AuthenticationPrincipal TokenUserInfo userInfo,
+            @PathVariable int year,
+            @PathVariable int month) {
+        if (!"Y".equalsIgnoreCase(userInfo.getHrRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new CommonResDto<>(HttpStatus.FORBIDDEN, "권한이 없습니다.", null));
+        }
+        int rebuilt = attendanceService.rebuildMonthlySummaries(year, month);
+        return buildSuccessResponse(rebuilt, "월간 근태 집계 재계산 성공");
+    }
+
+    // approval-service가 휴가 결재를 승인했을 때 호출하여, 당일 휴가 스냅샷의 해당 사용자 항목을 갱신하게 합니다.
+    @PostMapping("/feign/leave-snapshot/invalidate")
+    public ResponseEntity<Void> invalidateLeaveSnapshot(@RequestParam Long userId) {
+        attendanceService.invalidateLeaveSnapshot(userId);
+        return ResponseEntity.ok().build();
+    }
+
+
+
+    /**
+     * 특정 사용자의 근태를 조회할 수 있는지 확인합니다.
+     * 권한은 평문 X-User-* 헤더가 아니라 JwtAuthFilter가 서명된 식별 헤더로 설정한 사용자 정보로 판단합니다.
+     * HR, 서비스 식별 헤더로 호출한 다른 서비스(급여 일괄 생성 등), 본인만 허용합니다.
+     */
+    private boolean canReadAttendanceOf(TokenUserInfo userInfo, Long userId) {
+        return "Y".equalsIgnoreCase(userInfo.getHrRole())
+                || ServiceIdentity.ROLE.equals(userInfo.getHrRole())
+                || userId.equals(userInfo.getEmployeeNo());
+    }
 
     /**
      * API 요청 성공 시 공통 응답 객체를 생성하여 반환하는 헬퍼 메소드입니다.
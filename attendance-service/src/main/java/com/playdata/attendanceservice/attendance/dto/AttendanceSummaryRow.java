@@ -0,0 +1,23 @@
+package com.playdata.attendanceservice.attendance.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월간 집계 계산에 필요한 근태 기록 컬럼만 담는 조회 전용 DTO입니다.
+ * 엔티티를 로딩하지 않으므로 WorkStatus 지연/즉시 로딩 쿼리가 추가로 발생하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AttendanceSummaryRow {
+    private final Long userId;
+    private final LocalDate attendanceDate;
+    private final LocalDateTime checkInTime;
+    private final LocalDateTime checkOutTime;
+    private final LocalDateTime goOutTime;
+    private final Long workStatusId; // WorkStatus가 없으면 null
+    private final Boolean late;
+}
@@ -0,0 +1,28 @@
+package com.playdata.attendanceservice.attendance.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 입사 1주년 연차 대상자별 출근율 계산 기간의 근무일수/소정근로일수 집계 결과입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FirstYearWorkDaysRow {
+    private final Long targetId;
+    private final Long userId;
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final Long fullDays;
+    private final Long halfDays;
+    private final Long scheduledDays;
+
+    /**
+     * 실제 근무일수 (종일 1일, 반일 0.5일)
+     */
+    public double getActualWorkDays() {
+        return fullDays + halfDays * 0.5;
+    }
+}
@@ -0,0 +1,40 @@
+package com.playdata.attendanceservice.attendance.dto;
+
+import com.playdata.attendanceservice.attendance.entity.AttendanceMonthlySummary;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자의 월간 근태 집계 응답 DTO입니다. 근무 시간은 분 단위입니다.
+ */
+@Getter
+@Builder
+public class MonthlySummaryResDto {
+    private Long userId;
+    private int year;
+    private int month;
+    private long attendanceCount;
+    private long lateCount;
+    private long goOutCount;
+    private long totalWorkMinutes;
+    private long normalWorkMinutes;
+    private long overtimeWorkMinutes;
+    private long nightWorkMinutes;
+    private long holidayWorkMinutes;
+
+    public static MonthlySummaryResDto from(AttendanceMonthlySummary summary) {
+        return MonthlySummaryResDto.builder()
+                .userId(summary.getUserId())
+                .year(summary.getSummaryYear())
+                .month(summary.getSummaryMonth())
+                .attendanceCount(summary.getAttendanceCount())
+                .lateCount(summary.getLateCount())
+                .goOutCount(summary.getGoOutCount())
+                .totalWorkMinutes(summary.getTotalWorkMinutes())
+                .normalWorkMinutes(summary.getNormalWorkMinutes())
+                .overtimeWorkMinutes(summary.getOvertimeWorkMinutes())
+                .nightWorkMinutes(summary.getNightWorkMinutes())
+                .holidayWorkMinutes(summary.getHolidayWorkMinutes())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.playdata.attendanceservice.attendance.entity;
 
 import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
+import com.playdata.attendanceservice.common.domain.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -27,10 +28,13 @@ public class Attendance {
 
     /**
      * 근태 기록의 고유 식별자 (Primary Key)
-     * 데이터베이스에서 자동으로 생성됩니다.
+     * id_generator 테이블에서 구간 단위로 할당받아 생성합니다. (INSERT 배치를 위해 IDENTITY 대신 pooled 방식 사용)
      */
     @Id // 이 필드가 엔티티의 기본 키임을 나타냅니다.
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 값을 데이터베이스가 자동으로 생성하도록 합니다. (AUTO_INCREMENT)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_id_generator")
+    @TableGenerator(name = "attendance_id_generator", table = PooledIds.TABLE, pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = PooledIds.ATTENDANCE,
+            allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false) // 'id' 컬럼에 매핑되며, NULL을 허용하지 않습니다.
     private Long id;
 
@@ -0,0 +1,80 @@
+package com.playdata.attendanceservice.attendance.entity;
+
+import com.playdata.attendanceservice.common.domain.PooledIds;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 월간 근태 집계 (attendance_monthly_summary 테이블)
+ * 출근/외출/퇴근 시 증분으로 갱신되고, 근무 상태 정정 시에는 해당 월을 다시 계산합니다.
+ * 월별 근태/개인 통계/급여 계산은 attendance 행 대신 이 한 행을 읽습니다.
+ */
+@Entity
+@Table(name = "attendance_monthly_summary",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "UK_summary_user_id_year_month", columnNames = {"user_id", "summary_year", "summary_month"})
+       })
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AttendanceMonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "monthly_summary_id_generator")
+    @TableGenerator(name = "monthly_summary_id_generator", table = PooledIds.TABLE, pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = PooledIds.MONTHLY_SUMMARY,
+            allocationSize = PooledIds.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "summary_year", nullable = false)
+    private int summaryYear;
+
+    @Column(name = "summary_month", nullable = false)
+    private int summaryMonth;
+
+    // 출근 일수 (지각 포함, WorkStatus가 있는 근태 기록 수)
+    @Column(name = "attendance_count", nullable = false)
+    private long attendanceCount;
+
+    @Column(name = "late_count", nullable = false)
+    private long lateCount;
+
+    @Column(name = "go_out_count", nullable = false)
+    private long goOutCount;
+
+    // 아래 근무 시간은 퇴근이 기록된 날의 일별 근무 시간(분)을 합산한 값입니다.
+    @Column(name = "total_work_minutes", nullable = false)
+    private long totalWorkMinutes;
+
+    @Column(name = "normal_work_minutes", nullable = false)
+    private long normalWorkMinutes;
+
+    @Column(name = "overtime_work_minutes", nullable = false)
+    private long overtimeWorkMinutes;
+
+    @Column(name = "night_work_minutes", nullable = false)
+    private long nightWorkMinutes;
+
+    @Column(name = "holiday_work_minutes", nullable = false)
+    private long holidayWorkMinutes;
+
+    /**
+     * 다시 계산한 집계 값으로 모든 항목을 덮어씁니다.
+     *
+     * @param source 근태 기록에서 새로 계산한 집계
+     */
+    public void overwrite(AttendanceMonthlySummary source) {
+        this.attendanceCount = source.attendanceCount;
+        this.lateCount = source.lateCount;
+        this.goOutCount = source.goOutCount;
+        this.totalWorkMinutes = source.totalWorkMinutes;
+        this.normalWorkMinutes = source.normalWorkMinutes;
+        this.overtimeWorkMinutes = source.overtimeWorkMinutes;
+        this.nightWorkMinutes = source.nightWorkMinutes;
+        this.holidayWorkMinutes = source.holidayWorkMinutes;
+    }
+}
@@ -0,0 +1,62 @@
+package com.playdata.attendanceservice.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 소정근로일 달력 (business_calendar 테이블)
+ * 날짜마다 한 행을 미리 만들어 두고, 기간 내 소정근로일수는 이 테이블의 COUNT로 계산합니다.
+ * 기본값은 주말만 휴무일이며, 공휴일은 해당 행의 businessDay를 false로 바꿔 반영합니다.
+ * 날짜가 곧 식별자이므로 Persistable로 새 행 여부를 알려 saveAll 시 행마다 SELECT(merge)가 나가지 않게 합니다.
+ */
+@Entity
+@Table(name = "business_calendar")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BusinessCalendarDay implements Persistable<LocalDate> {
+
+    @Id
+    @Column(name = "cal_date")
+    private LocalDate calDate;
+
+    @Column(name = "business_day", nullable = false)
+    private boolean businessDay;
+
+    // 공휴일 등 휴무 사유 (주말은 비워 둠)
+    @Column(name = "holiday_name", length = 50)
+    private String holidayName;
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public LocalDate getId() {
+        return calDate;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    public static BusinessCalendarDay of(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return BusinessCalendarDay.builder()
+                .calDate(date)
+                .businessDay(dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.playdata.attendanceservice.attendance.entity;
+
+import com.playdata.attendanceservice.common.domain.PooledIds;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 입사 1주년 연차 부여 대상 (first_year_leave_target 테이블)
+ * 스케줄 실행 월마다 대상자와 출근율 계산 기간(입사일 ~ 1주년 전날)을 한 행씩 저장해 두고,
+ * 근무 기록/소정근로일 달력과 조인한 집계 쿼리 한 번으로 모든 대상자의 근무일수를 계산합니다.
+ * 부여 결과도 함께 기록하므로 같은 월을 다시 실행하면 이미 부여한 사용자는 건너뜁니다.
+ */
+@Entity
+@Table(name = "first_year_leave_target",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "UK_first_year_leave_target_user_run", columnNames = {"user_id", "run_year", "run_month"})
+       })
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FirstYearLeaveTarget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "first_year_leave_target_id_generator")
+    @TableGenerator(name = "first_year_leave_target_id_generator", table = PooledIds.TABLE, pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = PooledIds.FIRST_YEAR_LEAVE_TARGET,
+            allocationSize = PooledIds.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 스케줄 실행 연도/월 (1주년 기준일이 속한 월)
+    @Column(name = "run_year", nullable = false)
+    private int runYear;
+
+    @Column(name = "run_month", nullable = false)
+    private int runMonth;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    // 계산된 출근율(%). 아직 계산 전이면 null
+    @Column(name = "attendance_rate")
+    private Double attendanceRate;
+
+    @Column(name = "granted", nullable = false)
+    private boolean granted;
+
+    @Column(name = "evaluated_at")
+    private LocalDateTime evaluatedAt;
+
+    public void evaluate(double attendanceRate, boolean granted) {
+        this.attendanceRate = attendanceRate;
+        this.granted = granted;
+        this.evaluatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,78 @@
+package com.playdata.attendanceservice.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연차 부여 배치의 진행 위치 (leave_accrual_checkpoint 테이블)
+ * 사용자 ID 순으로 청크를 처리하면서 마지막으로 처리한 사용자 ID를 기록하므로,
+ * 중간에 실패해도 다음 실행은 이미 처리한 사용자를 건너뛰고 이어서 진행합니다.
+ */
+@Entity
+@Table(name = "leave_accrual_checkpoint",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "UK_leave_accrual_checkpoint_job_period", columnNames = {"job_name", "period"})
+       })
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class LeaveAccrualCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    // 처리 대상 기간 (예: 2025-06)
+    @Column(name = "period", nullable = false, length = 20)
+    private String period;
+
+    // 마지막으로 처리를 마친 청크의 마지막 사용자 ID (0이면 아직 처리한 청크가 없음)
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "granted_count", nullable = false)
+    private long grantedCount;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static LeaveAccrualCheckpoint start(String jobName, String period) {
+        return LeaveAccrualCheckpoint.builder()
+                .jobName(jobName)
+                .period(period)
+                .lastUserId(0L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 청크 하나의 처리가 끝났음을 기록합니다.
+     *
+     * @param lastUserId 청크의 마지막 사용자 ID
+     * @param processed 청크에서 처리한 사용자 수
+     * @param granted 청크에서 연차를 부여한 사용자 수
+     */
+    public void advance(Long lastUserId, int processed, int granted) {
+        this.lastUserId = lastUserId;
+        this.processedCount += processed;
+        this.grantedCount += granted;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.playdata.attendanceservice.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 당일 휴가 스냅샷 무효화 기록 (leave_snapshot_invalidation 테이블)
+ * 결재 승인 알림은 attendance-service 인스턴스 하나에만 도착하므로, 알림을 받은 인스턴스가 여기에 기록하고
+ * 모든 인스턴스가 마지막으로 읽은 ID 이후의 기록을 주기적으로 읽어 자기 스냅샷의 해당 사용자를 stale로 표시합니다.
+ */
+@Entity
+@Table(name = "leave_snapshot_invalidation",
+       indexes = @Index(name = "IDX_leave_snapshot_invalidation_at", columnList = "invalidated_at"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class LeaveSnapshotInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "invalidated_at", nullable = false)
+    private LocalDateTime invalidatedAt;
+
+    public static LeaveSnapshotInvalidation of(Long userId) {
+        return LeaveSnapshotInvalidation.builder()
+                .userId(userId)
+                .invalidatedAt(LocalDateTime.now())
+                .build();
+    }
+}
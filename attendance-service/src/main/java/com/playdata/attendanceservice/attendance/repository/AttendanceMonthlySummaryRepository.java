@@ -0,0 +1,45 @@
+package com.playdata.attendanceservice.attendance.repository;
+
+import com.playdata.attendanceservice.attendance.entity.AttendanceMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * AttendanceMonthlySummary 엔티티의 데이터베이스 접근을 위한 리포지토리 인터페이스입니다.
+ * 증분 갱신 메서드는 행을 읽지 않고 UPDATE 한 번으로 값을 더하며, 갱신된 행 수를 반환합니다.
+ * (0이면 아직 해당 월의 집계 행이 없는 것이므로 호출 측에서 재계산합니다.)
+ */
+@Repository
+public interface AttendanceMonthlySummaryRepository extends JpaRepository<AttendanceMonthlySummary, Long> {
+
+    Optional<AttendanceMonthlySummary> findByUserIdAndSummaryYearAndSummaryMonth(Long userId, int summaryYear, int summaryMonth);
+
+    @Modifying
+    @Query("UPDATE AttendanceMonthlySummary s " +
+           "SET s.attendanceCount = s.attendanceCount + 1, s.lateCount = s.lateCount + :lateDelta " +
+           "WHERE s.userId = :userId AND s.summaryYear = :year AND s.summaryMonth = :month")
+    int addCheckIn(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month,
+                   @Param("lateDelta") long lateDelta);
+
+    @Modifying
+    @Query("UPDATE AttendanceMonthlySummary s SET s.goOutCount = s.goOutCount + 1 " +
+           "WHERE s.userId = :userId AND s.summaryYear = :year AND s.summaryMonth = :month")
+    int addGoOut(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
+
+    @Modifying
+    @Query("UPDATE AttendanceMonthlySummary s " +
+           "SET s.totalWorkMinutes = s.totalWorkMinutes + :total, " +
+           "    s.normalWorkMinutes = s.normalWorkMinutes + :normal, " +
+           "    s.overtimeWorkMinutes = s.overtimeWorkMinutes + :overtime, " +
+           "    s.nightWorkMinutes = s.nightWorkMinutes + :night, " +
+           "    s.holidayWorkMinutes = s.holidayWorkMinutes + :holiday " +
+           "WHERE s.userId = :userId AND s.summaryYear = :year AND s.summaryMonth = :month")
+    int addWorkMinutes(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month,
+                       @Param("total") long total, @Param("normal") long normal, @Param("overtime") long overtime,
+                       @Param("night") long night, @Param("holiday") long holiday);
+}
@@ -1,16 +1,22 @@
 package com.playdata.attendanceservice.attendance.repository;
 
+import com.playdata.attendanceservice.attendance.dto.AttendanceSummaryRow;
 import com.playdata.attendanceservice.attendance.entity.Attendance;
 import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
 import com.playdata.attendanceservice.workstatus.entity.WorkStatusType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Attendance 엔티티의 데이터베이스 접근을 위한 리포지토리 인터페이스입니다.
@@ -36,5 +42,41 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
      * @return 해당 조건에 맞는 Attendance 엔티티 목록
      */
     List<Attendance> findByUserIdAndAttendanceDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
-}
 
+    /**
+     * 특정 기간에 근태 기록이 있는 사용자 ID 목록을 조회합니다. (월간 집계 재계산용)
+     *
+     * @param startDate 조회 시작 날짜
+     * @param endDate 조회 종료 날짜
+     * @return 중복 없는 사용자 ID 목록
+     */
+    @Query("SELECT DISTINCT a.userId FROM Attendance a WHERE a.attendanceDate BETWEEN :startDate AND :endDate")
+    List<Long> findDistinctUserIdsByAttendanceDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 기간에 근태 기록이 있는 사용자 ID를 afterUserId 다음부터 오름차순으로 조회합니다. (커서 페이지 조회용)
+     *
+     * @param afterUserId 이전 페이지의 마지막 사용자 ID (처음이면 0)
+     * @param pageable 조회할 사용자 수 (정렬은 무시됨)
+     */
+    @Query("SELECT DISTINCT a.userId FROM Attendance a " +
+           "WHERE a.attendanceDate BETWEEN :startDate AND :endDate AND a.userId > :afterUserId " +
+           "ORDER BY a.userId")
+    List<Long> findUserIdPage(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                              @Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * 여러 사용자의 기간 내 근태 기록을 한 번의 범위 쿼리로 사용자 ID, 날짜 순으로 읽습니다.
+     * 결과는 스트림으로 받아 사용자별로 집계하므로 전체 결과를 메모리에 올리지 않습니다.
+     * 반드시 트랜잭션 안에서 호출하고 사용 후 스트림을 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.playdata.attendanceservice.attendance.dto.AttendanceSummaryRow(" +
+           "a.userId, a.attendanceDate, a.checkInTime, a.checkOutTime, a.goOutTime, ws.id, ws.isLate) " +
+           "FROM Attendance a LEFT JOIN a.workStatus ws " +
+           "WHERE a.userId IN :userIds AND a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY a.userId, a.attendanceDate")
+    Stream<AttendanceSummaryRow> streamSummaryRows(@Param("userIds") List<Long> userIds,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,26 @@
+package com.playdata.attendanceservice.attendance.repository;
+
+import com.playdata.attendanceservice.attendance.entity.BusinessCalendarDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * BusinessCalendarDay 엔티티의 데이터베이스 접근을 위한 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface BusinessCalendarRepository extends JpaRepository<BusinessCalendarDay, LocalDate> {
+
+    long countByCalDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT c.calDate FROM BusinessCalendarDay c WHERE c.calDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findDatesBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(c) FROM BusinessCalendarDay c " +
+           "WHERE c.businessDay = true AND c.calDate BETWEEN :startDate AND :endDate")
+    long countBusinessDaysBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,36 @@
+package com.playdata.attendanceservice.attendance.repository;
+
+import com.playdata.attendanceservice.attendance.dto.FirstYearWorkDaysRow;
+import com.playdata.attendanceservice.attendance.entity.FirstYearLeaveTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * FirstYearLeaveTarget 엔티티의 데이터베이스 접근을 위한 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface FirstYearLeaveTargetRepository extends JpaRepository<FirstYearLeaveTarget, Long> {
+
+    List<FirstYearLeaveTarget> findByRunYearAndRunMonth(int runYear, int runMonth);
+
+    /**
+     * 실행 월의 미부여 대상자 전체에 대해 출근율 계산 기간의 종일/반일 근무일수와 소정근로일수를 한 번에 집계합니다.
+     * 근무 기록은 대상자별 기간으로 조인하고, 소정근로일수는 business_calendar에서 셉니다.
+     */
+    @Query("SELECT new com.playdata.attendanceservice.attendance.dto.FirstYearWorkDaysRow(" +
+           "    t.id, t.userId, t.periodStart, t.periodEnd, " +
+           "    SUM(CASE WHEN ws.workDayType = com.playdata.attendanceservice.attendance.entity.WorkDayType.FULL_DAY THEN 1 ELSE 0 END), " +
+           "    SUM(CASE WHEN ws.workDayType = com.playdata.attendanceservice.attendance.entity.WorkDayType.HALF_DAY THEN 1 ELSE 0 END), " +
+           "    (SELECT COUNT(c) FROM BusinessCalendarDay c " +
+           "      WHERE c.businessDay = true AND c.calDate BETWEEN t.periodStart AND t.periodEnd)) " +
+           "FROM FirstYearLeaveTarget t " +
+           "LEFT JOIN WorkStatus ws ON ws.userId = t.userId AND ws.date BETWEEN t.periodStart AND t.periodEnd " +
+           "WHERE t.runYear = :year AND t.runMonth = :month AND t.granted = false " +
+           "GROUP BY t.id, t.userId, t.periodStart, t.periodEnd " +
+           "ORDER BY t.userId")
+    List<FirstYearWorkDaysRow> sumWorkDays(@Param("year") int year, @Param("month") int month);
+}
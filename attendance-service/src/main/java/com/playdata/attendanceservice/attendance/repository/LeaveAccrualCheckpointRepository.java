@@ -0,0 +1,16 @@
+package com.playdata.attendanceservice.attendance.repository;
+
+import com.playdata.attendanceservice.attendance.entity.LeaveAccrualCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * LeaveAccrualCheckpoint 엔티티의 데이터베이스 접근을 위한 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface LeaveAccrualCheckpointRepository extends JpaRepository<LeaveAccrualCheckpoint, Long> {
+
+    Optional<LeaveAccrualCheckpoint> findByJobNameAndPeriod(String jobName, String period);
+}
@@ -0,0 +1,32 @@
+package com.playdata.attendanceservice.attendance.repository;
+
+import com.playdata.attendanceservice.attendance.entity.LeaveSnapshotInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LeaveSnapshotInvalidation 엔티티의 데이터베이스 접근을 위한 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface LeaveSnapshotInvalidationRepository extends JpaRepository<LeaveSnapshotInvalidation, Long> {
+
+    /**
+     * 마지막으로 읽은 기록 이후의 무효화 기록을 기록 순으로 조회합니다. (기본 키 범위 조회)
+     */
+    List<LeaveSnapshotInvalidation> findByIdGreaterThanOrderByIdAsc(Long afterId);
+
+    /**
+     * 스냅샷이 다시 만들어져 더 이상 필요 없는 오래된 기록을 지웁니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LeaveSnapshotInvalidation i WHERE i.invalidatedAt < :cutoff")
+    int deleteInvalidatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
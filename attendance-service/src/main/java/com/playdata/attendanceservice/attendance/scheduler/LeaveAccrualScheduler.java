@@ -1,24 +1,35 @@
 package com.playdata.attendanceservice.attendance.scheduler;
 
+import com.playdata.attendanceservice.attendance.dto.FirstYearWorkDaysRow;
+import com.playdata.attendanceservice.attendance.entity.FirstYearLeaveTarget;
+import com.playdata.attendanceservice.attendance.entity.LeaveAccrualCheckpoint;
 import com.playdata.attendanceservice.attendance.entity.WorkDayType;
-import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
+import com.playdata.attendanceservice.attendance.repository.FirstYearLeaveTargetRepository;
+import com.playdata.attendanceservice.attendance.repository.LeaveAccrualCheckpointRepository;
+import com.playdata.attendanceservice.attendance.service.BusinessCalendar;
+import com.playdata.attendanceservice.workstatus.dto.WorkDayTypeCount;
 import com.playdata.attendanceservice.workstatus.repository.WorkStatusRepository;
 import com.playdata.attendanceservice.client.HrServiceClient;
 import com.playdata.attendanceservice.client.VacationServiceClient;
 import com.playdata.attendanceservice.client.dto.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.playdata.attendanceservice.common.dto.CommonResDto;
 
@@ -27,180 +38,303 @@ import com.playdata.attendanceservice.common.dto.CommonResDto;
 @RequiredArgsConstructor
 public class LeaveAccrualScheduler {
 
+    static final String MONTHLY_LEAVE_JOB = "MONTHLY_LEAVE";
+    static final String ACCRUAL_TIMER = "leave.accrual.duration";
+    private static final int FIRST_YEAR_LEAVE_DAYS = 15;
+
     private final WorkStatusRepository workStatusRepository;
     private final HrServiceClient hrServiceClient;
     private final VacationServiceClient vacationServiceClient;
+    private final LeaveAccrualCheckpointRepository checkpointRepository;
+    private final FirstYearLeaveTargetRepository firstYearLeaveTargetRepository;
+    private final BusinessCalendar businessCalendar;
+    private final MeterRegistry meterRegistry;
+
+    // 월차 부여 배치의 청크 크기 (사용자 수)
+    @Value("${leave-accrual.chunk-size:500}")
+    private int chunkSize;
 
     @Scheduled(cron = "0 0 1 1 * ?") // 매월 1일 새벽 1시
     public void grantFirstYearAnnualLeave() {
-        LocalDate today = LocalDate.now();
-        int currentYear = today.getYear();
-        int currentMonth = today.getMonthValue();
+        try {
+            grantFirstYearAnnualLeave(YearMonth.now());
+        } catch (Exception e) {
+            log.error("입사 1주년 연차 부여 스케줄 실행 중 오류가 발생했습니다.", e);
+        }
+    }
 
-        log.info("{}년 {}월 기준, 입사 1주년 연차 부여 스케줄을 시작합니다.", currentYear, currentMonth);
+    /**
+     * 1주년 기준일이 runMonth에 속하는 사용자에게 출근율 80% 이상이면 연차 15일을 부여합니다.
+     * 대상자와 출근율 계산 기간(입사일 ~ 1주년 전날)을 first_year_leave_target에 저장한 뒤
+     * 근무 기록/소정근로일 달력과 조인한 집계 쿼리 한 번으로 모든 대상자의 근무일수를 계산하고,
+     * 유급 휴가 조회는 계산 기간별로 한 번, 연차 부여는 일괄 요청 한 번으로 처리합니다.
+     * 실행 시간은 leave.accrual.duration{job=first-year} 타이머로 기록합니다.
+     *
+     * @param runMonth 1주년 기준일이 속한 월 (스케줄 실행 월)
+     * @return 연차를 부여한 사용자 수
+     */
+    public int grantFirstYearAnnualLeave(YearMonth runMonth) {
+        return Timer.builder(ACCRUAL_TIMER)
+                .tag("job", "first-year")
+                .register(meterRegistry)
+                .record(() -> grantFirstYearAnnualLeaveOnce(runMonth));
+    }
 
-        try {
-            // 1. hr-service에서 이번 달에 입사 1주년이 되는 사용자 목록 조회
-            // (hr-service의 getUsersWithFirstAnniversaryInMonth는 입사일이 'year-1'년 'month'월인 사용자를 반환)
-            List<UserDto> users = hrServiceClient.getUsersWithFirstAnniversaryInMonth(currentYear - 1, currentMonth);
-            log.info("총 {}명의 입사 1주년 대상자가 조회되었습니다.", users.size());
-
-            if (users.isEmpty()) {
-                log.info("이번 달에 입사 1주년 대상자가 없습니다. 스케줄을 종료합니다.");
-                return;
+    private int grantFirstYearAnnualLeaveOnce(YearMonth runMonth) {
+        int year = runMonth.getYear();
+        int month = runMonth.getMonthValue();
+        log.info("{}년 {}월 기준, 입사 1주년 연차 부여 스케줄을 시작합니다.", year, month);
+
+        // 1. 이번 달에 입사 1주년이 되는 사용자(입사일이 작년 같은 달)를 대상자로 저장
+        List<FirstYearLeaveTarget> targets = registerFirstYearTargets(runMonth);
+        if (targets.isEmpty()) {
+            log.info("이번 달에 입사 1주년 대상자가 없습니다. 스케줄을 종료합니다.");
+            return 0;
+        }
+
+        // 2. 대상자 전체의 근무일수/소정근로일수를 집계 쿼리 한 번으로 계산
+        LocalDate calendarStart = targets.stream().map(FirstYearLeaveTarget::getPeriodStart).min(LocalDate::compareTo).get();
+        LocalDate calendarEnd = targets.stream().map(FirstYearLeaveTarget::getPeriodEnd).max(LocalDate::compareTo).get();
+        businessCalendar.ensureCovered(calendarStart, calendarEnd);
+        List<FirstYearWorkDaysRow> rows = firstYearLeaveTargetRepository.sumWorkDays(year, month);
+        if (rows.isEmpty()) {
+            log.info("입사 1주년 연차를 이미 모두 처리했습니다.");
+            return 0;
+        }
+
+        // 3. 유급 휴가 일수는 계산 기간(입사일)별로 한 번씩 조회
+        Map<Long, Double> paidVacationDays = new HashMap<>();
+        Map<LocalDate, List<FirstYearWorkDaysRow>> rowsByPeriodStart = new LinkedHashMap<>();
+        for (FirstYearWorkDaysRow row : rows) {
+            rowsByPeriodStart.computeIfAbsent(row.getPeriodStart(), key -> new ArrayList<>()).add(row);
+        }
+        rowsByPeriodStart.forEach((periodStart, periodRows) -> {
+            List<Long> userIds = new ArrayList<>(periodRows.size());
+            for (FirstYearWorkDaysRow row : periodRows) {
+                userIds.add(row.getUserId());
             }
+            Map<Long, Double> result = vacationServiceClient.getApprovedPaidVacationDays(userIds,
+                    periodStart.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    periodRows.get(0).getPeriodEnd().format(DateTimeFormatter.ISO_LOCAL_DATE)).getResult();
+            if (result != null) {
+                paidVacationDays.putAll(result);
+            }
+        });
 
-            DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE;
-
-            for (UserDto user : users) {
-                Long userId = user.getUserId();
-                LocalDate hireDate = user.getHireDate(); // UserDto에 hireDate가 있다고 가정
-
-                // 입사일로부터 1년이 되는 날짜 (연차 발생 기준일)
-                LocalDate anniversaryDate = hireDate.plusYears(1);
-
-                // 연차 발생 기준일이 현재 월에 속하는지 다시 한번 확인 (정확성을 위해)
-                if (anniversaryDate.getYear() == currentYear && anniversaryDate.getMonthValue() == currentMonth) {
-
-                    // 1년간의 출근율 계산 기간 설정 (입사일 ~ 1주년 전날)
-                    LocalDate periodStart = hireDate;
-                    LocalDate periodEnd = anniversaryDate.minusDays(1);
-
-                    log.info("사용자 ID: {}, 입사일: {}, 1주년 기준일: {}. 출근율 계산 기간: {} ~ {}",
-                            userId, hireDate, anniversaryDate, periodStart, periodEnd);
-
-                    // 1년간의 실제 근무일수 계산
-                    List<WorkStatus> workStatuses = workStatusRepository.findByUserIdInAndDateBetween(
-                            List.of(userId),
-                            periodStart,
-                            periodEnd
-                    );
-
-                    double actualWorkDays = workStatuses.stream()
-                            .filter(ws -> ws.getWorkDayType() != null)
-                            .mapToDouble(ws -> {
-                                if (ws.getWorkDayType() == WorkDayType.FULL_DAY) return 1.0;
-                                else if (ws.getWorkDayType() == WorkDayType.HALF_DAY) return 0.5;
-                                else return 0.0;
-                            })
-                            .sum();
-
-                    // 1년간의 유급 휴가 일수 조회
-                    Map<Long, Double> paidVacationDaysMap = vacationServiceClient.getApprovedPaidVacationDays(
-                            List.of(userId),
-                            periodStart.format(formatter),
-                            periodEnd.format(formatter)
-                    ).getResult();
-                    double paidVacationDays = paidVacationDaysMap.getOrDefault(userId, 0.0);
-
-                    // 총 인정 근무일수
-                    double totalAccreditedWorkDays = actualWorkDays + paidVacationDays;
-
-                    // 1년간의 총 소정근로일수 계산 (주말 제외, 공휴일 미고려)
-                    long totalScheduledWorkDays = periodStart.datesUntil(periodEnd.plusDays(1))
-                            .filter(date -> date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY)
-                            .count();
-
-                    // 출근율 계산
-                    double attendanceRate = (totalScheduledWorkDays > 0) ? (totalAccreditedWorkDays / totalScheduledWorkDays) * 100 : 0.0;
-
-                    log.info("사용자 ID: {}. 실제 근무일: {}, 유급 휴가일: {}, 총 인정 근무일: {}, 총 소정근로일: {}, 출근율: {}%",
-                            userId, actualWorkDays, paidVacationDays, totalAccreditedWorkDays, totalScheduledWorkDays, String.format("%.2f", attendanceRate));
-
-                    // 출근율 80% 이상인 경우 15일 연차 부여
-                    if (attendanceRate >= 80.0) {
-                        log.info("사용자 ID: {}. 출근율 {}%로 1주년 연차(15일) 부여 대상입니다.", userId, String.format("%.2f", attendanceRate));
-                        vacationServiceClient.grantAnnualLeave(userId, 15);
-                    } else {
-                        log.info("사용자 ID: {}. 출근율 {}%로 1주년 연차 부여 대상이 아닙니다. (80% 미만)", userId, String.format("%.2f", attendanceRate));
-                    }
-                } else {
-                    log.warn("사용자 ID: {}의 입사 1주년 기준일({})이 현재 스케줄 실행 월({})과 일치하지 않습니다. 건너뜁니다.",
-                            userId, anniversaryDate, today.format(DateTimeFormatter.ofPattern("yyyy-MM")));
-                }
+        // 4. 출근율 계산 후 80% 이상인 사용자에게 일괄 부여
+        Map<Long, FirstYearLeaveTarget> targetsById = new HashMap<>();
+        for (FirstYearLeaveTarget target : targets) {
+            targetsById.put(target.getId(), target);
+        }
+        List<Long> eligibleUserIds = new ArrayList<>();
+        List<FirstYearLeaveTarget> evaluated = new ArrayList<>(rows.size());
+        for (FirstYearWorkDaysRow row : rows) {
+            double accreditedWorkDays = row.getActualWorkDays() + paidVacationDays.getOrDefault(row.getUserId(), 0.0);
+            double attendanceRate = row.getScheduledDays() > 0 ? accreditedWorkDays / row.getScheduledDays() * 100 : 0.0;
+            boolean eligible = attendanceRate >= 80.0;
+            if (eligible) {
+                eligibleUserIds.add(row.getUserId());
             }
+            log.debug("사용자 ID: {}. 실제 근무일: {}, 총 인정 근무일: {}, 총 소정근로일: {}, 출근율: {}%",
+                    row.getUserId(), row.getActualWorkDays(), accreditedWorkDays, row.getScheduledDays(),
+                    String.format("%.2f", attendanceRate));
+            FirstYearLeaveTarget target = targetsById.get(row.getTargetId());
+            target.evaluate(attendanceRate, eligible);
+            evaluated.add(target);
+        }
+        if (!eligibleUserIds.isEmpty()) {
+            // 기준 월 단위로 멱등이므로 평가 결과 저장 전에 실패해 재실행되어도 중복 부여되지 않음
+            vacationServiceClient.grantAnnualLeaveBulk(eligibleUserIds, year, month, FIRST_YEAR_LEAVE_DAYS);
+        }
+        firstYearLeaveTargetRepository.saveAll(evaluated);
 
-            log.info("입사 1주년 연차 부여 스케줄을 성공적으로 완료했습니다.");
+        log.info("입사 1주년 연차 부여 스케줄을 성공적으로 완료했습니다. 대상 {}명, 부여 {}명",
+                rows.size(), eligibleUserIds.size());
+        return eligibleUserIds.size();
+    }
 
-        } catch (Exception e) {
-            log.error("입사 1주년 연차 부여 스케줄 실행 중 오류가 발생했습니다.", e);
+    /**
+     * hr-service에서 1주년 대상자를 조회해 아직 저장되지 않은 사용자를 대상자로 저장하고,
+     * 실행 월의 전체 대상자를 반환합니다.
+     */
+    private List<FirstYearLeaveTarget> registerFirstYearTargets(YearMonth runMonth) {
+        List<FirstYearLeaveTarget> targets = new ArrayList<>(
+                firstYearLeaveTargetRepository.findByRunYearAndRunMonth(runMonth.getYear(), runMonth.getMonthValue()));
+        Set<Long> registered = new HashSet<>();
+        for (FirstYearLeaveTarget target : targets) {
+            registered.add(target.getUserId());
         }
+
+        // hr-service의 getUsersWithFirstAnniversaryInMonth는 입사일이 'year-1'년 'month'월인 사용자를 반환
+        List<UserDto> users = hrServiceClient.getUsersWithFirstAnniversaryInMonth(
+                runMonth.getYear() - 1, runMonth.getMonthValue()).getResult();
+        if (users == null) {
+            users = List.of();
+        }
+        log.info("총 {}명의 입사 1주년 대상자가 조회되었습니다.", users.size());
+
+        List<FirstYearLeaveTarget> newTargets = new ArrayList<>();
+        for (UserDto user : users) {
+            LocalDate hireDate = user.getHireDate();
+            if (user.getUserId() == null || hireDate == null || registered.contains(user.getUserId())) {
+                continue;
+            }
+            // 입사일로부터 1년이 되는 날짜 (연차 발생 기준일)
+            LocalDate anniversaryDate = hireDate.plusYears(1);
+            if (!YearMonth.from(anniversaryDate).equals(runMonth)) {
+                log.warn("사용자 ID: {}의 입사 1주년 기준일({})이 현재 스케줄 실행 월({})과 일치하지 않습니다. 건너뜁니다.",
+                        user.getUserId(), anniversaryDate, runMonth);
+                continue;
+            }
+            newTargets.add(FirstYearLeaveTarget.builder()
+                    .userId(user.getUserId())
+                    .runYear(runMonth.getYear())
+                    .runMonth(runMonth.getMonthValue())
+                    .periodStart(hireDate)
+                    .periodEnd(anniversaryDate.minusDays(1))
+                    .build());
+            registered.add(user.getUserId());
+        }
+        targets.addAll(firstYearLeaveTargetRepository.saveAll(newTargets));
+        return targets;
     }
 
+    /**
+     * 지난달 근무 기록을 기준으로 월차를 부여합니다. (매월 1일 새벽 2시)
+     */
     @Scheduled(cron = "0 0 2 1 * ?")
     public void accrueMonthlyLeave() {
         YearMonth lastMonth = YearMonth.now().minusMonths(1);
-        LocalDate startDate = lastMonth.atDay(1);
-        LocalDate endDate = lastMonth.atEndOfMonth();
-        log.info("{}년 {}월 근무 기록을 기준으로 연차 부여 스케줄을 시작합니다.", lastMonth.getYear(), lastMonth.getMonthValue());
+        try {
+            accrueMonthlyLeave(lastMonth);
+        } catch (Exception e) {
+            log.error("월별 연차 부여 스케줄 실행 중 오류가 발생했습니다. 다음 재시도 시 체크포인트부터 이어서 진행합니다.", e);
+        }
+    }
 
+    /**
+     * 지난달 월차 부여가 중간에 실패해 완료되지 않았으면 체크포인트부터 이어서 진행합니다. (매일 새벽 3시)
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void resumeMonthlyLeave() {
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        boolean unfinished = checkpointRepository.findByJobNameAndPeriod(MONTHLY_LEAVE_JOB, lastMonth.toString())
+                .map(checkpoint -> !checkpoint.isCompleted())
+                .orElse(false);
+        if (!unfinished) {
+            return;
+        }
         try {
-            // 1. 모든 활성 사용자 ID 조회
-            List<Long> allUserIds = hrServiceClient.getAllUserIds().stream()
-                    .map(UserDto::getUserId)
-                    .collect(Collectors.toList());
-
-            if (allUserIds.isEmpty()) {
-                log.info("조회된 사용자 ID가 없습니다. 연차 부여 스케줄을 종료합니다.");
-                return;
+            accrueMonthlyLeave(lastMonth);
+        } catch (Exception e) {
+            log.error("월별 연차 부여 재시도 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 근무 월 기준 월차 부여를 사용자 ID 순 청크 단위로 처리합니다.
+     * 청크마다 사용자 ID 한 페이지 조회, 근무일수 집계 쿼리 한 번, 유급 휴가 조회 한 번, 일괄 부여 요청 한 번을 보내고
+     * 처리가 끝난 청크의 마지막 사용자 ID를 체크포인트로 저장합니다.
+     * 실패 후 다시 실행하면 체크포인트 다음 사용자부터 이어서 처리하며, 이미 완료된 월은 다시 처리하지 않습니다.
+     *
+     * 실행 시간은 leave.accrual.duration{job=monthly} 타이머로 기록합니다.
+     *
+     * @param workMonth 근무 월
+     * @return 이번 실행에서 새로 월차를 부여한 사용자 수
+     */
+    public int accrueMonthlyLeave(YearMonth workMonth) {
+        return Timer.builder(ACCRUAL_TIMER)
+                .tag("job", "monthly")
+                .register(meterRegistry)
+                .record(() -> accrueMonthlyLeaveOnce(workMonth));
+    }
+
+    private int accrueMonthlyLeaveOnce(YearMonth workMonth) {
+        LocalDate startDate = workMonth.atDay(1);
+        LocalDate endDate = workMonth.atEndOfMonth();
+        String period = workMonth.toString();
+
+        LeaveAccrualCheckpoint checkpoint = checkpointRepository.findByJobNameAndPeriod(MONTHLY_LEAVE_JOB, period)
+                .orElseGet(() -> checkpointRepository.save(LeaveAccrualCheckpoint.start(MONTHLY_LEAVE_JOB, period)));
+        if (checkpoint.isCompleted()) {
+            log.info("{}년 {}월 근무분 월차 부여는 이미 완료되었습니다.", workMonth.getYear(), workMonth.getMonthValue());
+            return 0;
+        }
+
+        Long afterUserId = checkpoint.getLastUserId();
+        if (afterUserId > 0) {
+            log.info("{}년 {}월 근무분 월차 부여를 사용자 ID {} 다음부터 이어서 진행합니다. (처리 {}명, 부여 {}명)",
+                    workMonth.getYear(), workMonth.getMonthValue(), afterUserId,
+                    checkpoint.getProcessedCount(), checkpoint.getGrantedCount());
+        } else {
+            log.info("{}년 {}월 근무 기록을 기준으로 연차 부여 스케줄을 시작합니다.", workMonth.getYear(), workMonth.getMonthValue());
+        }
+
+        String start = startDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        String end = endDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        int grantedTotal = 0;
+        while (true) {
+            // 1. 사용자 ID 한 페이지 조회
+            List<Long> userIds = hrServiceClient.getActiveUserIds(afterUserId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            // 2. 청크의 월차 부여 대상 계산 후 한 번에 부여
+            List<Long> eligibleUserIds = findMonthlyLeaveEligibleUsers(userIds, startDate, endDate, start, end);
+            int granted = 0;
+            if (!eligibleUserIds.isEmpty()) {
+                CommonResDto<Integer> response = vacationServiceClient.grantMonthlyLeaveBulk(
+                        eligibleUserIds, workMonth.getYear(), workMonth.getMonthValue());
+                granted = response.getResult() != null ? response.getResult() : 0;
             }
+            grantedTotal += granted;
 
-            // 2. 지난달의 모든 WorkStatus 기록 조회하여 실제 근무일수 계산
-            List<WorkStatus> lastMonthWorkStatuses = workStatusRepository.findByUserIdInAndDateBetween(
-                    allUserIds,
-                    startDate,
-                    endDate
-            );
-
-            Map<Long, Double> actualWorkDays = lastMonthWorkStatuses.stream()
-                    .filter(ws -> ws.getWorkDayType() != null)
-                    .collect(Collectors.groupingBy(
-                            WorkStatus::getUserId,
-                            Collectors.summingDouble(ws -> {
-                                if (ws.getWorkDayType() == WorkDayType.FULL_DAY) {
-                                    return 1.0;
-                                } else if (ws.getWorkDayType() == WorkDayType.HALF_DAY) {
-                                    return 0.5;
-                                } else {
-                                    return 0.0;
-                                }
-                            })
-                    ));
-            log.info("실제 근무일수 계산 결과: {}", actualWorkDays);
-
-            // 3. vacation-service에서 승인된 유급 휴가 일수 조회
-            DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE;
-            CommonResDto<Map<Long, Double>> paidVacationDaysResponse = vacationServiceClient.getApprovedPaidVacationDays(
-                    allUserIds,
-                    startDate.format(formatter),
-                    endDate.format(formatter)
-            );
-            Map<Long, Double> paidVacationDays = paidVacationDaysResponse.getResult();
-            log.info("유급 휴가일수 조회 결과: {}", paidVacationDays);
-
-            // 4. 최종 인정 근무일수 계산 (실제 근무일수 + 유급 휴가일수)
-            Map<Long, Double> totalAccreditedWorkDays = allUserIds.stream()
-                    .collect(Collectors.toMap(
-                            userId -> userId,
-                            userId -> actualWorkDays.getOrDefault(userId, 0.0) + paidVacationDays.getOrDefault(userId, 0.0)
-                    ));
-            log.info("최종 인정 근무일수 계산 결과: {}", totalAccreditedWorkDays);
-
-
-            // 5. 연차 부여 조건(15일 이상)을 충족하는 사용자를 대상으로 연차 부여
-            totalAccreditedWorkDays.forEach((userId, workDays) -> {
-                if (workDays >= 15.0) { // 월 15일 이상 근무 시
-                    log.info("사용자 ID: {}, 최종 인정 근무일수: {}. 월차 부여 대상입니다.", userId, workDays);
-                    vacationServiceClient.grantMonthlyLeave(userId);
-                } else {
-                    log.info("사용자 ID: {}, 최종 인정 근무일수: {}. 월차 부여 대상이 아닙니다. (15일 미만)", userId, workDays);
-                }
-            });
-
-            log.info("월별 연차 부여 스케줄을 성공적으로 완료했습니다.");
+            // 3. 청크 처리 완료를 기록 (일괄 부여는 멱등이므로 기록 직전에 실패해도 재시도 시 중복 부여되지 않음)
+            afterUserId = userIds.get(userIds.size() - 1);
+            checkpoint.advance(afterUserId, userIds.size(), granted);
+            checkpoint = checkpointRepository.save(checkpoint);
+            log.debug("월차 부여 청크 처리 완료. 마지막 사용자 ID: {}, 대상 {}명, 부여 {}명",
+                    afterUserId, eligibleUserIds.size(), granted);
 
-        } catch (Exception e) {
-            log.error("월별 연차 부여 스케줄 실행 중 오류가 발생했습니다.", e);
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        checkpoint.complete();
+        checkpointRepository.save(checkpoint);
+        log.info("월별 연차 부여 스케줄을 성공적으로 완료했습니다. 처리 {}명, 부여 {}명",
+                checkpoint.getProcessedCount(), checkpoint.getGrantedCount());
+        return grantedTotal;
+    }
+
+    /**
+     * 청크 사용자 중 실제 근무일수와 유급 휴가 일수를 더한 인정 근무일수가 15일 이상인 사용자를 찾습니다.
+     */
+    private List<Long> findMonthlyLeaveEligibleUsers(List<Long> userIds, LocalDate startDate, LocalDate endDate,
+                                                     String start, String end) {
+        // 실제 근무일수 (종일 1일, 반일 0.5일)
+        Map<Long, Double> actualWorkDays = new HashMap<>();
+        for (WorkDayTypeCount row : workStatusRepository.countWorkDayTypes(userIds, startDate, endDate)) {
+            double weight = row.getWorkDayType() == WorkDayType.FULL_DAY ? 1.0
+                    : row.getWorkDayType() == WorkDayType.HALF_DAY ? 0.5 : 0.0;
+            actualWorkDays.merge(row.getUserId(), weight * row.getCount(), Double::sum);
+        }
+
+        // 승인된 유급 휴가 일수
+        Map<Long, Double> paidVacationDays = vacationServiceClient.getApprovedPaidVacationDays(userIds, start, end).getResult();
+        if (paidVacationDays == null) {
+            paidVacationDays = Map.of();
+        }
+
+        List<Long> eligibleUserIds = new ArrayList<>();
+        for (Long userId : userIds) {
+            double workDays = actualWorkDays.getOrDefault(userId, 0.0) + paidVacationDays.getOrDefault(userId, 0.0);
+            if (workDays >= 15.0) { // 월 15일 이상 근무 시
+                eligibleUserIds.add(userId);
+            }
         }
+        return eligibleUserIds;
     }
 }
@@ -0,0 +1,48 @@
+package com.playdata.attendanceservice.attendance.scheduler;
+
+import com.playdata.attendanceservice.attendance.service.LeaveScheduleSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 당일 휴가/외부 일정 스냅샷을 자정마다, 그리고 서비스 기동 직후 한 번 갱신합니다.
+ * 다른 인스턴스가 받은 결재 승인 알림은 sync-interval-ms마다 읽어 스냅샷에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaveSnapshotScheduler {
+
+    private final LeaveScheduleSnapshot leaveScheduleSnapshot;
+
+    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정
+    public void refreshDailySnapshot() {
+        LocalDate today = LocalDate.now();
+        leaveScheduleSnapshot.refresh(today);
+        try {
+            leaveScheduleSnapshot.purgeInvalidations(today);
+        } catch (Exception e) {
+            log.warn("지난 휴가 스냅샷 무효화 기록 정리 실패. error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.leave-snapshot.sync-interval-ms:5000}")
+    public void syncInvalidations() {
+        try {
+            leaveScheduleSnapshot.syncInvalidations();
+        } catch (Exception e) {
+            log.warn("휴가 스냅샷 무효화 동기화 실패. 다음 주기에 다시 시도합니다. error={}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        leaveScheduleSnapshot.refresh(LocalDate.now());
+    }
+}
@@ -0,0 +1,205 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.entity.Attendance;
+import com.playdata.attendanceservice.attendance.entity.AttendanceMonthlySummary;
+import com.playdata.attendanceservice.attendance.repository.AttendanceMonthlySummaryRepository;
+import com.playdata.attendanceservice.attendance.repository.AttendanceRepository;
+import com.playdata.attendanceservice.common.util.WorkTimeCalculator;
+import com.playdata.attendanceservice.common.util.WorkTimes;
+import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 월간 근태 집계(attendance_monthly_summary)를 유지합니다.
+ * 출근/외출/퇴근은 호출한 트랜잭션 안에서 증분으로 반영하고,
+ * 집계 행이 아직 없거나 근무 상태가 정정된 경우에는 해당 월의 근태 기록으로 다시 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceMonthlySummaryUpdater {
+
+    private final AttendanceMonthlySummaryRepository summaryRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    /**
+     * 출근 기록을 집계에 반영합니다. (출근 일수, 지각 횟수)
+     */
+    @Transactional
+    public void onCheckIn(Attendance attendance) {
+        if (attendance.getWorkStatus() == null) {
+            return;
+        }
+        YearMonth yearMonth = YearMonth.from(attendance.getAttendanceDate());
+        long lateDelta = attendance.getWorkStatus().isLate() ? 1 : 0;
+        int updated = summaryRepository.addCheckIn(attendance.getUserId(),
+                yearMonth.getYear(), yearMonth.getMonthValue(), lateDelta);
+        if (updated == 0) {
+            rebuild(attendance.getUserId(), yearMonth);
+        }
+    }
+
+    /**
+     * 외출 기록을 집계에 반영합니다. 하루에 한 번만 외출할 수 있으므로 1씩 더합니다.
+     */
+    @Transactional
+    public void onGoOut(Attendance attendance) {
+        YearMonth yearMonth = YearMonth.from(attendance.getAttendanceDate());
+        int updated = summaryRepository.addGoOut(attendance.getUserId(), yearMonth.getYear(), yearMonth.getMonthValue());
+        if (updated == 0) {
+            rebuild(attendance.getUserId(), yearMonth);
+        }
+    }
+
+    /**
+     * 퇴근 시 계산한 당일 근무 시간을 집계에 더합니다.
+     *
+     * @param attendance 퇴근이 기록된 근태
+     * @param workTimes 당일 근무 시간
+     */
+    @Transactional
+    public void onCheckOut(Attendance attendance, WorkTimes workTimes) {
+        YearMonth yearMonth = YearMonth.from(attendance.getAttendanceDate());
+        int updated = summaryRepository.addWorkMinutes(attendance.getUserId(),
+                yearMonth.getYear(), yearMonth.getMonthValue(),
+                workTimes.getTotalWorkMinutes(), workTimes.getNormalWorkMinutes(),
+                workTimes.getOvertimeWorkMinutes(), workTimes.getNightWorkMinutes(),
+                workTimes.getHolidayWorkMinutes());
+        if (updated == 0) {
+            rebuild(attendance.getUserId(), yearMonth);
+        }
+    }
+
+    /**
+     * 근태 기록을 기준으로 사용자의 월간 집계를 다시 계산해 저장합니다.
+     * 근무 상태 정정처럼 증분으로 반영하기 어려운 변경 후에 호출합니다.
+     */
+    @Transactional
+    public AttendanceMonthlySummary rebuild(Long userId, YearMonth yearMonth) {
+        AttendanceMonthlySummary computed = compute(userId, yearMonth);
+        AttendanceMonthlySummary summary = summaryRepository
+                .findByUserIdAndSummaryYearAndSummaryMonth(userId, yearMonth.getYear(), yearMonth.getMonthValue())
+                .orElse(null);
+        if (summary == null) {
+            return summaryRepository.save(computed);
+        }
+        summary.overwrite(computed);
+        return summary;
+    }
+
+    /**
+     * 해당 월에 근태 기록이 있는 모든 사용자의 집계를 다시 계산합니다.
+     *
+     * @return 재계산한 사용자 수
+     */
+    @Transactional
+    public int rebuildMonth(YearMonth yearMonth) {
+        List<Long> userIds = attendanceRepository.findDistinctUserIdsByAttendanceDateBetween(
+                yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        for (Long userId : userIds) {
+            rebuild(userId, yearMonth);
+        }
+        log.info("월간 근태 집계 재계산 완료. yearMonth={}, 사용자 수={}", yearMonth, userIds.size());
+        return userIds.size();
+    }
+
+    /**
+     * 저장된 월간 집계를 조회합니다. 아직 집계 행이 없으면 근태 기록으로 계산한 값을 저장하지 않고 돌려줍니다.
+     */
+    @Transactional(readOnly = true)
+    public AttendanceMonthlySummary find(Long userId, YearMonth yearMonth) {
+        return summaryRepository
+                .findByUserIdAndSummaryYearAndSummaryMonth(userId, yearMonth.getYear(), yearMonth.getMonthValue())
+                .orElseGet(() -> compute(userId, yearMonth));
+    }
+
+    /**
+     * 근태 기록으로 월간 집계를 계산합니다. (저장하지 않음)
+     * 집계 기준은 기존 월별 근태 / 개인 통계 API와 같습니다.
+     */
+    @Transactional(readOnly = true)
+    public AttendanceMonthlySummary compute(Long userId, YearMonth yearMonth) {
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+        List<Attendance> attendances = attendanceRepository.findByUserIdAndAttendanceDateBetween(userId, startDate, endDate);
+
+        Accumulator accumulator = new Accumulator(userId, yearMonth);
+        for (Attendance attendance : attendances) {
+            WorkStatus workStatus = attendance.getWorkStatus();
+            accumulator.add(workStatus != null, workStatus != null && workStatus.isLate(), attendance.getGoOutTime() != null,
+                    attendance.getCheckInTime(), attendance.getCheckOutTime(), attendance.getAttendanceDate());
+        }
+        return accumulator.toSummary();
+    }
+
+    /**
+     * 근태 기록 한 건씩 더해 사용자 한 명의 월간 집계를 만듭니다.
+     * 엔티티 목록(compute)과 대량 조회 스트림(여러 사용자 일괄 조회)에서 같은 집계 기준을 쓰기 위해 분리했습니다.
+     */
+    public static final class Accumulator {
+        private final Long userId;
+        private final YearMonth yearMonth;
+        private long attendanceCount, lateCount, goOutCount;
+        private long total, normal, overtime, night, holiday;
+
+        public Accumulator(Long userId, YearMonth yearMonth) {
+            this.userId = userId;
+            this.yearMonth = yearMonth;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        /**
+         * @param hasWorkStatus WorkStatus가 있는 근태 기록이면 출근 일수에 포함
+         * @param late 지각 여부
+         * @param wentOut 외출 기록 여부
+         * @param checkOut 퇴근 시간 (null이면 근무 시간에 포함하지 않음)
+         */
+        public void add(boolean hasWorkStatus, boolean late, boolean wentOut,
+                        LocalDateTime checkIn, LocalDateTime checkOut, LocalDate attendanceDate) {
+            if (hasWorkStatus) {
+                attendanceCount++;
+                if (late) {
+                    lateCount++;
+                }
+            }
+            if (wentOut) {
+                goOutCount++;
+            }
+            if (checkOut != null) {
+                WorkTimes workTimes = WorkTimeCalculator.calculate(checkIn, checkOut, attendanceDate);
+                total += workTimes.getTotalWorkMinutes();
+                normal += workTimes.getNormalWorkMinutes();
+                overtime += workTimes.getOvertimeWorkMinutes();
+                night += workTimes.getNightWorkMinutes();
+                holiday += workTimes.getHolidayWorkMinutes();
+            }
+        }
+
+        public AttendanceMonthlySummary toSummary() {
+            return AttendanceMonthlySummary.builder()
+                    .userId(userId)
+                    .summaryYear(yearMonth.getYear())
+                    .summaryMonth(yearMonth.getMonthValue())
+                    .attendanceCount(attendanceCount)
+                    .lateCount(lateCount)
+                    .goOutCount(goOutCount)
+                    .totalWorkMinutes(total)
+                    .normalWorkMinutes(normal)
+                    .overtimeWorkMinutes(overtime)
+                    .nightWorkMinutes(night)
+                    .holidayWorkMinutes(holiday)
+                    .build();
+        }
+    }
+}
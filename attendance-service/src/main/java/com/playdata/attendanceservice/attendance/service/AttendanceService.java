@@ -1,6 +1,7 @@
 package com.playdata.attendanceservice.attendance.service;
 
 import com.playdata.attendanceservice.attendance.dto.AttendanceResDto;
+import com.playdata.attendanceservice.attendance.dto.MonthlySummaryResDto;
 import com.playdata.attendanceservice.attendance.dto.PersonalAttendanceStatsDto;
 import com.playdata.attendanceservice.attendance.dto.WorkTimeDto;
 import com.playdata.attendanceservice.attendance.entity.Attendance;
@@ -9,6 +10,7 @@ import com.playdata.attendanceservice.common.dto.CommonResDto;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AttendanceService {
 
@@ -41,4 +43,13 @@ public interface AttendanceService {
     CommonResDto<List<com.playdata.attendanceservice.client.dto.Vacation>> getPersonalMonthlyHalfDayVacations(Long userId, int year, int month);
 
     String getLateThreshold();
+
+    void invalidateLeaveSnapshot(Long userId);
+
+    MonthlySummaryResDto getMonthlySummary(Long userId, int year, int month);
+
+    int rebuildMonthlySummaries(int year, int month);
+
+    void streamMonthlySummaries(int year, int month, List<Long> userIds, Long afterUserId, int size,
+                                Consumer<MonthlySummaryResDto> consumer);
 }
\ No newline at end of file
@@ -1,16 +1,18 @@
 package com.playdata.attendanceservice.attendance.service;
 
 import com.playdata.attendanceservice.attendance.dto.AttendanceResDto;
+import com.playdata.attendanceservice.attendance.dto.AttendanceSummaryRow;
+import com.playdata.attendanceservice.attendance.dto.MonthlySummaryResDto;
 import com.playdata.attendanceservice.attendance.dto.PersonalAttendanceStatsDto;
 import com.playdata.attendanceservice.attendance.dto.WorkTimeDto;
 import com.playdata.attendanceservice.attendance.entity.Attendance;
+import com.playdata.attendanceservice.attendance.entity.AttendanceMonthlySummary;
 import com.playdata.attendanceservice.attendance.entity.WorkDayType;
 import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
 import com.playdata.attendanceservice.workstatus.entity.WorkStatusType;
 import com.playdata.attendanceservice.attendance.repository.AttendanceRepository;
 import com.playdata.attendanceservice.workstatus.repository.WorkStatusRepository;
 import com.playdata.attendanceservice.client.ApprovalServiceClient;
-import com.playdata.attendanceservice.client.HrServiceClient;
 import com.playdata.attendanceservice.client.VacationServiceClient;
 import com.playdata.attendanceservice.client.dto.MonthlyVacationStatsDto;
 import com.playdata.attendanceservice.common.dto.CommonResDto;
@@ -20,20 +22,28 @@ import com.playdata.attendanceservice.common.exception.AlreadyCheckedOutExceptio
 import com.playdata.attendanceservice.common.exception.AlreadyOnLeaveException;
 import com.playdata.attendanceservice.common.constants.WorkConstants; // WorkConstants import 추가
 import com.playdata.attendanceservice.common.util.WorkTimeCalculator; // WorkTimeCalculator import로 변경
+import com.playdata.attendanceservice.common.util.WorkTimes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -43,9 +53,16 @@ public class AttendanceServiceImpl implements AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
     private final WorkStatusRepository workStatusRepository;
-    private final HrServiceClient hrServiceClient;
     private final VacationServiceClient vacationServiceClient;
     private final ApprovalServiceClient approvalServiceClient;
+    private final InitialStatusLookup initialStatusLookup;
+    private final LeaveScheduleSnapshot leaveScheduleSnapshot;
+    private final TransactionTemplate transactionTemplate;
+    private final AttendanceMonthlySummaryUpdater monthlySummaryUpdater;
+    private final TodayAttendanceCache todayAttendanceCache;
+
+    // 월간 집계 일괄 조회 시 한 번의 IN 절에 넣을 최대 사용자 수
+    private static final int BULK_SUMMARY_MAX_USERS = 1000;
 
     @Value("${standard.checkin.time}")
     private String standardCheckInTimeStr;
@@ -54,79 +71,97 @@ public class AttendanceServiceImpl implements AttendanceService {
     private String standardCheckOutTimeStr;
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Attendance recordCheckIn(Long userId, String ipAddress) {
         return recordCheckIn(userId, ipAddress, LocalDateTime.now());
     }
 
+    /**
+     * 원격 조회(HR 외부 일정, 승인 휴가)는 트랜잭션 밖에서 먼저 수행하고,
+     * 저장 단계에서만 짧게 트랜잭션을 열어 DB 커넥션을 원격 응답 대기 동안 붙잡지 않도록 합니다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Attendance recordCheckIn(Long userId, String ipAddress, LocalDateTime checkInDateTime) {
         // 1. 이미 오늘 출근 기록이 있는지 확인
-            attendanceRepository.findByUserIdAndAttendanceDate(userId, checkInDateTime.toLocalDate())
-                    .ifPresent(attendance -> {
-                        throw new AttendanceAlreadyExistsException("이미 오늘 출근 기록이 존재합니다. (User ID: " + userId + ", Date: " + checkInDateTime.toLocalDate() + ")");
-                    });
-
-            // 2. Attendance 엔티티 생성
-            Attendance attendance = Attendance.builder()
-                    .userId(userId)
-                    .attendanceDate(checkInDateTime.toLocalDate())
-                    .ipAddress(ipAddress)
-                    .build();
-
-            attendance.updateCheckInTime(checkInDateTime);
-
-            // 3. 초기 WorkStatusType 및 지각 여부 결정
-            Map<String, Object> statusInfo = determineInitialWorkStatus(userId, checkInDateTime);
-            WorkStatusType initialStatusType = (WorkStatusType) statusInfo.get("statusType");
-            boolean isLate = (boolean) statusInfo.get("isLate");
-
-            // 4. WorkStatus 엔티티 생성 및 Attendance와 연결
-            WorkStatus workStatus = WorkStatus.builder()
-                    .userId(userId)
-                    .date(checkInDateTime.toLocalDate())
-                    .statusType(initialStatusType)
-                    .reason(null) // 초기에는 사유 없음
-                    .checkInTime(checkInDateTime)
-                    .isLate(isLate)
-                    .build();
-
-            attendance.setWorkStatus(workStatus); // Attendance와 WorkStatus 양방향 연결
-
-            try {
+        attendanceRepository.findByUserIdAndAttendanceDate(userId, checkInDateTime.toLocalDate())
+                .ifPresent(attendance -> {
+                    todayAttendanceCache.evict(userId);
+                    throw new AttendanceAlreadyExistsException("이미 오늘 출근 기록이 존재합니다. (User ID: " + userId + ", Date: " + checkInDateTime.toLocalDate() + ")");
+                });
+
+        // 2. 초기 WorkStatusType 및 지각 여부 결정 (원격 조회는 동시에 수행)
+        InitialStatusLookup.Result lookupResult = initialStatusLookup.lookup(userId, checkInDateTime.toLocalDate());
+        Map<String, Object> statusInfo = determineInitialWorkStatus(userId, checkInDateTime, lookupResult);
+        WorkStatusType initialStatusType = (WorkStatusType) statusInfo.get("statusType");
+        boolean isLate = (boolean) statusInfo.get("isLate");
+
+        Attendance checkedIn;
+        try {
+            checkedIn = transactionTemplate.execute(status -> {
+                // 3. Attendance 엔티티 생성
+                Attendance attendance = Attendance.builder()
+                        .userId(userId)
+                        .attendanceDate(checkInDateTime.toLocalDate())
+                        .ipAddress(ipAddress)
+                        .build();
+
+                attendance.updateCheckInTime(checkInDateTime);
+
+                // 4. WorkStatus 엔티티 생성 및 Attendance와 연결
+                WorkStatus workStatus = WorkStatus.builder()
+                        .userId(userId)
+                        .date(checkInDateTime.toLocalDate())
+                        .statusType(initialStatusType)
+                        .reason(null) // 초기에는 사유 없음
+                        .checkInTime(checkInDateTime)
+                        .isLate(isLate)
+                        .build();
+
+                attendance.setWorkStatus(workStatus); // Attendance와 WorkStatus 양방향 연결
+
                 // 5. Attendance 및 WorkStatus 저장
-                Attendance savedAttendance = attendanceRepository.save(attendance);
+                // ID를 테이블 생성기로 미리 받으므로 save만으로는 INSERT가 커밋 시점까지 미뤄집니다.
+                // 바로 flush해서 중복 출근(유니크 제약 위반)이 이 트랜잭션 안에서 드러나게 합니다.
+                Attendance savedAttendance = attendanceRepository.saveAndFlush(attendance);
                 workStatusRepository.save(workStatus); // WorkStatus는 Attendance 저장 시 Cascade로 저장되지만, 명시적으로 저장하여 관계를 확실히 합니다.
+                monthlySummaryUpdater.onCheckIn(savedAttendance);
 
                 log.info("출근 기록 및 WorkStatus 저장 완료. Attendance ID: {}, User ID: {}, CheckInTime: {}, WorkStatusType: {}",
                         savedAttendance.getId(), userId, savedAttendance.getCheckInTime(), initialStatusType);
 
                 return savedAttendance;
-            } catch (DataIntegrityViolationException e) {
-                log.warn("출근 기록 중복 시도 감지. User ID: {}, Date: {}. 에러: {}", userId, checkInDateTime.toLocalDate(), e.getMessage());
-                throw new AttendanceAlreadyExistsException("이미 오늘 출근 기록이 존재합니다. (User ID: " + userId + ", Date: " + checkInDateTime.toLocalDate() + ")", e);
-            }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // flush 또는 커밋 시점의 제약 위반 모두 트랜잭션 경계 밖인 여기서 409로 변환합니다.
+            log.warn("출근 기록 중복 시도 감지. User ID: {}, Date: {}. 에러: {}", userId, checkInDateTime.toLocalDate(), e.getMessage());
+            todayAttendanceCache.evict(userId);
+            throw new AttendanceAlreadyExistsException("이미 오늘 출근 기록이 존재합니다. (User ID: " + userId + ", Date: " + checkInDateTime.toLocalDate() + ")", e);
+        }
+        // 저장 트랜잭션은 이미 커밋되었으므로 바로 캐시에 반영됩니다.
+        todayAttendanceCache.putAfterCommit(checkedIn, toResDto(checkedIn));
+        return checkedIn;
     }
 
     /**
      * 사용자의 초기 근무 상태(WorkStatusType) 및 지각 여부를 결정합니다.
-     * 외부 스케줄(출장, 병가 등) 또는 승인된 휴가(연차, 반차)가 있는지 확인하고,
-     * 해당 사항이 없으면 출근 시간 기준으로 지각 여부를 판단합니다.
+     * 외부 스케줄(출장, 병가 등)이 승인된 휴가(연차, 반차)보다 우선하며,
+     * 둘 다 없으면 출근 시간 기준으로 지각 여부를 판단합니다.
      *
      * @param userId 사용자 ID
      * @param checkInDateTime 출근 시각 (LocalDateTime)
+     * @param lookupResult InitialStatusLookup으로 동시에 조회한 외부 일정/승인 휴가
      * @return WorkStatusType과 isLate를 포함하는 Map
      */
-    private Map<String, Object> determineInitialWorkStatus(Long userId, LocalDateTime checkInDateTime) {
+    private Map<String, Object> determineInitialWorkStatus(Long userId, LocalDateTime checkInDateTime,
+                                                           InitialStatusLookup.Result lookupResult) {
         WorkStatusType initialStatusType = WorkStatusType.REGULAR;
         boolean isLate = false;
-        LocalDate today = checkInDateTime.toLocalDate();
         LocalTime currentCheckInTime = checkInDateTime.toLocalTime();
         LocalTime standardCheckInTime = LocalTime.parse(standardCheckInTimeStr);
 
         // 1. HR 서비스에서 승인된 외부 스케줄(출장, 병가 등) 확인
-        String externalScheduleType = hrServiceClient.getApprovedExternalScheduleType(userId, today.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        String externalScheduleType = lookupResult.getExternalScheduleType();
         if (externalScheduleType != null) {
             log.debug("User {} has approved external schedule: {}", userId, externalScheduleType);
             switch (externalScheduleType) {
@@ -154,7 +189,7 @@ public class AttendanceServiceImpl implements AttendanceService {
             }
         } else {
             // 2. Approval 서비스에서 승인된 휴가(연차, 반차) 확인
-            String approvedLeaveType = approvalServiceClient.getApprovedLeaveType(userId, today.format(DateTimeFormatter.ISO_LOCAL_DATE));
+            String approvedLeaveType = lookupResult.getApprovedLeaveType();
             if (approvedLeaveType != null) {
                 log.debug("User {} has approved leave: {}", userId, approvedLeaveType);
                 WorkStatusType leaveStatusType = getWorkStatusTypeFromApprovedLeaveType(approvedLeaveType);
@@ -203,8 +238,11 @@ public class AttendanceServiceImpl implements AttendanceService {
         log.info("Attendance 퇴근 시간 업데이트 및 저장 완료. Attendance ID: {}, User ID: {}, CheckOutTime: {}",
                 savedAttendance.getId(), userId, savedAttendance.getCheckOutTime());
 
-        // 4. WorkStatus 업데이트
-        updateWorkStatusOnCheckOut(savedAttendance, checkOutDateTime);
+        // 4. 근무 시간 계산 후 WorkStatus, 월간 집계 업데이트
+        WorkTimes workTimes = WorkTimeCalculator.calculate(savedAttendance.getCheckInTime(), checkOutDateTime, savedAttendance.getAttendanceDate());
+        updateWorkStatusOnCheckOut(savedAttendance, checkOutDateTime, workTimes);
+        monthlySummaryUpdater.onCheckOut(savedAttendance, workTimes);
+        todayAttendanceCache.putAfterCommit(savedAttendance, toResDto(savedAttendance));
 
         return savedAttendance;
     }
@@ -215,8 +253,9 @@ public class AttendanceServiceImpl implements AttendanceService {
      *
      * @param attendance 업데이트할 Attendance 엔티티
      * @param checkOutDateTime 퇴근 시각 (LocalDateTime)
+     * @param workTimes 당일 근무 시간
      */
-    private void updateWorkStatusOnCheckOut(Attendance attendance, LocalDateTime checkOutDateTime) {
+    private void updateWorkStatusOnCheckOut(Attendance attendance, LocalDateTime checkOutDateTime, WorkTimes workTimes) {
         Optional<WorkStatus> optionalWorkStatus = workStatusRepository.findByAttendanceId(attendance.getId());
 
         if (optionalWorkStatus.isPresent()) {
@@ -226,8 +265,11 @@ public class AttendanceServiceImpl implements AttendanceService {
             LocalTime currentCheckOutTime = checkOutDateTime.toLocalTime();
             LocalTime standardCheckOutTime = LocalTime.parse(standardCheckOutTimeStr);
 
-            // 1. 승인된 휴가 타입 확인 (오후 반차, 조퇴 등)
-            String approvedLeaveType = approvalServiceClient.getApprovedLeaveType(attendance.getUserId(), checkOutDateTime.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE));
+            // 1. 승인된 휴가 타입 확인 (오후 반차, 조퇴 등). 당일 스냅샷에 있으면 원격 호출을 생략합니다.
+            LocalDate checkOutDate = checkOutDateTime.toLocalDate();
+            String approvedLeaveType = leaveScheduleSnapshot.find(attendance.getUserId(), checkOutDate)
+                    .map(InitialStatusLookup.Result::getApprovedLeaveType)
+                    .orElseGet(() -> approvalServiceClient.getApprovedLeaveType(attendance.getUserId(), checkOutDate.format(DateTimeFormatter.ISO_LOCAL_DATE)));
             if (approvedLeaveType != null) {
                 log.debug("User {} has approved leave on check-out: {}", attendance.getUserId(), approvedLeaveType);
                 WorkStatusType leaveStatusType = getWorkStatusTypeFromApprovedLeaveType(approvedLeaveType);
@@ -244,12 +286,11 @@ public class AttendanceServiceImpl implements AttendanceService {
             }
 
             // 3. 근무 시간 계산 및 WorkDayType 설정
-                        Map<String, Duration> workTimes = WorkTimeCalculator.calculateWorkTimes(attendance.getCheckInTime(), checkOutDateTime, attendance.getAttendanceDate());
-            Duration totalWorkDuration = workTimes.get("totalWorkTime");
+            long totalWorkMinutes = workTimes.getTotalWorkMinutes();
 
-            if (totalWorkDuration.toHours() >= 8) {
+            if (totalWorkMinutes >= 8 * 60) {
                 workStatus.setWorkDayType(WorkDayType.FULL_DAY);
-            } else if (totalWorkDuration.toHours() >= 4) {
+            } else if (totalWorkMinutes >= 4 * 60) {
                 workStatus.setWorkDayType(WorkDayType.HALF_DAY);
             } else {
                 workStatus.setWorkDayType(WorkDayType.NONE); // 4시간 미만 근무 시
@@ -272,19 +313,7 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         List<Attendance> monthlyAttendances = attendanceRepository.findByUserIdAndAttendanceDateBetween(userId, startDate, endDate);
 
-        return monthlyAttendances.stream().map(attendance -> {
-            if (attendance.getCheckOutTime() != null) {
-                Map<String, Duration> workTimes = WorkTimeCalculator.calculateWorkTimes(attendance.getCheckInTime(), attendance.getCheckOutTime(), attendance.getAttendanceDate());
-                return AttendanceResDto.from(attendance,
-                        WorkTimeCalculator.formatDuration(workTimes.get("totalWorkTime")),
-                        WorkTimeCalculator.formatDuration(workTimes.get("normalWorkTime")),
-                        WorkTimeCalculator.formatDuration(workTimes.get("overtimeWorkTime")),
-                        WorkTimeCalculator.formatDuration(workTimes.get("nightWorkTime"))
-                );
-            } else {
-                return AttendanceResDto.from(attendance, null, null, null, null);
-            }
-        }).collect(Collectors.toList());
+        return monthlyAttendances.stream().map(this::toResDto).collect(Collectors.toList());
     }
 
     @Override
@@ -310,6 +339,7 @@ public class AttendanceServiceImpl implements AttendanceService {
         Attendance savedAttendance = attendanceRepository.save(attendance);
         log.info("외출 기록 완료. Attendance ID: {}, User ID: {}, GoOutTime: {}",
                 savedAttendance.getId(), userId, savedAttendance.getGoOutTime());
+        monthlySummaryUpdater.onGoOut(savedAttendance);
 
         // 5. WorkStatus 업데이트 (지각이 아닌 경우에만 외출 상태로 변경)
         WorkStatus workStatus = savedAttendance.getWorkStatus();
@@ -322,6 +352,7 @@ public class AttendanceServiceImpl implements AttendanceService {
         } else {
             log.warn("Attendance ID {}에 해당하는 WorkStatus를 찾을 수 없습니다. WorkStatus 업데이트를 건너뜁니다.", savedAttendance.getId());
         }
+        todayAttendanceCache.putAfterCommit(savedAttendance, toResDto(savedAttendance));
 
         return savedAttendance;
     }
@@ -362,48 +393,31 @@ public class AttendanceServiceImpl implements AttendanceService {
         } else {
             log.warn("Attendance ID {}에 해당하는 WorkStatus를 찾을 수 없습니다. WorkStatus 업데이트를 건너뜁니다.", savedAttendance.getId());
         }
+        todayAttendanceCache.putAfterCommit(savedAttendance, toResDto(savedAttendance));
 
         return savedAttendance;
     }
 
+    /**
+     * 오늘 근태 스냅샷의 epoch 값으로 계산하므로, 캐시 적중 시에는 DB 조회 없이 응답합니다.
+     */
     @Override
     @Transactional(readOnly = true)
     public WorkTimeDto getRemainingWorkTime(Long userId) {
-        LocalDate today = LocalDate.now();
-        Optional<Attendance> optionalAttendance = attendanceRepository.findByUserIdAndAttendanceDate(userId, today);
+        TodayAttendanceCache.Snapshot snapshot = findTodaySnapshot(userId);
 
-        if (optionalAttendance.isEmpty()) {
+        if (!snapshot.isCheckedIn()) {
             return new WorkTimeDto("08:00", "00:00");
         }
 
-        Attendance attendance = optionalAttendance.get();
-        LocalDateTime checkInTime = attendance.getCheckInTime();
-        LocalDateTime now = LocalDateTime.now();
-
-        Duration actualWorkedDuration;
+        // 퇴근했으면 퇴근 시간까지, 아니면 현재 시간까지의 실제 근무 시간
+        Duration actualWorkedDuration = snapshot.workedDuration(todayAttendanceCache.currentMillis());
+        String workedTime = WorkTimeCalculator.formatDuration(actualWorkedDuration);
 
-        if (attendance.getCheckOutTime() != null) {
-            // 퇴근 시간이 기록된 경우, 퇴근 시간까지의 실제 근무 시간 계산
-            actualWorkedDuration = WorkTimeCalculator.calculateActualWorkedDuration(
-                    checkInTime,
-                    attendance.getCheckOutTime(),
-                    attendance.getGoOutTime(),
-                    attendance.getReturnTime()
-            );
-            String workedTime = WorkTimeCalculator.formatDuration(actualWorkedDuration);
+        if (snapshot.isCheckedOut()) {
             return new WorkTimeDto("00:00", workedTime); // 퇴근했으므로 남은 근무 시간은 0
-        } else {
-            // 퇴근 시간이 기록되지 않은 경우, 현재 시간까지의 실제 근무 시간 계산
-            actualWorkedDuration = WorkTimeCalculator.calculateActualWorkedDuration(
-                    checkInTime,
-                    now,
-                    attendance.getGoOutTime(),
-                    attendance.getReturnTime()
-            );
         }
 
-        String workedTime = WorkTimeCalculator.formatDuration(actualWorkedDuration);
-
         long standardWorkMinutes = WorkConstants.STANDARD_WORK_HOURS * 60;
         long remainingMinutesRounded = standardWorkMinutes - actualWorkedDuration.toMinutes();
 
@@ -411,55 +425,61 @@ public class AttendanceServiceImpl implements AttendanceService {
             remainingMinutesRounded = 0;
         }
 
-        String remainingTime = WorkTimeCalculator.formatDuration(Duration.ofMinutes(remainingMinutesRounded));
+        String remainingTime = WorkTimeCalculator.formatMinutes(remainingMinutesRounded);
 
         return new WorkTimeDto(remainingTime, workedTime);
     }
 
-    
-
     @Override
     @Transactional(readOnly = true)
     public Optional<AttendanceResDto> getTodayAttendance(Long userId) {
-        LocalDate today = LocalDate.now();
-        Optional<Attendance> optionalAttendance = attendanceRepository.findByUserIdAndAttendanceDate(userId, today);
-
-        return optionalAttendance.map(attendance -> {
-            if (attendance.getCheckOutTime() != null) {
-                Map<String, Duration> workTimes = WorkTimeCalculator.calculateWorkTimes(attendance.getCheckInTime(), attendance.getCheckOutTime(), attendance.getAttendanceDate());
-                return AttendanceResDto.from(attendance,
-                        WorkTimeCalculator.formatDuration(workTimes.get("totalWorkTime")),
-                        WorkTimeCalculator.formatDuration(workTimes.get("normalWorkTime")),
-                        WorkTimeCalculator.formatDuration(workTimes.get("overtimeWorkTime")),
-                        WorkTimeCalculator.formatDuration(workTimes.get("nightWorkTime"))
-                );
-            } else {
-                return AttendanceResDto.from(attendance, null, null, null, null);
-            }
-        });
+        return Optional.ofNullable(findTodaySnapshot(userId).getView());
+    }
+
+    /**
+     * 오늘 근태 스냅샷을 캐시에서 찾고, 없으면 (user_id, attendance_date) 유니크 인덱스로 한 건 조회해 채웁니다.
+     * 출근 전 상태(기록 없음)도 캐시하므로 출근 전 폴링도 DB를 거치지 않습니다.
+     */
+    private TodayAttendanceCache.Snapshot findTodaySnapshot(Long userId) {
+        LocalDate today = todayAttendanceCache.today();
+        TodayAttendanceCache.Snapshot cached = todayAttendanceCache.find(userId, today);
+        if (cached != null) {
+            return cached;
+        }
+        long ticket = todayAttendanceCache.ticket();
+        Attendance attendance = attendanceRepository.findByUserIdAndAttendanceDate(userId, today).orElse(null);
+        return todayAttendanceCache.fill(userId, today, attendance,
+                attendance != null ? toResDto(attendance) : null, ticket);
+    }
+
+    /**
+     * 근태 기록을 응답 DTO로 변환합니다. 퇴근한 날은 근무 시간을 함께 계산합니다.
+     */
+    private AttendanceResDto toResDto(Attendance attendance) {
+        if (attendance.getCheckOutTime() != null) {
+            WorkTimes workTimes = WorkTimeCalculator.calculate(attendance.getCheckInTime(), attendance.getCheckOutTime(), attendance.getAttendanceDate());
+            return AttendanceResDto.from(attendance,
+                    WorkTimeCalculator.formatMinutes(workTimes.getTotalWorkMinutes()),
+                    WorkTimeCalculator.formatMinutes(workTimes.getNormalWorkMinutes()),
+                    WorkTimeCalculator.formatMinutes(workTimes.getOvertimeWorkMinutes()),
+                    WorkTimeCalculator.formatMinutes(workTimes.getNightWorkMinutes())
+            );
+        }
+        return AttendanceResDto.from(attendance, null, null, null, null);
     }
 
     @Override
     public PersonalAttendanceStatsDto getPersonalAttendanceStats(Long userId, int year, int month) {
-        List<Attendance> monthlyAttendances = attendanceRepository.findByUserIdAndAttendanceDateBetween(userId, YearMonth.of(year, month).atDay(1), YearMonth.of(year, month).atEndOfMonth());
-
-        long attendanceCount = monthlyAttendances.stream()
-                .filter(a -> a.getWorkStatus() != null)
-                .count();
-        long lateCount = monthlyAttendances.stream()
-                .filter(a -> a.getWorkStatus() != null && a.getWorkStatus().isLate())
-                .count();
-        long goOutCount = monthlyAttendances.stream()
-                .filter(a -> a.getGoOutTime() != null)
-                .count();
+        // 출근/지각/외출 횟수는 월간 집계 한 행에서 읽습니다.
+        AttendanceMonthlySummary summary = monthlySummaryUpdater.find(userId, YearMonth.of(year, month));
 
         CommonResDto<MonthlyVacationStatsDto> vacationStatsResponse = vacationServiceClient.getMonthlyVacationStats(userId, year, month);
         MonthlyVacationStatsDto vacationStats = vacationStatsResponse.getResult();
 
         return PersonalAttendanceStatsDto.builder()
-                .attendanceCount(attendanceCount)
-                .lateCount(lateCount)
-                .goOutCount(goOutCount)
+                .attendanceCount(summary.getAttendanceCount())
+                .lateCount(summary.getLateCount())
+                .goOutCount(summary.getGoOutCount())
                 .fullDayVacationCount(vacationStats.getFullDayVacations())
                 .halfDayVacationCount(vacationStats.getHalfDayVacations())
                 .build();
@@ -487,6 +507,76 @@ public class AttendanceServiceImpl implements AttendanceService {
         return standardCheckInTimeStr;
     }
 
+    @Override
+    public void invalidateLeaveSnapshot(Long userId) {
+        leaveScheduleSnapshot.invalidate(userId);
+    }
+
+    @Override
+    public MonthlySummaryResDto getMonthlySummary(Long userId, int year, int month) {
+        return MonthlySummaryResDto.from(monthlySummaryUpdater.find(userId, YearMonth.of(year, month)));
+    }
+
+    @Override
+    @Transactional
+    public int rebuildMonthlySummaries(int year, int month) {
+        return monthlySummaryUpdater.rebuildMonth(YearMonth.of(year, month));
+    }
+
+    /**
+     * 여러 사용자의 월간 집계를 근태 기록 범위 쿼리로 계산해 사용자 ID 순으로 하나씩 넘깁니다.
+     * userIds가 비어 있으면 afterUserId 다음 사용자부터 size명을 대상으로 합니다. (커서 페이지)
+     * 근태 기록이 없는 사용자는 결과에 포함되지 않습니다.
+     *
+     * consumer는 응답 스트림에 쓰므로 느린 클라이언트를 기다리는 동안 DB 연결을 잡고 있지 않도록,
+     * 최대 BULK_SUMMARY_MAX_USERS명 단위로 짧은 읽기 트랜잭션에서 집계한 뒤 트랜잭션 밖에서 consumer에 넘깁니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamMonthlySummaries(int year, int month, List<Long> userIds, Long afterUserId, int size,
+                                       Consumer<MonthlySummaryResDto> consumer) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+
+        List<Long> targetUserIds = userIds != null && !userIds.isEmpty()
+                ? userIds
+                : attendanceRepository.findUserIdPage(startDate, endDate,
+                        afterUserId != null ? afterUserId : 0L, PageRequest.of(0, Math.max(1, Math.min(size, BULK_SUMMARY_MAX_USERS))));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        // IN 절이 너무 길어지지 않도록 나눠서 조회합니다.
+        for (int from = 0; from < targetUserIds.size(); from += BULK_SUMMARY_MAX_USERS) {
+            List<Long> chunk = targetUserIds.subList(from, Math.min(from + BULK_SUMMARY_MAX_USERS, targetUserIds.size()));
+            List<MonthlySummaryResDto> summaries = readOnly.execute(status -> summarizeChunk(chunk, yearMonth, startDate, endDate));
+            summaries.forEach(consumer);
+        }
+    }
+
+    private List<MonthlySummaryResDto> summarizeChunk(List<Long> chunk, YearMonth yearMonth, LocalDate startDate, LocalDate endDate) {
+        List<MonthlySummaryResDto> summaries = new ArrayList<>();
+        try (Stream<AttendanceSummaryRow> rows = attendanceRepository.streamSummaryRows(chunk, startDate, endDate)) {
+            AttendanceMonthlySummaryUpdater.Accumulator current = null;
+            for (Iterator<AttendanceSummaryRow> it = rows.iterator(); it.hasNext(); ) {
+                AttendanceSummaryRow row = it.next();
+                if (current == null || !current.getUserId().equals(row.getUserId())) {
+                    if (current != null) {
+                        summaries.add(MonthlySummaryResDto.from(current.toSummary()));
+                    }
+                    current = new AttendanceMonthlySummaryUpdater.Accumulator(row.getUserId(), yearMonth);
+                }
+                current.add(row.getWorkStatusId() != null, Boolean.TRUE.equals(row.getLate()), row.getGoOutTime() != null,
+                        row.getCheckInTime(), row.getCheckOutTime(), row.getAttendanceDate());
+            }
+            if (current != null) {
+                summaries.add(MonthlySummaryResDto.from(current.toSummary()));
+            }
+        }
+        return summaries;
+    }
+
     /**
      * 승인된 휴가 타입 문자열을 WorkStatusType으로 변환합니다.
      *
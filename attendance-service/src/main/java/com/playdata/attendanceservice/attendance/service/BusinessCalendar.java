@@ -0,0 +1,47 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.entity.BusinessCalendarDay;
+import com.playdata.attendanceservice.attendance.repository.BusinessCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 소정근로일 달력(business_calendar)을 관리합니다.
+ * 조회 기간에 달력 행이 빠져 있으면 주말 기준 기본값으로 채운 뒤 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessCalendar {
+
+    private final BusinessCalendarRepository businessCalendarRepository;
+
+    /**
+     * 기간의 모든 날짜에 달력 행이 있도록 빠진 날짜를 채웁니다. 이미 있는 행(공휴일 설정 등)은 건드리지 않습니다.
+     */
+    @Transactional
+    public void ensureCovered(LocalDate startDate, LocalDate endDate) {
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days <= 0 || businessCalendarRepository.countByCalDateBetween(startDate, endDate) == days) {
+            return;
+        }
+        Set<LocalDate> existing = new HashSet<>(businessCalendarRepository.findDatesBetween(startDate, endDate));
+        List<BusinessCalendarDay> missing = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!existing.contains(date)) {
+                missing.add(BusinessCalendarDay.of(date));
+            }
+        }
+        businessCalendarRepository.saveAll(missing);
+        log.info("소정근로일 달력 {}일 추가. 기간: {} ~ {}", missing.size(), startDate, endDate);
+    }
+}
@@ -0,0 +1,121 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import com.playdata.attendanceservice.common.auth.CallerContext;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 출근 시 초기 근무 상태를 정하는 데 필요한 HR 외부 일정, 결재 승인 휴가를 조회합니다.
+ * 당일 스냅샷(LeaveScheduleSnapshot)으로 판단할 수 있으면 원격 호출 없이 돌려주고,
+ * 그렇지 않으면 두 원격 조회를 동시에 수행합니다.
+ * 두 조회는 공통 마감 시각(deadline) 안에서 각자의 타임아웃을 가지며,
+ * 실패하거나 시간 안에 응답하지 않은 조회는 "해당 없음(null)"으로 간주해 출근 처리 자체는 막지 않습니다.
+ */
+@Component
+@Slf4j
+public class InitialStatusLookup {
+
+    private final HrServiceClient hrServiceClient;
+    private final ApprovalServiceClient approvalServiceClient;
+    private final LeaveScheduleSnapshot leaveScheduleSnapshot;
+    private final Duration deadline;
+    private final Duration hrTimeout;
+    private final Duration approvalTimeout;
+    // 원격 호출 대기 동안 플랫폼 스레드를 점유하지 않도록 가상 스레드에서 실행합니다.
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public InitialStatusLookup(HrServiceClient hrServiceClient,
+                               ApprovalServiceClient approvalServiceClient,
+                               LeaveScheduleSnapshot leaveScheduleSnapshot,
+                               @Value("${attendance.check-in.lookup.deadline:1500ms}") Duration deadline,
+                               @Value("${attendance.check-in.lookup.hr-timeout:1000ms}") Duration hrTimeout,
+                               @Value("${attendance.check-in.lookup.approval-timeout:1000ms}") Duration approvalTimeout) {
+        this.hrServiceClient = hrServiceClient;
+        this.approvalServiceClient = approvalServiceClient;
+        this.leaveScheduleSnapshot = leaveScheduleSnapshot;
+        this.deadline = deadline;
+        this.hrTimeout = hrTimeout;
+        this.approvalTimeout = approvalTimeout;
+    }
+
+    /**
+     * 지정한 날짜의 외부 일정 타입과 승인된 휴가 타입을 동시에 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param date 조회할 날짜
+     * @return 두 조회 결과 (조회 실패 또는 해당 없음은 null)
+     */
+    public Result lookup(Long userId, LocalDate date) {
+        Optional<Result> cached = leaveScheduleSnapshot.find(userId, date);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        leaveScheduleSnapshot.clearStale(userId);
+
+        String dateStr = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        Future<String> externalSchedule = submit(() -> hrServiceClient.getApprovedExternalScheduleType(userId, dateStr));
+        Future<String> approvedLeave = submit(() -> approvalServiceClient.getApprovedLeaveType(userId, dateStr));
+
+        Result result = new Result(
+                await(externalSchedule, "hr-service", hrTimeout, deadlineNanos, userId),
+                await(approvedLeave, "approval-service", approvalTimeout, deadlineNanos, userId));
+        // 두 조회가 모두 성공한 경우에만 스냅샷에 반영합니다. (실패로 "해당 없음"이 된 결과는 다음에 다시 조회)
+        if (externalSchedule.state() == Future.State.SUCCESS && approvedLeave.state() == Future.State.SUCCESS) {
+            leaveScheduleSnapshot.update(userId, date, result);
+        }
+        return result;
+    }
+
+    private Future<String> submit(Supplier<String> call) {
+        // Feign 인터셉터가 X-User-* 헤더를 전달할 수 있도록 호출자 컨텍스트를 작업 스레드로 넘깁니다.
+        return executor.submit(CallerContext.wrap(call)::get);
+    }
+
+    private String await(Future<String> future, String dependency, Duration timeout, long deadlineNanos, Long userId) {
+        long waitNanos = Math.min(timeout.toNanos(), deadlineNanos - System.nanoTime());
+        try {
+            return future.get(Math.max(waitNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("{} lookup timed out for user {}. Treating as none.", dependency, userId);
+        } catch (ExecutionException e) {
+            log.warn("{} lookup failed for user {}. Treating as none. cause={}", dependency, userId, e.getCause().toString());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            log.warn("{} lookup interrupted for user {}. Treating as none.", dependency, userId);
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        public static final Result NONE = new Result(null, null);
+
+        // HR 서비스에서 승인된 외부 일정 타입 (출장, 병가 등)
+        private final String externalScheduleType;
+        // 결재 서비스에서 승인된 휴가 타입 (연차, 반차 등)
+        private final String approvedLeaveType;
+    }
+}
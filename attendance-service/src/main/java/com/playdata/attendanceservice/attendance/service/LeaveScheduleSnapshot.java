@@ -0,0 +1,171 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.entity.LeaveSnapshotInvalidation;
+import com.playdata.attendanceservice.attendance.repository.LeaveSnapshotInvalidationRepository;
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 하루 동안의 승인 휴가 / 외부 일정을 메모리에 보관하는 스냅샷입니다.
+ * 자정에 approval-service, hr-service에서 당일 데이터를 한 번에 받아 사용자 ID 정렬 배열로 보관하므로,
+ * 출근/퇴근 시 대부분의 사용자는 원격 호출 없이 이진 탐색으로 상태를 결정할 수 있습니다.
+ *
+ * 결재 승인 알림(invalidate)을 받은 사용자는 stale로 표시해 다음 조회 때 원격으로 다시 확인하고,
+ * 그 결과는 overrides에 보관해 이후 조회에 사용합니다.
+ *
+ * 알림은 여러 인스턴스 중 한 곳에만 도착하므로 leave_snapshot_invalidation 테이블에도 기록하고,
+ * 각 인스턴스는 syncInvalidations()로 마지막으로 읽은 기록 이후의 무효화를 주기적으로 가져와 같은 사용자를 stale로 표시합니다.
+ * 따라서 다른 인스턴스의 스냅샷에는 최대 동기화 주기만큼 늦게 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaveScheduleSnapshot {
+
+    private final HrServiceClient hrServiceClient;
+    private final ApprovalServiceClient approvalServiceClient;
+    private final LeaveSnapshotInvalidationRepository invalidationRepository;
+
+    private volatile Day current;
+    private final Set<Long> staleUsers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, InitialStatusLookup.Result> overrides = new ConcurrentHashMap<>();
+    // 이 인스턴스가 마지막으로 읽은 무효화 기록 ID (syncInvalidations는 스케줄러 스레드 하나에서만 호출)
+    private volatile long lastInvalidationId = 0L;
+
+    /**
+     * 지정한 날짜의 스냅샷을 새로 받아 교체합니다. 조회에 실패하면 기존 스냅샷을 비워
+     * 출근/퇴근 시 원격 조회로 대체되도록 합니다.
+     */
+    public void refresh(LocalDate date) {
+        String dateStr = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        try {
+            Map<Long, String> externalSchedules = hrServiceClient.getApprovedExternalScheduleTypes(dateStr);
+            Map<Long, String> approvedLeaves = approvalServiceClient.getApprovedLeaveTypes(dateStr);
+            Day day = new Day(date, externalSchedules, approvedLeaves);
+            // stale 표시는 그대로 두어, 갱신 도중 들어온 결재 알림도 원격 재조회로 반영되게 합니다.
+            overrides.clear();
+            current = day;
+            log.info("휴가/외부 일정 스냅샷 갱신 완료. date={}, 사용자 수={}", date, day.userIds.length);
+        } catch (Exception e) {
+            current = null;
+            log.warn("휴가/외부 일정 스냅샷 갱신 실패. 원격 조회로 대체합니다. date={}, error={}", date, e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷에서 사용자의 당일 외부 일정/승인 휴가를 찾습니다.
+     *
+     * @return 스냅샷으로 판단할 수 있으면 결과, 스냅샷이 없거나 다른 날짜이거나 갱신 대기 중인 사용자면 empty
+     */
+    public Optional<InitialStatusLookup.Result> find(Long userId, LocalDate date) {
+        Day day = current;
+        if (day == null || !day.date.equals(date) || staleUsers.contains(userId)) {
+            return Optional.empty();
+        }
+        InitialStatusLookup.Result override = overrides.get(userId);
+        if (override != null) {
+            return Optional.of(override);
+        }
+        return Optional.of(day.find(userId));
+    }
+
+    /**
+     * 원격으로 다시 조회한 결과를 스냅샷에 반영합니다. (오늘 스냅샷에 한함)
+     */
+    public void update(Long userId, LocalDate date, InitialStatusLookup.Result result) {
+        Day day = current;
+        if (day != null && day.date.equals(date)) {
+            overrides.put(userId, result);
+        }
+    }
+
+    /**
+     * 결재 승인 등으로 사용자의 휴가 정보가 바뀌었을 때 호출합니다.
+     * 다음 조회는 원격 호출로 최신 값을 확인하며, 다른 인스턴스도 syncInvalidations()로 같은 사용자를 stale로 표시합니다.
+     */
+    public void invalidate(Long userId) {
+        markStale(userId);
+        invalidationRepository.save(LeaveSnapshotInvalidation.of(userId));
+    }
+
+    /**
+     * 다른 인스턴스가 기록한 무효화를 읽어 이 인스턴스의 스냅샷에도 반영합니다.
+     *
+     * @return 새로 읽은 무효화 기록 수
+     */
+    public int syncInvalidations() {
+        List<LeaveSnapshotInvalidation> invalidations = invalidationRepository.findByIdGreaterThanOrderByIdAsc(lastInvalidationId);
+        for (LeaveSnapshotInvalidation invalidation : invalidations) {
+            markStale(invalidation.getUserId());
+            lastInvalidationId = invalidation.getId();
+        }
+        return invalidations.size();
+    }
+
+    /**
+     * 전날 이전의 무효화 기록을 지웁니다. 그 승인은 당일 스냅샷을 새로 받을 때 이미 반영됩니다.
+     */
+    public void purgeInvalidations(LocalDate today) {
+        int deleted = invalidationRepository.deleteInvalidatedBefore(today.minusDays(1).atStartOfDay());
+        log.info("지난 휴가 스냅샷 무효화 기록 {}건을 지웠습니다.", deleted);
+    }
+
+    private void markStale(Long userId) {
+        overrides.remove(userId);
+        staleUsers.add(userId);
+    }
+
+    /**
+     * stale 표시를 지우고 원격 재조회를 시작할 때 호출합니다.
+     * 재조회 도중 다시 invalidate되면 stale이 다시 설정되어 다음 조회도 원격으로 확인합니다.
+     */
+    public void clearStale(Long userId) {
+        staleUsers.remove(userId);
+    }
+
+    /**
+     * 하루치 스냅샷. 사용자 ID를 정렬한 배열과 같은 순서의 값 배열로 보관합니다.
+     */
+    private static final class Day {
+        private final LocalDate date;
+        private final long[] userIds;
+        private final String[] externalScheduleTypes;
+        private final String[] approvedLeaveTypes;
+
+        private Day(LocalDate date, Map<Long, String> externalSchedules, Map<Long, String> approvedLeaves) {
+            TreeSet<Long> ids = new TreeSet<>(externalSchedules.keySet());
+            ids.addAll(approvedLeaves.keySet());
+
+            this.date = date;
+            this.userIds = new long[ids.size()];
+            this.externalScheduleTypes = new String[ids.size()];
+            this.approvedLeaveTypes = new String[ids.size()];
+            int i = 0;
+            for (Long id : ids) {
+                userIds[i] = id;
+                // 종류 문자열은 몇 가지뿐이므로 intern으로 같은 인스턴스를 공유합니다.
+                String schedule = externalSchedules.get(id);
+                String leave = approvedLeaves.get(id);
+                externalScheduleTypes[i] = schedule != null ? schedule.intern() : null;
+                approvedLeaveTypes[i] = leave != null ? leave.intern() : null;
+                i++;
+            }
+        }
+
+        private InitialStatusLookup.Result find(long userId) {
+            int index = Arrays.binarySearch(userIds, userId);
+            if (index < 0) {
+                return InitialStatusLookup.Result.NONE;
+            }
+            return new InitialStatusLookup.Result(externalScheduleTypes[index], approvedLeaveTypes[index]);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.dto.AttendanceResDto;
+import com.playdata.attendanceservice.attendance.entity.Attendance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 "오늘" 근태 기록을 메모리에 보관하는 write-through 캐시입니다.
+ * 대시보드가 몇 초마다 호출하는 오늘 근태 / 남은 근무 시간 조회를 DB 대신 이 캐시로 처리합니다.
+ *
+ * 출근/퇴근/외출/복귀는 커밋이 끝난 뒤 새 스냅샷으로 덮어쓰고, 조회 시 캐시에 없으면 DB에서 읽어 채웁니다.
+ * 조회로 채우는 값은 읽기 시작 시점의 순번(ticket)을 가지므로, 그 사이에 기록된 더 최신 스냅샷을 덮어쓰지 않습니다.
+ * 다른 인스턴스에서 기록한 변경은 알 수 없으므로 항목은 max-age가 지나면 DB에서 다시 읽습니다.
+ * 날짜가 바뀌면 어제 항목은 적중으로 인정하지 않습니다.
+ *
+ * 항목의 나이는 벽시계가 아니라 System.nanoTime 기준으로 재므로, 서버 시각이 조정되어도 만료가 앞당겨지거나 늦춰지지 않습니다.
+ * 적중/미스 횟수, 적중률, 적중 시 항목의 나이(staleness)는 actuator metrics(attendance.today.cache)로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class TodayAttendanceCache {
+
+    private static final String METRIC_NAME = "attendance.today.cache";
+
+    // epoch 값이 없음을 나타내는 값 (출근 기록이 없거나 아직 퇴근/외출/복귀하지 않은 경우)
+    static final long NONE = Long.MIN_VALUE;
+
+    private final Map<Long, Snapshot> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private final Clock clock;
+    private final LongSupplier nanoTicker;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer stalenessTimer;
+
+    public TodayAttendanceCache(@Value("${attendance.today-cache.max-size:50000}") int maxSize,
+                                @Value("${attendance.today-cache.max-age-seconds:60}") long maxAgeSeconds,
+                                MeterRegistry meterRegistry) {
+        this(maxSize, Duration.ofSeconds(maxAgeSeconds), meterRegistry, Clock.systemDefaultZone(), System::nanoTime);
+    }
+
+    TodayAttendanceCache(int maxSize, Duration maxAge, MeterRegistry meterRegistry, Clock clock, LongSupplier nanoTicker) {
+        this.maxSize = maxSize;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.clock = clock;
+        this.nanoTicker = nanoTicker;
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("오늘 근태 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("오늘 근태 캐시 미스 횟수")
+                .register(meterRegistry);
+        this.stalenessTimer = Timer.builder(METRIC_NAME + ".staleness")
+                .description("캐시 적중 시 항목이 마지막으로 기록/조회된 뒤 지난 시간")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", entries, Map::size)
+                .description("현재 캐시에 보관 중인 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".hit.ratio", this, TodayAttendanceCache::hitRatio)
+                .description("오늘 근태 캐시 적중률 (0 ~ 1)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 기준의 오늘 날짜입니다.
+     */
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * 남은 근무 시간 계산에 사용할 현재 시각(epoch millis)입니다.
+     */
+    public long currentMillis() {
+        return clock.millis();
+    }
+
+    /**
+     * 사용자의 오늘 스냅샷을 찾습니다.
+     *
+     * @return 만료되지 않은 오늘 스냅샷, 없으면 null
+     */
+    public Snapshot find(Long userId, LocalDate today) {
+        Snapshot snapshot = entries.get(userId);
+        if (snapshot == null) {
+            missCounter.increment();
+            return null;
+        }
+        long age = nanoTicker.getAsLong() - snapshot.cachedAtNanos;
+        if (!snapshot.date.equals(today) || age > maxAgeNanos) {
+            entries.remove(userId, snapshot);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        stalenessTimer.record(Math.max(age, 0), TimeUnit.NANOSECONDS);
+        return snapshot;
+    }
+
+    /**
+     * DB 조회 직전에 받아 두는 순번입니다. fill()에 그대로 넘깁니다.
+     */
+    public long ticket() {
+        return sequence.get();
+    }
+
+    /**
+     * DB에서 읽은 오늘 근태로 캐시를 채웁니다.
+     * 읽는 도중 출근/퇴근 등이 먼저 기록되었다면 그 스냅샷을 유지하고 돌려줍니다.
+     *
+     * @param attendance 오늘 근태 기록, 없으면 null (출근 전 상태도 캐시합니다)
+     * @param view 조회 응답으로 돌려줄 DTO, 기록이 없으면 null
+     * @param ticket 조회 직전에 ticket()으로 받은 순번
+     * @return 캐시에 남은 스냅샷
+     */
+    public Snapshot fill(Long userId, LocalDate today, Attendance attendance, AttendanceResDto view, long ticket) {
+        Snapshot loaded = new Snapshot(today, attendance, view, clock.getZone(), ticket, nanoTicker.getAsLong());
+        if (!hasRoomFor(userId)) {
+            return loaded;
+        }
+        return entries.compute(userId, (id, existing) ->
+                existing != null && existing.date.equals(today) && existing.sequence > ticket ? existing : loaded);
+    }
+
+    /**
+     * 근태 변경 트랜잭션이 커밋된 뒤 스냅샷을 덮어씁니다.
+     * 트랜잭션 밖에서 호출하면 바로 반영하고, 롤백되면 기존 항목을 그대로 둡니다.
+     * 오늘이 아닌 날짜의 기록은 캐시하지 않습니다.
+     */
+    public void putAfterCommit(Attendance attendance, AttendanceResDto view) {
+        Long userId = attendance.getUserId();
+        LocalDate date = attendance.getAttendanceDate();
+        // 커밋 뒤에 엔티티 값이 바뀌어도 영향이 없도록 값은 지금 복사해 둡니다.
+        Snapshot pending = new Snapshot(date, attendance, view, clock.getZone(), 0, 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(userId, pending);
+                }
+            });
+        } else {
+            put(userId, pending);
+        }
+    }
+
+    /**
+     * 사용자의 항목을 지웁니다. 다음 조회는 DB에서 다시 읽습니다.
+     */
+    public void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void put(Long userId, Snapshot pending) {
+        long seq = sequence.incrementAndGet();
+        if (!pending.date.equals(today())) {
+            return;
+        }
+        if (!hasRoomFor(userId)) {
+            entries.remove(userId);
+            return;
+        }
+        entries.put(userId, pending.stamped(seq, nanoTicker.getAsLong()));
+    }
+
+    /**
+     * 최대 크기를 넘으면 오늘이 아닌 항목을 먼저 정리하고, 그래도 공간이 없으면 캐시하지 않습니다.
+     */
+    private boolean hasRoomFor(Long userId) {
+        if (entries.size() < maxSize || entries.containsKey(userId)) {
+            return true;
+        }
+        LocalDate today = today();
+        entries.values().removeIf(snapshot -> !snapshot.date.equals(today));
+        if (entries.size() >= maxSize) {
+            log.debug("Today attendance cache is full ({}). Skipping cache for user {}.", maxSize, userId);
+            return false;
+        }
+        return true;
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    /**
+     * 한 사용자의 오늘 근태 스냅샷. 시각은 epoch millis로 보관하여 남은 근무 시간을 객체 생성 없이 계산합니다.
+     */
+    public static final class Snapshot {
+        private final LocalDate date;
+        private final long checkInMillis;
+        private final long checkOutMillis;
+        private final long goOutMillis;
+        private final long returnMillis;
+        private final AttendanceResDto view;
+        private final long sequence;
+        private final long cachedAtNanos;
+
+        private Snapshot(LocalDate date, Attendance attendance, AttendanceResDto view, ZoneId zone,
+                         long sequence, long cachedAtNanos) {
+            this.date = date;
+            this.checkInMillis = attendance != null ? toEpochMillis(attendance.getCheckInTime(), zone) : NONE;
+            this.checkOutMillis = attendance != null ? toEpochMillis(attendance.getCheckOutTime(), zone) : NONE;
+            this.goOutMillis = attendance != null ? toEpochMillis(attendance.getGoOutTime(), zone) : NONE;
+            this.returnMillis = attendance != null ? toEpochMillis(attendance.getReturnTime(), zone) : NONE;
+            this.view = view;
+            this.sequence = sequence;
+            this.cachedAtNanos = cachedAtNanos;
+        }
+
+        private Snapshot(Snapshot source, long sequence, long cachedAtNanos) {
+            this.date = source.date;
+            this.checkInMillis = source.checkInMillis;
+            this.checkOutMillis = source.checkOutMillis;
+            this.goOutMillis = source.goOutMillis;
+            this.returnMillis = source.returnMillis;
+            this.view = source.view;
+            this.sequence = sequence;
+            this.cachedAtNanos = cachedAtNanos;
+        }
+
+        private Snapshot stamped(long sequence, long cachedAtNanos) {
+            return new Snapshot(this, sequence, cachedAtNanos);
+        }
+
+        /**
+         * 오늘 출근 기록이 있는지 여부
+         */
+        public boolean isCheckedIn() {
+            return checkInMillis != NONE;
+        }
+
+        public boolean isCheckedOut() {
+            return checkOutMillis != NONE;
+        }
+
+        /**
+         * 오늘 근태 조회 응답. 출근 기록이 없으면 null입니다.
+         */
+        public AttendanceResDto getView() {
+            return view;
+        }
+
+        /**
+         * 외출 시간을 뺀 실제 근무 시간을 계산합니다. 퇴근했으면 퇴근 시각까지, 아니면 nowMillis까지 계산합니다.
+         * 기준은 WorkTimeCalculator.calculateActualWorkedDuration()과 같으며,
+         * 서버 간 시각 차이로 nowMillis가 출근 시각보다 앞서더라도 음수가 되지 않습니다.
+         */
+        public Duration workedDuration(long nowMillis) {
+            if (!isCheckedIn()) {
+                return Duration.ZERO;
+            }
+            long endMillis = isCheckedOut() ? checkOutMillis : nowMillis;
+            long worked = endMillis - checkInMillis;
+            if (goOutMillis != NONE) {
+                // 복귀하지 않았으면 종료 시각까지를 외출 시간으로 봅니다.
+                worked -= (returnMillis != NONE ? returnMillis : endMillis) - goOutMillis;
+            }
+            return Duration.ofMillis(Math.max(worked, 0));
+        }
+
+        private static long toEpochMillis(LocalDateTime dateTime, ZoneId zone) {
+            return dateTime != null ? dateTime.atZone(zone).toInstant().toEpochMilli() : NONE;
+        }
+    }
+}
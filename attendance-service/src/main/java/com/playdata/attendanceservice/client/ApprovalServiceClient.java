@@ -7,6 +7,8 @@ import com.playdata.attendanceservice.client.dto.ApprovalRequestResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @FeignClient(name = "approval-service")
 public interface ApprovalServiceClient {
 
@@ -66,6 +68,14 @@ public interface ApprovalServiceClient {
     @GetMapping("/approvals/leaves/approved-type")
     String getApprovedLeaveType(@RequestParam("userId") Long userId, @RequestParam("date") String date);
 
+    /**
+     * 특정 날짜에 승인된 휴가의 종류를 사용자별로 한 번에 조회합니다.
+     * @param date 확인할 날짜
+     * @return 사용자 ID별 승인된 휴가 종류 (휴가가 없는 사용자는 포함되지 않음)
+     */
+    @GetMapping("/approvals/feign/leaves/approved-types")
+    Map<Long, String> getApprovedLeaveTypes(@RequestParam("date") String date);
+
     /**
      * 특정 결재 요청을 취소합니다.
      * @param approvalRequestId 취소할 결재 요청 ID
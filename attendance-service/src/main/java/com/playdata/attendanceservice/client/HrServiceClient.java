@@ -2,6 +2,7 @@ package com.playdata.attendanceservice.client;
 
 import com.playdata.attendanceservice.client.dto.UserDetailDto;
 import com.playdata.attendanceservice.client.dto.UserDto;
+import com.playdata.attendanceservice.common.dto.CommonResDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * HR 서비스와 통신하기 위한 Feign 클라이언트 인터페이스입니다.
@@ -38,17 +40,29 @@ public interface HrServiceClient {
     UserDetailDto getUserDetails(@PathVariable("id") Long id);
 
     /**
-     * 모든 사용자의 ID를 조회합니다.
-     * HR 서비스의 /api/v1/hr/users/all-ids 엔드포인트를 호출합니다.
+     * 재직 중인 사용자 ID를 ID 순으로 한 페이지씩 조회합니다.
+     * HR 서비스의 /hr/users/feign/active-ids 엔드포인트를 호출합니다.
      *
-     * @return 모든 사용자의 ID 리스트
+     * @param afterEmployeeNo 이전 페이지의 마지막 사용자 ID (첫 페이지는 0)
+     * @param size 페이지 크기
+     * @return afterEmployeeNo보다 큰 사용자 ID 목록 (오름차순)
      */
-    @GetMapping("/api/v1/hr/users/all-ids")
-    List<UserDto> getAllUserIds();
+    @GetMapping("/hr/users/feign/active-ids")
+    List<Long> getActiveUserIds(@RequestParam("afterEmployeeNo") Long afterEmployeeNo,
+                                @RequestParam("size") int size);
 
     @GetMapping("/hr/schedules/approved-type")
     String getApprovedExternalScheduleType(@RequestParam("userId") Long userId, @RequestParam("date") String date);
 
+    /**
+     * 특정 날짜에 승인된 외부 일정 타입을 사용자별로 한 번에 조회합니다.
+     *
+     * @param date 조회할 날짜 (YYYY-MM-DD 형식)
+     * @return 사용자 ID별 외부 일정 타입 (외부 일정이 없는 사용자는 포함되지 않음)
+     */
+    @GetMapping("/hr/schedules/feign/approved-types")
+    Map<Long, String> getApprovedExternalScheduleTypes(@RequestParam("date") String date);
+
     /**
      * 특정 연도와 월에 입사 1주년을 맞이하는 사용자 목록을 조회합니다.
      * HR 서비스의 /hr/anniversary/monthly 엔드포인트를 호출합니다.
@@ -58,7 +72,7 @@ public interface HrServiceClient {
      * @return 해당 월에 입사 1주년을 맞이하는 사용자 정보 DTO 목록
      */
     @GetMapping("/hr/anniversary/monthly")
-    List<UserDto> getUsersWithFirstAnniversaryInMonth(
+    CommonResDto<List<UserDto>> getUsersWithFirstAnniversaryInMonth(
             @RequestParam("year") int year,
             @RequestParam("month") int month);
 }
\ No newline at end of file
@@ -29,26 +29,36 @@ public interface VacationServiceClient {
             @RequestBody VacationRequestDto requestDto);
 
     /**
-     * 특정 사용자에게 지정된 일수만큼의 연차를 부여합니다.
+     * 입사 1주년 기준 월이 같은 여러 사용자에게 같은 일수의 연차를 일괄 부여합니다.
+     * 이미 해당 기준 월의 연차를 받은 사용자는 vacation-service에서 건너뛰므로 재시도해도 중복 부여되지 않습니다.
      *
-     * @param userId 연차를 부여할 사용자의 ID
-     * @param days 부여할 연차 일수
-     * @return 연차 부여 결과
+     * @param userIds 연차를 부여할 사용자 ID 목록
+     * @param year    입사 1주년 기준 연도
+     * @param month   입사 1주년 기준 월
+     * @param days    부여할 연차 일수
+     * @return 새로 연차를 부여한 사용자 수
      */
-    @PutMapping("/vacations/annual-leave/{userId}")
-    CommonResDto<Void> grantAnnualLeave(
-            @PathVariable("userId") Long userId,
+    @PostMapping("/vacations/internal/annual-leave/bulk")
+    CommonResDto<Integer> grantAnnualLeaveBulk(
+            @RequestBody List<Long> userIds,
+            @RequestParam("year") int year,
+            @RequestParam("month") int month,
             @RequestParam("days") int days);
 
     /**
-     * 특정 사용자에게 월별 정기 연차를 1일 부여합니다.
+     * 여러 사용자에게 근무 월 기준 월차를 1일씩 일괄 부여합니다.
+     * 이미 해당 월의 월차를 받은 사용자는 vacation-service에서 건너뛰므로 재시도해도 중복 부여되지 않습니다.
      *
-     * @param userId 연차를 부여할 사용자의 ID
-     * @return 연차 부여 결과
+     * @param userIds 월차를 부여할 사용자 ID 목록
+     * @param year    근무 연도
+     * @param month   근무 월
+     * @return 새로 월차를 부여한 사용자 수
      */
-    @PutMapping("/vacations/monthly-leave/{userId}")
-    CommonResDto<Void> grantMonthlyLeave(
-            @PathVariable("userId") Long userId);
+    @PostMapping("/vacations/internal/monthly-leave/bulk")
+    CommonResDto<Integer> grantMonthlyLeaveBulk(
+            @RequestBody List<Long> userIds,
+            @RequestParam("year") int year,
+            @RequestParam("month") int month);
 
     /**
      * 특정 사용자의 월별 휴가 사용 통계를 조회합니다.
@@ -1,5 +1,6 @@
 package com.playdata.attendanceservice.client.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,7 +16,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class UserDto {
 
-    // 사용자 ID
+    // 사용자 ID (hr-service 응답의 employeeNo)
+    @JsonAlias("employeeNo")
     private Long userId;
 
     // 입사일
@@ -0,0 +1,176 @@
+package com.playdata.attendanceservice.common.auth;
+
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Feign 호출에 전달할 호출자 식별 헤더(X-User-*)와 추적 헤더를 담은 불변 스냅샷입니다.
+ *
+ * RequestContextHolder는 요청을 처리하는 스레드에서만 보이므로, 작업을 CompletableFuture, 가상 스레드,
+ * @Async 실행기로 넘기면 Feign 인터셉터가 헤더를 찾지 못합니다.
+ * 작업을 넘기는 쪽에서 capture()로 스냅샷을 만들고 wrap()으로 감싸면, 작업 스레드에서 같은 헤더가 보입니다.
+ * (스프링 실행기/스케줄러에는 TaskContextConfig의 TaskDecorator가 자동으로 적용됩니다.)
+ *
+ * 사용자 식별 헤더가 없는 컨텍스트(스케줄 작업 등)에서는 FeignClientConfig가 서비스 식별 헤더(ServiceIdentity)를 대신 보냅니다.
+ */
+public final class CallerContext {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    // 게이트웨이가 서명한 식별 헤더가 있으면 이 헤더 하나만 전달하고, 없으면 평문 헤더들을 전달합니다.
+    static final List<String> LEGACY_IDENTITY_HEADERS = List.of("X-User-Email", "X-User-Role", "X-User-Employee-No");
+    static final List<String> TRACE_HEADERS = List.of("traceparent", "tracestate", REQUEST_ID_HEADER);
+
+    public static final CallerContext EMPTY = new CallerContext(Map.of(), false);
+
+    private static final ThreadLocal<CallerContext> HOLDER = new ThreadLocal<>();
+
+    private final Map<String, String> headers;
+    // HTTP 요청에서 만든 컨텍스트인지 여부. 요청인데 사용자 식별 헤더가 없으면 서비스 식별 헤더로 대신하지 않습니다.
+    private final boolean fromRequest;
+
+    private CallerContext(Map<String, String> headers, boolean fromRequest) {
+        this.headers = headers;
+        this.fromRequest = fromRequest;
+    }
+
+    /**
+     * 현재 스레드의 호출자 컨텍스트를 가져옵니다.
+     * wrap()/attach()로 넘겨받은 컨텍스트가 있으면 그 값을, 없으면 현재 HTTP 요청 헤더에서 만듭니다.
+     *
+     * @return 호출자 컨텍스트, 요청 밖이고 넘겨받은 값도 없으면 EMPTY
+     */
+    public static CallerContext capture() {
+        CallerContext attached = HOLDER.get();
+        if (attached != null) {
+            return attached;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return fromRequest(servletAttributes.getRequest());
+        }
+        return EMPTY;
+    }
+
+    /**
+     * HTTP 요청 헤더에서 전달 대상 헤더만 골라 스냅샷을 만듭니다.
+     */
+    public static CallerContext fromRequest(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        String identity = request.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+        if (identity != null) {
+            headers.put(IdentityHeaderEncoder.HEADER_NAME, identity);
+        } else {
+            copy(request, LEGACY_IDENTITY_HEADERS, headers);
+        }
+        copy(request, TRACE_HEADERS, headers);
+        return new CallerContext(Collections.unmodifiableMap(headers), true);
+    }
+
+    /**
+     * 사용자 없이 시작하는 작업(스케줄 작업 등)의 컨텍스트를 만듭니다.
+     * 작업 한 번의 모든 Feign 호출이 같은 X-Request-Id를 갖도록 새 값을 발급합니다.
+     *
+     * @param jobName 로그에서 작업을 구분할 이름 (요청 ID 앞에 붙습니다)
+     */
+    public static CallerContext forJob(String jobName) {
+        return new CallerContext(Map.of(REQUEST_ID_HEADER, jobName + "-" + UUID.randomUUID()), false);
+    }
+
+    /**
+     * 작업이 실행되는 동안 현재 컨텍스트가 보이도록 감쌉니다. 작업이 끝나면 작업 스레드의 이전 값을 복원합니다.
+     */
+    public static Runnable wrap(Runnable task) {
+        return capture().bind(task);
+    }
+
+    /**
+     * 값을 돌려주는 작업용 wrap(). CompletableFuture.supplyAsync()에 그대로 넘기거나,
+     * ExecutorService에는 wrap(...)::get 형태로 제출합니다.
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        CallerContext context = capture();
+        return () -> {
+            try (Scope ignored = context.attach()) {
+                return task.get();
+            }
+        };
+    }
+
+    /**
+     * 이 컨텍스트로 작업을 감쌉니다.
+     */
+    public Runnable bind(Runnable task) {
+        return () -> {
+            try (Scope ignored = attach()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드에 이 컨텍스트를 설정합니다. 반환된 Scope를 닫으면 이전 값으로 돌아갑니다.
+     */
+    public Scope attach() {
+        CallerContext previous = HOLDER.get();
+        HOLDER.set(this);
+        return () -> {
+            if (previous != null) {
+                HOLDER.set(previous);
+            } else {
+                HOLDER.remove();
+            }
+        };
+    }
+
+    /**
+     * 사용자 식별 헤더(서명 헤더 또는 평문 헤더)가 있는지 여부
+     */
+    public boolean hasUserIdentity() {
+        return headers.containsKey(IdentityHeaderEncoder.HEADER_NAME)
+                || LEGACY_IDENTITY_HEADERS.stream().anyMatch(headers::containsKey);
+    }
+
+    /**
+     * 사용자 없이 실행되는 작업(스케줄 작업, 요청 밖의 비동기 작업)인지 여부.
+     * 이 경우에만 서비스 식별 헤더로 호출하며, 인증 헤더 없이 들어온 HTTP 요청은 서비스 권한으로 바꾸지 않습니다.
+     */
+    public boolean isServiceCall() {
+        return !fromRequest && !hasUserIdentity();
+    }
+
+    /**
+     * Feign 요청에 그대로 추가할 헤더 (변경 불가)
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    private static void copy(HttpServletRequest request, List<String> names, Map<String, String> target) {
+        for (String name : names) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                target.put(name, value);
+            }
+        }
+    }
+
+    /**
+     * attach()로 설정한 컨텍스트의 범위. try-with-resources로 닫습니다.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,54 @@
+package com.playdata.attendanceservice.common.configs;
+
+import com.playdata.attendanceservice.common.auth.CallerContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 비동기 작업과 스케줄 작업에 호출자 컨텍스트(CallerContext)를 전달하는 설정입니다.
+ *
+ * - 스프링 실행기(@Async, applicationTaskExecutor): TaskDecorator 빈을 스프링 부트가 자동으로 적용하며,
+ *   작업을 제출한 스레드의 X-User-* / 추적 헤더를 작업 스레드로 넘깁니다.
+ * - @Scheduled 스케줄러: 실행할 때마다 사용자 없는 새 컨텍스트(새 X-Request-Id)로 시작하므로,
+ *   그 안의 Feign 호출은 서비스 식별 헤더로 인증되고 한 번의 실행이 같은 요청 ID로 묶입니다.
+ *
+ * 스케줄러는 스프링 부트 빌더로 만들기 때문에 spring.task.scheduling.* 설정과 가상 스레드 모드를 그대로 따릅니다.
+ */
+@Configuration
+public class TaskContextConfig {
+
+    @Bean
+    public TaskDecorator callerContextTaskDecorator() {
+        return CallerContext::wrap;
+    }
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder,
+                                                 @Value("${spring.application.name}") String applicationName) {
+        ThreadPoolTaskScheduler scheduler = builder.build();
+        scheduler.setTaskDecorator(scheduledJobDecorator(applicationName));
+        return scheduler;
+    }
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskScheduler taskSchedulerVirtualThreads(SimpleAsyncTaskSchedulerBuilder builder,
+                                                                @Value("${spring.application.name}") String applicationName) {
+        SimpleAsyncTaskScheduler scheduler = builder.build();
+        scheduler.setTaskDecorator(scheduledJobDecorator(applicationName));
+        return scheduler;
+    }
+
+    static TaskDecorator scheduledJobDecorator(String applicationName) {
+        return task -> CallerContext.forJob(applicationName + "-job").bind(task);
+    }
+}
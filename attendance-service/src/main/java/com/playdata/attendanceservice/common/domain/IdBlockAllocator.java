@@ -0,0 +1,87 @@
+package com.playdata.attendanceservice.common.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * id_generator 테이블을 관리합니다.
+ * - 기동 시: 세그먼트 값이 기존 테이블의 MAX(id)보다 뒤에 있도록 맞춥니다. (IDENTITY로 쌓인 기존 행과 ID가 겹치지 않게)
+ * - reserve(): Hibernate를 거치지 않는 JDBC 배치 INSERT가 쓸 ID 구간을 Hibernate pooled 생성기와 겹치지 않게 예약합니다.
+ *
+ * pooled 생성기는 테이블 값 n을 읽으면 n + 1을 상한으로 하는 ALLOCATION_SIZE개 구간을 쓰고 테이블 값을 n + ALLOCATION_SIZE로 올립니다.
+ * 즉 테이블 값이 n이면 다음에 Hibernate가 쓸 구간은 n - ALLOCATION_SIZE + 2부터 시작하고, 그보다 작은 ID만 이미 할당되었을 수 있습니다.
+ */
+@Component
+@Slf4j
+public class IdBlockAllocator implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 스키마 생성(엔티티 매니저 초기화)이 끝난 뒤, 웹 요청과 스케줄러가 시작되기 전에 세그먼트 값을 맞춥니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PooledIds.TABLE + " ("
+                + PooledIds.SEGMENT_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + PooledIds.VALUE_COLUMN + " BIGINT)");
+        for (String segment : PooledIds.SEGMENTS) {
+            align(segment);
+        }
+    }
+
+    private void align(String segment) {
+        // 세그먼트 이름은 PooledIds 상수(테이블 이름)이므로 SQL에 그대로 넣어도 안전합니다.
+        Long floor = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) + " + PooledIds.ALLOCATION_SIZE + " FROM " + segment, Long.class);
+        int updated = jdbcTemplate.update(
+                "UPDATE " + PooledIds.TABLE + " SET " + PooledIds.VALUE_COLUMN + " = ? "
+                        + "WHERE " + PooledIds.SEGMENT_COLUMN + " = ? AND " + PooledIds.VALUE_COLUMN + " < ?",
+                floor, segment, floor);
+        if (updated > 0) {
+            log.info("ID 생성기 세그먼트 {} 값을 {}(으)로 올렸습니다.", segment, floor);
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO " + PooledIds.TABLE + " (" + PooledIds.SEGMENT_COLUMN + ", "
+                    + PooledIds.VALUE_COLUMN + ") VALUES (?, ?)", segment, floor);
+            log.info("ID 생성기 세그먼트 {}를 {}부터 시작합니다.", segment, floor);
+        } catch (DuplicateKeyException e) {
+            // 이미 충분히 큰 값으로 존재하거나, 다른 인스턴스가 먼저 만들었습니다.
+        }
+    }
+
+    /**
+     * JDBC로 직접 INSERT할 행들의 ID 구간을 예약합니다.
+     * 테이블 값 n 다음 구간(n + 1 ~ n + count)을 가져가고, 이후 Hibernate 구간이 그 뒤에서 시작하도록 테이블 값을 올립니다.
+     * 행 잠금을 업무 트랜잭션 동안 잡고 있지 않도록 별도 트랜잭션에서 바로 커밋합니다.
+     *
+     * @param segment PooledIds의 세그먼트 이름
+     * @param count 필요한 ID 개수
+     * @return 예약한 구간의 첫 ID (first ~ first + count - 1 사용)
+     */
+    public long reserve(String segment, int count) {
+        Long first = requiresNew.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT " + PooledIds.VALUE_COLUMN + " FROM " + PooledIds.TABLE
+                            + " WHERE " + PooledIds.SEGMENT_COLUMN + " = ? FOR UPDATE", Long.class, segment);
+            jdbcTemplate.update("UPDATE " + PooledIds.TABLE + " SET " + PooledIds.VALUE_COLUMN + " = ? "
+                    + "WHERE " + PooledIds.SEGMENT_COLUMN + " = ?", current + count + PooledIds.ALLOCATION_SIZE, segment);
+            return current + 1;
+        });
+        return first;
+    }
+}
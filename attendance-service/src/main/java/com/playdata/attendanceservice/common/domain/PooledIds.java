@@ -0,0 +1,25 @@
+package com.playdata.attendanceservice.common.domain;
+
+/**
+ * 대량 저장이 많은 엔티티의 ID 생성 설정입니다.
+ * IDENTITY(AUTO_INCREMENT)는 INSERT마다 생성된 키를 돌려받아야 해서 Hibernate가 INSERT 배치를 끕니다.
+ * 대신 id_generator 테이블의 구간(ALLOCATION_SIZE개)을 미리 할당받는 pooled 방식으로 ID를 만들어 배치 INSERT가 가능하게 합니다.
+ */
+public final class PooledIds {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 세그먼트 이름은 엔티티 테이블 이름과 같게 둡니다. (IdBlockAllocator가 MAX(id)로 초기값을 맞출 때 사용)
+    public static final String ATTENDANCE = "attendance";
+    public static final String WORK_STATUS = "work_statuses";
+    public static final String MONTHLY_SUMMARY = "attendance_monthly_summary";
+    public static final String FIRST_YEAR_LEAVE_TARGET = "first_year_leave_target";
+
+    static final String[] SEGMENTS = {ATTENDANCE, WORK_STATUS, MONTHLY_SUMMARY, FIRST_YEAR_LEAVE_TARGET};
+
+    private PooledIds() {
+    }
+}
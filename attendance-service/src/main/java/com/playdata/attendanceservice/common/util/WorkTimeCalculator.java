@@ -14,6 +14,72 @@ import static com.playdata.attendanceservice.common.constants.WorkConstants.*;
 
 public class WorkTimeCalculator {
 
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final long NANOS_PER_DAY = 24 * 60 * NANOS_PER_MINUTE;
+
+    // 근무 날짜 자정 기준 오프셋(나노초)
+    private static final long LUNCH_START_NANOS = LUNCH_START.toNanoOfDay();
+    private static final long LUNCH_END_NANOS = LUNCH_END.toNanoOfDay();
+    private static final long NORMAL_WORK_START_NANOS = NORMAL_WORK_START.toNanoOfDay();
+    private static final long NORMAL_WORK_END_NANOS = NORMAL_WORK_END.toNanoOfDay();
+    private static final long OVERTIME_START_NANOS = OVERTIME_START.toNanoOfDay();
+    private static final long OVERTIME_END_NANOS = OVERTIME_END.toNanoOfDay();
+    private static final long NIGHT_WORK_START_NANOS = NIGHT_WORK_START.toNanoOfDay();
+    private static final long NIGHT_WORK_END_NANOS = NANOS_PER_DAY + NIGHT_WORK_END.toNanoOfDay(); // 익일
+
+    /**
+     * calculateWorkTimes()와 같은 규칙으로 근무 시간을 계산하되, 중간 객체(Map, Duration, LocalDateTime)를 만들지 않습니다.
+     * 모든 구간을 epoch 기준 long 값으로 바꿔 겹침을 계산하고, 결과는 분 단위로 돌려줍니다.
+     * 경계 계산은 나노초 단위로 해서 초/나노초가 있는 출퇴근 시각도 기존 계산과 같은 결과가 나옵니다.
+     * 주말 근무 시간은 연장 근무와 함께 휴일 근무 시간(holidayWorkMinutes)으로도 집계됩니다.
+     *
+     * @param checkIn 출근 시간
+     * @param checkOut 퇴근 시간
+     * @param attendanceDate 근무 날짜
+     * @return 분 단위 근무 시간
+     */
+    public static WorkTimes calculate(LocalDateTime checkIn, LocalDateTime checkOut, LocalDate attendanceDate) {
+        long workStart = toEpochNanos(checkIn);
+        long workEnd = toEpochNanos(checkOut);
+
+        // 출근 시간이 퇴근 시간보다 늦거나 같으면 유효하지 않은 경우
+        if (workStart >= workEnd) {
+            return WorkTimes.ZERO;
+        }
+
+        long day = attendanceDate.toEpochDay() * NANOS_PER_DAY;
+        long lunchOverlap = overlap(workStart, workEnd, day + LUNCH_START_NANOS, day + LUNCH_END_NANOS);
+        long totalWorkMinutes = toMinutes(workEnd - workStart - lunchOverlap);
+
+        DayOfWeek dayOfWeek = attendanceDate.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            // 주말은 전체가 연장 근무이자 휴일 근무
+            return new WorkTimes(totalWorkMinutes, 0, totalWorkMinutes, 0, totalWorkMinutes);
+        }
+
+        long normalWork = overlap(workStart, workEnd, day + NORMAL_WORK_START_NANOS, day + NORMAL_WORK_END_NANOS) - lunchOverlap;
+        long overtimeWork = overlap(workStart, workEnd, day + OVERTIME_START_NANOS, day + OVERTIME_END_NANOS);
+        // 22:00 ~ 자정, 자정 ~ 익일 06:00 구간은 맞닿아 있으므로 한 구간으로 계산해도 결과가 같습니다.
+        long nightWork = overlap(workStart, workEnd, day + NIGHT_WORK_START_NANOS, day + NIGHT_WORK_END_NANOS);
+
+        return new WorkTimes(totalWorkMinutes, toMinutes(normalWork), toMinutes(overtimeWork), toMinutes(nightWork), 0);
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * NANOS_PER_DAY + dateTime.toLocalTime().toNanoOfDay();
+    }
+
+    private static long overlap(long start1, long end1, long start2, long end2) {
+        long overlapStart = Math.max(start1, start2);
+        long overlapEnd = Math.min(end1, end2);
+        return overlapStart < overlapEnd ? overlapEnd - overlapStart : 0;
+    }
+
+    // Duration.toMinutes()와 같이 0 방향으로 버림
+    private static long toMinutes(long nanos) {
+        return nanos / NANOS_PER_MINUTE;
+    }
+
     /**
      * 출근 시간, 퇴근 시간, 근무 날짜를 기반으로 총 근무 시간, 정상 근무 시간, 연장 근무 시간, 심야 근무 시간을 계산합니다.
      * 점심 시간(12:00~13:00)은 근무 시간에서 제외됩니다.
@@ -24,6 +90,7 @@ public class WorkTimeCalculator {
      * @param checkOut 퇴근 시간 (LocalDateTime)
      * @param attendanceDate 근무 날짜 (LocalDate)
      * @return 각 근무 시간(totalWorkTime, normalWorkTime, overtimeWorkTime, nightWorkTime)을 포함하는 Map
+     * @see #calculate(LocalDateTime, LocalDateTime, LocalDate) 같은 결과를 할당 없이 계산하는 메서드 (기존 호출처는 이쪽으로 변경됨)
      */
     public static Map<String, Duration> calculateWorkTimes(LocalDateTime checkIn, LocalDateTime checkOut, LocalDate attendanceDate) {
         Map<String, Duration> workTimes = new HashMap<>();
@@ -123,9 +190,37 @@ public class WorkTimeCalculator {
         if (duration == null) {
             return null;
         }
-        long hours = duration.toHours();
-        long minutes = duration.toMinutes() % 60;
-        return String.format("%02d:%02d", hours, minutes);
+        if (duration.isNegative()) {
+            // 음수는 계산 결과로 나오지 않지만, 기존 출력 형식을 그대로 유지합니다.
+            return String.format("%02d:%02d", duration.toHours(), duration.toMinutes() % 60);
+        }
+        return formatMinutes(duration.toMinutes());
+    }
+
+    /**
+     * 분 단위 시간을 "HH:mm" 형식으로 포맷합니다. String.format 없이 문자 배열로 만듭니다.
+     * 100시간 이상이면 시간 자리가 늘어납니다. ("%02d:%02d"와 같은 결과)
+     *
+     * @param totalMinutes 0 이상의 분
+     */
+    public static String formatMinutes(long totalMinutes) {
+        if (totalMinutes < 0) {
+            return formatDuration(Duration.ofMinutes(totalMinutes));
+        }
+        long hours = totalMinutes / 60;
+        int minutes = (int) (totalMinutes % 60);
+        if (hours < 100) {
+            int h = (int) hours;
+            return new String(new char[] {
+                    (char) ('0' + h / 10), (char) ('0' + h % 10), ':',
+                    (char) ('0' + minutes / 10), (char) ('0' + minutes % 10)});
+        }
+        StringBuilder sb = new StringBuilder(8);
+        sb.append(hours).append(':');
+        if (minutes < 10) {
+            sb.append('0');
+        }
+        return sb.append(minutes).toString();
     }
 
     /**
@@ -0,0 +1,29 @@
+package com.playdata.attendanceservice.common.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 하루 근무 시간 계산 결과(분 단위)입니다.
+ * WorkTimeCalculator.calculate()가 생성하며, 값은 Duration.toMinutes()와 같이 분 미만을 버린 값입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class WorkTimes {
+
+    public static final WorkTimes ZERO = new WorkTimes(0, 0, 0, 0, 0);
+
+    // 총 근무 시간 (점심 시간 제외)
+    private final long totalWorkMinutes;
+    // 정상 근무 시간 (09:00 ~ 18:00, 점심 시간 제외)
+    private final long normalWorkMinutes;
+    // 연장 근무 시간 (평일 18:00 ~ 22:00, 주말은 전체)
+    private final long overtimeWorkMinutes;
+    // 심야 근무 시간 (22:00 ~ 익일 06:00, 평일만)
+    private final long nightWorkMinutes;
+    // 휴일(주말) 근무 시간. 주말 근무는 연장 근무에도 그대로 포함됩니다.
+    private final long holidayWorkMinutes;
+}
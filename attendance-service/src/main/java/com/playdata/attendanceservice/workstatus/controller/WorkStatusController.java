@@ -1,11 +1,14 @@
 package com.playdata.attendanceservice.workstatus.controller;
 
+import com.playdata.attendanceservice.workstatus.dto.WorkStatusBulkRequestDto;
+import com.playdata.attendanceservice.workstatus.entity.WorkStatusType;
 import com.playdata.attendanceservice.workstatus.service.WorkStatusService;
 import com.playdata.attendanceservice.client.dto.VacationWorkStatusRequestDto;
 import com.playdata.attendanceservice.common.dto.CommonResDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -40,4 +43,20 @@ public class WorkStatusController {
         workStatusService.createWorkStatusForVacation(requestDto);
         return buildSuccessResponse(HttpStatus.OK, null, "휴가 WorkStatus 생성 성공");
     }
+
+    /**
+     * 여러 사용자의 기간 근무 상태를 한 번에 기록합니다. (부서 단위 출장/교육 등)
+     * HR 또는 서비스 간 호출만 허용하며, 필수 값이 없거나 알 수 없는 근무 상태면 400을 반환합니다.
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')")
+    public ResponseEntity<CommonResDto<Void>> updateWorkStatuses(@RequestBody WorkStatusBulkRequestDto requestDto) {
+        if (requestDto.getUserIds() == null || requestDto.getStartDate() == null || requestDto.getEndDate() == null) {
+            throw new IllegalArgumentException("userIds, startDate, endDate는 필수입니다.");
+        }
+        WorkStatusType statusType = WorkStatusType.fromName(requestDto.getStatusType());
+        workStatusService.updateWorkStatuses(requestDto.getUserIds(), requestDto.getStartDate(), requestDto.getEndDate(),
+                statusType, requestDto.getReason());
+        return buildSuccessResponse(HttpStatus.OK, null, "WorkStatus 일괄 기록 성공");
+    }
 }
@@ -0,0 +1,17 @@
+package com.playdata.attendanceservice.workstatus.dto;
+
+import com.playdata.attendanceservice.attendance.entity.WorkDayType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 근무일 유형(종일/반일) 건수 조회 결과입니다.
+ * WorkStatus 엔티티를 로딩하지 않고 집계 쿼리 한 번으로 근무일수를 계산할 때 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class WorkDayTypeCount {
+    private final Long userId;
+    private final WorkDayType workDayType;
+    private final Long count;
+}
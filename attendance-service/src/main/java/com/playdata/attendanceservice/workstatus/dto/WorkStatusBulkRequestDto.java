@@ -0,0 +1,22 @@
+package com.playdata.attendanceservice.workstatus.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 여러 사용자의 기간 근무 상태를 한 번에 기록하기 위한 요청 DTO입니다. (부서 단위 일정 등)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkStatusBulkRequestDto {
+    private List<Long> userIds;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String statusType; // WorkStatusType 이름 (예: BUSINESS_TRIP)
+    private String reason;
+}
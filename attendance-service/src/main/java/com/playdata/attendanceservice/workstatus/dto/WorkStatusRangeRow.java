@@ -0,0 +1,22 @@
+package com.playdata.attendanceservice.workstatus.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기간 내 기존 WorkStatus와 연결된 출퇴근 기록을 담는 조회 전용 DTO입니다.
+ * 일괄 upsert 전에 기존 행의 출퇴근 시간과 집계 재계산 대상 월을 판단하는 데만 쓰므로 엔티티를 로딩하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class WorkStatusRangeRow {
+    private final Long id;
+    private final Long userId;
+    private final LocalDate date;
+    private final Long attendanceId; // 연결된 출근 기록이 없으면 null
+    private final LocalDateTime checkInTime;
+    private final LocalDateTime checkOutTime;
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.playdata.attendanceservice.attendance.entity.Attendance;
 import com.playdata.attendanceservice.attendance.entity.WorkDayType;
 import com.playdata.attendanceservice.common.domain.BaseEntity;
+import com.playdata.attendanceservice.common.domain.PooledIds;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -25,7 +26,11 @@ import java.time.LocalDateTime;
 @Builder
 public class WorkStatus extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "work_status_id_generator")
+    @TableGenerator(name = "work_status_id_generator", table = PooledIds.TABLE, pkColumnName = PooledIds.SEGMENT_COLUMN,
+            valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = PooledIds.WORK_STATUS,
+            allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -44,6 +44,14 @@ public enum WorkStatusType {
                 .orElseThrow(() -> new IllegalArgumentException("Unknown WorkStatusType description: " + description));
     }
 
+    // 상수 이름(예: BUSINESS_TRIP)으로 Enum을 찾습니다. 알 수 없는 값이면 IllegalArgumentException(400)을 던집니다.
+    public static WorkStatusType fromName(String name) {
+        return Arrays.stream(values())
+                .filter(type -> type.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 근무 상태입니다: " + name));
+    }
+
     @JsonValue
     public String getDescription() {
         return description;
@@ -0,0 +1,45 @@
+package com.playdata.attendanceservice.workstatus.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 여러 날짜/사용자의 WorkStatus를 JDBC 배치 한 번으로 기록하는 리포지토리입니다.
+ * (user_id, date) 유니크 키를 기준으로 INSERT ... ON DUPLICATE KEY UPDATE 하므로
+ * 날짜마다 조회 후 저장하지 않아도 되며, MySQL에서는 rewriteBatchedStatements=true일 때 한 번의 왕복으로 전송됩니다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출 전에 대기 중인 JPA 변경을 flush해야 하고,
+ * 새 행의 ID는 IdBlockAllocator로 예약해 넘겨야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkStatusBulkRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    // 기존 행은 상태/사유만 바꾸고, 지각 여부는 유지합니다. 출퇴근 시간은 새 값이 있을 때만 덮어씁니다.
+    private static final String UPSERT_SQL = """
+            INSERT INTO work_statuses
+                (id, user_id, date, status_type, reason, is_late, check_in_time, check_out_time, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, false, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                status_type = VALUES(status_type),
+                reason = VALUES(reason),
+                check_in_time = COALESCE(VALUES(check_in_time), check_in_time),
+                check_out_time = COALESCE(VALUES(check_out_time), check_out_time),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param rows 행마다 id, user_id, date, status_type, reason, check_in_time, check_out_time, created_at, updated_at 순서의 값
+     */
+    public void upsert(List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
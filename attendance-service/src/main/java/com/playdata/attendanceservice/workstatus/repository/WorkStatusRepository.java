@@ -1,7 +1,11 @@
 package com.playdata.attendanceservice.workstatus.repository;
 
+import com.playdata.attendanceservice.workstatus.dto.WorkDayTypeCount;
+import com.playdata.attendanceservice.workstatus.dto.WorkStatusRangeRow;
 import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -15,4 +19,27 @@ public interface WorkStatusRepository extends JpaRepository<WorkStatus, Long> {
     Optional<WorkStatus> findByUserIdAndDate(Long userId, LocalDate date);
     List<WorkStatus> findByUserId(Long userId);
     List<WorkStatus> findByDateBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 여러 사용자의 기간 내 기존 WorkStatus와 연결된 출퇴근 시간을 한 번에 조회합니다.
+     */
+    @Query("SELECT new com.playdata.attendanceservice.workstatus.dto.WorkStatusRangeRow(" +
+           "    ws.id, ws.userId, ws.date, a.id, a.checkInTime, a.checkOutTime) " +
+           "FROM WorkStatus ws LEFT JOIN ws.attendance a " +
+           "WHERE ws.userId IN :userIds AND ws.date BETWEEN :startDate AND :endDate")
+    List<WorkStatusRangeRow> findRangeRows(@Param("userIds") List<Long> userIds,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * 여러 사용자의 기간 내 근무일 유형별 건수를 한 번에 집계합니다.
+     * 근무일 유형이 없는 기록은 제외합니다.
+     */
+    @Query("SELECT new com.playdata.attendanceservice.workstatus.dto.WorkDayTypeCount(ws.userId, ws.workDayType, COUNT(ws)) " +
+           "FROM WorkStatus ws " +
+           "WHERE ws.userId IN :userIds AND ws.date BETWEEN :startDate AND :endDate AND ws.workDayType IS NOT NULL " +
+           "GROUP BY ws.userId, ws.workDayType")
+    List<WorkDayTypeCount> countWorkDayTypes(@Param("userIds") List<Long> userIds,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
 }
@@ -2,10 +2,16 @@ package com.playdata.attendanceservice.workstatus.service;
 
 import com.playdata.attendanceservice.absence.entity.Absence;
 import com.playdata.attendanceservice.client.dto.VacationWorkStatusRequestDto;
+import com.playdata.attendanceservice.workstatus.entity.WorkStatusType;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface WorkStatusService {
 
     void createWorkStatusForAbsence(Absence absence);
 
     void createWorkStatusForVacation(VacationWorkStatusRequestDto requestDto);
+
+    void updateWorkStatuses(List<Long> userIds, LocalDate startDate, LocalDate endDate, WorkStatusType statusType, String reason);
 }
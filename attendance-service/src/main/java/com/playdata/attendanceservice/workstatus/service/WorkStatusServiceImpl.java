@@ -1,8 +1,12 @@
 package com.playdata.attendanceservice.workstatus.service;
 
 import com.playdata.attendanceservice.absence.entity.Absence;
-import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
+import com.playdata.attendanceservice.attendance.service.AttendanceMonthlySummaryUpdater;
+import com.playdata.attendanceservice.common.domain.IdBlockAllocator;
+import com.playdata.attendanceservice.common.domain.PooledIds;
+import com.playdata.attendanceservice.workstatus.dto.WorkStatusRangeRow;
 import com.playdata.attendanceservice.workstatus.entity.WorkStatusType;
+import com.playdata.attendanceservice.workstatus.repository.WorkStatusBulkRepository;
 import com.playdata.attendanceservice.workstatus.repository.WorkStatusRepository;
 import com.playdata.attendanceservice.client.dto.VacationWorkStatusRequestDto;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +15,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +32,9 @@ import java.util.Optional;
 public class WorkStatusServiceImpl implements WorkStatusService {
 
     private final WorkStatusRepository workStatusRepository;
+    private final WorkStatusBulkRepository workStatusBulkRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final AttendanceMonthlySummaryUpdater monthlySummaryUpdater;
 
     @Override
     public void createWorkStatusForAbsence(Absence absence) {
@@ -37,36 +52,62 @@ public class WorkStatusServiceImpl implements WorkStatusService {
     }
 
     private void updateWorkStatus(Long userId, LocalDate startDate, LocalDate endDate, WorkStatusType statusType, String reason) {
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            Optional<WorkStatus> existingStatus = workStatusRepository.findByUserIdAndDate(userId, date);
+        updateWorkStatuses(List.of(userId), startDate, endDate, statusType, reason);
+    }
+
+    /**
+     * 여러 사용자의 기간 근무 상태를 한 번에 기록합니다.
+     * 기존 행은 범위 조회 한 번으로 확인하고, 기간 전체를 JDBC 배치 upsert 한 번으로 반영합니다.
+     * 기존 행은 상태/사유만 바꾸고 지각 여부는 유지하며, 출근 기록이 연결된 날은 출퇴근 시간을 출근 기록과 맞춥니다.
+     */
+    @Override
+    public void updateWorkStatuses(List<Long> userIds, LocalDate startDate, LocalDate endDate,
+                                   WorkStatusType statusType, String reason) {
+        if (userIds.isEmpty() || endDate.isBefore(startDate)) {
+            return;
+        }
+        userIds = userIds.stream().distinct().toList();
+        // 같은 트랜잭션에서 아직 반영되지 않은 WorkStatus 변경이 있으면 배치 upsert 전에 내보냅니다.
+        workStatusRepository.flush();
 
-            WorkStatus workStatus;
-            if (existingStatus.isPresent()) {
-                workStatus = existingStatus.get();
-                // 기존 WorkStatus 업데이트
-                workStatus.setStatusType(statusType);
-                workStatus.setReason(reason);
-                // isLate는 기존 값을 유지합니다. 휴가/부재 승인으로 인한 업데이트 시에는 isLate를 변경하지 않습니다.
+        Map<Long, Map<LocalDate, WorkStatusRangeRow>> existing = new HashMap<>();
+        for (WorkStatusRangeRow row : workStatusRepository.findRangeRows(userIds, startDate, endDate)) {
+            existing.computeIfAbsent(row.getUserId(), key -> new HashMap<>()).put(row.getDate(), row);
+        }
+
+        // 새로 만들 행의 ID는 한 번에 예약합니다.
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        int existingCount = existing.values().stream().mapToInt(Map::size).sum();
+        int newCount = (int) (userIds.size() * days - existingCount);
+        long nextId = newCount > 0 ? idBlockAllocator.reserve(PooledIds.WORK_STATUS, newCount) : 0;
 
-                // Attendance 엔티티가 연결되어 있다면 checkInTime과 checkOutTime을 업데이트
-                if (workStatus.getAttendance() != null) {
-                    workStatus.setCheckInTime(workStatus.getAttendance().getCheckInTime());
-                    workStatus.setCheckOutTime(workStatus.getAttendance().getCheckOutTime());
+        // 출근 기록이 있는 날의 근무 상태가 정정되면 해당 월의 집계를 다시 계산합니다.
+        Map<Long, Set<YearMonth>> correctedMonths = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (Long userId : userIds) {
+            Map<LocalDate, WorkStatusRangeRow> userRows = existing.getOrDefault(userId, Map.of());
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                WorkStatusRangeRow current = userRows.get(date);
+                LocalDateTime checkIn = null;
+                LocalDateTime checkOut = null;
+                if (current != null && current.getAttendanceId() != null) {
+                    checkIn = current.getCheckInTime();
+                    checkOut = current.getCheckOutTime();
+                    correctedMonths.computeIfAbsent(userId, key -> new TreeSet<>()).add(YearMonth.from(date));
                 }
-            } else {
-                // 새로운 WorkStatus 생성
-                workStatus = WorkStatus.builder()
-                        .userId(userId)
-                        .date(date)
-                        .statusType(statusType)
-                        .isLate(false) // 새로 생성되는 WorkStatus는 기본적으로 지각이 아님
-                        .reason(reason)
-                        .checkInTime(null) // 실제 출근 기록이 없으므로 null
-                        .checkOutTime(null) // 실제 퇴근 기록이 없으므로 null
-                        .build();
+                Long id = current != null ? current.getId() : nextId++;
+                rows.add(new Object[]{id, userId, date, statusType.name(), reason, checkIn, checkOut, now, now});
             }
-            workStatusRepository.save(workStatus);
-            log.info("WorkStatus updated for userId: {}, date: {}, type: {}", userId, date, statusType);
         }
+        workStatusBulkRepository.upsert(rows);
+        log.info("WorkStatus updated. users: {}, period: {} ~ {}, type: {}, rows: {}",
+                userIds.size(), startDate, endDate, statusType, rows.size());
+
+        correctedMonths.forEach((userId, yearMonths) -> {
+            for (YearMonth yearMonth : yearMonths) {
+                monthlySummaryUpdater.rebuild(userId, yearMonth);
+            }
+        });
     }
 }
@@ -0,0 +1,167 @@
+package com.playdata.attendanceservice.absence.service;
+
+import com.playdata.attendanceservice.absence.dto.request.AbsenceRequestDto;
+import com.playdata.attendanceservice.absence.dto.response.AbsenceStatisticsDto;
+import com.playdata.attendanceservice.absence.entity.AbsenceStatusCount;
+import com.playdata.attendanceservice.absence.entity.AbsenceType;
+import com.playdata.attendanceservice.absence.entity.ApprovalStatus;
+import com.playdata.attendanceservice.absence.entity.UrgencyType;
+import com.playdata.attendanceservice.absence.repository.AbsenceRepository;
+import com.playdata.attendanceservice.absence.repository.AbsenceStatusCountRepository;
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import com.playdata.attendanceservice.client.dto.ApprovalRequestResponseDto;
+import com.playdata.attendanceservice.common.dto.CommonResDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "standard.checkin.time=09:00",
+    "standard.checkout.time=18:00"
+})
+class AbsenceStatusCounterTest {
+
+    @Autowired
+    private AbsenceService absenceService;
+
+    @Autowired
+    private AbsenceStatusCounter absenceStatusCounter;
+
+    @Autowired
+    private AbsenceRepository absenceRepository;
+
+    @Autowired
+    private AbsenceStatusCountRepository countRepository;
+
+    @MockBean
+    private ApprovalServiceClient approvalServiceClient;
+
+    @MockBean
+    private HrServiceClient hrServiceClient;
+
+    private final AtomicLong approvalRequestIds = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        given(approvalServiceClient.createAbsenceApprovalRequest(any())).willAnswer(invocation ->
+                new CommonResDto<>(HttpStatus.CREATED, "ok",
+                        ApprovalRequestResponseDto.builder().id(approvalRequestIds.getAndIncrement()).build()));
+    }
+
+    @Test
+    @DisplayName("등록/승인/반려/삭제 후 건수 테이블 통계가 absence 테이블을 직접 센 값과 같다")
+    void countersMatchLiveCounts() {
+        Long userId = 7001L;
+        Long first = create(userId, 1);
+        Long second = create(userId, 2);
+        Long third = create(userId, 3);
+        create(userId, 4);
+        create(7002L, 5);
+
+        absenceService.approveAbsence(first, 1L);
+        absenceService.rejectAbsence(second, 1L, "일정 중복");
+        absenceService.deleteAbsence(third, userId);
+
+        assertThat(absenceStatusCounter.getStatistics(userId))
+                .usingRecursiveComparison()
+                .isEqualTo(AbsenceStatisticsDto.builder()
+                        .totalAbsences(3)
+                        .pendingAbsences(1)
+                        .approvedAbsences(1)
+                        .rejectedAbsences(1)
+                        .build());
+        assertThat(absenceService.getAbsenceStatistics())
+                .usingRecursiveComparison()
+                .isEqualTo(liveTotals());
+        // 전체 합계는 쓰기 경로에서 따로 저장하지 않습니다.
+        assertThat(countRepository.findByUserId(AbsenceStatusCount.ALL_USERS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기동 시 재계산은 완료 표시가 남아 있으면 다시 실행하지 않는다")
+    void rebuildIfEmptyRunsOnlyOnce() {
+        Long userId = 7004L;
+        create(userId, 8);
+        // 기동 시 이미 재계산을 마쳤으므로, 건수 행을 지워도 다시 채우지 않아야 합니다.
+        countRepository.deleteAllInBatch();
+
+        absenceStatusCounter.rebuildIfEmpty();
+
+        assertThat(countRepository.findByUserId(userId)).isEmpty();
+        absenceStatusCounter.rebuild();
+        assertThat(absenceStatusCounter.getStatistics(userId).getPendingAbsences()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일일 보정은 증감에 반영되지 않은 부재를 다시 세고, 같은 날에는 한 번만 실행한다")
+    void reconcileDailyRecountsOncePerDay() {
+        Long userId = 7005L;
+        create(userId, 9);
+        // 건수를 모르는 이전 버전 인스턴스가 등록한 부재처럼, 건수 행이 빠진 상태를 만듭니다.
+        countRepository.deleteAllInBatch();
+
+        absenceStatusCounter.reconcileDaily();
+
+        assertThat(absenceStatusCounter.getStatistics(userId).getPendingAbsences()).isEqualTo(1);
+        assertThat(absenceService.getAbsenceStatistics()).usingRecursiveComparison().isEqualTo(liveTotals());
+
+        countRepository.deleteAllInBatch();
+        absenceStatusCounter.reconcileDaily();
+
+        assertThat(countRepository.findByUserId(userId)).isEmpty();
+        absenceService.rebuildAbsenceStatistics();
+        assertThat(absenceStatusCounter.getStatistics(userId).getPendingAbsences()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("건수 테이블을 재계산해도 증감으로 유지한 값과 같다")
+    void rebuildReproducesIncrementalCounts() {
+        Long userId = 7003L;
+        absenceService.approveAbsence(create(userId, 6), 1L);
+        create(userId, 7);
+
+        AbsenceStatisticsDto userBefore = absenceStatusCounter.getStatistics(userId);
+        AbsenceStatisticsDto totalBefore = absenceStatusCounter.getStatistics(AbsenceStatusCount.ALL_USERS);
+
+        absenceStatusCounter.rebuild();
+
+        assertThat(absenceStatusCounter.getStatistics(userId)).usingRecursiveComparison().isEqualTo(userBefore);
+        assertThat(absenceStatusCounter.getStatistics(AbsenceStatusCount.ALL_USERS))
+                .usingRecursiveComparison()
+                .isEqualTo(totalBefore)
+                .isEqualTo(liveTotals());
+    }
+
+    private Long create(Long userId, int daysFromNow) {
+        LocalDate date = LocalDate.now().plusDays(daysFromNow);
+        AbsenceRequestDto request = new AbsenceRequestDto(AbsenceType.BUSINESS_TRIP, UrgencyType.NORMAL,
+                date, date, null, null, "출장");
+        return absenceService.createAbsence(userId, request).getId();
+    }
+
+    private AbsenceStatisticsDto liveTotals() {
+        long pending = absenceRepository.countByApprovalStatus(ApprovalStatus.PENDING);
+        long approved = absenceRepository.countByApprovalStatus(ApprovalStatus.APPROVED);
+        long rejected = absenceRepository.countByApprovalStatus(ApprovalStatus.REJECTED);
+        return AbsenceStatisticsDto.builder()
+                .totalAbsences(pending + approved + rejected)
+                .pendingAbsences(pending)
+                .approvedAbsences(approved)
+                .rejectedAbsences(rejected)
+                .build();
+    }
+}
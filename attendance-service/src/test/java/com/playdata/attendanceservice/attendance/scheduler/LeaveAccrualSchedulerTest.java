@@ -0,0 +1,313 @@
+package com.playdata.attendanceservice.attendance.scheduler;
+
+import com.playdata.attendanceservice.attendance.entity.FirstYearLeaveTarget;
+import com.playdata.attendanceservice.attendance.entity.LeaveAccrualCheckpoint;
+import com.playdata.attendanceservice.attendance.entity.WorkDayType;
+import com.playdata.attendanceservice.attendance.repository.FirstYearLeaveTargetRepository;
+import com.playdata.attendanceservice.attendance.repository.LeaveAccrualCheckpointRepository;
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import com.playdata.attendanceservice.client.VacationServiceClient;
+import com.playdata.attendanceservice.client.dto.UserDto;
+import com.playdata.attendanceservice.common.dto.CommonResDto;
+import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
+import com.playdata.attendanceservice.workstatus.entity.WorkStatusType;
+import com.playdata.attendanceservice.workstatus.repository.WorkStatusRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 연차 부여 배치를 HR/휴가 서비스 스텁으로 실행합니다.
+ * 월차는 가상 사용자 10,000명으로 청크 단위 호출 횟수, 처리량(초당 처리 사용자 수 하한), 실패 후 체크포인트부터 이어서 처리하는지를,
+ * 입사 1주년 연차는 대상자별 기간 집계와 재실행 시 중복 부여가 없는지를 확인합니다.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "standard.checkin.time=09:00",
+    "standard.checkout.time=18:00",
+    "leave-accrual.chunk-size=500"
+})
+class LeaveAccrualSchedulerTest {
+
+    private static final int USER_COUNT = 10_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final long FIRST_USER_ID = 100_001L;
+    // 스텁 응답과 H2로 실행하므로 실제 서비스 호출 지연은 빠져 있습니다. 청크 처리가 사용자 수에 비례해 느려지는 회귀만 잡도록 넉넉히 둡니다.
+    private static final double MIN_USERS_PER_SECOND = 500;
+
+    @Autowired
+    private LeaveAccrualScheduler leaveAccrualScheduler;
+
+    @Autowired
+    private LeaveAccrualCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private WorkStatusRepository workStatusRepository;
+
+    @Autowired
+    private FirstYearLeaveTargetRepository firstYearLeaveTargetRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private ApprovalServiceClient approvalServiceClient;
+
+    @MockBean
+    private HrServiceClient hrServiceClient;
+
+    @MockBean
+    private VacationServiceClient vacationServiceClient;
+
+    private final AtomicInteger hrCalls = new AtomicInteger();
+    private final AtomicInteger paidDaysCalls = new AtomicInteger();
+    private final AtomicInteger bulkCalls = new AtomicInteger();
+    private final List<Long> pageCursors = new ArrayList<>();
+    // 휴가 서비스 스텁의 월차 부여 이력 (근무 월 + 사용자 ID). 실제 서비스처럼 같은 월의 재요청은 건너뜁니다.
+    private final Set<String> grantLedger = new HashSet<>();
+    // 사용자별 일괄 부여 요청에 포함된 횟수
+    private final Map<Long, Integer> requestedTimes = new HashMap<>();
+    private int failOnBulkCall;
+
+    @BeforeEach
+    void setUpStubs() {
+        when(hrServiceClient.getActiveUserIds(anyLong(), anyInt())).thenAnswer(invocation -> {
+            hrCalls.incrementAndGet();
+            long after = invocation.getArgument(0);
+            int size = invocation.getArgument(1);
+            pageCursors.add(after);
+            List<Long> page = new ArrayList<>(size);
+            for (long userId = Math.max(after + 1, FIRST_USER_ID);
+                 userId < FIRST_USER_ID + USER_COUNT && page.size() < size; userId++) {
+                page.add(userId);
+            }
+            return page;
+        });
+
+        // 3명 중 1명은 유급 휴가 15일, 1명은 7.5일, 1명은 0일
+        when(vacationServiceClient.getApprovedPaidVacationDays(anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            paidDaysCalls.incrementAndGet();
+            List<Long> userIds = invocation.getArgument(0);
+            Map<Long, Double> result = new HashMap<>();
+            for (Long userId : userIds) {
+                if (userId % 3 == 0) {
+                    result.put(userId, 15.0);
+                } else if (userId % 3 == 1) {
+                    result.put(userId, 7.5);
+                }
+            }
+            return new CommonResDto<>(HttpStatus.OK, "ok", result);
+        });
+
+        when(vacationServiceClient.grantMonthlyLeaveBulk(anyList(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int call = bulkCalls.incrementAndGet();
+            if (call == failOnBulkCall) {
+                throw new IllegalStateException("vacation-service 응답 없음");
+            }
+            List<Long> userIds = invocation.getArgument(0);
+            String month = invocation.getArgument(1) + "-" + invocation.getArgument(2);
+            int granted = 0;
+            for (Long userId : userIds) {
+                requestedTimes.merge(userId, 1, Integer::sum);
+                if (grantLedger.add(month + ":" + userId)) {
+                    granted++;
+                }
+            }
+            return new CommonResDto<>(HttpStatus.OK, "ok", granted);
+        });
+    }
+
+    @Test
+    @DisplayName("사용자 10,000명을 청크마다 조회/집계/일괄 부여 한 번씩으로, 초당 500명 이상의 처리량으로 처리한다")
+    void accruesTenThousandUsersInChunks() {
+        YearMonth month = YearMonth.of(2024, 3);
+        List<Long> workedUsers = saveFullDaysForUsersWithHalfPaidLeave(month, 60, 8);
+        Timer timer = meterRegistry.timer(LeaveAccrualScheduler.ACCRUAL_TIMER, "job", "monthly");
+        double secondsBefore = timer.totalTime(TimeUnit.SECONDS);
+
+        int granted = leaveAccrualScheduler.accrueMonthlyLeave(month);
+
+        // 배치가 기록한 실행 시간(leave.accrual.duration{job=monthly})으로 처리량을 계산합니다.
+        double elapsedSeconds = timer.totalTime(TimeUnit.SECONDS) - secondsBefore;
+        double usersPerSecond = USER_COUNT / Math.max(elapsedSeconds, 1e-3);
+        assertThat(usersPerSecond)
+                .as("월차 부여 처리량: %,.0f users/s (%d명, %.2f초)", usersPerSecond, USER_COUNT, elapsedSeconds)
+                .isGreaterThanOrEqualTo(MIN_USERS_PER_SECOND);
+
+        int chunks = USER_COUNT / CHUNK_SIZE;
+        assertThat(granted).isEqualTo(expectedEligible() + workedUsers.size());
+        assertThat(paidDaysCalls.get()).isEqualTo(chunks);
+        assertThat(bulkCalls.get()).isEqualTo(chunks);
+        assertThat(hrCalls.get()).isEqualTo(chunks + 1); // 마지막 빈 페이지 확인 포함
+        assertThat(requestedTimes).containsKeys(workedUsers.toArray(new Long[0]));
+        assertThat(requestedTimes.values()).allMatch(times -> times == 1);
+
+        LeaveAccrualCheckpoint checkpoint = checkpointRepository
+                .findByJobNameAndPeriod(LeaveAccrualScheduler.MONTHLY_LEAVE_JOB, month.toString())
+                .orElseThrow();
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(USER_COUNT);
+        assertThat(checkpoint.getLastUserId()).isEqualTo(FIRST_USER_ID + USER_COUNT - 1);
+
+        // 완료된 월은 다시 실행해도 부여하지 않습니다.
+        assertThat(leaveAccrualScheduler.accrueMonthlyLeave(month)).isZero();
+        assertThat(bulkCalls.get()).isEqualTo(chunks);
+    }
+
+    @Test
+    @DisplayName("중간 청크에서 실패하면 다음 실행은 체크포인트 다음 사용자부터 이어서 처리한다")
+    void resumesFromCheckpointAfterFailure() {
+        YearMonth month = YearMonth.of(2024, 4);
+        failOnBulkCall = 3;
+
+        assertThatThrownBy(() -> leaveAccrualScheduler.accrueMonthlyLeave(month))
+                .isInstanceOf(IllegalStateException.class);
+
+        LeaveAccrualCheckpoint failed = checkpointRepository
+                .findByJobNameAndPeriod(LeaveAccrualScheduler.MONTHLY_LEAVE_JOB, month.toString())
+                .orElseThrow();
+        long lastCommitted = FIRST_USER_ID + 2L * CHUNK_SIZE - 1;
+        assertThat(failed.isCompleted()).isFalse();
+        assertThat(failed.getLastUserId()).isEqualTo(lastCommitted);
+
+        pageCursors.clear();
+        int granted = leaveAccrualScheduler.accrueMonthlyLeave(month);
+
+        assertThat(pageCursors.get(0)).isEqualTo(lastCommitted);
+        assertThat(grantLedger).hasSize(expectedEligible());
+        assertThat(granted + grantedBefore(lastCommitted)).isEqualTo(expectedEligible());
+        // 앞의 두 청크 사용자는 다시 요청되지 않습니다.
+        assertThat(requestedTimes.values()).allMatch(times -> times == 1);
+        assertThat(checkpointRepository
+                .findByJobNameAndPeriod(LeaveAccrualScheduler.MONTHLY_LEAVE_JOB, month.toString())
+                .orElseThrow()
+                .isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("입사 1주년 연차는 대상자별 기간으로 한 번에 집계해 출근율 80% 이상에게만 일괄 부여한다")
+    void grantsFirstYearLeaveFromSingleAggregation() {
+        YearMonth runMonth = YearMonth.of(2025, 2);
+        long fullTimer = 200_001L;  // 유급 휴가 15일, 평일 전부 종일 근무
+        long halfTimer = 200_003L;  // 유급 휴가 0일, 평일 전부 반일 근무
+        LocalDate fullHire = LocalDate.of(2024, 2, 5);
+        LocalDate halfHire = LocalDate.of(2024, 2, 20);
+        when(hrServiceClient.getUsersWithFirstAnniversaryInMonth(2024, 2)).thenReturn(new CommonResDto<>(HttpStatus.OK, "ok",
+                List.of(new UserDto(fullTimer, fullHire), new UserDto(halfTimer, halfHire))));
+
+        saveWeekdays(fullTimer, fullHire, fullHire.plusYears(1).minusDays(1), WorkDayType.FULL_DAY);
+        saveWeekdays(halfTimer, halfHire, halfHire.plusYears(1).minusDays(1), WorkDayType.HALF_DAY);
+        // 계산 기간(입사일) 이전 기록은 출근율에 포함되지 않아야 합니다.
+        saveWeekdays(halfTimer, LocalDate.of(2024, 2, 5), halfHire.minusDays(1), WorkDayType.FULL_DAY);
+
+        assertThat(leaveAccrualScheduler.grantFirstYearAnnualLeave(runMonth)).isEqualTo(1);
+
+        Map<Long, FirstYearLeaveTarget> targets = new HashMap<>();
+        firstYearLeaveTargetRepository.findByRunYearAndRunMonth(2025, 2)
+                .forEach(target -> targets.put(target.getUserId(), target));
+        double fullWeekdays = weekdays(fullHire, fullHire.plusYears(1).minusDays(1));
+        assertThat(targets.get(fullTimer).getAttendanceRate()).isCloseTo((fullWeekdays + 15) / fullWeekdays * 100, within(1e-9));
+        assertThat(targets.get(fullTimer).isGranted()).isTrue();
+        assertThat(targets.get(halfTimer).getAttendanceRate()).isCloseTo(50.0, within(1e-9));
+        assertThat(targets.get(halfTimer).isGranted()).isFalse();
+        verify(vacationServiceClient, times(1)).grantAnnualLeaveBulk(List.of(fullTimer), 2025, 2, 15);
+        verify(vacationServiceClient, times(2)).getApprovedPaidVacationDays(anyList(), anyString(), anyString());
+
+        // 같은 월을 다시 실행해도 이미 부여한 사용자에게 다시 부여하지 않습니다.
+        leaveAccrualScheduler.grantFirstYearAnnualLeave(runMonth);
+        verify(vacationServiceClient, times(1)).grantAnnualLeaveBulk(anyList(), anyInt(), anyInt(), anyInt());
+        assertThat(meterRegistry.find(LeaveAccrualScheduler.ACCRUAL_TIMER).tag("job", "first-year").timer().count())
+                .isEqualTo(2);
+    }
+
+    private void saveWeekdays(Long userId, LocalDate startDate, LocalDate endDate, WorkDayType workDayType) {
+        List<WorkStatus> workStatuses = new ArrayList<>();
+        startDate.datesUntil(endDate.plusDays(1))
+                .filter(date -> date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY)
+                .forEach(date -> workStatuses.add(WorkStatus.builder()
+                        .userId(userId)
+                        .date(date)
+                        .statusType(WorkStatusType.REGULAR)
+                        .workDayType(workDayType)
+                        .build()));
+        workStatusRepository.saveAll(workStatuses);
+    }
+
+    private long weekdays(LocalDate startDate, LocalDate endDate) {
+        return startDate.datesUntil(endDate.plusDays(1))
+                .filter(date -> date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY)
+                .count();
+    }
+
+    /**
+     * 유급 휴가 7.5일인 사용자 중 앞에서부터 count명에게 종일 근무 fullDays일을 저장합니다.
+     */
+    private List<Long> saveFullDaysForUsersWithHalfPaidLeave(YearMonth month, int count, int fullDays) {
+        List<WorkStatus> workStatuses = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        for (long userId = FIRST_USER_ID; userIds.size() < count; userId++) {
+            if (userId % 3 != 1) {
+                continue;
+            }
+            userIds.add(userId);
+            for (int day = 1; day <= fullDays; day++) {
+                workStatuses.add(WorkStatus.builder()
+                        .userId(userId)
+                        .date(month.atDay(day))
+                        .statusType(WorkStatusType.REGULAR)
+                        .workDayType(WorkDayType.FULL_DAY)
+                        .build());
+            }
+        }
+        workStatusRepository.saveAll(workStatuses);
+        return userIds;
+    }
+
+    private int expectedEligible() {
+        int eligible = 0;
+        for (long userId = FIRST_USER_ID; userId < FIRST_USER_ID + USER_COUNT; userId++) {
+            if (userId % 3 == 0) {
+                eligible++;
+            }
+        }
+        return eligible;
+    }
+
+    private int grantedBefore(long lastUserId) {
+        int granted = 0;
+        for (long userId = FIRST_USER_ID; userId <= lastUserId; userId++) {
+            if (userId % 3 == 0) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+}
@@ -0,0 +1,99 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.entity.Attendance;
+import com.playdata.attendanceservice.attendance.repository.AttendanceRepository;
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import com.playdata.attendanceservice.client.VacationServiceClient;
+import com.playdata.attendanceservice.common.exception.AttendanceAlreadyExistsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 사용자의 출근 요청 두 건이 사전 중복 확인을 동시에 통과해도
+ * 유니크 제약 위반이 500이 아니라 AttendanceAlreadyExistsException(409)으로 변환되는지 확인합니다.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "standard.checkin.time=09:00",
+    "standard.checkout.time=18:00"
+})
+class AttendanceCheckInConcurrencyTest {
+
+    private static final Long USER_ID = 900_001L;
+    private static final LocalDateTime CHECK_IN = LocalDate.of(2025, 7, 1).atTime(8, 50);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @MockBean
+    private InitialStatusLookup initialStatusLookup;
+
+    @MockBean
+    private ApprovalServiceClient approvalServiceClient;
+
+    @MockBean
+    private HrServiceClient hrServiceClient;
+
+    @MockBean
+    private VacationServiceClient vacationServiceClient;
+
+    @Test
+    @DisplayName("동시에 들어온 같은 날 출근 요청은 한 건만 저장되고 나머지는 AttendanceAlreadyExistsException으로 끝난다")
+    void concurrentCheckInsResolveToConflict() throws Exception {
+        // 두 요청이 모두 사전 중복 확인을 통과한 뒤에 저장 단계로 들어가도록 원격 조회 단계에서 맞춰 둡니다.
+        CyclicBarrier bothChecked = new CyclicBarrier(2);
+        when(initialStatusLookup.lookup(anyLong(), any(LocalDate.class))).thenAnswer(invocation -> {
+            bothChecked.await(5, TimeUnit.SECONDS);
+            return InitialStatusLookup.Result.NONE;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Attendance>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> attendanceService.recordCheckIn(USER_ID, "127.0.0.1", CHECK_IN)));
+            }
+
+            int succeeded = 0;
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Attendance> future : futures) {
+                try {
+                    assertThat(future.get(10, TimeUnit.SECONDS)).isNotNull();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(failures).singleElement().isInstanceOf(AttendanceAlreadyExistsException.class);
+            assertThat(attendanceRepository.findByUserIdAndAttendanceDate(USER_ID, CHECK_IN.toLocalDate())).isPresent();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.dto.MonthlySummaryResDto;
+import com.playdata.attendanceservice.attendance.entity.AttendanceMonthlySummary;
+import com.playdata.attendanceservice.attendance.repository.AttendanceMonthlySummaryRepository;
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "standard.checkin.time=09:00",
+    "standard.checkout.time=18:00"
+})
+class AttendanceMonthlySummaryUpdaterTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 6);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceMonthlySummaryUpdater monthlySummaryUpdater;
+
+    @Autowired
+    private AttendanceMonthlySummaryRepository summaryRepository;
+
+    @MockBean
+    private ApprovalServiceClient approvalServiceClient;
+
+    @MockBean
+    private HrServiceClient hrServiceClient;
+
+    @Test
+    @DisplayName("출근/퇴근 시 증분 갱신한 월간 집계가 근태 기록으로 다시 계산한 값과 같다")
+    void incrementalSummaryMatchesLiveComputation() {
+        Long userId = 9001L;
+        // 정상 출근, 지각, 야간 근무, 주말 근무, 퇴근하지 않은 날을 섞습니다.
+        record(userId, LocalDate.of(2025, 6, 2), 8, 55, 18, 10);
+        record(userId, LocalDate.of(2025, 6, 3), 9, 20, 17, 30);
+        record(userId, LocalDate.of(2025, 6, 4), 8, 40, 23, 45);
+        record(userId, LocalDate.of(2025, 6, 7), 10, 0, 15, 0);
+        attendanceService.recordCheckIn(userId, "127.0.0.1", LocalDate.of(2025, 6, 9).atTime(9, 5));
+
+        AttendanceMonthlySummary stored = summaryRepository
+                .findByUserIdAndSummaryYearAndSummaryMonth(userId, MONTH.getYear(), MONTH.getMonthValue())
+                .orElseThrow();
+        AttendanceMonthlySummary live = monthlySummaryUpdater.compute(userId, MONTH);
+
+        assertThat(stored).usingRecursiveComparison().ignoringFields("id").isEqualTo(live);
+        assertThat(stored.getAttendanceCount()).isEqualTo(5);
+        assertThat(stored.getLateCount()).isEqualTo(3); // 09:20, 주말 10:00, 09:05
+        assertThat(stored.getHolidayWorkMinutes()).isEqualTo(4 * 60);
+    }
+
+    @Test
+    @DisplayName("집계 행을 지워도 재계산하면 같은 값으로 복구된다")
+    void rebuildRestoresSummary() {
+        Long userId = 9002L;
+        record(userId, LocalDate.of(2025, 6, 10), 9, 0, 21, 0);
+        record(userId, LocalDate.of(2025, 6, 11), 9, 30, 12, 30);
+
+        AttendanceMonthlySummary before = monthlySummaryUpdater.find(userId, MONTH);
+        summaryRepository.deleteAll(summaryRepository.findAll().stream()
+                .filter(s -> s.getUserId().equals(userId))
+                .toList());
+
+        assertThat(monthlySummaryUpdater.find(userId, MONTH))
+                .usingRecursiveComparison().ignoringFields("id").isEqualTo(before);
+        assertThat(attendanceService.rebuildMonthlySummaries(MONTH.getYear(), MONTH.getMonthValue())).isPositive();
+        assertThat(summaryRepository.findByUserIdAndSummaryYearAndSummaryMonth(userId, MONTH.getYear(), MONTH.getMonthValue()))
+                .get().usingRecursiveComparison().ignoringFields("id").isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 일괄 조회 결과가 사용자별로 계산한 월간 집계와 같다")
+    void bulkSummariesMatchPerUserComputation() {
+        record(9101L, LocalDate.of(2025, 6, 16), 8, 50, 19, 0);
+        record(9101L, LocalDate.of(2025, 6, 17), 9, 10, 18, 0);
+        record(9102L, LocalDate.of(2025, 6, 16), 9, 0, 22, 30);
+        attendanceService.recordCheckIn(9103L, "127.0.0.1", LocalDate.of(2025, 6, 18).atTime(8, 0));
+
+        List<MonthlySummaryResDto> byIds = new ArrayList<>();
+        List<Boolean> inTransaction = new ArrayList<>();
+        attendanceService.streamMonthlySummaries(MONTH.getYear(), MONTH.getMonthValue(),
+                List.of(9101L, 9102L, 9103L, 9199L), null, 0, summary -> {
+                    byIds.add(summary);
+                    inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+                });
+
+        // 응답 스트림에 쓰는 동안에는 트랜잭션(DB 연결)을 잡고 있지 않아야 합니다.
+        assertThat(inTransaction).containsOnly(false);
+
+        assertThat(byIds).extracting(MonthlySummaryResDto::getUserId).containsExactly(9101L, 9102L, 9103L);
+        for (MonthlySummaryResDto summary : byIds) {
+            assertThat(summary).usingRecursiveComparison()
+                    .isEqualTo(MonthlySummaryResDto.from(monthlySummaryUpdater.compute(summary.getUserId(), MONTH)));
+        }
+
+        List<MonthlySummaryResDto> page = new ArrayList<>();
+        attendanceService.streamMonthlySummaries(MONTH.getYear(), MONTH.getMonthValue(), null, 9101L, 1, page::add);
+        assertThat(page).extracting(MonthlySummaryResDto::getUserId).containsExactly(9102L);
+    }
+
+    private void record(Long userId, LocalDate date, int inHour, int inMinute, int outHour, int outMinute) {
+        attendanceService.recordCheckIn(userId, "127.0.0.1", date.atTime(inHour, inMinute));
+        attendanceService.recordCheckOut(userId, date.atTime(outHour, outMinute));
+    }
+}
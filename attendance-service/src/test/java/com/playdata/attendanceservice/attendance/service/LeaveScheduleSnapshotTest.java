@@ -0,0 +1,68 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.repository.LeaveSnapshotInvalidationRepository;
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import com.playdata.attendanceservice.client.VacationServiceClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 결재 승인 알림을 한 인스턴스만 받아도, 같은 DB를 쓰는 다른 인스턴스의 당일 휴가 스냅샷이
+ * 무효화 기록을 동기화한 뒤 해당 사용자를 원격으로 다시 확인하는지 확인합니다.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "standard.checkin.time=09:00",
+    "standard.checkout.time=18:00"
+})
+class LeaveScheduleSnapshotTest {
+
+    private static final Long USER_ID = 910_001L;
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 15);
+
+    @Autowired
+    private LeaveSnapshotInvalidationRepository invalidationRepository;
+
+    @MockBean
+    private ApprovalServiceClient approvalServiceClient;
+
+    @MockBean
+    private HrServiceClient hrServiceClient;
+
+    @MockBean
+    private VacationServiceClient vacationServiceClient;
+
+    @Test
+    @DisplayName("한 인스턴스가 받은 휴가 승인 알림은 다른 인스턴스도 동기화 후 원격 재조회 대상으로 본다")
+    void invalidationReachesOtherInstance() {
+        given(hrServiceClient.getApprovedExternalScheduleTypes(anyString())).willReturn(Map.of());
+        given(approvalServiceClient.getApprovedLeaveTypes(anyString())).willReturn(Map.of());
+        LeaveScheduleSnapshot first = new LeaveScheduleSnapshot(hrServiceClient, approvalServiceClient, invalidationRepository);
+        LeaveScheduleSnapshot second = new LeaveScheduleSnapshot(hrServiceClient, approvalServiceClient, invalidationRepository);
+        first.refresh(TODAY);
+        second.refresh(TODAY);
+        // 이전 테스트나 스케줄러가 남긴 기록은 미리 읽어 둡니다.
+        second.syncInvalidations();
+
+        // 승인 알림은 첫 번째 인스턴스에만 도착합니다.
+        first.invalidate(USER_ID);
+
+        assertThat(first.find(USER_ID, TODAY)).isEmpty();
+        assertThat(second.find(USER_ID, TODAY)).contains(InitialStatusLookup.Result.NONE);
+
+        assertThat(second.syncInvalidations()).isGreaterThanOrEqualTo(1);
+        assertThat(second.find(USER_ID, TODAY)).isEmpty();
+    }
+}
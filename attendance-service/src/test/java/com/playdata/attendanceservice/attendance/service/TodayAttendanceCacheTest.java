@@ -0,0 +1,164 @@
+package com.playdata.attendanceservice.attendance.service;
+
+import com.playdata.attendanceservice.attendance.dto.AttendanceResDto;
+import com.playdata.attendanceservice.attendance.entity.Attendance;
+import com.playdata.attendanceservice.common.util.WorkTimeCalculator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodayAttendanceCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 1);
+    private static final Long USER_ID = 7001L;
+
+    private MutableClock clock;
+    private AtomicLong nanos;
+    private SimpleMeterRegistry meterRegistry;
+    private TodayAttendanceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY.atTime(13, 0).toInstant(ZoneOffset.UTC));
+        nanos = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TodayAttendanceCache(2, Duration.ofSeconds(60), meterRegistry, clock, nanos::get);
+    }
+
+    @Test
+    @DisplayName("기록 후 조회는 캐시에서 응답하고, 근무 시간은 WorkTimeCalculator와 같은 값으로 계산한다")
+    void servesWrittenSnapshotAndMatchesCalculator() {
+        Attendance attendance = attendance(TODAY.atTime(8, 50), null, TODAY.atTime(11, 0), TODAY.atTime(11, 40));
+        cache.putAfterCommit(attendance, view(attendance));
+
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        TodayAttendanceCache.Snapshot snapshot = cache.find(USER_ID, TODAY);
+
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.isCheckedIn()).isTrue();
+        assertThat(snapshot.isCheckedOut()).isFalse();
+        assertThat(snapshot.getView().getGoOutTime()).isEqualTo(TODAY.atTime(11, 0));
+        assertThat(snapshot.workedDuration(cache.currentMillis()))
+                .isEqualTo(WorkTimeCalculator.calculateActualWorkedDuration(attendance.getCheckInTime(),
+                        TODAY.atTime(13, 0), attendance.getGoOutTime(), attendance.getReturnTime()));
+        assertThat(meterRegistry.get("attendance.today.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("attendance.today.cache.staleness").timer().max(TimeUnit.SECONDS))
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("퇴근 후에는 현재 시각과 관계없이 퇴근 시각까지의 근무 시간을 계산하고, 출근 시각보다 이른 시각은 0으로 처리한다")
+    void workedDurationIsBoundedByCheckOutAndNeverNegative() {
+        Attendance checkedOut = attendance(TODAY.atTime(9, 0), TODAY.atTime(18, 0), TODAY.atTime(12, 0), null);
+        cache.putAfterCommit(checkedOut, view(checkedOut));
+
+        TodayAttendanceCache.Snapshot snapshot = cache.find(USER_ID, TODAY);
+        // 복귀 기록 없이 퇴근했으면 퇴근 시각까지를 외출로 봅니다.
+        assertThat(snapshot.workedDuration(cache.currentMillis())).isEqualTo(Duration.ofHours(3));
+
+        Attendance checkedIn = attendance(TODAY.atTime(13, 0, 30), null, null, null);
+        cache.putAfterCommit(checkedIn, view(checkedIn));
+        // 다른 서버에서 기록된 출근 시각이 이 서버 시각보다 앞선 경우
+        assertThat(cache.find(USER_ID, TODAY).workedDuration(cache.currentMillis())).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 도중 기록된 최신 스냅샷은 먼저 시작한 DB 조회 결과로 덮어쓰지 않는다")
+    void fillDoesNotOverwriteNewerWrite() {
+        long ticket = cache.ticket();
+        // DB 조회 중에 출근이 커밋됨
+        Attendance checkedIn = attendance(TODAY.atTime(9, 0), null, null, null);
+        cache.putAfterCommit(checkedIn, view(checkedIn));
+
+        TodayAttendanceCache.Snapshot filled = cache.fill(USER_ID, TODAY, null, null, ticket);
+
+        assertThat(filled.isCheckedIn()).isTrue();
+        assertThat(cache.find(USER_ID, TODAY).isCheckedIn()).isTrue();
+    }
+
+    @Test
+    @DisplayName("출근 전 상태도 캐시하고, max-age가 지나거나 날짜가 바뀌면 미스로 처리한다")
+    void expiresByAgeAndDateRollover() {
+        cache.fill(USER_ID, TODAY, null, null, cache.ticket());
+        assertThat(cache.find(USER_ID, TODAY).isCheckedIn()).isFalse();
+
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        assertThat(cache.find(USER_ID, TODAY)).isNull();
+
+        cache.fill(USER_ID, TODAY, null, null, cache.ticket());
+        assertThat(cache.find(USER_ID, TODAY.plusDays(1))).isNull();
+        assertThat(cache.size()).isZero();
+
+        assertThat(meterRegistry.get("attendance.today.cache").tag("result", "miss").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("attendance.today.cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("오늘이 아닌 기록은 캐시하지 않고, 최대 크기에 도달하면 지난 날짜 항목부터 정리한다")
+    void skipsOtherDatesAndRespectsMaxSize() {
+        cache.putAfterCommit(attendance(TODAY.minusDays(1).atTime(9, 0), null, null, null), null);
+        assertThat(cache.size()).isZero();
+
+        cache.fill(1L, TODAY, null, null, cache.ticket());
+        cache.fill(2L, TODAY, null, null, cache.ticket());
+        cache.fill(3L, TODAY, null, null, cache.ticket());
+        assertThat(cache.size()).isEqualTo(2);
+
+        clock.instant = TODAY.plusDays(1).atTime(0, 1).toInstant(ZoneOffset.UTC);
+        cache.fill(3L, TODAY.plusDays(1), null, null, cache.ticket());
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.find(3L, TODAY.plusDays(1))).isNotNull();
+    }
+
+    private static Attendance attendance(LocalDateTime checkIn, LocalDateTime checkOut,
+                                         LocalDateTime goOut, LocalDateTime returnTime) {
+        return Attendance.builder()
+                .userId(USER_ID)
+                .attendanceDate(checkIn.toLocalDate())
+                .checkInTime(checkIn)
+                .checkOutTime(checkOut)
+                .goOutTime(goOut)
+                .returnTime(returnTime)
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+
+    private static AttendanceResDto view(Attendance attendance) {
+        return AttendanceResDto.from(attendance, null, null, null, null);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
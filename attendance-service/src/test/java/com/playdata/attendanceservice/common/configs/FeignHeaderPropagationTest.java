@@ -0,0 +1,164 @@
+package com.playdata.attendanceservice.common.configs;
+
+import com.playdata.attendanceservice.common.auth.CallerContext;
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.IdentityHeaderVerifier;
+import com.playdata.common.auth.ServiceIdentity;
+import com.playdata.common.auth.VerifiedIdentity;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 스레드 밖(CompletableFuture, 가상 스레드, 스프링 실행기, 스케줄 작업)에서 Feign 호출을 해도
+ * 호출자 식별/추적 헤더가 그대로 전달되는지 확인합니다.
+ */
+class FeignHeaderPropagationTest {
+
+    private static final String SECRET = "feign-header-propagation-test-secret-key";
+    private static final String USER_IDENTITY = "signed-user-identity";
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private RequestInterceptor interceptor;
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        ServiceIdentity serviceIdentity = new ServiceIdentity(new IdentityHeaderEncoder(SECRET), "attendance-service", Duration.ofMinutes(10));
+        interceptor = new FeignClientConfig().requestInterceptor(serviceIdentity);
+
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setTaskDecorator(new TaskContextConfig().callerContextTaskDecorator());
+        taskExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        taskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("CompletableFuture 공용 풀로 넘긴 Feign 호출에도 사용자 식별 헤더와 추적 헤더가 전달된다")
+    void headersSurviveCompletableFuture() throws Exception {
+        bindUserRequest();
+
+        Map<String, Collection<String>> headers = CompletableFuture
+                .supplyAsync(CallerContext.wrap(this::applyInterceptor))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(headers.get(IdentityHeaderEncoder.HEADER_NAME)).containsExactly(USER_IDENTITY);
+        assertThat(headers.get("traceparent")).containsExactly(TRACEPARENT);
+        assertThat(headers.get(CallerContext.REQUEST_ID_HEADER)).containsExactly("req-1");
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 스프링 실행기로 한 번 더 넘겨도 헤더가 유지된다")
+    void headersSurviveNestedHops() throws Exception {
+        bindUserRequest();
+
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, Collection<String>>> result = virtualThreads.submit(CallerContext.wrap(() -> {
+                // 가상 스레드 안에서 다시 스프링 실행기(TaskDecorator 적용)로 제출합니다.
+                assertThat(RequestContextHolder.getRequestAttributes()).isNull();
+                return taskExecutor.submitCompletable(this::applyInterceptor).join();
+            })::get);
+
+            Map<String, Collection<String>> headers = result.get(5, TimeUnit.SECONDS);
+            assertThat(headers.get(IdentityHeaderEncoder.HEADER_NAME)).containsExactly(USER_IDENTITY);
+            assertThat(headers.get("traceparent")).containsExactly(TRACEPARENT);
+        }
+    }
+
+    @Test
+    @DisplayName("평문 X-User-* 헤더도 전달되고, 작업이 끝난 실행기 스레드에는 이전 사용자 정보가 남지 않는다")
+    void legacyHeadersPropagateWithoutLeakingToPooledThread() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Email", "user@samubozo.co.kr");
+        request.addHeader("X-User-Role", "USER");
+        request.addHeader("X-User-Employee-No", "1001");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Map<String, Collection<String>> userHeaders = taskExecutor.submit(this::applyInterceptor).get(5, TimeUnit.SECONDS);
+        assertThat(userHeaders.get("X-User-Employee-No")).containsExactly("1001");
+        assertThat(userHeaders).doesNotContainKey(IdentityHeaderEncoder.HEADER_NAME);
+
+        // 요청 밖에서 같은 풀 스레드로 제출하면 사용자 헤더 대신 서비스 식별 헤더를 보냅니다.
+        RequestContextHolder.resetRequestAttributes();
+        Map<String, Collection<String>> laterHeaders = taskExecutor.submit(this::applyInterceptor).get(5, TimeUnit.SECONDS);
+        assertThat(laterHeaders).doesNotContainKey("X-User-Employee-No");
+        assertThat(decodeIdentity(laterHeaders).role()).isEqualTo(ServiceIdentity.ROLE);
+    }
+
+    @Test
+    @DisplayName("스케줄 작업은 서명된 서비스 식별 헤더로 호출하고, 한 번의 실행은 같은 요청 ID를 공유한다")
+    void scheduledJobUsesServiceIdentity() throws Exception {
+        Runnable job = TaskContextConfig.scheduledJobDecorator("attendance-service").decorate(() -> {
+            Map<String, Collection<String>> first = applyInterceptor();
+            // 스케줄 작업 안에서 비동기로 넘긴 호출도 같은 컨텍스트를 사용합니다.
+            Map<String, Collection<String>> second = CompletableFuture
+                    .supplyAsync(CallerContext.wrap(this::applyInterceptor))
+                    .join();
+
+            VerifiedIdentity serviceUser = decodeIdentity(first);
+            assertThat(serviceUser.role()).isEqualTo(ServiceIdentity.ROLE);
+            assertThat(serviceUser.email()).isEqualTo("attendance-service");
+            assertThat(serviceUser.employeeNo()).isEqualTo(ServiceIdentity.EMPLOYEE_NO);
+            assertThat(first.get(CallerContext.REQUEST_ID_HEADER)).singleElement().asString().startsWith("attendance-service-job-");
+            assertThat(second.get(CallerContext.REQUEST_ID_HEADER)).containsExactlyElementsOf(first.get(CallerContext.REQUEST_ID_HEADER));
+        });
+
+        try (ExecutorService schedulerThread = Executors.newSingleThreadExecutor()) {
+            schedulerThread.submit(job).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("인증 헤더 없이 들어온 요청은 서비스 식별 헤더로 바꾸지 않는다")
+    void anonymousRequestIsNotElevated() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertThat(applyInterceptor()).doesNotContainKey(IdentityHeaderEncoder.HEADER_NAME);
+    }
+
+    private void bindUserRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdentityHeaderEncoder.HEADER_NAME, USER_IDENTITY);
+        request.addHeader("traceparent", TRACEPARENT);
+        request.addHeader(CallerContext.REQUEST_ID_HEADER, "req-1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private Map<String, Collection<String>> applyInterceptor() {
+        RequestTemplate template = new RequestTemplate();
+        interceptor.apply(template);
+        return template.headers();
+    }
+
+    private static VerifiedIdentity decodeIdentity(Map<String, Collection<String>> headers) {
+        List<String> values = List.copyOf(headers.get(IdentityHeaderEncoder.HEADER_NAME));
+        VerifiedIdentity identity = new IdentityHeaderVerifier(SECRET, 10, false).verify(values.get(0));
+        assertThat(identity).isNotNull();
+        return identity;
+    }
+}
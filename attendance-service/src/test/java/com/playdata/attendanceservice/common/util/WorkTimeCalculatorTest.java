@@ -0,0 +1,105 @@
+package com.playdata.attendanceservice.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkTimeCalculatorTest {
+
+    private static final int CASES = 100_000;
+
+    @Test
+    @DisplayName("임의의 출퇴근 시각에 대해 calculate()가 기존 calculateWorkTimes()와 같은 분 단위 결과를 낸다")
+    void calculateMatchesLegacy() {
+        Random random = new Random(20250715L);
+        LocalDate base = LocalDate.of(2025, 1, 1);
+
+        for (int i = 0; i < CASES; i++) {
+            LocalDate attendanceDate = base.plusDays(random.nextInt(365));
+            LocalDateTime checkIn = randomDateTime(random, attendanceDate);
+            // 0 ~ 26시간 근무. 일부는 퇴근이 출근보다 앞서거나(무효) 자정을 넘깁니다.
+            LocalDateTime checkOut = checkIn.plusNanos(randomNanos(random, Duration.ofHours(26)))
+                    .minusMinutes(random.nextInt(20) == 0 ? 60 : 0);
+
+            Map<String, Duration> legacy = WorkTimeCalculator.calculateWorkTimes(checkIn, checkOut, attendanceDate);
+            WorkTimes workTimes = WorkTimeCalculator.calculate(checkIn, checkOut, attendanceDate);
+
+            String input = checkIn + " ~ " + checkOut + " (" + attendanceDate + ")";
+            assertThat(workTimes.getTotalWorkMinutes()).as(input).isEqualTo(legacy.get("totalWorkTime").toMinutes());
+            assertThat(workTimes.getNormalWorkMinutes()).as(input).isEqualTo(legacy.get("normalWorkTime").toMinutes());
+            assertThat(workTimes.getOvertimeWorkMinutes()).as(input).isEqualTo(legacy.get("overtimeWorkTime").toMinutes());
+            assertThat(workTimes.getNightWorkMinutes()).as(input).isEqualTo(legacy.get("nightWorkTime").toMinutes());
+
+            boolean weekend = attendanceDate.getDayOfWeek() == DayOfWeek.SATURDAY
+                    || attendanceDate.getDayOfWeek() == DayOfWeek.SUNDAY;
+            assertThat(workTimes.getHolidayWorkMinutes()).as(input)
+                    .isEqualTo(weekend ? workTimes.getTotalWorkMinutes() : 0);
+        }
+    }
+
+    @Test
+    @DisplayName("formatMinutes()는 String.format(\"%02d:%02d\")과 같은 문자열을 만든다")
+    void formatMinutesMatchesStringFormat() {
+        Random random = new Random(42L);
+        for (int i = 0; i < CASES; i++) {
+            long minutes = random.nextInt(10) == 0 ? random.nextInt(20_000) : random.nextInt(24 * 60);
+            String expected = String.format("%02d:%02d", minutes / 60, minutes % 60);
+
+            assertThat(WorkTimeCalculator.formatMinutes(minutes)).isEqualTo(expected);
+            assertThat(WorkTimeCalculator.formatDuration(Duration.ofMinutes(minutes).plusSeconds(random.nextInt(60))))
+                    .isEqualTo(expected);
+        }
+        assertThat(WorkTimeCalculator.formatDuration(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("평일 야간 근무는 연장/심야로, 주말 근무는 연장/휴일로 나뉜다")
+    void splitsWeekdayAndWeekendWork() {
+        // 2025-07-15(화) 08:30 ~ 익일 02:00
+        LocalDate tuesday = LocalDate.of(2025, 7, 15);
+        WorkTimes weekday = WorkTimeCalculator.calculate(
+                tuesday.atTime(8, 30), tuesday.plusDays(1).atTime(2, 0), tuesday);
+
+        assertThat(weekday.getTotalWorkMinutes()).isEqualTo(17 * 60 + 30 - 60);
+        assertThat(weekday.getNormalWorkMinutes()).isEqualTo(8 * 60);
+        assertThat(weekday.getOvertimeWorkMinutes()).isEqualTo(4 * 60);
+        assertThat(weekday.getNightWorkMinutes()).isEqualTo(4 * 60);
+        assertThat(weekday.getHolidayWorkMinutes()).isZero();
+
+        // 2025-07-19(토) 10:00 ~ 15:00
+        LocalDate saturday = LocalDate.of(2025, 7, 19);
+        WorkTimes weekend = WorkTimeCalculator.calculate(saturday.atTime(10, 0), saturday.atTime(15, 0), saturday);
+
+        assertThat(weekend.getTotalWorkMinutes()).isEqualTo(4 * 60);
+        assertThat(weekend.getOvertimeWorkMinutes()).isEqualTo(4 * 60);
+        assertThat(weekend.getHolidayWorkMinutes()).isEqualTo(4 * 60);
+        assertThat(weekend.getNormalWorkMinutes()).isZero();
+
+        assertThat(WorkTimeCalculator.calculate(tuesday.atTime(9, 0), tuesday.atTime(9, 0), tuesday))
+                .isSameAs(WorkTimes.ZERO);
+    }
+
+    private static LocalDateTime randomDateTime(Random random, LocalDate date) {
+        // 절반은 초 단위(DB 저장값), 절반은 나노초까지 있는 값(LocalDateTime.now())
+        long nanoOfDay = randomNanos(random, Duration.ofDays(1));
+        if (random.nextBoolean()) {
+            nanoOfDay -= nanoOfDay % 1_000_000_000L;
+        }
+        // 전날 밤에 출근하는 경우도 섞습니다.
+        LocalDate day = random.nextInt(10) == 0 ? date.minusDays(1) : date;
+        return day.atTime(LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    private static long randomNanos(Random random, Duration bound) {
+        return (long) (random.nextDouble() * bound.toNanos());
+    }
+}
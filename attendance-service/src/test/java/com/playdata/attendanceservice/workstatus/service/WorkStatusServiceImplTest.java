@@ -0,0 +1,63 @@
+package com.playdata.attendanceservice.workstatus.service;
+
+import com.playdata.attendanceservice.client.ApprovalServiceClient;
+import com.playdata.attendanceservice.client.HrServiceClient;
+import com.playdata.attendanceservice.workstatus.entity.WorkStatus;
+import com.playdata.attendanceservice.workstatus.entity.WorkStatusType;
+import com.playdata.attendanceservice.workstatus.repository.WorkStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "standard.checkin.time=09:00",
+    "standard.checkout.time=18:00"
+})
+class WorkStatusServiceImplTest {
+
+    @Autowired
+    private WorkStatusService workStatusService;
+
+    @Autowired
+    private WorkStatusRepository workStatusRepository;
+
+    @MockBean
+    private ApprovalServiceClient approvalServiceClient;
+
+    @MockBean
+    private HrServiceClient hrServiceClient;
+
+    @Test
+    @DisplayName("여러 사용자의 기간 근무 상태를 일괄 기록하고, 기존 행은 상태만 바꾸고 지각 여부를 유지한다")
+    void upsertsRangeForMultipleUsers() {
+        List<Long> userIds = List.of(9201L, 9202L, 9203L);
+        LocalDate startDate = LocalDate.of(2025, 7, 7);
+        LocalDate endDate = LocalDate.of(2025, 7, 18);
+        workStatusRepository.save(WorkStatus.recordLate(9202L, LocalDate.of(2025, 7, 9),
+                LocalDate.of(2025, 7, 9).atTime(9, 30), "지각"));
+
+        workStatusService.updateWorkStatuses(userIds, startDate, endDate, WorkStatusType.BUSINESS_TRIP, "부서 출장");
+
+        List<WorkStatus> saved = workStatusRepository.findByUserIdInAndDateBetween(userIds, startDate, endDate);
+        assertThat(saved).hasSize(3 * 12);
+        assertThat(saved).allMatch(ws -> ws.getStatusType() == WorkStatusType.BUSINESS_TRIP && "부서 출장".equals(ws.getReason()));
+        WorkStatus wasLate = workStatusRepository.findByUserIdAndDate(9202L, LocalDate.of(2025, 7, 9)).orElseThrow();
+        assertThat(wasLate.isLate()).isTrue();
+        assertThat(wasLate.getCheckInTime()).isEqualTo(LocalDate.of(2025, 7, 9).atTime(9, 30));
+
+        // 같은 기간을 다시 기록해도 행이 늘어나지 않습니다.
+        workStatusService.updateWorkStatuses(userIds, startDate, endDate, WorkStatusType.OFFICIAL_LEAVE, "공가");
+        assertThat(workStatusRepository.findByUserIdInAndDateBetween(userIds, startDate, endDate))
+                .hasSize(3 * 12)
+                .allMatch(ws -> ws.getStatusType() == WorkStatusType.OFFICIAL_LEAVE);
+    }
+}
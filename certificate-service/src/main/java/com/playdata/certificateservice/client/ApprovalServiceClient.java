@@ -13,7 +13,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(name = "approval-service", configuration = FeignClientConfig.class)
 public interface ApprovalServiceClient {
@@ -28,8 +27,8 @@ public interface ApprovalServiceClient {
     ApprovalRequestResponseDto getApprovalRequestById(@PathVariable("id") Long id);
 
     @PutMapping("/approvals/{id}/approve")
-    ApprovalRequestResponseDto approveApprovalRequest(@PathVariable("id") Long id, @RequestHeader("X-User-Employee-No") Long employeeNo);
+    ApprovalRequestResponseDto approveApprovalRequest(@PathVariable("id") Long id);
 
     @PutMapping("/approvals/{id}/reject")
-    ApprovalRequestResponseDto rejectApprovalRequest(@PathVariable("id") Long id, @RequestHeader("X-User-Employee-No") Long employeeNo, @RequestBody ApprovalRejectRequestDto rejectDto);
+    ApprovalRequestResponseDto rejectApprovalRequest(@PathVariable("id") Long id, @RequestBody ApprovalRejectRequestDto rejectDto);
 }
@@ -1,5 +1,7 @@
 package com.playdata.certificateservice.common.configs;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.ServiceIdentity;
 import feign.RequestInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -13,13 +15,20 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class FeignClientConfig {
 
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceIdentity serviceIdentity) {
         return requestTemplate -> {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
 
             if (attributes != null) {
                 HttpServletRequest httpRequest = attributes.getRequest();
 
+                // 게이트웨이가 서명한 식별 헤더가 있으면 그 헤더 하나만 전달합니다.
+                String identity = httpRequest.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+                if (identity != null) {
+                    requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, identity);
+                    return;
+                }
+
                 String userEmail = httpRequest.getHeader("X-User-Email");
                 String userRole = httpRequest.getHeader("X-User-Role");
                 String employeeNo = httpRequest.getHeader("X-User-Employee-No");
@@ -37,7 +46,9 @@ public class FeignClientConfig {
                     log.debug("Feign Interceptor: Added X-User-Employee-No header: {}", employeeNo);
                 }
             } else {
-                log.warn("Feign Interceptor: RequestContextHolder is null. Cannot propagate X-User-* headers.");
+                // 요청 밖(비동기 스레드, 스케줄 작업)에서는 서명된 서비스 식별 헤더로 호출합니다.
+                requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, serviceIdentity.header());
+                log.debug("Feign Interceptor: No request context. Using service identity for {}", requestTemplate.url());
             }
         };
     }
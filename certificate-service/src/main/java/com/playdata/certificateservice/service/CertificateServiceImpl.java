@@ -517,6 +517,12 @@ public class CertificateServiceImpl implements CertificateService {
                 () -> new EntityNotFoundException("Certificate not found with id: " + id)
         );
 
+        // approval-service는 실패 시 같은 승인 이벤트를 재전송하므로, 이미 승인된 증명서는 그대로 둡니다.
+        if (certificate.getStatus() == Status.APPROVED) {
+            log.info("Certificate {} is already approved. Skipping duplicate approval.", id);
+            return;
+        }
+
         certificate.approve(approverId, approverName);
         certificate.setApproveDate(java.time.LocalDate.now());
 
@@ -716,7 +722,7 @@ public class CertificateServiceImpl implements CertificateService {
             // approval-service의 rejectApprovalRequest API 호출
             com.playdata.certificateservice.client.dto.ApprovalRejectRequestDto approvalRejectRequestDto = new com.playdata.certificateservice.client.dto.ApprovalRejectRequestDto();
             approvalRejectRequestDto.setRejectComment(rejectDto.getRejectComment());
-            ApprovalRequestResponseDto updatedApprovalRequest = approvalServiceClient.rejectApprovalRequest(approvalRequestId, userInfo.getEmployeeNo(), approvalRejectRequestDto);
+            ApprovalRequestResponseDto updatedApprovalRequest = approvalServiceClient.rejectApprovalRequest(approvalRequestId, approvalRejectRequestDto);
 
             // Certificate 엔티티 업데이트
             // HR 서비스에서 반려자 이름 조회
@@ -1,5 +1,8 @@
 package com.playdata.chatbotservice.common.auth;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.IdentityHeaderVerifier;
+import com.playdata.common.auth.VerifiedIdentity;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,9 +25,30 @@ import java.util.List;
 @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private final IdentityHeaderVerifier identityHeaderVerifier;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
+        // 게이트웨이가 서명한 식별 헤더가 있으면 평문 X-User-* 헤더 대신 이 값을 사용합니다.
+        String identity = request.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+        if (identity != null) {
+            TokenUserInfo userInfo = toUserInfo(identityHeaderVerifier.verify(identity));
+            if (userInfo != null) {
+                Authentication auth = new UsernamePasswordAuthenticationToken(
+                        userInfo, "", List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getHrRole())));
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            } else {
+                log.warn("Invalid or expired {} header. Request is not authenticated.", IdentityHeaderEncoder.HEADER_NAME);
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!identityHeaderVerifier.isLegacyHeadersAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String userEmail = request.getHeader("X-User-Email");
         String userRole = request.getHeader("X-User-Role");
         String employeeNoStr = request.getHeader("X-User-Employee-No");
@@ -37,7 +61,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
         }
 
-        log.info("userEmail:{} userRole:{} employeeNo:{}", userEmail, userRole, employeeNo);
+        log.debug("userEmail:{} userRole:{} employeeNo:{}", userEmail, userRole, employeeNo);
 
         if (userEmail != null && userRole != null && employeeNo != null) {
             List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
@@ -55,4 +79,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
 
     }
-}
\ No newline at end of file
+
+    private TokenUserInfo toUserInfo(VerifiedIdentity identity) {
+        return identity == null ? null : new TokenUserInfo(identity.email(), identity.role(), identity.employeeNo());
+    }
+}
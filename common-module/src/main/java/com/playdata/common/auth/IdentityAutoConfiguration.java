@@ -0,0 +1,37 @@
+package com.playdata.common.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * 식별 헤더 관련 빈을 등록합니다. 모든 서비스가 같은 키(identity.secret-key, 없으면 jwt.secretKey)를 사용해야 합니다.
+ */
+@AutoConfiguration
+public class IdentityAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdentityHeaderEncoder identityHeaderEncoder(@Value("${identity.secret-key:${jwt.secretKey}}") String secretKey) {
+        return new IdentityHeaderEncoder(secretKey);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdentityHeaderVerifier identityHeaderVerifier(@Value("${identity.secret-key:${jwt.secretKey}}") String secretKey,
+                                                         @Value("${identity.cache.max-size:10000}") int maxCacheSize,
+                                                         @Value("${identity.legacy-headers-allowed:false}") boolean legacyHeadersAllowed) {
+        return new IdentityHeaderVerifier(secretKey, maxCacheSize, legacyHeadersAllowed);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ServiceIdentity serviceIdentity(IdentityHeaderEncoder identityHeaderEncoder,
+                                           @Value("${spring.application.name}") String serviceName,
+                                           @Value("${identity.service.ttl:10m}") Duration ttl) {
+        return new ServiceIdentity(identityHeaderEncoder, serviceName, ttl);
+    }
+}
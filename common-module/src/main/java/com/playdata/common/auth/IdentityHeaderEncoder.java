@@ -0,0 +1,69 @@
+package com.playdata.common.auth;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * 사용자 정보를 서명된 내부 식별 헤더(X-User-Identity) 하나로 인코딩합니다.
+ * 게이트웨이는 검증된 JWT의 사용자 정보로, 각 서비스는 ServiceIdentity로 자기 자신의 헤더를 만들 때 사용합니다.
+ *
+ * 형식 (Base64 URL-safe, padding 없음):
+ * [version(1)][employeeNo(8)][expiresAt epoch seconds(8)][role 길이(1)][role][email 길이(2)][email][HMAC-SHA256 앞 16바이트]
+ * IdentityHeaderVerifier와 형식이 같아야 하므로, 변경 시 VERSION을 올리고 모든 서비스를 함께 배포해야 합니다.
+ */
+public class IdentityHeaderEncoder {
+
+    public static final String HEADER_NAME = "X-User-Identity";
+
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 16;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec keySpec;
+    private final ThreadLocal<Mac> macHolder;
+
+    public IdentityHeaderEncoder(String secretKey) {
+        this.keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.macHolder = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String encode(String email, String role, long employeeNo, long expiresAtEpochSeconds) {
+        byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        byte[] roleBytes = role.getBytes(StandardCharsets.UTF_8);
+        if (roleBytes.length > 0xFF || emailBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Identity fields are too long to encode");
+        }
+
+        int payloadLength = 1 + 8 + 8 + 1 + roleBytes.length + 2 + emailBytes.length;
+        ByteBuffer buffer = ByteBuffer.allocate(payloadLength + MAC_LENGTH);
+        buffer.put(VERSION)
+                .putLong(employeeNo)
+                .putLong(expiresAtEpochSeconds)
+                .put((byte) roleBytes.length)
+                .put(roleBytes)
+                .putShort((short) emailBytes.length)
+                .put(emailBytes);
+
+        byte[] bytes = buffer.array();
+        Mac mac = macHolder.get();
+        mac.update(bytes, 0, payloadLength);
+        byte[] signature = mac.doFinal();
+        System.arraycopy(signature, 0, bytes, payloadLength, MAC_LENGTH);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize identity header MAC", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.playdata.common.auth;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내부 식별 헤더(X-User-Identity)의 서명과 만료를 확인합니다.
+ * 같은 사용자의 헤더 값은 토큰 만료 시각까지 동일하므로, 한 번 검증한 결과는 만료 전까지 재사용합니다.
+ *
+ * 형식은 IdentityHeaderEncoder를 참고하세요.
+ */
+public class IdentityHeaderVerifier {
+
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 16;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec keySpec;
+    private final ThreadLocal<Mac> macHolder;
+    private final Map<String, VerifiedIdentity> cache = new ConcurrentHashMap<>();
+    private final int maxCacheSize;
+    private final boolean legacyHeadersAllowed;
+
+    public IdentityHeaderVerifier(String secretKey, int maxCacheSize, boolean legacyHeadersAllowed) {
+        this.keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.macHolder = ThreadLocal.withInitial(this::newMac);
+        this.maxCacheSize = maxCacheSize;
+        this.legacyHeadersAllowed = legacyHeadersAllowed;
+    }
+
+    /**
+     * 식별 헤더를 검증합니다.
+     *
+     * @param headerValue X-User-Identity 헤더 값
+     * @return 검증된 식별 정보, 형식이나 서명이 맞지 않거나 만료되었으면 null
+     */
+    public VerifiedIdentity verify(String headerValue) {
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        VerifiedIdentity cached = cache.get(headerValue);
+        if (cached != null) {
+            if (cached.expiresAtEpochSeconds() > nowSeconds) {
+                return cached;
+            }
+            cache.remove(headerValue, cached);
+            return null;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(headerValue);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int payloadLength = bytes.length - MAC_LENGTH;
+        if (payloadLength <= 0 || bytes[0] != VERSION) {
+            return null;
+        }
+
+        Mac mac = macHolder.get();
+        mac.update(bytes, 0, payloadLength);
+        byte[] expected = Arrays.copyOf(mac.doFinal(), MAC_LENGTH);
+        byte[] actual = Arrays.copyOfRange(bytes, payloadLength, bytes.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, payloadLength - 1);
+            long employeeNo = buffer.getLong();
+            long expiresAtEpochSeconds = buffer.getLong();
+            byte[] role = new byte[buffer.get() & 0xFF];
+            buffer.get(role);
+            byte[] email = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(email);
+
+            if (expiresAtEpochSeconds <= nowSeconds) {
+                return null;
+            }
+            VerifiedIdentity identity = new VerifiedIdentity(
+                    new String(email, StandardCharsets.UTF_8),
+                    new String(role, StandardCharsets.UTF_8),
+                    employeeNo,
+                    expiresAtEpochSeconds);
+            cacheEntry(headerValue, identity, nowSeconds);
+            return identity;
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 서명된 식별 헤더가 없을 때 기존 평문 X-User-* 헤더를 신뢰할지 여부입니다.
+     * 기본값은 false이며, 아직 X-User-Identity를 보내지 않는 호출자가 남아 있는 이전 기간에만
+     * identity.legacy-headers-allowed=true로 명시적으로 켭니다.
+     */
+    public boolean isLegacyHeadersAllowed() {
+        return legacyHeadersAllowed;
+    }
+
+    private void cacheEntry(String headerValue, VerifiedIdentity identity, long nowSeconds) {
+        if (cache.size() >= maxCacheSize) {
+            cache.values().removeIf(e -> e.expiresAtEpochSeconds() <= nowSeconds);
+            if (cache.size() >= maxCacheSize) {
+                return;
+            }
+        }
+        cache.put(headerValue, identity);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize identity header MAC", e);
+        }
+    }
+}
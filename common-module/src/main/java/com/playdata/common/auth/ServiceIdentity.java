@@ -0,0 +1,64 @@
+package com.playdata.common.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 사용자 요청 없이 다른 서비스를 호출할 때(스케줄 작업, 내부 배치, 아웃박스 전달) 보내는 서비스 자신의 식별 헤더입니다.
+ * 게이트웨이와 같은 키로 서명한 X-User-Identity이므로 각 서비스의 JwtAuthFilter가 그대로 인증합니다.
+ * 역할은 SERVICE라서 인증만 요구하는 API와 hasRole('SERVICE')를 허용한 내부 API만 호출할 수 있습니다.
+ *
+ * 헤더는 ttl 동안 유효하고, 남은 시간이 절반 아래로 내려가면 새로 서명합니다.
+ */
+public class ServiceIdentity {
+
+    public static final String ROLE = "SERVICE";
+    // 서비스 식별 헤더의 사번. 실제 사번과 겹치지 않도록 0을 사용합니다.
+    public static final long EMPLOYEE_NO = 0L;
+
+    private final IdentityHeaderEncoder encoder;
+    private final String serviceName;
+    private final long ttlSeconds;
+    private final Clock clock;
+
+    private volatile Token token;
+
+    public ServiceIdentity(IdentityHeaderEncoder encoder, String serviceName, Duration ttl) {
+        this(encoder, serviceName, ttl, Clock.systemUTC());
+    }
+
+    public ServiceIdentity(IdentityHeaderEncoder encoder, String serviceName, Duration ttl, Clock clock) {
+        this.encoder = encoder;
+        this.serviceName = serviceName;
+        this.ttlSeconds = ttl.toSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * 서비스 식별 헤더(X-User-Identity) 값을 돌려줍니다.
+     */
+    public String header() {
+        long nowSeconds = clock.millis() / 1000;
+        Token current = token;
+        if (current == null || current.expiresAtEpochSeconds - nowSeconds < ttlSeconds / 2) {
+            long expiresAt = nowSeconds + ttlSeconds;
+            current = new Token(encoder.encode(serviceName, ROLE, EMPLOYEE_NO, expiresAt), expiresAt);
+            token = current;
+        }
+        return current.value;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    private static final class Token {
+        private final String value;
+        private final long expiresAtEpochSeconds;
+
+        private Token(String value, long expiresAtEpochSeconds) {
+            this.value = value;
+            this.expiresAtEpochSeconds = expiresAtEpochSeconds;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.playdata.common.auth;
+
+/**
+ * 서명을 확인한 식별 헤더의 내용입니다. 각 서비스는 이 값을 자기 TokenUserInfo로 옮겨 담아 사용합니다.
+ *
+ * @param email                 사용자 이메일 (서비스 식별 헤더면 서비스 이름)
+ * @param role                  게이트웨이가 서명한 역할 값 ("Y"/"N", 서비스 식별 헤더면 "SERVICE")
+ * @param employeeNo            사번 (서비스 식별 헤더면 0)
+ * @param expiresAtEpochSeconds 헤더 만료 시각
+ */
+public record VerifiedIdentity(String email, String role, long employeeNo, long expiresAtEpochSeconds) {
+
+    public boolean isService() {
+        return ServiceIdentity.ROLE.equals(role);
+    }
+}
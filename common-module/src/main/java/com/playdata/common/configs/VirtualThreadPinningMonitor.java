@@ -0,0 +1,76 @@
+package com.playdata.common.configs;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 가상 스레드가 캐리어 스레드에 고정(pinning)되는 구간을 JFR로 감지합니다.
+ * synchronized 블록 안에서 블로킹 I/O가 일어나면(JDBC 드라이버, 커넥션 풀 내부 등) 고정이 발생하고,
+ * 이런 구간이 많으면 플랫폼 스레드 모드보다 처리량이 오히려 떨어질 수 있습니다.
+ * jdk.VirtualThreadPinned 이벤트를 호출 위치별로 집계해 처음 발생했을 때와 이후 100회마다 경고 로그를 남기고,
+ * 종료 시 위치별 누적 횟수를 요약해 남깁니다.
+ * 가상 스레드 모드인 서비스에는 VirtualThreadPinningAutoConfiguration이 빈으로 등록합니다.
+ */
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int REPORT_EVERY = 100;
+    private static final int STACK_DEPTH = 8;
+
+    private final Map<String, LongAdder> pinnedCounts = new ConcurrentHashMap<>();
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started. threshold={}", threshold);
+    }
+
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+        pinnedCounts.forEach((site, count) ->
+                log.info("Virtual thread pinned {} times at\n{}", count.sum(), site));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = describe(event.getStackTrace());
+        LongAdder counter = pinnedCounts.computeIfAbsent(site, key -> new LongAdder());
+        counter.increment();
+        long count = counter.sum();
+        if (count == 1 || count % REPORT_EVERY == 0) {
+            log.warn("Virtual thread pinned for {}ms (count={}) at\n{}",
+                    event.getDuration().toMillis(), count, site);
+        }
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "    <no stack trace>";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "."
+                        + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.playdata.common.domain;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 한 번만 실행할 작업의 완료 표시(OneTimeTaskMarker)를 등록합니다. JdbcTemplate이 없는 서비스(게이트웨이 등)에서는 건너뜁니다.
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class)
+@ConditionalOnClass(JdbcTemplate.class)
+public class OneTimeTaskAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(JdbcTemplate.class)
+    @ConditionalOnMissingBean
+    public OneTimeTaskMarker oneTimeTaskMarker(JdbcTemplate jdbcTemplate) {
+        return new OneTimeTaskMarker(jdbcTemplate);
+    }
+}
@@ -0,0 +1,50 @@
+package com.playdata.common.domain;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스 중 한 곳에서 한 번만 실행해야 하는 작업(기동 시 재계산 등)의 완료 표시를 one_time_task 테이블에 남깁니다.
+ * 작업 이름이 기본 키이므로 같은 작업을 동시에 시작한 인스턴스는 먼저 표시한 트랜잭션이 끝날 때까지 기다린 뒤,
+ * 커밋되었으면 건너뛰고 롤백되었으면 이어서 작업을 맡습니다.
+ * JdbcTemplate이 있는 서비스에는 OneTimeTaskAutoConfiguration이 빈으로 등록합니다.
+ */
+public class OneTimeTaskMarker implements SmartInitializingSingleton {
+
+    static final String TABLE = "one_time_task";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OneTimeTaskMarker(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                + "task_name VARCHAR(100) NOT NULL PRIMARY KEY, "
+                + "completed_at TIMESTAMP NOT NULL)");
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 작업 완료 표시를 남깁니다. 작업은 같은 트랜잭션 안에서 수행해야 실패 시 표시도 함께 롤백됩니다.
+     *
+     * @param taskName 작업 이름
+     * @return 이 트랜잭션이 작업을 맡았으면 true, 이미 다른 인스턴스가 완료했으면 false
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean claim(String taskName) {
+        try {
+            jdbcTemplate.update("INSERT INTO " + TABLE + " (task_name, completed_at) VALUES (?, ?)",
+                    taskName, LocalDateTime.now());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
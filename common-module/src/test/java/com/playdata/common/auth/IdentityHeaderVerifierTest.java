@@ -0,0 +1,99 @@
+package com.playdata.common.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityHeaderVerifierTest {
+
+    private static final String SECRET = "test-secret-key-for-identity-header-0123456789";
+
+    private final IdentityHeaderEncoder encoder = new IdentityHeaderEncoder(SECRET);
+    private final IdentityHeaderVerifier verifier = new IdentityHeaderVerifier(SECRET, 10, false);
+
+    @Test
+    void verifiesHeaderSignedWithSameKey() {
+        long expiresAt = System.currentTimeMillis() / 1000 + 60;
+        String header = encoder.encode("user@playdata.com", "Y", 1234L, expiresAt);
+
+        VerifiedIdentity identity = verifier.verify(header);
+
+        assertThat(identity).isEqualTo(new VerifiedIdentity("user@playdata.com", "Y", 1234L, expiresAt));
+        assertThat(identity.isService()).isFalse();
+    }
+
+    @Test
+    void rejectsHeaderSignedWithDifferentKey() {
+        String header = new IdentityHeaderEncoder("another-secret-key-0123456789-abcdefghij")
+                .encode("user@playdata.com", "Y", 1234L, System.currentTimeMillis() / 1000 + 60);
+
+        assertThat(verifier.verify(header)).isNull();
+    }
+
+    @Test
+    void rejectsTamperedAndExpiredHeaders() {
+        String header = encoder.encode("user@playdata.com", "N", 1234L, System.currentTimeMillis() / 1000 + 60);
+        char last = header.charAt(header.length() - 1);
+        String tampered = header.substring(0, header.length() - 1) + (last == 'A' ? 'B' : 'A');
+        String expired = encoder.encode("user@playdata.com", "N", 1234L, System.currentTimeMillis() / 1000 - 1);
+
+        assertThat(verifier.verify(tampered)).isNull();
+        assertThat(verifier.verify(expired)).isNull();
+        assertThat(verifier.verify("not base64 !")).isNull();
+    }
+
+    @Test
+    void legacyHeadersAreDisabledUnlessOptedIn() {
+        assertThat(verifier.isLegacyHeadersAllowed()).isFalse();
+        assertThat(new IdentityHeaderVerifier(SECRET, 10, true).isLegacyHeadersAllowed()).isTrue();
+    }
+
+    @Test
+    void serviceIdentityIsVerifiedAsServiceRoleAndResignedAfterHalfTtl() {
+        MutableClock clock = new MutableClock(Instant.now());
+        ServiceIdentity serviceIdentity = new ServiceIdentity(encoder, "attendance-service", Duration.ofMinutes(10), clock);
+
+        String first = serviceIdentity.header();
+        VerifiedIdentity identity = verifier.verify(first);
+        assertThat(identity.isService()).isTrue();
+        assertThat(identity.email()).isEqualTo("attendance-service");
+        assertThat(identity.employeeNo()).isEqualTo(ServiceIdentity.EMPLOYEE_NO);
+        assertThat(serviceIdentity.header()).isEqualTo(first);
+
+        clock.advance(Duration.ofMinutes(6));
+        assertThat(serviceIdentity.header()).isNotEqualTo(first);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
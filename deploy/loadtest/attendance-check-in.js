@@ -0,0 +1,45 @@
+// 출근 동시 요청 부하 테스트 (k6)
+// 플랫폼 스레드 모드와 가상 스레드 모드(VIRTUAL_THREADS_ENABLED=true)를 같은 조건에서 비교하기 위한 스크립트입니다.
+//
+// 실행 예시 (attendance-service에 직접 요청, 게이트웨이 인증 단계는 제외):
+//   k6 run -e BASE_URL=http://localhost:8002 -e EMPLOYEE_NO_START=100000 deploy/loadtest/attendance-check-in.js
+//
+// 비교 방법:
+//   1. VIRTUAL_THREADS_ENABLED=false 로 서비스를 띄우고 실행한 뒤 결과(http_req_duration p95/p99, http_reqs)를 기록합니다.
+//   2. 출근 기록을 지운 뒤 VIRTUAL_THREADS_ENABLED=true 로 다시 띄워 같은 명령으로 실행합니다.
+//   3. 가상 스레드 모드에서는 VirtualThreadPinningMonitor의 "Virtual thread pinned" 경고 로그도 함께 확인합니다.
+//      (JDBC 드라이버나 커넥션 풀의 synchronized 구간에서 고정이 많으면 처리량이 기대만큼 늘지 않습니다.)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8002';
+const EMPLOYEE_NO_START = parseInt(__ENV.EMPLOYEE_NO_START || '100000', 10);
+
+export const options = {
+    scenarios: {
+        // 2,000명이 동시에 한 번씩 출근 버튼을 누르는 상황
+        check_in_burst: {
+            executor: 'per-vu-iterations',
+            vus: 2000,
+            iterations: 1,
+            maxDuration: '2m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const employeeNo = EMPLOYEE_NO_START + __VU;
+    const res = http.post(`${BASE_URL}/attendance/check-in`, null, {
+        headers: {
+            'X-User-Email': `loadtest${employeeNo}@samubozo.com`,
+            'X-User-Role': 'N',
+            'X-User-Employee-No': `${employeeNo}`,
+        },
+    });
+    check(res, {
+        'check-in accepted': (r) => r.status === 200,
+    });
+}
@@ -0,0 +1,86 @@
+package com.playdata.gatewayservice.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthorizationHeaderFilter의 JWT 검증 경로를 캐시 사용/미사용으로 비교합니다.
+ * - uncachedPerRequestParser: 기존 구현처럼 요청마다 parserBuilder()로 파서를 만들고 서명을 검증
+ * - uncachedSharedParser: 파서만 재사용하고 매번 서명을 검증
+ * - cached: JwtClaimsCache를 먼저 조회 (출근 피크처럼 같은 토큰이 반복되는 상황)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtValidationBenchmark {
+
+    private static final int TOKEN_COUNT = 1_000;
+
+    private String secretKey;
+    private String[] tokens;
+    private JwtParser sharedParser;
+    private JwtClaimsCache cache;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[64];
+        ThreadLocalRandom.current().nextBytes(keyBytes);
+        secretKey = Base64.getEncoder().encodeToString(keyBytes);
+
+        Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = Jwts.builder()
+                    .setSubject("user" + i + "@samubozo.co.kr")
+                    .claim("role", "N")
+                    .claim("employeeNo", (long) i)
+                    .setExpiration(expiration)
+                    .signWith(SignatureAlgorithm.HS512, secretKey)
+                    .compact();
+        }
+
+        sharedParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        cache = new JwtClaimsCache(TOKEN_COUNT * 2, new SimpleMeterRegistry());
+        for (String token : tokens) {
+            cache.put(token, sharedParser.parseClaimsJws(token).getBody());
+        }
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(TOKEN_COUNT)];
+    }
+
+    @Benchmark
+    public Claims uncachedPerRequestParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(nextToken())
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims uncachedSharedParser() {
+        return sharedParser.parseClaimsJws(nextToken()).getBody();
+    }
+
+    @Benchmark
+    public Claims cached() {
+        String token = nextToken();
+        Claims claims = cache.get(token);
+        if (claims == null) {
+            claims = sharedParser.parseClaimsJws(token).getBody();
+            cache.put(token, claims);
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,57 @@
+package com.playdata.gatewayservice.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 루프 스레드가 요청 1건당 로그에 쓰는 시간을 비교합니다.
+ * - noLogging: 로그를 끈 기준선
+ * - synchronousInfoLogging: 기존 GlobalFilter/AuthorizationHeaderFilter처럼 요청 스레드에서 log.info 여러 번 호출
+ * - ringBufferAppend: AccessLogAppender에 필드만 넘기고 반환
+ * 여러 스레드(@Threads)로 실행하여 이벤트 루프 여러 개가 동시에 로그를 남기는 상황을 흉내 냅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class AccessLogBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessLogBenchmark.class);
+
+    private AccessLogAppender appender;
+
+    @Setup
+    public void setUp() {
+        appender = new AccessLogAppender(65536, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        appender.shutdown();
+    }
+
+    @Benchmark
+    public long noLogging() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public void synchronousInfoLogging() {
+        String path = "/attendance/check-in";
+        log.info("path: {}", path);
+        log.info("isAllowed: {}", false);
+        log.info("[Gateway AuthFilter] Validated JWT Claims: Subject={}, Role={}, EmployeeNo={}",
+                "user@samubozo.co.kr", "N", 1001L);
+        log.info("Global Post Filter active! response code = {}", 200);
+    }
+
+    @Benchmark
+    public boolean ringBufferAppend() {
+        return appender.append("attendance-service", "POST", "/attendance-service/attendance/check-in",
+                200, 1234L, "1001", null);
+    }
+}
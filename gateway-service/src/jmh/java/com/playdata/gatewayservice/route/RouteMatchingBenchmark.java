@@ -0,0 +1,81 @@
+package com.playdata.gatewayservice.route;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * application.yml의 서비스 라우트 해석 비용을 비교합니다.
+ * - yamlRoutes: 기존 방식. 라우트 순서대로 Path=/{svc}/** 를 PathPattern으로 매칭하고, 선택된 라우트의
+ *   RewritePath 정규식으로 경로를 치환
+ * - trieRoutes: ServicePrefixTrie로 prefix를 한 번 찾고, 라우트마다 참조 비교 후 substring으로 prefix 제거
+ * 라우트 목록은 게이트웨이에 등록된 서비스 전체이며, 요청 경로는 서비스별로 고르게 섞어 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteMatchingBenchmark {
+
+    private static final List<String> SERVICES = List.of(
+            "auth-service", "hr-service", "attendance-service", "vacation-service",
+            "payroll-service", "schedule-service", "chatbot-service", "certificate-service",
+            "message-service", "notification-service", "approval-service", "config-service"
+    );
+
+    private PathPattern[] pathPatterns;
+    private Pattern[] rewritePatterns;
+    private ServicePrefixTrie trie;
+    private String[] canonicalPrefixes;
+    private String[] requestPaths;
+
+    @Setup
+    public void setUp() {
+        int size = SERVICES.size();
+        pathPatterns = new PathPattern[size];
+        rewritePatterns = new Pattern[size];
+        trie = new ServicePrefixTrie();
+        canonicalPrefixes = new String[size];
+        requestPaths = new String[size];
+        for (int i = 0; i < size; i++) {
+            String service = SERVICES.get(i);
+            pathPatterns[i] = PathPatternParser.defaultInstance.parse("/" + service + "/**");
+            rewritePatterns[i] = Pattern.compile("/" + service + "/(?<segment>.*)");
+            canonicalPrefixes[i] = trie.register(service);
+            requestPaths[i] = "/" + service + "/" + service.replace("-service", "") + "/list/2025/07";
+        }
+    }
+
+    private String nextPath() {
+        return requestPaths[ThreadLocalRandom.current().nextInt(requestPaths.length)];
+    }
+
+    @Benchmark
+    public String yamlRoutes() {
+        String path = nextPath();
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (int i = 0; i < pathPatterns.length; i++) {
+            if (pathPatterns[i].matches(pathContainer)) {
+                return rewritePatterns[i].matcher(path).replaceAll("/${segment}");
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String trieRoutes() {
+        String path = nextPath();
+        String resolved = trie.match(path);
+        for (int i = 0; i < canonicalPrefixes.length; i++) {
+            if (canonicalPrefixes[i] == resolved) {
+                return ServicePrefixTrie.stripFirstSegment(path);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.playdata.gatewayservice.auth;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 통과한 JWT의 Claims를 토큰 만료 시각(exp)까지 보관하는 캐시입니다.
+ * 원본 토큰 대신 SHA-256 다이제스트를 키로 사용하여 메모리에 토큰 원문이 남지 않도록 하고,
+ * 최대 크기를 넘으면 만료된 항목을 먼저 정리한 뒤에도 공간이 없을 경우 캐싱을 건너뜁니다.
+ * 조회/적중/실패 횟수는 actuator metrics(gateway.jwt.claims.cache)로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class JwtClaimsCache {
+
+    private static final String METRIC_NAME = "gateway.jwt.claims.cache";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtClaimsCache(@Value("${jwt.claims-cache.max-size:10000}") int maxSize,
+                          MeterRegistry meterRegistry) {
+        this(maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    JwtClaimsCache(int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("검증된 JWT Claims 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("검증된 JWT Claims 캐시 미스 횟수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", entries, Map::size)
+                .description("현재 캐시에 보관 중인 JWT Claims 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 아직 만료되지 않은 Claims를 찾습니다.
+     *
+     * @param token 원본 JWT 문자열
+     * @return 캐시된 Claims, 없거나 만료되었으면 null
+     */
+    public Claims get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis <= clock.millis()) {
+            entries.remove(key, entry);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.claims;
+    }
+
+    /**
+     * 서명 검증이 끝난 Claims를 exp 시각까지 캐시합니다. exp가 없는 토큰은 캐시하지 않습니다.
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        long expiresAtMillis = expiration.getTime();
+        long now = clock.millis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+            if (entries.size() >= maxSize) {
+                log.debug("JWT claims cache is full ({}). Skipping cache for this token.", maxSize);
+                return;
+            }
+        }
+        entries.put(digest(token), new Entry(claims, expiresAtMillis));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 제공되므로 이 경우는 발생하지 않습니다.
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final Claims claims;
+        private final long expiresAtMillis;
+
+        private Entry(Claims claims, long expiresAtMillis) {
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
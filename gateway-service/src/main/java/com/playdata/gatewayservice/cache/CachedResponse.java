@@ -0,0 +1,24 @@
+package com.playdata.gatewayservice.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * 게이트웨이에 캐시된 응답 1건입니다. 본문은 불변 byte 배열로 보관하여 여러 요청에 그대로 재사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedResponse {
+
+    private final byte[] body;
+    private final MediaType contentType;
+    private final String contentEncoding;
+    private final String etag;
+    private final long cachedAtMillis;
+    private final long expiresAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
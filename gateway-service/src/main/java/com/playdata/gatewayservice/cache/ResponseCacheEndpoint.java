@@ -0,0 +1,40 @@
+package com.playdata.gatewayservice.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게이트웨이 응답 캐시 관리용 actuator 엔드포인트입니다.
+ * - GET    /actuator/responsecache              : 캐시된 키 목록과 ETag, 남은 TTL 조회
+ * - DELETE /actuator/responsecache?prefix=...   : 접두사에 해당하는 항목 무효화 (prefix 생략 시 전체)
+ *                                                  키 형식은 "{routeId}:GET {path}" 입니다.
+ * 부서/직책 정보를 수정한 직후 TTL을 기다리지 않고 반영해야 할 때 사용합니다.
+ * 인증이 없는 관리용 엔드포인트이므로 management.server.port(내부 관리 포트)에서만 제공합니다.
+ */
+@Component
+@Endpoint(id = "responsecache")
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheEndpoint {
+
+    private final ResponseCacheStore responseCacheStore;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> entries() {
+        return responseCacheStore.describe();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> invalidate(@Nullable String prefix) {
+        int removed = responseCacheStore.invalidate(prefix);
+        log.info("Response cache invalidated. prefix={}, removed={}", prefix, removed);
+        return Map.of("removed", removed);
+    }
+}
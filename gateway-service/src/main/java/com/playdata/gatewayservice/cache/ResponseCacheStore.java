@@ -0,0 +1,116 @@
+package com.playdata.gatewayservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ResponseCacheFilter가 사용하는 인메모리 응답 캐시입니다.
+ * 부서/직책 목록처럼 거의 바뀌지 않는 참조 데이터만 대상으로 하므로 키 수가 적지만,
+ * 설정 실수로 키가 늘어나는 경우를 대비해 max-entries를 넘으면 새 응답은 캐시하지 않습니다.
+ * 같은 라우트의 수정 요청이 성공하면 ResponseCacheFilter가 무효화하고,
+ * 그 밖의 경로로 바뀐 데이터는 관리 포트의 ResponseCacheEndpoint(/actuator/responsecache)로 무효화합니다.
+ */
+@Component
+@Slf4j
+public class ResponseCacheStore {
+
+    private static final String METRIC_NAME = "gateway.response.cache";
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter notModifiedCounter;
+
+    public ResponseCacheStore(@Value("${gateway.response-cache.max-entries:256}") int maxEntries,
+                              MeterRegistry meterRegistry) {
+        this(maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    ResponseCacheStore(int maxEntries, MeterRegistry meterRegistry, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.hitCounter = Counter.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+        this.notModifiedCounter = Counter.builder(METRIC_NAME).tag("result", "not-modified").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 만료되지 않은 캐시 응답을 찾습니다. 만료된 항목은 이 시점에 제거합니다.
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (cached.isExpired(clock.millis())) {
+            entries.remove(key, cached);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cached;
+    }
+
+    public CachedResponse put(String key, byte[] body, MediaType contentType, String contentEncoding, long ttlMillis) {
+        long now = clock.millis();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        CachedResponse cached = new CachedResponse(body, contentType, contentEncoding, etag, now, now + ttlMillis);
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            if (entries.size() >= maxEntries) {
+                log.warn("Response cache is full ({}). Skipping cache for key={}", maxEntries, key);
+                return cached;
+            }
+        }
+        entries.put(key, cached);
+        return cached;
+    }
+
+    public void recordNotModified() {
+        notModifiedCounter.increment();
+    }
+
+    /**
+     * @param prefix 무효화할 키 접두사 (예: "hr-service-reference:GET /hr-service/hr/departments"), null이면 전체 무효화
+     * @return 제거된 항목 수
+     */
+    public int invalidate(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            int size = entries.size();
+            entries.clear();
+            return size;
+        }
+        int before = entries.size();
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+        return before - entries.size();
+    }
+
+    /**
+     * 캐시 키별 ETag와 남은 TTL(ms)을 반환합니다. (관리용)
+     */
+    public Map<String, Map<String, Object>> describe() {
+        long now = clock.millis();
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        entries.forEach((key, cached) -> result.put(key, Map.of(
+                "etag", cached.getEtag(),
+                "bytes", cached.getBody().length,
+                "remainingTtlMillis", Math.max(0, cached.getExpiresAtMillis() - now)
+        )));
+        return result;
+    }
+}
@@ -1,6 +1,9 @@
 package com.playdata.gatewayservice.filter;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.gatewayservice.auth.JwtClaimsCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,11 +11,13 @@ import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
@@ -24,8 +29,10 @@ import java.util.List;
 @Slf4j
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    // 서명 키로 한 번만 생성해 두고 재사용합니다. (JwtParser는 thread-safe)
+    private final JwtParser jwtParser;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final IdentityHeaderEncoder identityHeaderEncoder;
 
     //여기에 권한 없이 접근해야할 URL을 명시해주세요.
     private final List<String> allowUrl = Arrays.asList(
@@ -45,23 +52,30 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
             "/v3/api-docs/**"
     );
 
+    // allowUrl을 기동 시 한 번만 PathPattern으로 컴파일해 둡니다.
+    private final List<PathPattern> allowPatterns = allowUrl.stream()
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
+    public AuthorizationHeaderFilter(@Value("${jwt.secretKey}") String secretKey,
+                                     JwtClaimsCache jwtClaimsCache,
+                                     IdentityHeaderEncoder identityHeaderEncoder) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.identityHeaderEncoder = identityHeaderEncoder;
+    }
+
     @Override
     public GatewayFilter apply(Object config) {
         return (exchange, chain) -> {
             String path = exchange.getRequest().getURI().getPath();
-            log.info("path: {}", path);
-            AntPathMatcher antPathMatcher = new AntPathMatcher();
-
 
-            boolean isAllowed
-                    = allowUrl.stream()
-                    .anyMatch(url -> antPathMatcher.match(url, path));
-            log.info("url: {}", path);
-            log.info("isAllowed: {}", isAllowed);
+            boolean isAllowed = isAllowedPath(path);
+            log.debug("path: {}, isAllowed: {}", path, isAllowed);
 
             if (isAllowed || path.startsWith("/actuator")) {
-
-                log.info("gateway filter 통과!");
                 return chain.filter(exchange);
             }
 
@@ -73,11 +87,10 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
                 String queryToken = exchange.getRequest().getQueryParams().getFirst("token"); // "token" 파라미터 이름은 프론트엔드와 일치해야 합니다.
                 if (queryToken != null && !queryToken.isEmpty()) {
                     token = queryToken;
-                    log.info("SSE token from query parameter: {}", token);
+                    log.debug("SSE token from query parameter");
                 }
             } else if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                 token = authorizationHeader.replace("Bearer ", "");
-                log.info("Bearer token from Authorization header: {}", token);
             }
 
             if (token == null) {
@@ -89,15 +102,27 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
                 return onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
             }
 
+            Long employeeNoValue = claims.get("employeeNo", Long.class);
+            String role = claims.get("role", String.class);
+            String employeeNo = employeeNoValue.toString();
+            // 식별 헤더는 토큰 만료 시각까지만 유효합니다. (exp가 없는 토큰은 1시간)
+            long expiresAt = claims.getExpiration() != null
+                    ? claims.getExpiration().getTime() / 1000
+                    : System.currentTimeMillis() / 1000 + 3600;
             ServerHttpRequest request = exchange.getRequest()
                     .mutate()
+                    // 하위 서비스는 서명된 X-User-Identity로 인증합니다.
+                    // X-User-* 헤더는 identity.legacy-headers-allowed=true로 이전 중인 서비스를 위해서만 함께 전달합니다.
+                    .header(IdentityHeaderEncoder.HEADER_NAME, identityHeaderEncoder.encode(
+                            claims.getSubject(), role, employeeNoValue, expiresAt))
                     .header("X-User-Email", claims.getSubject())
-                    .header("X-User-Role", claims.get("role", String.class))
-                    .header("X-User-Employee-No", claims.get("employeeNo", Long.class).toString())
+                    .header("X-User-Role", role)
+                    .header("X-User-Employee-No", employeeNo)
                     .build();
-            // 클레임 내용 로깅 (추가)
-            log.info("[Gateway AuthFilter] Validated JWT Claims: Subject={}, Role={}, EmployeeNo={}",
-                    claims.getSubject(), claims.get("role", String.class), claims.get("employeeNo", Long.class));
+            // 사번은 액세스 로그(GlobalFilter)에서 함께 남깁니다.
+            exchange.getAttributes().put(GlobalFilter.EMPLOYEE_NO_ATTR, employeeNo);
+            log.debug("[Gateway AuthFilter] Validated JWT Claims: Subject={}, Role={}, EmployeeNo={}",
+                    claims.getSubject(), role, employeeNo);
             return chain.filter(exchange.mutate().request(request).build());
         };
     }
@@ -107,20 +132,35 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
                                String msg, HttpStatus httpStatus) {
         ServerHttpResponse response = exchange.getResponse();
         response.setStatusCode(httpStatus);
-        log.error(msg);
+        log.warn(msg);
 
         byte[] bytes = msg.getBytes(StandardCharsets.UTF_8);
         DataBuffer buffer = response.bufferFactory().wrap(bytes);
         return response.writeWith(Mono.just(buffer));
     }
 
+    private boolean isAllowedPath(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : allowPatterns) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시에 검증된 Claims가 있으면 그대로 사용하고, 없을 때만 서명을 검증한 뒤 캐시에 저장합니다.
+     */
     private Claims validateJwt(String token) {
+        Claims cached = jwtClaimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            jwtClaimsCache.put(token, claims);
+            return claims;
         } catch (Exception e) {
             log.error("JWT validation failed: {}", e.getMessage());
             return null;
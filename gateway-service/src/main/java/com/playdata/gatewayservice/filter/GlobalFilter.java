@@ -1,49 +1,109 @@
 package com.playdata.gatewayservice.filter;
 
+import com.playdata.gatewayservice.logging.AccessLogAppender;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
 
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 모든 라우트에 default-filter로 적용되는 액세스 로그 단계입니다.
+ * 요청마다 route id, 상태 코드, 지연 시간, 사번을 모아 AccessLogAppender에 넘기며,
+ * 실제 로그 출력은 별도 스레드에서 수행되므로 이벤트 루프를 블로킹하지 않습니다.
+ * 상세 정보(쿼리 스트링, 클라이언트 IP, User-Agent)는 라우트별 샘플링 비율에 따라서만 남깁니다.
+ */
 @Component
 @Slf4j
 public class GlobalFilter
         extends AbstractGatewayFilterFactory<GlobalFilter.Config> {
 
-    public GlobalFilter() {
+    // AuthorizationHeaderFilter가 검증한 사번을 액세스 로그에 전달하기 위한 exchange 속성 키
+    public static final String EMPLOYEE_NO_ATTR = GlobalFilter.class.getName() + ".employeeNo";
+
+    private final AccessLogAppender accessLogAppender;
+
+    public GlobalFilter(AccessLogAppender accessLogAppender) {
         super(Config.class);
+        this.accessLogAppender = accessLogAppender;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
+        log.info("Global Filter active! base Message = {}", config.getBaseMessage());
         return (exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
-            ServerHttpResponse response = exchange.getResponse();
-
-            log.info("Global Filter active! base Message = {}", config.getBaseMessage());
-            if (config.isPreLogger()) {
-                log.info("Request URI: {}",  request.getURI());
+            if (!config.isPostLogger()) {
+                return chain.filter(exchange);
             }
+            long startNanos = System.nanoTime();
+
+            return chain.filter(exchange).doFinally(signalType -> {
+                ServerHttpRequest request = exchange.getRequest();
+                ServerHttpResponse response = exchange.getResponse();
+                Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+                String routeId = route != null ? route.getId() : null;
+                HttpStatusCode statusCode = response.getStatusCode();
 
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                if (config.isPostLogger()) {
-                    log.info("Global Post Filter active! response code = {}", response.getStatusCode());
+                String detail = null;
+                if (config.isPreLogger() || shouldSample(config, routeId)) {
+                    detail = buildDetail(request);
                 }
-            }));
+
+                accessLogAppender.append(
+                        routeId,
+                        request.getMethod().name(),
+                        request.getPath().value(),
+                        statusCode != null ? statusCode.value() : 0,
+                        (System.nanoTime() - startNanos) / 1_000,
+                        exchange.getAttribute(EMPLOYEE_NO_ATTR),
+                        detail
+                );
+            });
         };
     }
 
+    private boolean shouldSample(Config config, String routeId) {
+        double rate = config.getDebugSampleRate();
+        if (routeId != null) {
+            Double routeRate = config.getRouteDebugSampleRates().get(routeId);
+            if (routeRate != null) {
+                rate = routeRate;
+            }
+        }
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private String buildDetail(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return "query=" + request.getURI().getRawQuery()
+                + " clientIp=" + (remoteAddress != null ? remoteAddress.getHostString() : null)
+                + " userAgent=" + request.getHeaders().getFirst("User-Agent");
+    }
+
     @Getter @Setter @ToString
     @NoArgsConstructor
     @AllArgsConstructor
     public static class Config {
         private String baseMessage;
+        // true면 모든 요청에 상세 정보를 남깁니다. (디버깅용)
         private boolean preLogger;
+        // true면 요청 완료 시 액세스 로그를 남깁니다.
         private boolean postLogger;
+        // 상세 정보를 남길 기본 샘플링 비율 (0.0 ~ 1.0)
+        private double debugSampleRate;
+        // 라우트 id별 샘플링 비율. 지정하지 않은 라우트는 debugSampleRate를 따릅니다.
+        private Map<String, Double> routeDebugSampleRates = new HashMap<>();
     }
 
 
@@ -0,0 +1,116 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.ratelimit.RateLimitStore;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 라우트별 토큰 버킷 요청 제한 필터입니다.
+ * 인증된 요청은 AuthorizationHeaderFilter가 검증한 JWT의 사번, 그 외(로그인 등)는 클라이언트 IP를 키로 사용하므로
+ * 인증이 필요한 라우트에서는 AuthorizationHeaderFilter 뒤에 위치시켜야 합니다.
+ * 클라이언트가 보낸 X-User-Employee-No 헤더나 X-Forwarded-For의 앞쪽 값은 위조할 수 있으므로 키로 사용하지 않습니다.
+ * 한도를 넘으면 429 Too Many Requests와 Retry-After 헤더를 응답합니다.
+ */
+@Component
+@Slf4j
+public class RateLimiterFilter
+        extends AbstractGatewayFilterFactory<RateLimiterFilter.Config> {
+
+    private final RateLimitStore rateLimitStore;
+    // 게이트웨이 앞에서 X-Forwarded-For에 값을 덧붙이는 신뢰할 수 있는 프록시 수 (ALB 1단)
+    private final int trustedProxyHops;
+
+    public RateLimiterFilter(RateLimitStore rateLimitStore,
+                             @Value("${gateway.rate-limit.trusted-proxy-hops:1}") int trustedProxyHops) {
+        super(Config.class);
+        this.rateLimitStore = rateLimitStore;
+        this.trustedProxyHops = trustedProxyHops;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getReplenishRate() <= 0 || config.getBurstCapacity() <= 0) {
+            throw new IllegalArgumentException("RateLimiterFilter requires positive replenishRate and burstCapacity: " + config);
+        }
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            String key = routeId + ":" + resolveKey(exchange);
+
+            return rateLimitStore.tryConsume(key, config.getReplenishRate(), config.getBurstCapacity())
+                    .flatMap(decision -> {
+                        if (decision.isAllowed()) {
+                            return chain.filter(exchange);
+                        }
+                        log.warn("Rate limit exceeded. key={}, retryAfter={}s", key, decision.getRetryAfterSeconds());
+                        return onTooManyRequests(exchange, decision.getRetryAfterSeconds());
+                    });
+        };
+    }
+
+    String resolveKey(ServerWebExchange exchange) {
+        // AuthorizationHeaderFilter가 JWT를 검증한 뒤에만 설정하는 값입니다.
+        String employeeNo = exchange.getAttribute(GlobalFilter.EMPLOYEE_NO_ATTR);
+        if (employeeNo != null) {
+            return "emp:" + employeeNo;
+        }
+        return "ip:" + resolveClientIp(exchange.getRequest());
+    }
+
+    /**
+     * 신뢰할 수 있는 프록시가 덧붙인 값만 사용해 클라이언트 IP를 구합니다.
+     * 프록시는 X-Forwarded-For의 오른쪽 끝에 자신이 본 주소를 덧붙이므로, 오른쪽에서 trustedProxyHops번째 값이
+     * 마지막 신뢰 프록시가 직접 연결을 받은 주소입니다. 그보다 왼쪽 값은 클라이언트가 임의로 넣을 수 있습니다.
+     */
+    private String resolveClientIp(ServerHttpRequest request) {
+        List<String> forwardedFor = request.getHeaders().getOrEmpty("X-Forwarded-For").stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+        if (trustedProxyHops > 0 && forwardedFor.size() >= trustedProxyHops) {
+            return forwardedFor.get(forwardedFor.size() - trustedProxyHops);
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null ? remoteAddress.getHostString() : "unknown";
+    }
+
+    private Mono<Void> onTooManyRequests(ServerWebExchange exchange, long retryAfterSeconds) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+
+        byte[] bytes = "Too many requests".getBytes(StandardCharsets.UTF_8);
+        DataBuffer buffer = response.bufferFactory().wrap(bytes);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        // 초당 충전되는 토큰 수 (평균 허용 요청 수)
+        private double replenishRate;
+        // 순간적으로 허용할 최대 요청 수
+        private int burstCapacity;
+    }
+}
@@ -0,0 +1,198 @@
+package com.playdata.gatewayservice.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.setAlreadyRouted;
+
+/**
+ * 같은 사용자가 거의 동시에 보낸 동일한 GET 요청을 하나의 백엔드 호출로 합치는(single-flight) 필터입니다.
+ * 첫 요청(leader)만 백엔드로 전달하고, 그 응답이 끝나기 전에 들어온 같은 요청(follower)은
+ * leader의 상태 코드/헤더/본문을 그대로 복사해 응답합니다.
+ * 같은 Authorization 값을 가진 요청끼리만 합치므로 다른 사용자의 응답이 섞이지 않습니다.
+ * 응답을 가로채기 위해 라우트의 다른 필터보다 먼저 실행되므로, follower도 leader 응답을 받은 뒤
+ * 백엔드 라우팅만 건너뛰고 라우트의 인증/요청 제한 필터(AuthorizationHeaderFilter, RateLimiterFilter)를 그대로 거칩니다.
+ * 이 필터들이 401/429 등으로 응답을 이미 작성했다면 leader 응답을 복사하지 않습니다.
+ * 합쳐진 요청 수는 gateway.coalesced.requests(route 태그)로 집계됩니다.
+ */
+@Component
+@Slf4j
+public class RequestCoalescingFilter
+        extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    private final Map<String, Sinks.One<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // 응답 본문을 가로채야 하므로 NettyWriteResponseFilter보다 먼저 실행되도록 순서를 지정합니다.
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            String key = coalescingKey(routeId, request);
+
+            Sinks.One<CapturedResponse> sink = Sinks.one();
+            Sinks.One<CapturedResponse> existing = inFlight.putIfAbsent(key, sink);
+            if (existing != null) {
+                return follow(exchange, chain, existing, routeId, config.getMaxWait());
+            }
+            return lead(exchange, chain, key, sink);
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private String coalescingKey(String routeId, ServerHttpRequest request) {
+        String rawQuery = request.getURI().getRawQuery();
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return routeId + '|' + authorization + '|' + request.getURI().getRawPath()
+                + (rawQuery != null ? "?" + rawQuery : "");
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange,
+                            GatewayFilterChain chain,
+                            String key, Sinks.One<CapturedResponse> sink) {
+        CapturingResponseDecorator decorator = new CapturingResponseDecorator(exchange.getResponse());
+        return chain.filter(exchange.mutate().response(decorator).build())
+                .doOnSuccess(unused -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitValue(decorator.toCapturedResponse());
+                })
+                .doOnError(e -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitError(e);
+                })
+                .doOnCancel(() -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange,
+                              GatewayFilterChain chain,
+                              Sinks.One<CapturedResponse> leader, String routeId, Duration maxWait) {
+        return leader.asMono()
+                .timeout(maxWait)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                // leader가 실패했거나 응답을 기다리다 시간이 초과되면 직접 백엔드를 호출합니다.
+                .onErrorResume(e -> {
+                    log.debug("Coalesced leader failed ({}). Falling back to own upstream call.", e.toString());
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(captured -> {
+                    if (captured.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    // 인증/요청 제한 필터는 그대로 거치도록 체인을 진행하되, 백엔드 라우팅만 건너뜁니다.
+                    setAlreadyRouted(exchange);
+                    return chain.filter(exchange).then(Mono.defer(() -> {
+                        if (exchange.getResponse().isCommitted()) {
+                            return Mono.empty();
+                        }
+                        meterRegistry.counter("gateway.coalesced.requests", "route", routeId).increment();
+                        return write(exchange.getResponse(), captured.get());
+                    }));
+                });
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, CapturedResponse captured) {
+        response.setStatusCode(captured.getStatusCode());
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(captured.getHeaders());
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        if (captured.getBody() == null) {
+            return response.setComplete();
+        }
+        headers.setContentLength(captured.getBody().length);
+        DataBuffer buffer = response.bufferFactory().wrap(captured.getBody());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * leader 응답의 상태 코드, 헤더, 본문을 복사해 두는 응답 데코레이터입니다.
+     */
+    private static class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private volatile byte[] body;
+
+        CapturingResponseDecorator(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+                this.body = bytes;
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(p -> p));
+        }
+
+        CapturedResponse toCapturedResponse() {
+            HttpStatusCode statusCode = getStatusCode();
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(getHeaders());
+            return new CapturedResponse(statusCode != null ? statusCode : HttpStatus.OK, headers, body);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class CapturedResponse {
+        private final HttpStatusCode statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        // follower가 leader 응답을 기다리는 최대 시간. 초과하면 직접 백엔드를 호출합니다.
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,173 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.cache.CachedResponse;
+import com.playdata.gatewayservice.cache.ResponseCacheStore;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.setAlreadyRouted;
+
+/**
+ * 거의 바뀌지 않는 참조 데이터(부서/직책 목록, 지각 기준 시각 등) 응답을 게이트웨이에서 캐시하는 필터입니다.
+ * GET 200 응답만 TTL 동안 메모리에 보관하고 ETag를 붙여 응답하며,
+ * If-None-Match가 현재 ETag와 같으면 본문 없이 304 Not Modified로 응답합니다.
+ * 캐시 적중 시에도 라우트의 인증 필터를 통과한 요청에만 캐시 응답을 내려줍니다.
+ */
+@Component
+@Slf4j
+public class ResponseCacheFilter
+        extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private final ResponseCacheStore responseCacheStore;
+
+    public ResponseCacheFilter(ResponseCacheStore responseCacheStore) {
+        super(Config.class);
+        this.responseCacheStore = responseCacheStore;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long ttlMillis = config.getTtl().toMillis();
+        // 백엔드 응답 본문을 가로채려면 NettyWriteResponseFilter보다 먼저 응답을 감싸야 하므로 순서를 지정합니다.
+        // 이 때문에 라우트의 다른 필터(RewritePath, AuthorizationHeaderFilter 등)보다 먼저 실행됩니다.
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            String keyPrefix = (route != null ? route.getId() : "default") + ":";
+
+            if (request.getMethod() != HttpMethod.GET) {
+                // 같은 라우트로 들어온 수정 요청(POST/PUT/DELETE)이 성공하면 해당 라우트의 캐시를 모두 비웁니다.
+                return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                    HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+                    if (config.isInvalidateOnWrite() && statusCode != null && statusCode.is2xxSuccessful()) {
+                        int removed = responseCacheStore.invalidate(keyPrefix);
+                        log.debug("Response cache invalidated by {} {}. removed={}", request.getMethod(), request.getPath(), removed);
+                    }
+                }));
+            }
+
+            String rawQuery = request.getURI().getRawQuery();
+            String key = keyPrefix + "GET " + request.getURI().getRawPath() + (rawQuery != null ? "?" + rawQuery : "");
+
+            CachedResponse cached = responseCacheStore.get(key);
+            if (cached != null) {
+                // 캐시 적중 시에도 뒤의 인증 필터는 그대로 거치도록 체인을 진행하되, 백엔드 라우팅만 건너뜁니다.
+                // 인증 필터가 401 등으로 응답을 이미 작성했다면 캐시 응답을 쓰지 않습니다.
+                setAlreadyRouted(exchange);
+                return chain.filter(exchange)
+                        .then(Mono.defer(() -> exchange.getResponse().isCommitted()
+                                ? Mono.empty()
+                                : writeCached(exchange, cached)));
+            }
+
+            return chain.filter(exchange.mutate()
+                    .response(new CachingResponseDecorator(exchange, key, ttlMillis))
+                    .build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.getEtag());
+
+        if (cached.getEtag().equals(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+            responseCacheStore.recordNotModified();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.getContentType() != null) {
+            headers.setContentType(cached.getContentType());
+        }
+        if (cached.getContentEncoding() != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, cached.getContentEncoding());
+        }
+        headers.setContentLength(cached.getBody().length);
+        DataBuffer buffer = response.bufferFactory().wrap(cached.getBody());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * 백엔드 응답 본문을 모아 캐시에 저장하고, ETag를 붙여 그대로 클라이언트에 전달합니다.
+     */
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final long ttlMillis;
+
+        CachingResponseDecorator(ServerWebExchange exchange, String key, long ttlMillis) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.ttlMillis = ttlMillis;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode statusCode = getStatusCode();
+            if (statusCode == null || statusCode.value() != HttpStatus.OK.value()) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                HttpHeaders headers = getHeaders();
+                CachedResponse cached = responseCacheStore.put(key, bytes, headers.getContentType(),
+                        headers.getFirst(HttpHeaders.CONTENT_ENCODING), ttlMillis);
+                headers.setETag(cached.getEtag());
+
+                if (cached.getEtag().equals(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+                    responseCacheStore.recordNotModified();
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                    return setComplete();
+                }
+                headers.setContentLength(bytes.length);
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(p -> p));
+        }
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        // 캐시 보관 시간 (예: 10m, 30s)
+        private Duration ttl = Duration.ofMinutes(5);
+        // 같은 라우트의 수정 요청이 성공하면 캐시를 비울지 여부
+        private boolean invalidateOnWrite = true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.route.ServicePrefixTrie;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.addOriginalRequestUrl;
+
+/**
+ * 요청 경로의 첫 번째 세그먼트(서비스 prefix)를 제거하는 필터입니다.
+ * RewritePath=/{svc}/(?<segment>.*), /$\{segment} 와 같은 결과를 정규식 치환 없이 substring으로 계산합니다.
+ * 라우트의 ServicePrefix predicate가 이미 prefix를 확인했으므로 첫 세그먼트 길이만큼 잘라냅니다.
+ */
+@Component
+public class StripServicePrefixFilter extends AbstractGatewayFilterFactory {
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest req = exchange.getRequest();
+            addOriginalRequestUrl(exchange, req.getURI());
+
+            String newPath = ServicePrefixTrie.stripFirstSegment(req.getURI().getRawPath());
+
+            ServerHttpRequest request = req.mutate().path(newPath).build();
+            exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, request.getURI());
+            return chain.filter(exchange.mutate().request(request).build());
+        };
+    }
+}
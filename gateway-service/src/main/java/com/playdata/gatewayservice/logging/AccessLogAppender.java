@@ -0,0 +1,126 @@
+package com.playdata.gatewayservice.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Netty 이벤트 루프에서 로그 I/O를 하지 않도록 액세스 로그를 비동기로 출력하는 appender입니다.
+ * 고정 크기 링 버퍼(다중 생산자 / 단일 소비자)에 AccessLogRecord 슬롯을 미리 할당해 두고,
+ * 이벤트 루프 스레드는 빈 슬롯에 값만 채워 넣고 즉시 반환합니다.
+ * 버퍼가 가득 찬 경우 요청 처리를 막지 않고 해당 로그를 버리며 gateway.access.log.dropped로 집계합니다.
+ */
+@Component
+@Slf4j
+public class AccessLogAppender {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AccessLogRecord[] records;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final Counter droppedCounter;
+    private final Thread consumer;
+    private volatile boolean running = true;
+
+    // 소비자 스레드에서만 접근합니다.
+    private long head;
+
+    public AccessLogAppender(@Value("${gateway.access-log.buffer-size:8192}") int bufferSize,
+                             MeterRegistry meterRegistry) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.records = new AccessLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            records[i] = new AccessLogRecord();
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.droppedCounter = Counter.builder("gateway.access.log.dropped")
+                .description("링 버퍼가 가득 차서 버려진 액세스 로그 수")
+                .register(meterRegistry);
+
+        this.consumer = new Thread(this::drainLoop, "access-log-appender");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * 액세스 로그 1건을 링 버퍼에 기록합니다. 호출 스레드를 블로킹하지 않습니다.
+     *
+     * @return 기록에 성공하면 true, 버퍼가 가득 차 버려졌으면 false
+     */
+    public boolean append(String routeId, String method, String path, int status,
+                          long latencyMicros, String employeeNo, String detail) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records[index].set(routeId, method, path, status, latencyMicros, employeeNo, detail);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                droppedCounter.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private void drainLoop() {
+        StringBuilder sb = new StringBuilder(256);
+        while (running || hasPending()) {
+            if (!drainOne(sb)) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private boolean hasPending() {
+        int index = (int) (head & mask);
+        return sequences.get(index) == head + 1;
+    }
+
+    private boolean drainOne(StringBuilder sb) {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return false;
+        }
+        AccessLogRecord record = records[index];
+        try {
+            sb.setLength(0);
+            record.appendTo(sb);
+            ACCESS_LOG.info(sb.toString());
+        } catch (Exception e) {
+            log.warn("Failed to write access log: {}", e.getMessage());
+        } finally {
+            record.clear();
+            sequences.lazySet(index, head + records.length);
+            head++;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
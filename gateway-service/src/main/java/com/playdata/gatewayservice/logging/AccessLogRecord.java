@@ -0,0 +1,52 @@
+package com.playdata.gatewayservice.logging;
+
+/**
+ * 요청 1건의 액세스 로그 필드를 담는 재사용 슬롯입니다.
+ * AccessLogAppender의 링 버퍼에 미리 할당되어 있으며, 요청마다 새로 생성하지 않고
+ * 이벤트 루프 스레드가 값을 채운 뒤 로그 스레드가 출력하고 비웁니다.
+ */
+public final class AccessLogRecord {
+
+    private String routeId;
+    private String method;
+    private String path;
+    private int status;
+    private long latencyMicros;
+    private String employeeNo;
+    private String detail;
+
+    void set(String routeId, String method, String path, int status,
+             long latencyMicros, String employeeNo, String detail) {
+        this.routeId = routeId;
+        this.method = method;
+        this.path = path;
+        this.status = status;
+        this.latencyMicros = latencyMicros;
+        this.employeeNo = employeeNo;
+        this.detail = detail;
+    }
+
+    void clear() {
+        set(null, null, null, 0, 0L, null, null);
+    }
+
+    void appendTo(StringBuilder sb) {
+        sb.append("route=").append(routeId)
+                .append(" method=").append(method)
+                .append(" path=").append(path)
+                .append(" status=").append(status)
+                .append(" latencyMs=").append(latencyMicros / 1000).append('.');
+        long fraction = latencyMicros % 1000;
+        if (fraction < 100) {
+            sb.append('0');
+        }
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction)
+                .append(" employeeNo=").append(employeeNo == null ? "-" : employeeNo);
+        if (detail != null) {
+            sb.append(' ').append(detail);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 인스턴스 메모리에 토큰 버킷을 보관하는 저장소입니다.
+ * 버킷 수가 sweepThreshold를 넘으면 가득 찬(최근 요청이 없는) 버킷을 정리하여 메모리가 계속 늘어나지 않도록 합니다.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int sweepThreshold;
+
+    public LocalRateLimitStore(int sweepThreshold) {
+        this.sweepThreshold = sweepThreshold;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, double replenishRate, int burstCapacity) {
+        return Mono.just(consume(key, replenishRate, burstCapacity, System.nanoTime()));
+    }
+
+    RateLimitDecision consume(String key, double replenishRate, int burstCapacity, long nowNanos) {
+        long emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / replenishRate);
+        long burstToleranceNanos = emissionIntervalNanos * (Math.max(1, burstCapacity) - 1);
+
+        if (buckets.size() >= sweepThreshold) {
+            buckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+        }
+        TokenBucket bucket = buckets.computeIfAbsent(key,
+                k -> new TokenBucket(emissionIntervalNanos, burstToleranceNanos, nowNanos));
+
+        long waitNanos = bucket.tryConsume(nowNanos);
+        if (waitNanos == 0) {
+            return RateLimitDecision.allowed();
+        }
+        return RateLimitDecision.rejected(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
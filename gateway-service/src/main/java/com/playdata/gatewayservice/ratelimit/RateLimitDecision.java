@@ -0,0 +1,30 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RateLimitDecision {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0L);
+
+    private final boolean allowed;
+    // 거부된 경우 다음 요청이 허용될 때까지 남은 시간(ms)
+    private final long retryAfterMillis;
+
+    public static RateLimitDecision allowed() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision rejected(long retryAfterMillis) {
+        return new RateLimitDecision(false, retryAfterMillis);
+    }
+
+    /**
+     * Retry-After 헤더 값(초, 올림)을 반환합니다.
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1L, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,17 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 키별 토큰 버킷 상태를 보관하는 저장소입니다.
+ * 단일 인스턴스에서는 LocalRateLimitStore, 여러 레플리카가 한도를 공유해야 하면 RedisRateLimitStore를 사용합니다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * @param key           버킷 키 (라우트 id + 사번 또는 클라이언트 IP)
+     * @param replenishRate 초당 충전되는 토큰 수
+     * @param burstCapacity 버킷이 담을 수 있는 최대 토큰 수
+     */
+    Mono<RateLimitDecision> tryConsume(String key, double replenishRate, int burstCapacity);
+}
@@ -0,0 +1,29 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * gateway.rate-limit.mode 값에 따라 토큰 버킷 저장소를 선택합니다.
+ * - local (기본값): 인스턴스 메모리에 보관. 레플리카마다 한도가 따로 적용됩니다.
+ * - redis: Redis에 보관하여 모든 레플리카가 한도를 공유합니다.
+ */
+@Configuration
+public class RateLimitStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.rate-limit.mode", havingValue = "local", matchIfMissing = true)
+    public RateLimitStore localRateLimitStore(
+            @Value("${gateway.rate-limit.local.sweep-threshold:100000}") int sweepThreshold) {
+        return new LocalRateLimitStore(sweepThreshold);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.rate-limit.mode", havingValue = "redis")
+    public RateLimitStore redisRateLimitStore(ReactiveStringRedisTemplate redisTemplate) {
+        return new RedisRateLimitStore(redisTemplate);
+    }
+}
@@ -0,0 +1,65 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis에 토큰 버킷 상태(TAT)를 저장하여 여러 게이트웨이 레플리카가 같은 한도를 공유하도록 하는 저장소입니다.
+ * LocalRateLimitStore와 같은 GCRA 계산을 Lua 스크립트로 원자적으로 수행하고, 시각은 Redis TIME을 사용하여
+ * 레플리카 간 시계 차이의 영향을 받지 않습니다.
+ * Redis 장애 시에는 요청을 막지 않도록 허용(fail-open) 처리합니다.
+ */
+@Slf4j
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "gateway:rate-limit:";
+
+    // ARGV[1]: 토큰 1개 충전 간격(us), ARGV[2]: 버스트 허용 구간(us)
+    // 반환값: 허용되면 0, 거부되면 대기해야 하는 시간(us)
+    private static final RedisScript<Long> GCRA_SCRIPT = RedisScript.of("""
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1])) or now
+            if tat < now then
+              tat = now
+            end
+            local allowAt = tat - tolerance
+            if now < allowAt then
+              return allowAt - now
+            end
+            local newTat = tat + interval
+            redis.call('SET', KEYS[1], newTat, 'PX', math.ceil((newTat - now) / 1000) + 1)
+            return 0
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public RedisRateLimitStore(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, double replenishRate, int burstCapacity) {
+        long emissionIntervalMicros = (long) (TimeUnit.SECONDS.toMicros(1) / replenishRate);
+        long burstToleranceMicros = emissionIntervalMicros * (Math.max(1, burstCapacity) - 1);
+
+        return redisTemplate.execute(GCRA_SCRIPT, List.of(KEY_PREFIX + key),
+                        List.of(Long.toString(emissionIntervalMicros), Long.toString(burstToleranceMicros)))
+                .next()
+                .map(waitMicros -> waitMicros == 0
+                        ? RateLimitDecision.allowed()
+                        : RateLimitDecision.rejected(TimeUnit.MICROSECONDS.toMillis(waitMicros)))
+                .defaultIfEmpty(RateLimitDecision.allowed())
+                .onErrorResume(e -> {
+                    log.warn("Redis rate limit check failed, allowing request. key={}, error={}", key, e.getMessage());
+                    return Mono.just(RateLimitDecision.allowed());
+                });
+    }
+}
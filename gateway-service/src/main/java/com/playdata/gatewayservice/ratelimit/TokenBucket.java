@@ -0,0 +1,49 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 동작하는 토큰 버킷입니다.
+ * 토큰 수와 마지막 충전 시각을 따로 두지 않고, GCRA(Generic Cell Rate Algorithm) 방식으로
+ * "다음 토큰이 이론상 도착하는 시각(TAT)" 하나만 AtomicLong에 저장하여 CAS 한 번으로 갱신합니다.
+ * 초당 replenishRate개씩 충전되고 최대 burstCapacity개까지 쌓이는 토큰 버킷과 동일하게 동작합니다.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(long emissionIntervalNanos, long burstToleranceNanos, long nowNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = burstToleranceNanos;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개를 소비합니다.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     * @return 허용되면 0, 거부되면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    public long tryConsume(long nowNanos) {
+        for (;;) {
+            long tat = theoreticalArrivalNanos.get();
+            long base = Math.max(tat, nowNanos);
+            long allowAt = base - burstToleranceNanos;
+            if (nowNanos < allowAt) {
+                return allowAt - nowNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 차 있어(최근 요청이 없어) 제거해도 되는 상태인지 확인합니다.
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrivalNanos.get() <= nowNanos;
+    }
+}
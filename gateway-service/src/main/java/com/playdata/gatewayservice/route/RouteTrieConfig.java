@@ -0,0 +1,14 @@
+package com.playdata.gatewayservice.route;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RouteTrieConfig {
+
+    // 모든 ServicePrefix 라우트 predicate가 공유하는 trie
+    @Bean
+    public ServicePrefixTrie servicePrefixTrie() {
+        return new ServicePrefixTrie();
+    }
+}
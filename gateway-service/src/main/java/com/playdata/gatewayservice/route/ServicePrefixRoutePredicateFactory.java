@@ -0,0 +1,72 @@
+package com.playdata.gatewayservice.route;
+
+import lombok.*;
+import org.springframework.cloud.gateway.handler.predicate.AbstractRoutePredicateFactory;
+import org.springframework.cloud.gateway.handler.predicate.GatewayPredicate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Path=/{prefix}/** 대신 사용하는 서비스 prefix 라우트 predicate입니다. (예: ServicePrefix=hr-service)
+ * 모든 라우트가 같은 ServicePrefixTrie를 공유하고, 요청당 한 번만 trie를 조회해 결과를 exchange 속성에 저장합니다.
+ * 이후 라우트들은 PathPattern 매칭 없이 저장된 prefix를 참조 비교(==)만 하므로 라우트 수가 늘어도 비용이 거의 늘지 않습니다.
+ */
+@Component
+public class ServicePrefixRoutePredicateFactory
+        extends AbstractRoutePredicateFactory<ServicePrefixRoutePredicateFactory.Config> {
+
+    // 요청 경로에서 찾은 서비스 prefix를 보관하는 exchange 속성 키
+    public static final String SERVICE_PREFIX_ATTR = ServicePrefixRoutePredicateFactory.class.getName() + ".prefix";
+
+    // 일치하는 prefix가 없다는 결과도 다시 조회하지 않도록 저장하는 표식
+    private static final String NO_MATCH = new String("");
+
+    private final ServicePrefixTrie trie;
+
+    public ServicePrefixRoutePredicateFactory(ServicePrefixTrie trie) {
+        super(Config.class);
+        this.trie = trie;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("prefix");
+    }
+
+    @Override
+    public Predicate<ServerWebExchange> apply(Config config) {
+        String canonicalPrefix = trie.register(config.getPrefix());
+        return new GatewayPredicate() {
+            @Override
+            public boolean test(ServerWebExchange exchange) {
+                return resolve(exchange) == canonicalPrefix;
+            }
+
+            @Override
+            public String toString() {
+                return "ServicePrefix: /" + canonicalPrefix + "/**";
+            }
+        };
+    }
+
+    private String resolve(ServerWebExchange exchange) {
+        String resolved = exchange.getAttribute(SERVICE_PREFIX_ATTR);
+        if (resolved == null) {
+            String matched = trie.match(exchange.getRequest().getURI().getRawPath());
+            resolved = matched != null ? matched : NO_MATCH;
+            exchange.getAttributes().put(SERVICE_PREFIX_ATTR, resolved);
+        }
+        return resolved;
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        // 슬래시 없는 서비스 prefix (예: hr-service)
+        private String prefix;
+    }
+}
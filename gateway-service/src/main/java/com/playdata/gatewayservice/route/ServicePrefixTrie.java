@@ -0,0 +1,104 @@
+package com.playdata.gatewayservice.route;
+
+import java.util.Arrays;
+
+/**
+ * 요청 경로의 첫 번째 세그먼트(서비스 prefix, 예: "hr-service")를 찾기 위한 문자 단위 trie입니다.
+ * 라우트가 등록한 prefix마다 정규화된(canonical) String 인스턴스를 보관하므로,
+ * 조회 결과를 == 비교만으로 라우트의 prefix와 대조할 수 있습니다.
+ * 등록은 기동 시 라우트를 만들 때만 일어나고 조회는 요청마다 일어나므로, 등록은 synchronized로 직렬화하고
+ * 조회는 락 없이 수행합니다. (노드 배열은 교체 방식으로 갱신되어 조회 중에 부분 상태가 보이지 않습니다.)
+ */
+public class ServicePrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * prefix를 등록하고 정규화된 인스턴스를 반환합니다. 이미 등록된 prefix면 기존 인스턴스를 반환합니다.
+     *
+     * @param prefix 슬래시 없는 단일 세그먼트 (예: "hr-service")
+     */
+    public synchronized String register(String prefix) {
+        if (prefix == null || prefix.isEmpty() || prefix.indexOf('/') >= 0) {
+            throw new IllegalArgumentException("Service prefix must be a single non-empty path segment: " + prefix);
+        }
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.childOrCreate(prefix.charAt(i));
+        }
+        if (node.prefix == null) {
+            node.prefix = prefix;
+        }
+        return node.prefix;
+    }
+
+    /**
+     * 경로의 첫 번째 세그먼트가 등록된 prefix와 정확히 일치하면 해당 정규화 인스턴스를 반환합니다.
+     * "/hr-service"와 "/hr-service/..."는 일치하고, "/hr-service2/..."는 일치하지 않습니다.
+     *
+     * @param path 요청 raw path (예: "/hr-service/hr/departments")
+     * @return 일치한 prefix, 없으면 null
+     */
+    public String match(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        Node node = root;
+        int length = path.length();
+        for (int i = 1; i < length; i++) {
+            char c = path.charAt(i);
+            if (c == '/') {
+                return node.prefix;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.prefix;
+    }
+
+    /**
+     * "/{prefix}/rest" 경로에서 첫 번째 세그먼트를 제거한 "/rest"를 반환합니다.
+     * RewritePath=/{prefix}/(?<segment>.*), /${segment} 와 같은 결과를 정규식 없이 계산하며,
+     * 세그먼트가 하나뿐인 경로("/{prefix}")는 "/"로 바꿉니다.
+     */
+    public static String stripFirstSegment(String path) {
+        int secondSlash = path.indexOf('/', 1);
+        return secondSlash < 0 ? "/" : path.substring(secondSlash);
+    }
+
+    private static final class Node {
+        private volatile char[] keys = new char[0];
+        private volatile Node[] children = new Node[0];
+        private volatile String prefix;
+
+        private Node child(char c) {
+            char[] currentKeys = keys;
+            Node[] currentChildren = children;
+            int length = Math.min(currentKeys.length, currentChildren.length);
+            for (int i = 0; i < length; i++) {
+                if (currentKeys[i] == c) {
+                    return currentChildren[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node();
+            Node[] newChildren = Arrays.copyOf(children, children.length + 1);
+            newChildren[newChildren.length - 1] = created;
+            char[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            newKeys[newKeys.length - 1] = c;
+            // children을 먼저 늘린 뒤 keys를 늘려, 조회 시 keys 길이 안에서는 항상 child가 존재하도록 합니다.
+            children = newChildren;
+            keys = newKeys;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.playdata.gatewayservice.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtClaimsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-07-01T00:00:00Z");
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new JwtClaimsCache(2, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("exp 이전에는 캐시된 Claims를 반환하고 적중 횟수를 기록한다")
+    void returnsCachedClaimsBeforeExpiration() {
+        Claims claims = claimsExpiringAt(NOW.plusSeconds(60));
+        cache.put("token-a", claims);
+
+        assertThat(cache.get("token-a")).isSameAs(claims);
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(meterRegistry.get("gateway.jwt.claims.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("gateway.jwt.claims.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("exp 시각이 지나면 항목을 제거하고 미스로 처리한다")
+    void evictsAtExpiration() {
+        cache.put("token-a", claimsExpiringAt(NOW.plusSeconds(60)));
+
+        clock.instant = NOW.plusSeconds(60);
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기에 도달하면 만료 항목을 정리하고, 여유가 없으면 캐싱을 건너뛴다")
+    void respectsMaxSize() {
+        cache.put("token-a", claimsExpiringAt(NOW.plusSeconds(10)));
+        cache.put("token-b", claimsExpiringAt(NOW.plusSeconds(60)));
+        cache.put("token-c", claimsExpiringAt(NOW.plusSeconds(60)));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token-c")).isNull();
+
+        clock.instant = NOW.plusSeconds(10);
+        cache.put("token-c", claimsExpiringAt(NOW.plusSeconds(60)));
+        assertThat(cache.get("token-c")).isNotNull();
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("exp가 없거나 이미 만료된 토큰은 캐시하지 않는다")
+    void skipsTokensWithoutValidExpiration() {
+        cache.put("no-exp", Jwts.claims().setSubject("user"));
+        cache.put("expired", claimsExpiringAt(NOW.minusSeconds(1)));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private static Claims claimsExpiringAt(Instant expiration) {
+        return Jwts.claims()
+                .setSubject("user@samubozo.co.kr")
+                .setExpiration(Date.from(expiration));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
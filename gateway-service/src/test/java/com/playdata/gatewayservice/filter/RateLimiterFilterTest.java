@@ -0,0 +1,50 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.ratelimit.LocalRateLimitStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterFilterTest {
+
+    private final RateLimiterFilter filter = new RateLimiterFilter(new LocalRateLimitStore(1_000), 1);
+
+    @Test
+    @DisplayName("클라이언트가 보낸 X-User-Employee-No는 무시하고, 검증된 사번이 있을 때만 사번 키를 사용한다")
+    void ignoresClientSuppliedEmployeeNo() {
+        MockServerWebExchange spoofed = MockServerWebExchange.from(MockServerHttpRequest.post("/auth-service/auth/login")
+                .header("X-User-Employee-No", "1234")
+                .remoteAddress(new InetSocketAddress("10.0.0.5", 40000)));
+        assertThat(filter.resolveKey(spoofed)).isEqualTo("ip:10.0.0.5");
+
+        MockServerWebExchange verified = MockServerWebExchange.from(MockServerHttpRequest.get("/hr-service/hr/users"));
+        verified.getAttributes().put(GlobalFilter.EMPLOYEE_NO_ATTR, "1234");
+        assertThat(filter.resolveKey(verified)).isEqualTo("emp:1234");
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For는 신뢰 프록시가 덧붙인 오른쪽 값을 사용하므로 앞쪽 값을 바꿔도 키가 같다")
+    void usesRightmostTrustedForwardedHop() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.post("/auth-service/auth/login")
+                .header("X-Forwarded-For", "1.1.1.1, 203.0.113.7"));
+        MockServerWebExchange rotated = MockServerWebExchange.from(MockServerHttpRequest.post("/auth-service/auth/login")
+                .header("X-Forwarded-For", "9.9.9.9, 203.0.113.7"));
+
+        assertThat(filter.resolveKey(first)).isEqualTo("ip:203.0.113.7");
+        assertThat(filter.resolveKey(rotated)).isEqualTo(filter.resolveKey(first));
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For가 없으면 연결된 원격 주소를 사용한다")
+    void fallsBackToRemoteAddress() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/auth-service/auth/login")
+                .remoteAddress(new InetSocketAddress("10.0.0.9", 40000)));
+
+        assertThat(filter.resolveKey(exchange)).isEqualTo("ip:10.0.0.9");
+    }
+}
@@ -0,0 +1,91 @@
+package com.playdata.gatewayservice.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.isAlreadyRouted;
+
+class RequestCoalescingFilterTest {
+
+    private static final String TOKEN = "Bearer same-token";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GatewayFilter filter = new RequestCoalescingFilter(meterRegistry)
+            .apply(new RequestCoalescingFilter.Config());
+
+    @Test
+    @DisplayName("follower도 라우트의 인증/요청 제한 필터를 거치며, 그 필터가 거부하면 leader 응답을 복사하지 않는다")
+    void followerStillPassesRouteFilters() {
+        Sinks.Empty<Void> upstream = Sinks.empty();
+        MockServerWebExchange leader = exchange();
+        MockServerWebExchange follower = exchange();
+
+        Mono<Void> leaderResult = filter.filter(leader, upstreamChain(upstream));
+        // 요청 제한 필터가 429로 응답하는 상황
+        Mono<Void> followerResult = filter.filter(follower, exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return exchange.getResponse().setComplete();
+        });
+
+        CompletableFuture<Void> leaderDone = leaderResult.toFuture();
+        CompletableFuture<Void> followerDone = followerResult.toFuture();
+        upstream.tryEmitEmpty();
+        leaderDone.join();
+        followerDone.join();
+
+        assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo("leader");
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(follower.getResponse().getBodyAsString().blockOptional().orElse("")).isEmpty();
+        assertThat(meterRegistry.find("gateway.coalesced.requests").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("라우트 필터를 통과한 follower는 백엔드 라우팅 없이 leader 응답을 받는다")
+    void followerReceivesLeaderResponse() {
+        Sinks.Empty<Void> upstream = Sinks.empty();
+        MockServerWebExchange leader = exchange();
+        MockServerWebExchange follower = exchange();
+
+        Mono<Void> leaderResult = filter.filter(leader, upstreamChain(upstream));
+        Mono<Void> followerResult = filter.filter(follower, exchange -> {
+            assertThat(isAlreadyRouted(exchange)).isTrue();
+            return Mono.empty();
+        });
+
+        CompletableFuture<Void> leaderDone = leaderResult.toFuture();
+        CompletableFuture<Void> followerDone = followerResult.toFuture();
+        upstream.tryEmitEmpty();
+        leaderDone.join();
+        followerDone.join();
+
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("leader");
+        assertThat(meterRegistry.counter("gateway.coalesced.requests", "route", "default").count()).isEqualTo(1.0);
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/approval-service/approvals/absence/statistics")
+                .header(HttpHeaders.AUTHORIZATION, TOKEN));
+    }
+
+    /**
+     * upstream이 끝나면 "leader" 본문으로 응답하는 체인
+     */
+    private static GatewayFilterChain upstreamChain(Sinks.Empty<Void> upstream) {
+        return exchange -> upstream.asMono().then(Mono.defer(() -> exchange.getResponse().writeWith(Mono.just(
+                DefaultDataBufferFactory.sharedInstance.wrap("leader".getBytes(StandardCharsets.UTF_8))))));
+    }
+}
@@ -0,0 +1,61 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitStoreTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LocalRateLimitStore store = new LocalRateLimitStore(1_000);
+
+    @Test
+    @DisplayName("burstCapacity만큼 즉시 허용한 뒤 거부하고, Retry-After를 계산한다")
+    void allowsBurstThenRejects() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.consume("chatbot:emp:1", 1, 3, now).isAllowed()).isTrue();
+        }
+
+        RateLimitDecision rejected = store.consume("chatbot:emp:1", 1, 3, now);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfterMillis()).isEqualTo(1_000);
+        assertThat(rejected.getRetryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 replenishRate만큼 토큰이 다시 충전된다")
+    void replenishesOverTime() {
+        long now = 1_000 * SECOND;
+        store.consume("chatbot:emp:1", 2, 1, now);
+        assertThat(store.consume("chatbot:emp:1", 2, 1, now).isAllowed()).isFalse();
+
+        assertThat(store.consume("chatbot:emp:1", 2, 1, now + SECOND / 2).isAllowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("키가 다르면 서로 다른 버킷을 사용한다")
+    void separatesBucketsByKey() {
+        long now = 1_000 * SECOND;
+        assertThat(store.consume("chatbot:emp:1", 1, 1, now).isAllowed()).isTrue();
+        assertThat(store.consume("chatbot:emp:2", 1, 1, now).isAllowed()).isTrue();
+        assertThat(store.consume("chatbot:emp:1", 1, 1, now).isAllowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("버킷 수가 임계치를 넘으면 가득 찬 버킷을 정리한다")
+    void sweepsIdleBuckets() {
+        LocalRateLimitStore smallStore = new LocalRateLimitStore(2);
+        long now = 1_000 * SECOND;
+        smallStore.consume("a", 1, 1, now);
+        smallStore.consume("b", 1, 1, now);
+
+        smallStore.consume("c", 1, 1, now + 10 * SECOND);
+
+        assertThat(smallStore.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,53 @@
+package com.playdata.gatewayservice.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServicePrefixTrieTest {
+
+    @Test
+    @DisplayName("첫 번째 세그먼트가 등록된 prefix와 정확히 일치할 때만 정규화 인스턴스를 반환한다")
+    void matchesFirstSegmentExactly() {
+        ServicePrefixTrie trie = new ServicePrefixTrie();
+        String hr = trie.register("hr-service");
+        trie.register("hr-service-admin");
+
+        assertThat(trie.match("/hr-service/hr/departments")).isSameAs(hr);
+        assertThat(trie.match("/hr-service")).isSameAs(hr);
+        assertThat(trie.match("/hr-service-admin/x")).isEqualTo("hr-service-admin");
+        assertThat(trie.match("/hr-serv/x")).isNull();
+        assertThat(trie.match("/hr-service2/x")).isNull();
+        assertThat(trie.match("/")).isNull();
+        assertThat(trie.match("")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 prefix를 다시 등록하면 같은 인스턴스를 반환한다")
+    void registerReturnsCanonicalInstance() {
+        ServicePrefixTrie trie = new ServicePrefixTrie();
+        String first = trie.register("approval-service");
+
+        assertThat(trie.register(new String("approval-service"))).isSameAs(first);
+        assertThatThrownBy(() -> trie.register("a/b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("prefix 제거 결과가 기존 RewritePath 정규식 치환과 같다")
+    void stripFirstSegmentMatchesRewritePath() {
+        Pattern rewrite = Pattern.compile("/attendance-service/(?<segment>.*)");
+        String[] paths = {
+                "/attendance-service/attendance/check-in",
+                "/attendance-service/",
+                "/attendance-service/attendance/monthly/2025/7",
+        };
+        for (String path : paths) {
+            assertThat(ServicePrefixTrie.stripFirstSegment(path))
+                    .isEqualTo(rewrite.matcher(path).replaceAll("/${segment}"));
+        }
+    }
+}
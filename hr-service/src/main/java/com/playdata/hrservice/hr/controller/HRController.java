@@ -15,6 +15,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -200,6 +201,29 @@ public class HRController {
         return ResponseEntity.ok(scheduleType);
     }
 
+    // 근태 서비스가 자정에 당일 스냅샷을 만들 때 사용하는 사용자별 외부 일정 일괄 조회 (HR, 서비스 간 호출만 허용)
+    @GetMapping("/schedules/feign/approved-types")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')")
+    public ResponseEntity<Map<Long, String>> getApprovedExternalScheduleTypes(
+            @RequestParam("date") LocalDate date) {
+        return ResponseEntity.ok(userService.getApprovedExternalScheduleTypes(date));
+    }
+
+    /**
+     * 재직 중인 사원의 사번을 사번 순으로 한 페이지씩 조회합니다. (배치 작업용)
+     * 다음 페이지는 이번 페이지의 마지막 사번을 afterEmployeeNo로 넘겨 조회합니다.
+     */
+    @GetMapping("/users/feign/active-ids")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')") // HR 또는 서비스 간 호출만 허용
+    public ResponseEntity<List<Long>> getActiveEmployeeNos(
+            @RequestParam(value = "afterEmployeeNo", defaultValue = "0") Long afterEmployeeNo,
+            @RequestParam(value = "size", defaultValue = "500") int size) {
+        if (size < 1 || size > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(userService.getActiveEmployeeNos(afterEmployeeNo, size));
+    }
+
     @PatchMapping("/users/retire/{id}")
     public ResponseEntity<?> retireUser(@PathVariable("id") Long employeeNo,
                                         @AuthenticationPrincipal TokenUserInfo tokenUserInfo) {
@@ -72,4 +72,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u WHERE YEAR(u.hireDate) = :year AND MONTH(u.hireDate) = :month")
     List<User> findUsersWithHireDateInMonth(int year, int month);
+
+    /**
+     * 재직 중인 사원의 사번을 afterEmployeeNo 다음부터 사번 순으로 조회합니다. (키셋 페이징)
+     */
+    @Query("SELECT u.employeeNo FROM User u WHERE u.activate = 'Y' AND u.employeeNo > :afterEmployeeNo ORDER BY u.employeeNo")
+    List<Long> findActiveEmployeeNosAfter(@Param("afterEmployeeNo") Long afterEmployeeNo, Pageable pageable);
 }
@@ -7,6 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface UserService {
 
@@ -45,10 +46,14 @@ public interface UserService {
 
     String getApprovedExternalScheduleType(Long userId, LocalDate date);
 
+    Map<Long, String> getApprovedExternalScheduleTypes(LocalDate date);
+
     @Transactional(readOnly = true)
     List<UserResDto> getUsersByIds(List<Long> employeeNos);
 
     @Transactional(readOnly = true)
     List<UserResDto> getUsersWithFirstAnniversaryInMonth(int year, int month);
 
+    List<Long> getActiveEmployeeNos(Long afterEmployeeNo, int size);
+
 }
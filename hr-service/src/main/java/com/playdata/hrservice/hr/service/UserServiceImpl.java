@@ -13,6 +13,7 @@ import jakarta.ws.rs.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,6 +25,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -317,6 +319,12 @@ public class UserServiceImpl implements UserService {
         return null;
     }
 
+    @Override
+    public Map<Long, String> getApprovedExternalScheduleTypes(LocalDate date) {
+        // getApprovedExternalScheduleType과 마찬가지로 아직 외부 일정 승인 데이터가 없으므로 빈 결과를 반환합니다.
+        return Map.of();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<UserResDto> getUsersByIds(List<Long> employeeNos) {
@@ -335,6 +343,12 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Long> getActiveEmployeeNos(Long afterEmployeeNo, int size) {
+        return userRepository.findActiveEmployeeNosAfter(afterEmployeeNo, PageRequest.of(0, size));
+    }
+
 }
 
 
@@ -9,30 +9,21 @@ import lombok.NoArgsConstructor;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 
+// 호출자 식별 헤더(X-User-Identity)는 FeignClientConfiguration의 인터셉터가 붙입니다.
 @FeignClient(name = "notification-service", configuration = FeignClientConfiguration.class)
 public interface NotificationServiceClient {
 
     @PostMapping("/notifications")
     void createNotification(
-            @RequestHeader("X-User-Employee-No") String employeeNo,
-            @RequestHeader("X-User-Email") String userEmail,
-            @RequestHeader("X-User-Role") String userRole,
             @RequestBody NotificationCreateRequest request);
 
     @PostMapping("/notifications/mark-read-by-message-id")
     void markNotificationAsReadByMessageId(
-            @RequestHeader("X-User-Employee-No") String employeeNo,
-            @RequestHeader("X-User-Email") String userEmail,
-            @RequestHeader("X-User-Role") String userRole,
             @RequestBody Long messageId);
 
     @PostMapping("/notifications/delete-by-message-id")
     void deleteNotificationsByMessageId(
-            @RequestHeader("X-User-Employee-No") String employeeNo,
-            @RequestHeader("X-User-Email") String userEmail,
-            @RequestHeader("X-User-Role") String userRole,
             @RequestBody Long messageId);
 
     @Getter
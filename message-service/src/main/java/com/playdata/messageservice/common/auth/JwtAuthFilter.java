@@ -1,5 +1,8 @@
 package com.playdata.messageservice.common.auth;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.IdentityHeaderVerifier;
+import com.playdata.common.auth.VerifiedIdentity;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,9 +25,30 @@ import java.util.List;
 @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private final IdentityHeaderVerifier identityHeaderVerifier;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
+        // 게이트웨이가 서명한 식별 헤더가 있으면 평문 X-User-* 헤더 대신 이 값을 사용합니다.
+        String identity = request.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+        if (identity != null) {
+            TokenUserInfo userInfo = toUserInfo(identityHeaderVerifier.verify(identity));
+            if (userInfo != null) {
+                Authentication auth = new UsernamePasswordAuthenticationToken(
+                        userInfo, "", List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getHrRole())));
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            } else {
+                log.warn("Invalid or expired {} header. Request is not authenticated.", IdentityHeaderEncoder.HEADER_NAME);
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!identityHeaderVerifier.isLegacyHeadersAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String requestURI = request.getRequestURI();
         String userEmail = null;
         String userRole = null;
@@ -32,7 +56,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         // SSE 구독 요청의 경우, 쿼리 파라미터에서 인증 정보 추출
         if (requestURI.contains("/notifications/subscribe")) {
-            log.info("SSE connection detected. Reading auth info from query parameters.");
+            log.debug("SSE connection detected. Reading auth info from query parameters.");
             userEmail = request.getParameter("userEmail");
             userRole = request.getParameter("userRole");
             employeeNoStr = request.getParameter("employeeNo");
@@ -52,7 +76,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
         }
 
-        log.info("userEmail:{} userRole:{} employeeNo:{}", userEmail, userRole, employeeNo);
+        log.debug("userEmail:{} userRole:{} employeeNo:{}", userEmail, userRole, employeeNo);
 
         if (userEmail != null && userRole != null && employeeNo != null) {
             List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
@@ -66,15 +90,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(auth);
 
-            log.info("SecurityContext Authentication: {}", SecurityContextHolder.getContext().getAuthentication());
+            log.debug("SecurityContext Authentication: {}", SecurityContextHolder.getContext().getAuthentication());
             if (SecurityContextHolder.getContext().getAuthentication() != null) {
-                log.info("Authentication Principal: {}", SecurityContextHolder.getContext().getAuthentication().getPrincipal());
-                log.info("Authentication Authorities: {}", SecurityContextHolder.getContext().getAuthentication().getAuthorities());
-                log.info("Authentication isAuthenticated: {}", SecurityContextHolder.getContext().getAuthentication().isAuthenticated());
+                log.debug("Authentication Principal: {}", SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+                log.debug("Authentication Authorities: {}", SecurityContextHolder.getContext().getAuthentication().getAuthorities());
+                log.debug("Authentication isAuthenticated: {}", SecurityContextHolder.getContext().getAuthentication().isAuthenticated());
             }
 
         }
         filterChain.doFilter(request, response);
 
     }
-}
\ No newline at end of file
+
+    private TokenUserInfo toUserInfo(VerifiedIdentity identity) {
+        return identity == null ? null : new TokenUserInfo(identity.email(), identity.role(), identity.employeeNo());
+    }
+}
@@ -1,5 +1,7 @@
 package com.playdata.messageservice.common.configs;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.ServiceIdentity;
 import feign.RequestInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Bean;
@@ -13,11 +15,16 @@ import java.util.Objects;
 public class FeignClientConfiguration {
 
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceIdentity serviceIdentity) {
         return requestTemplate -> {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
             if (Objects.nonNull(attributes)) {
                 HttpServletRequest request = attributes.getRequest();
+                // 게이트웨이가 서명한 식별 헤더를 그대로 전달합니다. 호출 대상 서비스의 JwtAuthFilter가 이 헤더로 인증합니다.
+                String identity = request.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+                if (Objects.nonNull(identity)) {
+                    requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, identity);
+                }
                 // X-Authentication-Id 헤더 추가
                 String employeeNo = request.getHeader("X-Authentication-Id");
                 if (Objects.nonNull(employeeNo) && !employeeNo.isEmpty()) {
@@ -28,6 +35,9 @@ public class FeignClientConfiguration {
                 if (Objects.nonNull(authorizationHeader) && !authorizationHeader.isEmpty()) {
                     requestTemplate.header("Authorization", authorizationHeader);
                 }
+            } else {
+                // 요청 밖(비동기 스레드 등)에서는 서명된 서비스 식별 헤더로 호출합니다.
+                requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, serviceIdentity.header());
             }
         };
     }
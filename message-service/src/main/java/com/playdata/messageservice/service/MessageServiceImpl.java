@@ -143,9 +143,6 @@ public class MessageServiceImpl implements MessageService {
             if (userInfo != null) {
                 try {
                     notificationServiceClient.createNotification(
-                            String.valueOf(senderId),
-                            userInfo.getEmail(),
-                            userInfo.getHrRole(),
                             NotificationCreateRequest.builder()
                                     .employeeNo(String.valueOf(rid))
                                     .type(NotificationType.MESSAGE)
@@ -213,9 +210,6 @@ public class MessageServiceImpl implements MessageService {
             TokenUserInfo userInfo = getAuthenticatedUserInfo();
             if (userInfo != null) {
                 notificationServiceClient.markNotificationAsReadByMessageId(
-                        String.valueOf(authenticatedEmployeeNo),
-                        userInfo.getEmail(), // 수정: getUserEmail() -> getEmail()
-                        userInfo.getHrRole(), // 수정: getUserRole() -> getHrRole()
                         messageId
                 );
             } else {
@@ -268,9 +262,6 @@ public class MessageServiceImpl implements MessageService {
         TokenUserInfo userInfo = getAuthenticatedUserInfo();
         if (userInfo != null) {
             notificationServiceClient.deleteNotificationsByMessageId(
-                    String.valueOf(employeeNo),
-                    userInfo.getEmail(), // 수정: getUserEmail() -> getEmail()
-                    userInfo.getHrRole(), // 수정: getUserRole() -> getHrRole()
                     messageId
             );
         } else {
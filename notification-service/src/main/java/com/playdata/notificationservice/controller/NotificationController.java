@@ -1,5 +1,6 @@
 package com.playdata.notificationservice.controller;
 
+import com.playdata.notificationservice.common.auth.TokenUserInfo;
 import com.playdata.notificationservice.dto.NotificationResponse;
 import com.playdata.notificationservice.service.NotificationService;
 import com.playdata.notificationservice.dto.NotificationCreateRequest;
@@ -7,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -21,8 +23,8 @@ public class NotificationController {
 
     // SSE 구독 엔드포인트
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@RequestHeader("X-User-Employee-No") String employeeNo) {
-        return notificationService.subscribe(employeeNo);
+    public SseEmitter subscribe(@AuthenticationPrincipal TokenUserInfo userInfo) {
+        return notificationService.subscribe(String.valueOf(userInfo.getEmployeeNo()));
     }
 
     // 알림 생성 처리
@@ -53,16 +55,16 @@ public class NotificationController {
     // 알림 목록 조회
     @GetMapping
     public ResponseEntity<List<NotificationResponse>> getNotifications(
-            @RequestHeader("X-User-Employee-No") String employeeNo) {
-        List<NotificationResponse> notifications = notificationService.getNotifications(employeeNo);
+            @AuthenticationPrincipal TokenUserInfo userInfo) {
+        List<NotificationResponse> notifications = notificationService.getNotifications(String.valueOf(userInfo.getEmployeeNo()));
         return ResponseEntity.ok(notifications);
     }
 
     // 읽지 않은 알림 개수 조회
     @GetMapping("/unread/count")
     public ResponseEntity<Long> getUnreadNotificationCount(
-            @RequestHeader("X-User-Employee-No") String employeeNo) {
-        long count = notificationService.getUnreadNotificationCount(employeeNo);
+            @AuthenticationPrincipal TokenUserInfo userInfo) {
+        long count = notificationService.getUnreadNotificationCount(String.valueOf(userInfo.getEmployeeNo()));
         return ResponseEntity.ok(count);
     }
 }
@@ -3,14 +3,18 @@ package com.playdata.payrollservice.client;
 import com.playdata.payrollservice.common.configs.FeignClientConfig;
 import com.playdata.payrollservice.common.dto.CommonResDto;
 import com.playdata.payrollservice.payroll.dto.AttendanceResDto;
+import com.playdata.payrollservice.payroll.dto.MonthlySummaryResDto;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
+// 호출자 식별 헤더(X-User-Identity)는 FeignClientConfig의 인터셉터가 붙이고, attendance-service는 그 사용자 정보로 권한을 확인합니다.
 @FeignClient(name = "attendance-service")
 public interface AttendanceClient {
 
@@ -18,11 +22,21 @@ public interface AttendanceClient {
     CommonResDto<List<AttendanceResDto>> getMonthlyAttendanceForFeign(
             @RequestParam("userId") Long userId,
             @PathVariable("year") int year,
-            @PathVariable("month") int month,
-            @RequestHeader("X-User-Email") String userEmail,
-            @RequestHeader("X-User-Role") String userRole,
-            @RequestHeader("X-User-Employee-No") Long employeeNo
+            @PathVariable("month") int month
     );
-}
 
+    @GetMapping("/attendance/feign/monthly-summary/{year}/{month}")
+    CommonResDto<MonthlySummaryResDto> getMonthlySummaryForFeign(
+            @RequestParam("userId") Long userId,
+            @PathVariable("year") int year,
+            @PathVariable("month") int month
+    );
 
+    // 여러 사용자의 월간 집계를 NDJSON(사용자당 한 줄)으로 받습니다. 본문은 호출 측에서 한 줄씩 읽습니다.
+    @PostMapping("/attendance/feign/monthly-summaries/{year}/{month}")
+    Response streamMonthlySummaries(
+            @PathVariable("year") int year,
+            @PathVariable("month") int month,
+            @RequestBody List<Long> userIds
+    );
+}
@@ -1,6 +1,10 @@
 package com.playdata.payrollservice.common.auth;
 
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.IdentityHeaderVerifier;
+import com.playdata.common.auth.ServiceIdentity;
+import com.playdata.common.auth.VerifiedIdentity;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,14 +27,36 @@ import java.util.List;
 @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private final IdentityHeaderVerifier identityHeaderVerifier;
+
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
+        // 게이트웨이가 서명한 식별 헤더가 있으면 평문 X-User-* 헤더 대신 이 값을 사용합니다.
+        String identity = request.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+        if (identity != null) {
+            TokenUserInfo userInfo = toUserInfo(identityHeaderVerifier.verify(identity));
+            if (userInfo != null) {
+                Authentication auth = new UsernamePasswordAuthenticationToken(
+                        userInfo, null, List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getRole().name())));
+                SecurityContextHolder.getContext().setAuthentication(auth);
+                request.setAttribute("userInfo", userInfo);
+            } else {
+                log.warn("Invalid or expired {} header. Request is not authenticated.", IdentityHeaderEncoder.HEADER_NAME);
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!identityHeaderVerifier.isLegacyHeadersAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         Enumeration<String> headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
             String headerName = headerNames.nextElement();
-            log.info("요청 헤더: {} = {}", headerName, request.getHeader(headerName));
+            log.debug("요청 헤더: {} = {}", headerName, request.getHeader(headerName));
         }
 
         String userEmail = request.getHeader("X-User-Email");
@@ -38,16 +64,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String employeeNoStr = request.getHeader("X-User-Employee-No"); // employeeNo 헤더 추가
         Long employeeNo = null;
 
-        log.info("userEmail:{} userRole:{}", userEmail, userRole);
+        log.debug("userEmail:{} userRole:{}", userEmail, userRole);
 
         if (userEmail != null && !userEmail.isEmpty() &&
                 userRole != null && !userRole.isEmpty() &&
                 employeeNoStr != null && !employeeNoStr.isEmpty()) {
 
             try {
-                log.info("employeeNoStr: '{}'", employeeNoStr); // ✅ 디버깅 로그
+                log.debug("employeeNoStr: '{}'", employeeNoStr); // ✅ 디버깅 로그
                 employeeNo = Long.parseLong(employeeNoStr);
-                log.info("employeeNo 파싱 성공: {}", employeeNo); // ✅ 성공 로그
+                log.debug("employeeNo 파싱 성공: {}", employeeNo); // ✅ 성공 로그
                 String roleCode = userRole.toUpperCase(); // "Y" 또는 "N"
                 Role roleEnum = switch (roleCode) {
                     case "Y" -> Role.HR;
@@ -66,7 +92,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
-                log.info("[VacationService JwtAuthFilter] 인증 성공: {}", userEmail);
+                log.debug("[VacationService JwtAuthFilter] 인증 성공: {}", userEmail);
 
                 //  컨트롤러에서 @RequestAttribute 로 꺼내 쓸 수 있도록 추가
                 request.setAttribute("userInfo", auth.getPrincipal());
@@ -79,14 +105,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private TokenUserInfo toUserInfo(VerifiedIdentity identity) {
+        if (identity == null) {
+            return null;
+        }
+        // 게이트웨이는 hrRole 값("Y"/"N")을, 서비스 식별 헤더는 "SERVICE"를 서명하므로 급여 서비스의 Role로 변환합니다.
+        Role role = switch (identity.role().toUpperCase()) {
+            case "Y" -> Role.HR;
+            case "N" -> Role.USER;
+            case ServiceIdentity.ROLE -> Role.SERVICE;
+            default -> null;
+        };
+        return role == null ? null : new TokenUserInfo(identity.email(), role, identity.employeeNo());
+    }
 }
-
-
-
-
-
-
-
-
-
-
@@ -1,5 +1,7 @@
 package com.playdata.payrollservice.common.auth;
 
 public enum Role {
-    USER, HR
+    USER, HR,
+    // 다른 서비스가 ServiceIdentity로 서명한 식별 헤더로 호출한 경우
+    SERVICE
 }
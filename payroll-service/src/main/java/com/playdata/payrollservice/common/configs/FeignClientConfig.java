@@ -1,5 +1,7 @@
 package com.playdata.payrollservice.common.configs;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.ServiceIdentity;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,19 +16,24 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class FeignClientConfig {
 
     @Bean
-    public RequestInterceptor userHeaderForwardingInterceptor() {
+    public RequestInterceptor userHeaderForwardingInterceptor(ServiceIdentity serviceIdentity) {
         return template -> {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
 
             if (attributes != null) {
                 HttpServletRequest request = attributes.getRequest();
+                // 게이트웨이가 서명한 식별 헤더가 있으면 그 헤더 하나만 전달합니다.
+                String identity = request.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+                if (identity != null) {
+                    template.header(IdentityHeaderEncoder.HEADER_NAME, identity);
+                    return;
+                }
                 copyHeader(request, template, "X-User-Email");
                 copyHeader(request, template, "X-User-Employee-No");
                 copyHeader(request, template, "X-User-Role");
             } else {
-                template.header("X-User-Email", "system@s.com");
-                template.header("X-User-Employee-No", "-1");
-                template.header("X-User-Role", "Y");
+                // 사용자 요청 없이 실행되는 작업(급여 일괄 생성 등)은 서명된 서비스 식별 헤더로 호출합니다.
+                template.header(IdentityHeaderEncoder.HEADER_NAME, serviceIdentity.header());
             }
         };
     }
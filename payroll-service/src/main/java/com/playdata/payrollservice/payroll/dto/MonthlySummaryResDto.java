@@ -0,0 +1,19 @@
+package com.playdata.payrollservice.payroll.dto;
+
+import lombok.Data;
+
+// attendance-service 월간 근태 집계 응답 (근무 시간은 분 단위)
+@Data
+public class MonthlySummaryResDto {
+    private Long userId;
+    private int year;
+    private int month;
+    private long attendanceCount;
+    private long lateCount;
+    private long goOutCount;
+    private long totalWorkMinutes;
+    private long normalWorkMinutes;
+    private long overtimeWorkMinutes;
+    private long nightWorkMinutes;
+    private long holidayWorkMinutes;
+}
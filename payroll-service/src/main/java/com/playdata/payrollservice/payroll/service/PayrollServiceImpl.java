@@ -1,22 +1,30 @@
 package com.playdata.payrollservice.payroll.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.playdata.payrollservice.client.AttendanceClient;
 import com.playdata.payrollservice.client.HrClient;
 import com.playdata.payrollservice.common.auth.TokenUserInfo;
 import com.playdata.payrollservice.common.dto.CommonResDto;
-import com.playdata.payrollservice.payroll.dto.AttendanceResDto;
+import com.playdata.payrollservice.payroll.dto.MonthlySummaryResDto;
 import com.playdata.payrollservice.payroll.dto.PayrollRequestDto;
 import com.playdata.payrollservice.payroll.dto.PayrollResponseDto;
 import com.playdata.payrollservice.payroll.dto.UserResDto;
 import com.playdata.payrollservice.payroll.entity.Payroll;
 import com.playdata.payrollservice.payroll.repository.PayrollRepository;
+import feign.Response;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +37,13 @@ public class PayrollServiceImpl implements PayrollService {
     private final AttendanceClient attendanceClient;
     private final PayrollRepository payrollRepository;
     private final HrClient hrClient;
+    private final ObjectMapper objectMapper;
+
+    // 급여 일괄 생성 시 월간 근태 집계를 한 번에 받아올 사용자 수
+    private static final int SUMMARY_BATCH_SIZE = 500;
+    // attendance-service 월간 집계 NDJSON 스트림의 마지막 줄(트레일러) 필드
+    private static final String STREAM_COMPLETE_FIELD = "complete";
+    private static final String STREAM_COUNT_FIELD = "count";
 
     private static final Map<String, Integer> POSITION_BASE_PAY_MAP = Map.of(
             "사장", 9000000,
@@ -54,6 +69,14 @@ public class PayrollServiceImpl implements PayrollService {
 
     @Override
     public PayrollResponseDto savePayroll(PayrollRequestDto requestDto, TokenUserInfo userInfo) {
+        return savePayroll(requestDto, userInfo, null);
+    }
+
+    /**
+     * @param prefetchedSummary 일괄 조회로 미리 받은 월간 근태 집계 (null이면 이 사용자만 따로 조회)
+     */
+    private PayrollResponseDto savePayroll(PayrollRequestDto requestDto, TokenUserInfo userInfo,
+                                           MonthlySummaryResDto prefetchedSummary) {
 
         Long userId = requestDto.getUserId();
         int payYear = requestDto.getPayYear();
@@ -98,23 +121,17 @@ public class PayrollServiceImpl implements PayrollService {
         log.info("🪾 Attendance 조회 요청 - 대상 userId={}, 로그인한 userId={}, HR 여부={}",
                 userId, userInfo.getEmployeeNo(), userInfo.isHrAdmin());
 
-        CommonResDto<List<AttendanceResDto>> res = attendanceClient.getMonthlyAttendanceForFeign(
-                userId, payYear, payMonth,
-                userInfo.getEmail(),
-                userInfo.getHrRole(),
-                userInfo.getEmployeeNo()
-        );
-
-        List<AttendanceResDto> attendanceList = res.getResult();
-        long totalWorkMinutes = attendanceList.stream()
-                .mapToLong(dto -> parseToMinutes(dto.getTotalWorkTime()))
-                .sum();
+        // 일별 근태 목록 대신 attendance-service가 유지하는 월간 집계 한 건을 받습니다.
+        MonthlySummaryResDto summary = prefetchedSummary;
+        if (summary == null) {
+            CommonResDto<MonthlySummaryResDto> res = attendanceClient.getMonthlySummaryForFeign(userId, payYear, payMonth);
+            summary = res.getResult();
+        }
+        long totalWorkMinutes = summary.getTotalWorkMinutes();
 
         double hourlyWage = (basePayroll != null ? basePayroll : 0) / 209.0;
 
-        long totalOvertimeMinutes = attendanceList.stream()
-                .mapToLong(dto -> parseToMinutes(dto.getOvertimeWorkTime()) + parseToMinutes(dto.getNightWorkTime()))
-                .sum();
+        long totalOvertimeMinutes = summary.getOvertimeWorkMinutes() + summary.getNightWorkMinutes();
 
         long overtimePay = (totalOvertimeMinutes >= 60)
                 ? Math.round((totalOvertimeMinutes / 60.0) * hourlyWage * 1.5)
@@ -181,17 +198,6 @@ public class PayrollServiceImpl implements PayrollService {
         return toDto(payroll);
     }
 
-    private long parseToMinutes(String timeStr) {
-        if (timeStr == null || !timeStr.contains(":")) return 0;
-        try {
-            String[] parts = timeStr.split(":");
-            return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
-        } catch (Exception e) {
-            log.warn("근무 시간 파싱 실패: {}", timeStr);
-            return 0;
-        }
-    }
-
     private List<UserResDto> getAllActiveUsersFromHR() {
         List<UserResDto> allUsers = new ArrayList<>();
         int page = 0, size = 100;
@@ -221,26 +227,88 @@ public class PayrollServiceImpl implements PayrollService {
 
         List<UserResDto> users = getAllActiveUsersFromHR();
 
-        for (UserResDto user : users) {
-            try {
-                PayrollRequestDto dto = PayrollRequestDto.builder()
-                        .userId(user.getEmployeeNo())
-                        .payYear(currentYear)
-                        .payMonth(currentMonth)
-                        .positionName(user.getPositionName())
-                        .build();
+        // 사용자마다 근태를 따로 조회하지 않고, SUMMARY_BATCH_SIZE명씩 월간 집계를 한 번에 받아 사용합니다.
+        for (int from = 0; from < users.size(); from += SUMMARY_BATCH_SIZE) {
+            List<UserResDto> batch = users.subList(from, Math.min(from + SUMMARY_BATCH_SIZE, users.size()));
+            Map<Long, MonthlySummaryResDto> summaries = fetchMonthlySummaries(batch, currentYear, currentMonth);
+
+            for (UserResDto user : batch) {
+                try {
+                    PayrollRequestDto dto = PayrollRequestDto.builder()
+                            .userId(user.getEmployeeNo())
+                            .payYear(currentYear)
+                            .payMonth(currentMonth)
+                            .positionName(user.getPositionName())
+                            .build();
+
+                    // 시스템 권한으로 처리
+                    // 일괄 조회에 없는 사용자는 savePayroll이 사용자별로 다시 조회합니다.
+                    savePayroll(dto, TokenUserInfo.system(), summaries != null
+                            ? summaries.get(user.getEmployeeNo())
+                            : null);
+
+                } catch (Exception e) {
+                    log.warn("급여 생성 실패 - userId={}: {}", user.getEmployeeNo(), e.getMessage());
+                }
+            }
+        }
+
+        log.info("✅ {}년 {}월 전체 재직자 급여 자동 생성 완료", currentYear, currentMonth);
+    }
 
-                // 시스템 권한으로 처리
-                savePayroll(dto, TokenUserInfo.system());
 
-            } catch (Exception e) {
-                log.warn("급여 생성 실패 - userId={}: {}", user.getEmployeeNo(), e.getMessage());
+    /**
+     * attendance-service에서 여러 사용자의 월간 근태 집계를 NDJSON으로 받아 한 줄씩 읽습니다.
+     * 마지막 줄의 트레일러({"complete":true,"count":N})까지 받은 경우에만 응답에 없는 사용자를
+     * 근태 기록이 없는 사용자로 보고 0으로 채웁니다. 트레일러가 없거나 개수가 맞지 않으면 응답이 중간에 끊긴 것이므로
+     * 받은 사용자만 돌려주고, 나머지는 호출 측에서 사용자별로 조회합니다.
+     *
+     * @return 사용자 ID별 집계. 일괄 조회에 실패하면 null (사용자별 개별 조회로 대체)
+     */
+    private Map<Long, MonthlySummaryResDto> fetchMonthlySummaries(List<UserResDto> users, int year, int month) {
+        List<Long> userIds = users.stream().map(UserResDto::getEmployeeNo).toList();
+        Map<Long, MonthlySummaryResDto> summaries = new HashMap<>();
+        boolean complete = false;
+        try (Response response = attendanceClient.streamMonthlySummaries(year, month, userIds)) {
+            if (response.status() != 200 || response.body() == null) {
+                log.warn("월간 근태 집계 일괄 조회 실패 - status={}. 사용자별 조회로 대체합니다.", response.status());
+                return null;
             }
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body().asInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    JsonNode node = objectMapper.readTree(line);
+                    if (node.has(STREAM_COMPLETE_FIELD)) {
+                        complete = node.path(STREAM_COMPLETE_FIELD).asBoolean()
+                                && node.path(STREAM_COUNT_FIELD).asInt(-1) == summaries.size();
+                        break;
+                    }
+                    MonthlySummaryResDto summary = objectMapper.treeToValue(node, MonthlySummaryResDto.class);
+                    summaries.put(summary.getUserId(), summary);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("월간 근태 집계 일괄 조회 중단: {}. 받은 {}명 외에는 사용자별 조회로 대체합니다.", e.getMessage(), summaries.size());
+            return summaries;
         }
 
-        log.info("✅ {}년 {}월 전체 재직자 급여 자동 생성 완료", currentYear, currentMonth);
+        if (!complete) {
+            log.warn("월간 근태 집계 응답이 끝까지 오지 않았습니다. 받은 {}명 외에는 사용자별 조회로 대체합니다.", summaries.size());
+            return summaries;
+        }
+        for (Long userId : userIds) {
+            summaries.putIfAbsent(userId, emptySummary(userId));
+        }
+        return summaries;
     }
 
+    private MonthlySummaryResDto emptySummary(Long userId) {
+        MonthlySummaryResDto summary = new MonthlySummaryResDto();
+        summary.setUserId(userId);
+        return summary;
+    }
 
     private String getUserPosition(Long userId) {
         try {
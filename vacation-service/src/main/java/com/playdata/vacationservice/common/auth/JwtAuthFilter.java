@@ -1,5 +1,8 @@
 package com.playdata.vacationservice.common.auth;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.IdentityHeaderVerifier;
+import com.playdata.common.auth.VerifiedIdentity;
 import com.playdata.vacationservice.common.auth.TokenUserInfo;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,6 +26,8 @@ import java.util.List;
 @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private final IdentityHeaderVerifier identityHeaderVerifier;
+
     // JwtTokenProvider와 CustomAuthenticationEntryPoint는 이 필터에서 직접 사용되지 않으므로 제거
     // private final JwtTokenProvider jwtTokenProvider;
     // private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
@@ -30,6 +35,25 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
+        // 게이트웨이가 서명한 식별 헤더가 있으면 평문 X-User-* 헤더 대신 이 값을 사용합니다.
+        String identity = request.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+        if (identity != null) {
+            TokenUserInfo userInfo = toUserInfo(identityHeaderVerifier.verify(identity));
+            if (userInfo != null) {
+                Authentication auth = new UsernamePasswordAuthenticationToken(
+                        userInfo, "", List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getHrRole())));
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            } else {
+                log.warn("Invalid or expired {} header. Request is not authenticated.", IdentityHeaderEncoder.HEADER_NAME);
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!identityHeaderVerifier.isLegacyHeadersAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String userEmail = request.getHeader("X-User-Email");
         String userRole = request.getHeader("X-User-Role");
         String employeeNoStr = request.getHeader("X-User-Employee-No");
@@ -42,7 +66,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
         }
 
-        log.info("JwtAuthFilter: Received Headers - userEmail:{}, userRole:{}, employeeNo:{}", userEmail, userRole, employeeNo); // 로그 추가
+        log.debug("JwtAuthFilter: Received Headers - userEmail:{}, userRole:{}, employeeNo:{}", userEmail, userRole, employeeNo); // 로그 추가
 
         if (userEmail != null && userRole != null && employeeNo != null) {
             List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
@@ -55,7 +79,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             );
 
             SecurityContextHolder.getContext().setAuthentication(auth);
-            log.info("JwtAuthFilter: SecurityContextHolder updated for user - {}", userEmail); // 로그 추가
+            log.debug("JwtAuthFilter: SecurityContextHolder updated for user - {}", userEmail); // 로그 추가
 
         } else {
             log.warn("JwtAuthFilter: Missing X-User-* headers. userEmail: {}, userRole: {}, employeeNo: {}", userEmail, userRole, employeeNo); // 로그 추가
@@ -63,14 +87,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
 
     }
-}
-
-
-
-
-
-
-
-
-
 
+    private TokenUserInfo toUserInfo(VerifiedIdentity identity) {
+        return identity == null ? null : new TokenUserInfo(identity.email(), identity.role(), identity.employeeNo());
+    }
+}
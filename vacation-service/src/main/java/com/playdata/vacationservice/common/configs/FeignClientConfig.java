@@ -1,5 +1,7 @@
 package com.playdata.vacationservice.common.configs;
 
+import com.playdata.common.auth.IdentityHeaderEncoder;
+import com.playdata.common.auth.ServiceIdentity;
 import feign.RequestInterceptor;
 import feign.RequestInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,7 +17,7 @@ public class FeignClientConfig {
 
     // Feign 요청을 가로채서 헤더를 추가하는 인터셉터 빈을 정의합니다.
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceIdentity serviceIdentity) {
         return requestTemplate -> {
             // 현재 HTTP 요청의 컨텍스트를 가져옵니다.
             // 이 컨텍스트에는 Gateway로부터 전달받은 X-User-* 헤더가 포함되어 있습니다.
@@ -24,6 +26,13 @@ public class FeignClientConfig {
             if (attributes != null) {
                 HttpServletRequest httpRequest = attributes.getRequest();
 
+                // 게이트웨이가 서명한 식별 헤더가 있으면 그 헤더 하나만 전달합니다.
+                String identity = httpRequest.getHeader(IdentityHeaderEncoder.HEADER_NAME);
+                if (identity != null) {
+                    requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, identity);
+                    return;
+                }
+
                 // Gateway에서 주입한 사용자 정보 헤더들을 가져와 Feign 요청에 추가합니다.
                 // 이 헤더들은 vacation-service의 JwtAuthFilter에서 사용될 것입니다.
                 String userEmail = httpRequest.getHeader("X-User-Email");
@@ -44,10 +53,11 @@ public class FeignClientConfig {
                     log.debug("Feign Interceptor: Added X-User-Employee-No header: {}", employeeNo);
                 }
             } else {
-                // RequestContextHolder가 null인 경우는 주로 비동기 스레드에서 호출되거나,
-                // HTTP 요청 컨텍스트 외부에서 Feign 클라이언트가 호출될 때 발생할 수 있습니다.
-                // 이 경우에는 헤더를 전파할 수 없으므로 경고를 로깅합니다.
-                log.warn("Feign Interceptor: RequestContextHolder is null. Cannot propagate X-User-* headers.");
+                // RequestContextHolder가 null인 경우는 주로 비동기 스레드나 스케줄 작업처럼
+                // HTTP 요청 컨텍스트 외부에서 Feign 클라이언트가 호출될 때입니다.
+                // 전파할 사용자가 없으므로 서명된 서비스 식별 헤더로 호출합니다.
+                requestTemplate.header(IdentityHeaderEncoder.HEADER_NAME, serviceIdentity.header());
+                log.debug("Feign Interceptor: No request context. Using service identity for {}", requestTemplate.url());
             }
         };
     }
@@ -13,6 +13,7 @@ import com.playdata.vacationservice.vacation.entity.VacationStatus;
 import com.playdata.vacationservice.vacation.entity.VacationType;
 import com.playdata.vacationservice.vacation.service.VacationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,9 +23,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +35,7 @@ import java.util.Map;
 @RestController
 @RequestMapping("/vacations")
 @RequiredArgsConstructor
+@Slf4j
 public class VacationController {
 
     private final VacationService vacationService;
@@ -230,10 +232,12 @@ public class VacationController {
      * @param vacationType 휴가 종류
      * @param startDate 휴가 시작일
      * @param endDate 휴가 종료일
+     * @param idempotencyKey 결재 서비스가 보내는 이벤트 키 (재전송 시에도 같은 값)
      * @return 성공 응답
      */
     @PostMapping("/internal/update-balance-on-approval")
     public ResponseEntity<Void> updateVacationBalanceOnApproval(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestParam("vacationId") Long vacationId,
             @RequestParam("status") String status,
             @RequestParam("userId") Long userId,
@@ -245,28 +249,72 @@ public class VacationController {
         VacationType vacationType = VacationType.valueOf(vacationTypeStr);
         VacationStatus newStatus = VacationStatus.valueOf(status);
 
-        if (newStatus == VacationStatus.APPROVED) {
-            BigDecimal deductionDays;
-            if (vacationType == VacationType.ANNUAL_LEAVE) {
-                long daysBetween = ChronoUnit.DAYS.between(startDate, endDate) + 1;
-                deductionDays = new BigDecimal(daysBetween);
-            } else {
-                deductionDays = vacationType.getDeductionDays();
+        // 결재 서비스는 응답을 받지 못하면 같은 요청을 다시 보내므로, 이미 반영된 상태면 연차를 다시 차감하지 않습니다.
+        // 반영할 수 없는 요청(다른 결과로 처리된 휴가, 연차 부족)은 409로 알려 결재 서비스가 재시도하지 않게 합니다.
+        try {
+            if (!vacationService.applyApprovalResult(vacationId, newStatus, userId, vacationType, startDate, endDate, rejectComment)) {
+                log.info("휴가 (ID: {})는 이미 {} 상태입니다. 중복 요청을 무시합니다. key: {}", vacationId, newStatus, idempotencyKey);
             }
-            vacationService.deductVacationBalance(userId, deductionDays);
-
-            // WorkStatus 생성을 요청합니다.
-            vacationService.createWorkStatusForApprovedVacation(vacationId, vacationType);
-        } else if (newStatus == VacationStatus.REJECTED) {
-            // 반려 시 연차 복구 로직은 필요 없음. 연차는 승인 시에만 차감되므로.
+        } catch (IllegalStateException e) {
+            log.warn("휴가 (ID: {})에 결재 결과 {}를 반영할 수 없습니다. key: {}, 사유: {}", vacationId, newStatus, idempotencyKey, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
 
-        // 휴가 상태 업데이트
-        vacationService.updateVacationStatus(vacationId, newStatus, rejectComment);
-
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 입사 1주년 기준 월이 같은 여러 사용자에게 같은 일수의 연차를 일괄 부여합니다. (attendance-service 입사 1주년 연차 스케줄러용)
+     * 이미 해당 기준 월의 연차를 받은 사용자는 건너뛰므로 같은 요청을 재시도해도 안전합니다.
+     *
+     * @param userIds 연차를 부여할 사용자 ID 목록
+     * @param year    입사 1주년 기준 연도
+     * @param month   입사 1주년 기준 월
+     * @param days    부여할 연차 일수
+     * @return 새로 연차를 부여한 사용자 수
+     */
+    @PostMapping("/internal/annual-leave/bulk")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')") // HR 또는 서비스 간 호출만 허용
+    public ResponseEntity<CommonResDto<Integer>> grantAnnualLeaveBulk(
+            @RequestBody List<Long> userIds,
+            @RequestParam("year") int year,
+            @RequestParam("month") int month,
+            @RequestParam("days") int days) {
+        try {
+            int granted = vacationService.grantAnnualLeaveBulk(userIds, YearMonth.of(year, month), days);
+            return buildSuccessResponse(granted, "연차 일괄 부여 성공");
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "연차 일괄 부여 중 오류 발생");
+        }
+    }
+
+    /**
+     * 여러 사용자에게 근무 월 기준 월차를 1일씩 일괄 부여합니다. (attendance-service 월차 스케줄러용)
+     * 이미 해당 월의 월차를 받은 사용자는 건너뛰므로 같은 요청을 재시도해도 안전합니다.
+     *
+     * @param userIds 월차를 부여할 사용자 ID 목록
+     * @param year    근무 연도
+     * @param month   근무 월
+     * @return 새로 월차를 부여한 사용자 수
+     */
+    @PostMapping("/internal/monthly-leave/bulk")
+    @PreAuthorize("hasAnyRole('Y', 'SERVICE')") // HR 또는 서비스 간 호출만 허용
+    public ResponseEntity<CommonResDto<Integer>> grantMonthlyLeaveBulk(
+            @RequestBody List<Long> userIds,
+            @RequestParam("year") int year,
+            @RequestParam("month") int month) {
+        try {
+            int granted = vacationService.grantMonthlyLeaveBulk(userIds, YearMonth.of(year, month));
+            return buildSuccessResponse(granted, "월차 일괄 부여 성공");
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "월차 일괄 부여 중 오류 발생");
+        }
+    }
+
     /**
      * 여러 사용자의 특정 기간 동안의 승인된 유급 휴가 일수를 조회합니다.
      * 내부 서비스 간 통신용 API입니다.
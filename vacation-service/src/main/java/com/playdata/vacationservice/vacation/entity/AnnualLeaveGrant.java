@@ -0,0 +1,52 @@
+package com.playdata.vacationservice.vacation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입사 1주년 연차 부여 이력 (annual_leave_grants 테이블)
+ * 사용자별로 1주년 기준 월마다 한 행만 존재하므로, 같은 월의 일괄 부여 요청이 다시 들어와도 연차가 중복 부여되지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "annual_leave_grants",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_annual_leave_grant_user_month", columnNames = {"user_id", "grant_year", "grant_month"})
+        })
+public class AnnualLeaveGrant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 입사 1주년 기준일이 속한 연도/월
+    @Column(name = "grant_year", nullable = false)
+    private int grantYear;
+
+    @Column(name = "grant_month", nullable = false)
+    private int grantMonth;
+
+    @Column(name = "days", nullable = false)
+    private int days;
+
+    @Column(name = "granted_at", nullable = false)
+    private LocalDateTime grantedAt;
+
+    @Builder
+    public AnnualLeaveGrant(Long userId, int grantYear, int grantMonth, int days) {
+        this.userId = userId;
+        this.grantYear = grantYear;
+        this.grantMonth = grantMonth;
+        this.days = days;
+        this.grantedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,48 @@
+package com.playdata.vacationservice.vacation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월차 부여 이력 (monthly_leave_grants 테이블)
+ * 사용자별로 근무 월마다 한 행만 존재하므로, 같은 월의 일괄 부여 요청이 다시 들어와도 연차가 중복 부여되지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "monthly_leave_grants",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_monthly_leave_grant_user_month", columnNames = {"user_id", "grant_year", "grant_month"})
+        })
+public class MonthlyLeaveGrant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 월차 발생 기준이 된 근무 연도/월
+    @Column(name = "grant_year", nullable = false)
+    private int grantYear;
+
+    @Column(name = "grant_month", nullable = false)
+    private int grantMonth;
+
+    @Column(name = "granted_at", nullable = false)
+    private LocalDateTime grantedAt;
+
+    @Builder
+    public MonthlyLeaveGrant(Long userId, int grantYear, int grantMonth) {
+        this.userId = userId;
+        this.grantYear = grantYear;
+        this.grantMonth = grantMonth;
+        this.grantedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,25 @@
+package com.playdata.vacationservice.vacation.repository;
+
+import com.playdata.vacationservice.vacation.entity.MonthlyLeaveGrant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MonthlyLeaveGrant 엔티티의 데이터베이스 접근을 위한 리포지토리 인터페이스입니다.
+ */
+@Repository
+public interface MonthlyLeaveGrantRepository extends JpaRepository<MonthlyLeaveGrant, Long> {
+
+    /**
+     * 주어진 사용자 중 해당 월의 월차를 이미 부여받은 사용자 ID를 조회합니다.
+     */
+    @Query("SELECT g.userId FROM MonthlyLeaveGrant g " +
+           "WHERE g.grantYear = :year AND g.grantMonth = :month AND g.userId IN :userIds")
+    List<Long> findGrantedUserIds(@Param("year") int year, @Param("month") int month,
+                                  @Param("userIds") Collection<Long> userIds);
+}
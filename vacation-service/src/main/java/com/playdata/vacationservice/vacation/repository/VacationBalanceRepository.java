@@ -4,6 +4,8 @@ import com.playdata.vacationservice.vacation.entity.VacationBalance; // 경로 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +21,12 @@ public interface VacationBalanceRepository extends JpaRepository<VacationBalance
      * @return 해당 사용자의 VacationBalance 엔티티 (존재하지 않을 경우 Optional.empty())
      */
     Optional<VacationBalance> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 여러 사용자의 연차 정보를 한 번에 조회합니다.
+     *
+     * @param userIds 조회할 사용자 ID 목록
+     * @return 연차 정보가 있는 사용자의 VacationBalance 목록
+     */
+    List<VacationBalance> findByUserIdIn(Collection<Long> userIds);
+}
@@ -5,6 +5,9 @@ import com.playdata.vacationservice.vacation.entity.VacationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -48,4 +51,18 @@ public interface VacationRepository extends JpaRepository<Vacation, Long> {
      * @return 휴가 목록
      */
     List<Vacation> findByUserIdInAndStartDateBetweenAndVacationStatus(List<Long> userIds, LocalDate startDate, LocalDate endDate, VacationStatus status);
+
+    /**
+     * 휴가가 expectedStatus 상태일 때만 상태와 반려 사유를 바꿉니다.
+     * 같은 결재 결과가 동시에 들어와도 한 요청만 1을 받으므로, 연차 차감 같은 후속 처리를 한 번만 하게 할 수 있습니다.
+     *
+     * @return 바꿨으면 1, 이미 다른 상태면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Vacation v SET v.vacationStatus = :newStatus, v.rejectComment = :rejectComment " +
+           "WHERE v.id = :vacationId AND v.vacationStatus = :expectedStatus")
+    int updateStatusIf(@Param("vacationId") Long vacationId,
+                       @Param("expectedStatus") VacationStatus expectedStatus,
+                       @Param("newStatus") VacationStatus newStatus,
+                       @Param("rejectComment") String rejectComment);
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import com.playdata.vacationservice.vacation.entity.VacationStatus;
 
 import java.math.BigDecimal; // BigDecimal import 추가
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -25,8 +26,12 @@ public interface VacationService {
 
     void grantAnnualLeave(Long userId, int days);
 
+    int grantAnnualLeaveBulk(List<Long> userIds, YearMonth anniversaryMonth, int days);
+
     void grantMonthlyLeave(Long userId);
 
+    int grantMonthlyLeaveBulk(List<Long> userIds, YearMonth workMonth);
+
     VacationBalanceResDto getVacationBalance(Long userId);
 
     org.springframework.data.domain.Page<VacationHistoryResDto> getMyVacationRequests(Long userId, org.springframework.data.domain.Pageable pageable);
@@ -43,6 +48,11 @@ public interface VacationService {
 
     void updateVacationStatus(Long vacationId, VacationStatus status, String rejectComment);
 
+    VacationStatus getVacationStatus(Long vacationId);
+
+    boolean applyApprovalResult(Long vacationId, VacationStatus newStatus, Long userId, VacationType vacationType,
+                                LocalDate startDate, LocalDate endDate, String rejectComment);
+
     Map<Long, Double> getApprovedPaidVacationDaysForUsers(List<Long> userIds, LocalDate startDate, LocalDate endDate);
 
     // 추가된 메서드
@@ -7,6 +7,8 @@ import com.playdata.vacationservice.client.dto.*;
 import com.playdata.vacationservice.common.auth.TokenUserInfo;
 import com.playdata.vacationservice.vacation.dto.*;
 import com.playdata.vacationservice.vacation.entity.*;
+import com.playdata.vacationservice.vacation.repository.AnnualLeaveGrantRepository;
+import com.playdata.vacationservice.vacation.repository.MonthlyLeaveGrantRepository;
 import com.playdata.vacationservice.vacation.repository.VacationBalanceRepository;
 import com.playdata.vacationservice.vacation.repository.VacationRepository;
 import feign.FeignException;
@@ -24,10 +26,13 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -41,8 +46,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class VacationServiceImpl implements VacationService {
 
+    /** 월차 일괄 부여를 허용하는 과거 근무 월 범위 (근속 1년 미만 월차 발생 기간) */
+    private static final int MONTHLY_LEAVE_BACKFILL_MONTHS = 12;
+
     private final VacationBalanceRepository vacationBalanceRepository;
     private final VacationRepository vacationRepository;
+    private final MonthlyLeaveGrantRepository monthlyLeaveGrantRepository;
+    private final AnnualLeaveGrantRepository annualLeaveGrantRepository;
     private final ApprovalServiceClient approvalServiceClient;
     private final HrServiceClient hrServiceClient;
     private final AttendanceServiceClient attendanceServiceClient;
@@ -170,6 +180,66 @@ public class VacationServiceImpl implements VacationService {
         log.info("사용자 ID: {} 에게 연차 {}일이 부여되었습니다. 총 부여된 연차: {}", userId, days, vacationBalance.getTotalGranted());
     }
 
+    /**
+     * 입사 1주년 기준 월이 같은 여러 사용자에게 같은 일수의 연차를 한 번에 부여합니다.
+     * 연차 정보가 없는 사용자는 새로 생성합니다.
+     * 해당 기준 월의 연차를 이미 부여받은 사용자는 건너뛰므로, 같은 요청이 다시 들어와도 중복 부여되지 않습니다.
+     *
+     * @param userIds          연차를 부여할 사용자 ID 목록
+     * @param anniversaryMonth 입사 1주년 기준일이 속한 월
+     * @param days             부여할 연차 일수
+     * @return 이번 요청으로 새로 연차를 부여한 사용자 수
+     */
+    @Override
+    @Transactional
+    public int grantAnnualLeaveBulk(List<Long> userIds, YearMonth anniversaryMonth, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("부여할 연차 일수는 1일 이상이어야 합니다. 요청: " + days);
+        }
+        if (userIds == null || userIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> alreadyGranted = new HashSet<>(annualLeaveGrantRepository.findGrantedUserIds(
+                anniversaryMonth.getYear(), anniversaryMonth.getMonthValue(), userIds));
+        List<Long> targetUserIds = userIds.stream()
+                .distinct()
+                .filter(userId -> !alreadyGranted.contains(userId))
+                .collect(Collectors.toList());
+        if (targetUserIds.isEmpty()) {
+            return 0;
+        }
+
+        BigDecimal amount = new BigDecimal(days);
+        Map<Long, VacationBalance> balances = vacationBalanceRepository.findByUserIdIn(targetUserIds).stream()
+                .collect(Collectors.toMap(VacationBalance::getUserId, Function.identity()));
+        List<VacationBalance> grantedBalances = new ArrayList<>(targetUserIds.size());
+        List<AnnualLeaveGrant> grants = new ArrayList<>(targetUserIds.size());
+        for (Long userId : targetUserIds) {
+            VacationBalance vacationBalance = balances.get(userId);
+            if (vacationBalance == null) {
+                vacationBalance = VacationBalance.builder()
+                        .userId(userId)
+                        .totalGranted(BigDecimal.ZERO)
+                        .usedDays(BigDecimal.ZERO)
+                        .build();
+            }
+            vacationBalance.grantDays(amount);
+            grantedBalances.add(vacationBalance);
+            grants.add(AnnualLeaveGrant.builder()
+                    .userId(userId)
+                    .grantYear(anniversaryMonth.getYear())
+                    .grantMonth(anniversaryMonth.getMonthValue())
+                    .days(days)
+                    .build());
+        }
+        vacationBalanceRepository.saveAll(grantedBalances);
+        annualLeaveGrantRepository.saveAll(grants);
+
+        log.info("{} 기준 입사 1주년 연차 {}일 일괄 부여 완료. 요청 {}명, 신규 부여 {}명, 기부여 {}명",
+                anniversaryMonth, days, userIds.size(), targetUserIds.size(), alreadyGranted.size());
+        return targetUserIds.size();
+    }
+
     /**
      * 특정 사용자에게 월별 정기 연차를 1일 부여합니다.
      * 만약 해당 사용자의 연차 정보가 존재하지 않으면 새로 생성하여 1일을 부여합니다.
@@ -192,6 +262,74 @@ public class VacationServiceImpl implements VacationService {
         log.info("사용자 ID: {} 에게 연차 1일이 부여되었습니다. 총 부여된 연차: {}", userId, vacationBalance.getTotalGranted());
     }
 
+    /**
+     * 여러 사용자에게 근무 월 기준 월차를 1일씩 한 번에 부여합니다.
+     * 해당 월의 월차를 이미 부여받은 사용자는 건너뛰므로, 같은 요청이 다시 들어와도 중복 부여되지 않습니다.
+     *
+     * @param userIds   월차를 부여할 사용자 ID 목록
+     * @param workMonth 월차 발생 기준이 된 근무 월
+     * @return 이번 요청으로 새로 월차를 부여한 사용자 수
+     */
+    @Override
+    @Transactional
+    public int grantMonthlyLeaveBulk(List<Long> userIds, YearMonth workMonth) {
+        validateMonthlyLeaveWorkMonth(workMonth);
+        if (userIds == null || userIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> alreadyGranted = new HashSet<>(monthlyLeaveGrantRepository.findGrantedUserIds(
+                workMonth.getYear(), workMonth.getMonthValue(), userIds));
+        List<Long> targetUserIds = userIds.stream()
+                .distinct()
+                .filter(userId -> !alreadyGranted.contains(userId))
+                .collect(Collectors.toList());
+        if (targetUserIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, VacationBalance> balances = vacationBalanceRepository.findByUserIdIn(targetUserIds).stream()
+                .collect(Collectors.toMap(VacationBalance::getUserId, Function.identity()));
+        List<VacationBalance> grantedBalances = new ArrayList<>(targetUserIds.size());
+        List<MonthlyLeaveGrant> grants = new ArrayList<>(targetUserIds.size());
+        for (Long userId : targetUserIds) {
+            VacationBalance vacationBalance = balances.get(userId);
+            if (vacationBalance == null) {
+                vacationBalance = VacationBalance.builder()
+                        .userId(userId)
+                        .totalGranted(BigDecimal.ZERO)
+                        .usedDays(BigDecimal.ZERO)
+                        .build();
+            }
+            vacationBalance.grantDays(BigDecimal.ONE);
+            grantedBalances.add(vacationBalance);
+            grants.add(MonthlyLeaveGrant.builder()
+                    .userId(userId)
+                    .grantYear(workMonth.getYear())
+                    .grantMonth(workMonth.getMonthValue())
+                    .build());
+        }
+        vacationBalanceRepository.saveAll(grantedBalances);
+        monthlyLeaveGrantRepository.saveAll(grants);
+
+        log.info("{} 근무분 월차 일괄 부여 완료. 요청 {}명, 신규 부여 {}명, 기부여 {}명",
+                workMonth, userIds.size(), targetUserIds.size(), alreadyGranted.size());
+        return targetUserIds.size();
+    }
+
+    /**
+     * 월차를 부여할 수 있는 근무 월인지 확인합니다.
+     * 근무가 끝난 지난 달부터 근속 1년 미만 월차가 발생할 수 있는 최근 {@value #MONTHLY_LEAVE_BACKFILL_MONTHS}개월까지만 허용합니다.
+     */
+    private void validateMonthlyLeaveWorkMonth(YearMonth workMonth) {
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth oldestMonth = currentMonth.minusMonths(MONTHLY_LEAVE_BACKFILL_MONTHS);
+        if (!workMonth.isBefore(currentMonth) || workMonth.isBefore(oldestMonth)) {
+            throw new IllegalArgumentException(String.format(
+                    "월차는 %s부터 %s까지의 근무 월에 대해서만 부여할 수 있습니다. 요청: %s",
+                    oldestMonth, currentMonth.minusMonths(1), workMonth));
+        }
+    }
+
     /**
      * 특정 사용자의 연차 현황(총 연차, 사용 연차, 남은 연차)을 조회합니다.
      *
@@ -522,6 +660,63 @@ public class VacationServiceImpl implements VacationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 휴가의 현재 상태를 조회합니다.
+     *
+     * @param vacationId 휴가 ID
+     * @return 휴가 상태
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VacationStatus getVacationStatus(Long vacationId) {
+        return vacationRepository.findById(vacationId)
+                .map(Vacation::getVacationStatus)
+                .orElseThrow(() -> new EntityNotFoundException("해당 휴가 신청을 찾을 수 없습니다: " + vacationId));
+    }
+
+    /**
+     * 결재 결과를 휴가에 반영합니다. 결재 대기 중인 휴가만 바꾸며, 승인이면 같은 트랜잭션에서 연차를 차감합니다.
+     * 상태 확인과 변경을 조건부 UPDATE 하나로 처리하므로 같은 결과가 동시에 재전송되어도 연차는 한 번만 차감됩니다.
+     *
+     * @param vacationId 휴가 ID
+     * @param newStatus 결재 결과 (APPROVED 또는 REJECTED)
+     * @param userId 신청자 ID
+     * @param vacationType 휴가 종류
+     * @param startDate 휴가 시작일
+     * @param endDate 휴가 종료일
+     * @param rejectComment 반려 사유 (반려 시에만 사용)
+     * @return 이번 호출로 반영했으면 true, 이미 같은 결과가 반영되어 있으면 false
+     * @throws IllegalStateException 휴가가 이미 다른 결과로 처리되었거나 남은 연차가 부족한 경우
+     */
+    @Override
+    @Transactional
+    public boolean applyApprovalResult(Long vacationId, VacationStatus newStatus, Long userId, VacationType vacationType,
+                                       LocalDate startDate, LocalDate endDate, String rejectComment) {
+        int updated = vacationRepository.updateStatusIf(vacationId, VacationStatus.PENDING_APPROVAL, newStatus,
+                newStatus == VacationStatus.REJECTED ? rejectComment : null);
+        if (updated == 0) {
+            VacationStatus current = getVacationStatus(vacationId);
+            if (current == newStatus) {
+                return false;
+            }
+            throw new IllegalStateException("휴가 (ID: " + vacationId + ")는 이미 " + current.getDescription() + " 상태입니다.");
+        }
+
+        if (newStatus == VacationStatus.APPROVED) {
+            BigDecimal deductionDays = vacationType == VacationType.ANNUAL_LEAVE
+                    ? new BigDecimal(ChronoUnit.DAYS.between(startDate, endDate) + 1)
+                    : vacationType.getDeductionDays();
+            deductVacationBalance(userId, deductionDays);
+
+            // WorkStatus 생성을 요청합니다.
+            createWorkStatusForApprovedVacation(vacationId, vacationType);
+        }
+        // 반려 시 연차 복구 로직은 필요 없음. 연차는 승인 시에만 차감되므로.
+
+        log.info("휴가 (ID: {})의 상태가 {}로 업데이트되었습니다. 반려 사유: {}", vacationId, newStatus, rejectComment);
+        return true;
+    }
+
     /**
      * 휴가 엔티티의 상태와 반려 사유를 업데이트합니다.
      *